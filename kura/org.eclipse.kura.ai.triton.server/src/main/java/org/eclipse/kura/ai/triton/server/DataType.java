@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,18 +14,31 @@ package org.eclipse.kura.ai.triton.server;
 
 public enum DataType {
 
-    BOOL,
-    INT8,
-    INT16,
-    INT32,
-    INT64,
-    UINT8,
-    UINT16,
-    UINT32,
-    UINT64,
-    FP16,
-    FP32,
-    FP64,
-    BYTES;
+    BOOL(1),
+    INT8(1),
+    INT16(2),
+    INT32(4),
+    INT64(8),
+    UINT8(1),
+    UINT16(2),
+    UINT32(4),
+    UINT64(8),
+    FP16(2),
+    FP32(4),
+    FP64(8),
+    BYTES(-1);
 
+    private final int size;
+
+    private DataType(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Returns the size in bytes of an element of this type in the raw tensor representation, or -1 if the elements
+     * have variable size.
+     */
+    public int getSize() {
+        return this.size;
+    }
 }
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.ai.triton.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.google.protobuf.ByteString;
+
+import inference.GrpcService.ModelInferRequest;
+import inference.GrpcService.ModelInferRequest.InferInputTensor;
+import inference.GrpcService.ModelInferResponse;
+import inference.GrpcService.ModelInferResponse.InferOutputTensor;
+
+/**
+ * Merges concurrent inference requests for the same model into a single request along the first (batch) dimension of
+ * the input tensors.
+ *
+ * Requests are compatible if they differ only in the first dimension of the inputs and in the input contents. At most
+ * one request is in flight for each group of compatible requests: the requests submitted in the meantime are queued
+ * and sent together, up to the maximum batch size, as soon as the response for the previous one is received. The
+ * outputs of a batched response are split by rows and delivered to the original callers.
+ */
+final class TritonServerInferenceBatcher {
+
+    private final Function<ModelInferRequest, CompletableFuture<ModelInferResponse>> transport;
+    private final Map<ByteString, BatchQueue> queues = new HashMap<>();
+
+    TritonServerInferenceBatcher(Function<ModelInferRequest, CompletableFuture<ModelInferResponse>> transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Returns true if all the inputs of the request are provided as raw contents, have fixed size elements and share
+     * the same positive first dimension.
+     */
+    static boolean isBatchable(ModelInferRequest request) {
+        if (request.getInputsCount() == 0 || request.getRawInputContentsCount() != request.getInputsCount()) {
+            return false;
+        }
+
+        long batchSize = -1;
+        for (InferInputTensor input : request.getInputsList()) {
+            if (input.getShapeCount() == 0 || DataType.BYTES.name().equals(input.getDatatype())) {
+                return false;
+            }
+            final long rows = input.getShape(0);
+            if (rows <= 0 || batchSize >= 0 && rows != batchSize) {
+                return false;
+            }
+            batchSize = rows;
+        }
+        return true;
+    }
+
+    CompletableFuture<ModelInferResponse> submit(ModelInferRequest request, int maxBatchSize) {
+        final Item item = new Item(request);
+        final ByteString key = getBatchKey(request);
+
+        synchronized (this) {
+            final BatchQueue queue = this.queues.computeIfAbsent(key, k -> new BatchQueue());
+            queue.maxBatchSize = maxBatchSize;
+
+            if (queue.inFlight) {
+                queue.pending.add(item);
+                return item.future;
+            }
+            queue.inFlight = true;
+        }
+
+        send(key, Collections.singletonList(item));
+        return item.future;
+    }
+
+    private void send(ByteString key, List<Item> batch) {
+        CompletableFuture<ModelInferResponse> response;
+        try {
+            response = this.transport.apply(batch.size() == 1 ? batch.get(0).request : mergeRequests(batch));
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+
+        response.whenComplete((inferResponse, e) -> {
+            sendNext(key);
+
+            if (e != null) {
+                batch.forEach(item -> item.future.completeExceptionally(e));
+            } else if (batch.size() == 1) {
+                batch.get(0).future.complete(inferResponse);
+            } else {
+                completeAll(batch, inferResponse);
+            }
+        });
+    }
+
+    private void sendNext(ByteString key) {
+        final List<Item> batch = new ArrayList<>();
+
+        synchronized (this) {
+            final BatchQueue queue = this.queues.get(key);
+            long rows = 0;
+
+            while (!queue.pending.isEmpty()) {
+                final Item candidate = queue.pending.peek();
+                if (!batch.isEmpty() && rows + candidate.rows > queue.maxBatchSize) {
+                    break;
+                }
+                batch.add(queue.pending.poll());
+                rows += candidate.rows;
+            }
+
+            if (batch.isEmpty()) {
+                this.queues.remove(key);
+                return;
+            }
+        }
+
+        send(key, batch);
+    }
+
+    private static void completeAll(List<Item> batch, ModelInferResponse inferResponse) {
+        final List<ModelInferResponse> responses;
+        try {
+            responses = splitResponse(batch, inferResponse);
+        } catch (IllegalArgumentException e) {
+            batch.forEach(item -> item.future.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(responses.get(i));
+        }
+    }
+
+    private static ByteString getBatchKey(ModelInferRequest request) {
+        // map fields may be serialized in a different order for equivalent requests, in that case the requests are
+        // simply not batched together
+        final ModelInferRequest.Builder template = request.toBuilder().clearId().clearRawInputContents();
+        for (int i = 0; i < template.getInputsCount(); i++) {
+            template.getInputsBuilder(i).setShape(0, 0);
+        }
+        return template.build().toByteString();
+    }
+
+    private static ModelInferRequest mergeRequests(List<Item> batch) {
+        final long rows = getTotalRows(batch);
+        final ModelInferRequest.Builder merged = batch.get(0).request.toBuilder().clearId().clearRawInputContents();
+
+        for (int i = 0; i < merged.getInputsCount(); i++) {
+            merged.getInputsBuilder(i).setShape(0, rows);
+
+            final List<ByteString> contents = new ArrayList<>(batch.size());
+            for (Item item : batch) {
+                contents.add(item.request.getRawInputContents(i));
+            }
+            merged.addRawInputContents(ByteString.copyFrom(contents));
+        }
+        return merged.build();
+    }
+
+    private static List<ModelInferResponse> splitResponse(List<Item> batch, ModelInferResponse inferResponse) {
+        final long totalRows = getTotalRows(batch);
+
+        final List<ModelInferResponse.Builder> builders = new ArrayList<>(batch.size());
+        for (Item item : batch) {
+            builders.add(inferResponse.toBuilder().setId(item.request.getId()).clearOutputs().clearRawOutputContents());
+        }
+
+        for (int i = 0; i < inferResponse.getOutputsCount(); i++) {
+            final InferOutputTensor output = inferResponse.getOutputs(i);
+
+            if (output.getShapeCount() == 0 || output.getShape(0) != totalRows
+                    || i >= inferResponse.getRawOutputContentsCount()) {
+                throw new IllegalArgumentException(
+                        "Cannot split the output " + output.getName() + " of a batched inference response");
+            }
+
+            final ByteString contents = inferResponse.getRawOutputContents(i);
+            if (contents.size() % totalRows != 0) {
+                throw new IllegalArgumentException(
+                        "Cannot split the output " + output.getName() + " of a batched inference response");
+            }
+            final long rowSize = contents.size() / totalRows;
+
+            int offset = 0;
+            for (int j = 0; j < batch.size(); j++) {
+                final long rows = batch.get(j).rows;
+                final int end = offset + (int) (rows * rowSize);
+
+                builders.get(j).addOutputs(output.toBuilder().setShape(0, rows));
+                builders.get(j).addRawOutputContents(contents.substring(offset, end));
+                offset = end;
+            }
+        }
+
+        final List<ModelInferResponse> responses = new ArrayList<>(builders.size());
+        builders.forEach(builder -> responses.add(builder.build()));
+        return responses;
+    }
+
+    private static long getTotalRows(List<Item> batch) {
+        long rows = 0;
+        for (Item item : batch) {
+            rows += item.rows;
+        }
+        return rows;
+    }
+
+    private static final class Item {
+
+        private final ModelInferRequest request;
+        private final long rows;
+        private final CompletableFuture<ModelInferResponse> future = new CompletableFuture<>();
+
+        Item(ModelInferRequest request) {
+            this.request = request;
+            this.rows = request.getInputs(0).getShape(0);
+        }
+    }
+
+    private static final class BatchQueue {
+
+        private final ArrayDeque<Item> pending = new ArrayDeque<>();
+        private boolean inFlight;
+        private int maxBatchSize;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,21 +18,17 @@ import static java.util.Objects.nonNull;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-import java.nio.LongBuffer;
-import java.nio.ShortBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraIOException;
@@ -49,13 +45,18 @@ import org.eclipse.kura.executor.CommandExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.ProtocolStringList;
+import com.google.protobuf.UnsafeByteOperations;
 
 import inference.GRPCInferenceServiceGrpc;
 import inference.GRPCInferenceServiceGrpc.GRPCInferenceServiceBlockingStub;
+import inference.GRPCInferenceServiceGrpc.GRPCInferenceServiceFutureStub;
 import inference.GrpcService.InferParameter;
-import inference.GrpcService.InferTensorContents;
+import inference.GrpcService.ModelConfigRequest;
 import inference.GrpcService.ModelInferRequest;
 import inference.GrpcService.ModelInferResponse;
 import inference.GrpcService.ModelInferResponse.InferOutputTensor;
@@ -70,6 +71,9 @@ import inference.GrpcService.RepositoryModelLoadRequest;
 import inference.GrpcService.RepositoryModelUnloadRequest;
 import inference.GrpcService.ServerLiveRequest;
 import inference.GrpcService.ServerLiveResponse;
+import inference.ModelConfigOuterClass;
+import inference.ModelConfigOuterClass.ModelConfig;
+import inference.ModelConfigOuterClass.ModelOutput;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
@@ -87,6 +91,9 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
 
     private ManagedChannel grpcChannel;
     private GRPCInferenceServiceBlockingStub grpcStub;
+    private GRPCInferenceServiceFutureStub grpcFutureStub;
+    private final TritonServerInferenceBatcher batcher = new TritonServerInferenceBatcher(this::sendInferRequest);
+    private final Map<String, Integer> modelMaxBatchSizes = new ConcurrentHashMap<>();
     private String decryptionFolderPath = "";
     private boolean decryptionFolderNeedsCleanup = false;
 
@@ -204,6 +211,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
 
     protected void setGrpcStub(GRPCInferenceServiceBlockingStub grpcStub) {
         this.grpcStub = grpcStub;
+        this.grpcFutureStub = GRPCInferenceServiceGrpc.newFutureStub(grpcStub.getChannel());
+        this.modelMaxBatchSizes.clear();
     }
 
     protected boolean isNullOrEmpty(String property) {
@@ -252,6 +261,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
             }
         }
 
+        this.modelMaxBatchSizes.remove(modelName);
+
         RepositoryModelLoadRequest.Builder builder = RepositoryModelLoadRequest.newBuilder();
         builder.setModelName(modelName);
         try {
@@ -278,6 +289,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
 
     @Override
     public void unloadModel(String modelName) throws KuraException {
+        this.modelMaxBatchSizes.remove(modelName);
+
         RepositoryModelUnloadRequest.Builder builder = RepositoryModelUnloadRequest.newBuilder();
         builder.setModelName(modelName);
         try {
@@ -367,25 +380,123 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
     @Override
     public List<Tensor> infer(ModelInfo modelInfo, List<Tensor> inputData) throws KuraException {
         List<Tensor> inferenceResults = new ArrayList<>();
+        try {
+            inferenceResults = inferAsync(modelInfo, inputData).get();
+        } catch (ExecutionException e) {
+            logger.warn("Cannot infer outputs for " + modelInfo.getName() + " model", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KuraIOException(e, "Interrupted while waiting for the outputs of " + modelInfo.getName());
+        }
+        return inferenceResults;
+
+    }
+
+    @Override
+    public CompletableFuture<List<Tensor>> inferAsync(ModelInfo modelInfo, List<Tensor> inputData) {
+        final CompletableFuture<List<Tensor>> inferenceResults = new CompletableFuture<>();
 
+        final CompletableFuture<ModelInferResponse> inferResponse;
+        try {
+            final ModelInferRequest inferRequest = createInferRequest(modelInfo, inputData);
+            final int maxBatchSize = getMaxBatchSize(inferRequest);
+
+            if (maxBatchSize > 1) {
+                inferResponse = this.batcher.submit(inferRequest, maxBatchSize);
+            } else {
+                inferResponse = sendInferRequest(inferRequest);
+            }
+        } catch (IllegalArgumentException e) {
+            inferenceResults.completeExceptionally(
+                    new KuraIOException(e, "Cannot infer outputs for " + modelInfo.getName() + " model"));
+            return inferenceResults;
+        }
+
+        inferResponse.whenComplete((response, e) -> {
+            if (e != null) {
+                inferenceResults.completeExceptionally(
+                        new KuraIOException(e, "Cannot infer outputs for " + modelInfo.getName() + " model"));
+                return;
+            }
+            try {
+                inferenceResults.complete(createOutputInferenceData(response));
+            } catch (IllegalArgumentException ex) {
+                inferenceResults.completeExceptionally(
+                        new KuraIOException(ex, "Cannot infer outputs for " + modelInfo.getName() + " model"));
+            }
+        });
+        return inferenceResults;
+    }
+
+    private ModelInferRequest createInferRequest(ModelInfo modelInfo, List<Tensor> inputData) {
         ModelInferRequest.Builder inferRequest = ModelInferRequest.newBuilder();
         inferRequest.setModelName(modelInfo.getName());
+        if (!modelInfo.getParameters().isEmpty()) {
+            inferRequest.putAllParameters(getInferParameters(modelInfo.getParameters()));
+        }
+        // Triton does not allow mixing raw and typed contents in the same request, the raw representation is
+        // always used since it does not require boxing and can be batched by simply concatenating the contents
+        inputData.forEach(input -> {
+            inferRequest.addInputs(createInputDataBuilder(input));
+            inferRequest.addRawInputContents(createRawInputContents(input));
+        });
+        modelInfo.getOutputs()
+                .forEach(outputDescriptor -> inferRequest.addOutputs(createRequestedOutputBuilder(outputDescriptor)));
+        return inferRequest.build();
+    }
+
+    private CompletableFuture<ModelInferResponse> sendInferRequest(ModelInferRequest inferRequest) {
+        final CompletableFuture<ModelInferResponse> inferResponse = new CompletableFuture<>();
         try {
-            if (!modelInfo.getParameters().isEmpty()) {
-                inferRequest.putAllParameters(getInferParameters(modelInfo.getParameters()));
-            }
-            inputData.forEach(input -> inferRequest.addInputs(createInputDataBuilder(input)));
-            modelInfo.getOutputs().forEach(
-                    outputDescriptor -> inferRequest.addOutputs(createRequestedOutputBuilder(outputDescriptor)));
+            Futures.addCallback(this.grpcFutureStub.modelInfer(inferRequest), new FutureCallback<ModelInferResponse>() {
 
-            ModelInferResponse inferResponse = this.grpcStub.modelInfer(inferRequest.build());
+                @Override
+                public void onSuccess(ModelInferResponse response) {
+                    inferResponse.complete(response);
+                }
 
-            inferenceResults = createOutputInferenceData(inferResponse);
-        } catch (StatusRuntimeException | IllegalArgumentException e) {
-            logger.warn("Cannot infer outputs for " + modelInfo.getName() + " model", e);
+                @Override
+                public void onFailure(Throwable t) {
+                    inferResponse.completeExceptionally(t);
+                }
+            }, MoreExecutors.directExecutor());
+        } catch (StatusRuntimeException e) {
+            inferResponse.completeExceptionally(e);
         }
-        return inferenceResults;
+        return inferResponse;
+    }
 
+    private int getMaxBatchSize(ModelInferRequest inferRequest) {
+        if (isNull(this.options) || !this.options.isBatchingEnabled()
+                || !TritonServerInferenceBatcher.isBatchable(inferRequest)) {
+            return 0;
+        }
+
+        final String modelName = inferRequest.getModelName();
+        Integer modelMaxBatchSize = this.modelMaxBatchSizes.get(modelName);
+        if (isNull(modelMaxBatchSize)) {
+            modelMaxBatchSize = readModelMaxBatchSize(modelName);
+            this.modelMaxBatchSizes.put(modelName, modelMaxBatchSize);
+        }
+        return Math.min(modelMaxBatchSize, this.options.getBatchingMaxSize());
+    }
+
+    private int readModelMaxBatchSize(String modelName) {
+        try {
+            ModelConfigRequest modelConfigRequest = ModelConfigRequest.newBuilder().setName(modelName).build();
+            ModelConfig modelConfig = this.grpcStub.modelConfig(modelConfigRequest).getConfig();
+            for (ModelOutput output : modelConfig.getOutputList()) {
+                if (output.getDataType() == ModelConfigOuterClass.DataType.TYPE_STRING) {
+                    logger.info("Batching disabled for model {}: variable size outputs cannot be split", modelName);
+                    return 0;
+                }
+            }
+            logger.debug("Max batch size for model {}: {}", modelName, modelConfig.getMaxBatchSize());
+            return modelConfig.getMaxBatchSize();
+        } catch (StatusRuntimeException e) {
+            logger.debug("Cannot get the configuration of model {}, batching disabled", modelName, e);
+            return 0;
+        }
     }
 
     private Map<String, InferParameter> getInferParameters(Map<String, Object> parameters) {
@@ -439,145 +550,122 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
     }
 
     private ModelInferRequest.InferInputTensor.Builder createInputDataBuilder(Tensor input) {
-        InferTensorContents.Builder inputDataBuilder = InferTensorContents.newBuilder();
-        DataType modelInputType = DataType.valueOf(input.getDescriptor().getType());
-        switch (modelInputType) {
-        case BOOL:
-            addDataTypeInputData(input, Boolean.class, inputDataBuilder::addAllBoolContents);
-            break;
-        case UINT8:
-            addUint8InputData(input, inputDataBuilder);
-            break;
-        case INT8:
-            addInt8InputData(input, inputDataBuilder);
-            break;
-        case UINT16:
-            addUint16InputData(input, inputDataBuilder);
-            break;
-        case INT16:
-            addInt16InputData(input, inputDataBuilder);
-            break;
-        case UINT32:
-            addDataTypeInputData(input, Integer.class, inputDataBuilder::addAllUintContents);
-            break;
-        case INT32:
-            addDataTypeInputData(input, Integer.class, inputDataBuilder::addAllIntContents);
-            break;
-        case UINT64:
-            addDataTypeInputData(input, Long.class, inputDataBuilder::addAllUint64Contents);
-            break;
-        case INT64:
-            addDataTypeInputData(input, Long.class, inputDataBuilder::addAllInt64Contents);
-            break;
-        case FP32:
-            addDataTypeInputData(input, Float.class, inputDataBuilder::addAllFp32Contents);
-            break;
-        case FP64:
-            addDataTypeInputData(input, Double.class, inputDataBuilder::addAllFp64Contents);
-            break;
-        case BYTES:
-            addBytesInputData(input, inputDataBuilder);
-            break;
-        default:
-            throw new IllegalArgumentException("Date type " + modelInputType + " not supported");
-        }
-
         ModelInferRequest.InferInputTensor.Builder inputBuilder = ModelInferRequest.InferInputTensor.newBuilder();
         inputBuilder.setName(input.getDescriptor().getName());
         inputBuilder.setDatatype(input.getDescriptor().getType());
         input.getDescriptor().getShape().forEach(inputBuilder::addShape);
-        inputBuilder.setContents(inputDataBuilder);
         if (!input.getDescriptor().getParameters().isEmpty()) {
             inputBuilder.putAllParameters(getInferParameters(input.getDescriptor().getParameters()));
         }
         return inputBuilder;
     }
 
-    private <T> void addDataTypeInputData(Tensor input, Class<T> clazz, Consumer<List<T>> dataConsumer) {
-        dataConsumer.accept(input.getData(clazz).orElseThrow(() -> new IllegalArgumentException(
-                "Expected a list of " + clazz.getSimpleName() + " but got a list of " + input.getType())));
-    }
+    private ByteString createRawInputContents(Tensor input) {
+        DataType modelInputType = DataType.valueOf(input.getDescriptor().getType());
+        Class<?> inputType = input.getType();
+        if (!isInputTypeSupported(modelInputType, inputType)) {
+            throw new IllegalArgumentException(
+                    "Data type " + modelInputType + " cannot be created from a list of " + inputType.getSimpleName());
+        }
 
-    private void addBytesInputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(bytes -> {
-                byte[] byteArray = new byte[bytes.size()];
-                for (int i = 0; i < bytes.size(); i++) {
-                    byteArray[i] = bytes.get(i);
-                }
-                inputDataBuilder.addBytesContents(ByteString.copyFrom(byteArray));
-            });
-        } else {
-            throw new IllegalArgumentException("Expected a list of bytes but got a list of " + input.getType());
+        Optional<ByteBuffer> rawData = input.getRawData();
+        if (modelInputType == DataType.BYTES) {
+            return createRawBytesContents(input, rawData);
         }
+        if (rawData.isPresent() && getElementSize(inputType) == modelInputType.getSize()) {
+            // the tensor is already in the raw representation, no need to copy it
+            return UnsafeByteOperations.unsafeWrap(rawData.get());
+        }
+
+        List<?> data = input.getData(inputType).orElseThrow(IllegalArgumentException::new);
+        ByteBuffer buffer = ByteBuffer.allocate(data.size() * modelInputType.getSize()).order(ByteOrder.LITTLE_ENDIAN);
+        for (Object value : data) {
+            putElement(buffer, modelInputType, value);
+        }
+        return UnsafeByteOperations.unsafeWrap(buffer.array());
     }
 
-    private void addInt16InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Short.class)) {
-            Optional<List<Short>> inputData = input.getData(Short.class);
-            inputData.ifPresent(shortList -> {
-                List<Integer> integerList = new ArrayList<>();
-                shortList.forEach(shortValue -> integerList.add(shortValue.intValue()));
-                inputDataBuilder.addAllIntContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllIntContents);
+    private ByteString createRawBytesContents(Tensor input, Optional<ByteBuffer> rawData) {
+        ByteString contents;
+        if (rawData.isPresent()) {
+            contents = UnsafeByteOperations.unsafeWrap(rawData.get());
         } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of shorts or integers but got a list of " + input.getType());
+            List<Byte> bytes = input.getData(Byte.class).orElseThrow(IllegalArgumentException::new);
+            byte[] byteArray = new byte[bytes.size()];
+            for (int i = 0; i < bytes.size(); i++) {
+                byteArray[i] = bytes.get(i);
+            }
+            contents = UnsafeByteOperations.unsafeWrap(byteArray);
         }
+        // a BYTES tensor element is prefixed by its length
+        byte[] length = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(contents.size())
+                .array();
+        return UnsafeByteOperations.unsafeWrap(length).concat(contents);
     }
 
-    private void addUint16InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Short.class)) {
-            Optional<List<Short>> inputData = input.getData(Short.class);
-            inputData.ifPresent(shortList -> {
-                List<Integer> integerList = new ArrayList<>();
-                shortList.forEach(shortValue -> integerList.add(shortValue.intValue()));
-                inputDataBuilder.addAllUintContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllUintContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of shorts or integers but got a list of " + input.getType());
+    private static boolean isInputTypeSupported(DataType modelInputType, Class<?> inputType) {
+        switch (modelInputType) {
+        case BOOL:
+            return inputType == Boolean.class;
+        case UINT8:
+        case INT8:
+            return inputType == Byte.class || inputType == Integer.class;
+        case UINT16:
+        case INT16:
+            return inputType == Short.class || inputType == Integer.class;
+        case UINT32:
+        case INT32:
+            return inputType == Integer.class;
+        case UINT64:
+        case INT64:
+            return inputType == Long.class;
+        case FP16:
+            return inputType == Short.class;
+        case FP32:
+            return inputType == Float.class;
+        case FP64:
+            return inputType == Double.class;
+        case BYTES:
+            return inputType == Byte.class;
+        default:
+            return false;
         }
     }
 
-    private void addInt8InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(byteList -> {
-                List<Integer> integerList = new ArrayList<>();
-                byteList.forEach(byteValue -> integerList.add(byteValue.intValue()));
-                inputDataBuilder.addAllIntContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllIntContents);
+    private static int getElementSize(Class<?> type) {
+        if (type == Boolean.class || type == Byte.class) {
+            return 1;
+        } else if (type == Short.class) {
+            return Short.BYTES;
+        } else if (type == Integer.class || type == Float.class) {
+            return Integer.BYTES;
         } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of bytes or integers but got a list of " + input.getType());
+            return Long.BYTES;
         }
     }
 
-    private void addUint8InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(byteList -> {
-                List<Integer> integerList = new ArrayList<>();
-                byteList.forEach(byteValue -> integerList.add(byteValue.intValue()));
-                inputDataBuilder.addAllUintContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllUintContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of bytes or integers but got a list of " + input.getType());
+    private static void putElement(ByteBuffer buffer, DataType modelInputType, Object value) {
+        switch (modelInputType) {
+        case BOOL:
+            buffer.put((Boolean) value ? (byte) 1 : (byte) 0);
+            break;
+        case FP32:
+            buffer.putFloat((Float) value);
+            break;
+        case FP64:
+            buffer.putDouble((Double) value);
+            break;
+        default:
+            long longValue = ((Number) value).longValue();
+            if (modelInputType.getSize() == 1) {
+                buffer.put((byte) longValue);
+            } else if (modelInputType.getSize() == 2) {
+                buffer.putShort((short) longValue);
+            } else if (modelInputType.getSize() == 4) {
+                buffer.putInt((int) longValue);
+            } else {
+                buffer.putLong(longValue);
+            }
         }
     }
 
@@ -585,8 +673,11 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
         List<Tensor> results = new ArrayList<>();
         for (int index = 0; index < inferResponse.getOutputsCount(); index++) {
             InferOutputTensor inferOutputTensor = inferResponse.getOutputs(index);
-            ByteString byteStringResponse = inferResponse.getRawOutputContentsList().get(index);
             if (nonNull(inferOutputTensor)) {
+                if (index >= inferResponse.getRawOutputContentsCount()) {
+                    throw new IllegalArgumentException(
+                            "Missing raw contents for output " + inferOutputTensor.getName());
+                }
                 DataType outputType = DataType.valueOf(inferOutputTensor.getDatatype());
                 TensorDescriptorBuilder outputDescriptorBuilder = TensorDescriptor.builder(inferOutputTensor.getName(),
                         outputType.toString(), inferOutputTensor.getShapeList());
@@ -595,50 +686,42 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
                 }
                 TensorDescriptor outputDescriptor = outputDescriptorBuilder.build();
 
+                // the output tensors are backed by the response buffers, the data lists are created only if requested
+                ByteBuffer buffer = inferResponse.getRawOutputContents(index).asReadOnlyByteBuffer();
+
                 switch (outputType) {
                 case BOOL:
-                    List<Boolean> booleanList = bufferToBooleanList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Boolean.class, outputDescriptor, booleanList));
+                    results.add(new Tensor(Boolean.class, outputDescriptor, buffer));
                     break;
                 case UINT8:
                 case INT8:
-                    List<Byte> byteList = bufferToByteList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Byte.class, outputDescriptor, byteList));
+                    results.add(new Tensor(Byte.class, outputDescriptor, buffer));
                     break;
                 case UINT16:
                 case INT16:
-                    List<Short> shortList = bufferToShortList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer());
-                    results.add(new Tensor(Short.class, outputDescriptor, shortList));
+                case FP16:
+                    results.add(new Tensor(Short.class, outputDescriptor, buffer));
                     break;
                 case UINT32:
                 case INT32:
-                    List<Integer> integerList = bufferToIntList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
-                    results.add(new Tensor(Integer.class, outputDescriptor, integerList));
+                    results.add(new Tensor(Integer.class, outputDescriptor, buffer));
                     break;
                 case UINT64:
                 case INT64:
-                    List<Long> longList = bufferToLongList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
-                    results.add(new Tensor(Long.class, outputDescriptor, longList));
+                    results.add(new Tensor(Long.class, outputDescriptor, buffer));
                     break;
                 case FP32:
-                    List<Float> floatList = bufferToFloatList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer());
-                    results.add(new Tensor(Float.class, outputDescriptor, floatList));
+                    results.add(new Tensor(Float.class, outputDescriptor, buffer));
                     break;
                 case FP64:
-                    List<Double> doubleList = bufferToDoubleList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer());
-                    results.add(new Tensor(Double.class, outputDescriptor, doubleList));
+                    results.add(new Tensor(Double.class, outputDescriptor, buffer));
                     break;
                 case BYTES:
-                    List<Byte> bytesList = bufferToBytes(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Byte.class, outputDescriptor, bytesList));
+                    if (buffer.remaining() < Integer.BYTES) {
+                        throw new IllegalArgumentException("Too few bytes in buffer; cannot read array length");
+                    }
+                    buffer.position(buffer.position() + Integer.BYTES);
+                    results.add(new Tensor(Byte.class, outputDescriptor, buffer));
                     break;
                 default:
                     throw new IllegalArgumentException("Date type " + outputType + " not supported");
@@ -649,157 +732,6 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
         return results;
     }
 
-    private List<Byte> bufferToBytes(ByteBuffer buffer) {
-        List<Byte> byteList = new ArrayList<>();
-        if (buffer.capacity() < 4) {
-            throw new IllegalArgumentException("Too few bytes in buffer; cannot read array length");
-        }
-        buffer.getInt();
-        while (buffer.hasRemaining()) {
-            byteList.add(buffer.get());
-        }
-        return byteList;
-    }
-
-    private List<Float> bufferToFloatList(FloatBuffer buffer) {
-        List<Float> floatList = new ArrayList<>();
-        float[] floatArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                floatArray = buffer.array();
-            } else {
-                floatArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            floatArray = new float[buffer.remaining()];
-            buffer.get(floatArray);
-        }
-        for (float floatValue : floatArray) {
-            floatList.add(floatValue);
-        }
-        return floatList;
-    }
-
-    private List<Double> bufferToDoubleList(DoubleBuffer buffer) {
-        List<Double> doubleList = new ArrayList<>();
-        double[] doubleArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                doubleArray = buffer.array();
-            } else {
-                doubleArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            doubleArray = new double[buffer.remaining()];
-            buffer.get(doubleArray);
-        }
-        for (double doubleValue : doubleArray) {
-            doubleList.add(doubleValue);
-        }
-        return doubleList;
-    }
-
-    private List<Long> bufferToLongList(LongBuffer buffer) {
-        List<Long> longList = new ArrayList<>();
-        long[] longArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                longArray = buffer.array();
-            } else {
-                longArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            longArray = new long[buffer.remaining()];
-            buffer.get(longArray);
-        }
-        for (long longValue : longArray) {
-            longList.add(longValue);
-        }
-        return longList;
-    }
-
-    private List<Integer> bufferToIntList(IntBuffer buffer) {
-        List<Integer> intList = new ArrayList<>();
-        int[] intArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                intArray = buffer.array();
-            } else {
-                intArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            intArray = new int[buffer.remaining()];
-            buffer.get(intArray);
-        }
-        for (int intValue : intArray) {
-            intList.add(intValue);
-        }
-        return intList;
-    }
-
-    private List<Short> bufferToShortList(ShortBuffer buffer) {
-        List<Short> shortList = new ArrayList<>();
-        short[] shortArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                shortArray = buffer.array();
-            } else {
-                shortArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            shortArray = new short[buffer.remaining()];
-            buffer.get(shortArray);
-        }
-        for (short shortValue : shortArray) {
-            shortList.add(shortValue);
-        }
-        return shortList;
-    }
-
-    private List<Byte> bufferToByteList(ByteBuffer buffer) {
-        List<Byte> byteList = new ArrayList<>();
-        byte[] byteArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                byteArray = buffer.array();
-            } else {
-                byteArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            byteArray = new byte[buffer.remaining()];
-            buffer.get(byteArray);
-        }
-        for (byte byteValue : byteArray) {
-            byteList.add(byteValue);
-        }
-        return byteList;
-    }
-
-    private List<Boolean> bufferToBooleanList(ByteBuffer buffer) {
-        List<Boolean> booleanList = new ArrayList<>();
-        byte[] byteArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                byteArray = buffer.array();
-            } else {
-                byteArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            byteArray = new byte[buffer.remaining()];
-            buffer.get(byteArray);
-        }
-        for (byte byteValue : byteArray) {
-            booleanList.add(byteValue == 0x01);
-        }
-        return booleanList;
-    }
 
     private static void sleepFor(long timeout) {
         try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -46,10 +46,13 @@ public class TritonServerServiceOptions {
     private static final String PROPERTY_TIMEOUT = "timeout";
     private static final String PROPERTY_MAX_GRPC_MESSAGE_SIZE = "grpc.max.size";
     private static final String PROPERTY_DEVICES = "devices";
+    private static final String PROPERTY_BATCHING_ENABLED = "inference.batching.enabled";
+    private static final String PROPERTY_BATCHING_MAX_SIZE = "inference.batching.max.size";
     private final Map<String, Object> properties;
 
     private static final int RETRY_INTERVAL = 500; // ms
     private static final int DEFAULT_MAX_GRPC_MESSAGE_SIZE = 4194304; // bytes
+    private static final int DEFAULT_BATCHING_MAX_SIZE = 8;
 
     private final int httpPort;
     private final int grpcPort;
@@ -63,6 +66,8 @@ public class TritonServerServiceOptions {
     private final Optional<String> containerGpus;
     private final Optional<String> containerRuntime;
     private final List<String> devices;
+    private final boolean batchingEnabled;
+    private final int batchingMaxSize;
 
     public TritonServerServiceOptions(final Map<String, Object> properties) {
         requireNonNull(properties, "Properties cannot be null");
@@ -146,6 +151,20 @@ public class TritonServerServiceOptions {
             this.devices = new ArrayList<>();
         }
 
+        final Object propertyBatchingEnabled = properties.get(PROPERTY_BATCHING_ENABLED);
+        if (propertyBatchingEnabled instanceof Boolean) {
+            this.batchingEnabled = (Boolean) propertyBatchingEnabled;
+        } else {
+            this.batchingEnabled = false;
+        }
+
+        final Object propertyBatchingMaxSize = properties.get(PROPERTY_BATCHING_MAX_SIZE);
+        if (propertyBatchingMaxSize instanceof Integer) {
+            this.batchingMaxSize = Math.max(1, (int) propertyBatchingMaxSize);
+        } else {
+            this.batchingMaxSize = DEFAULT_BATCHING_MAX_SIZE;
+        }
+
     }
 
     public String getAddress() {
@@ -251,6 +270,14 @@ public class TritonServerServiceOptions {
         return this.devices;
     }
 
+    public boolean isBatchingEnabled() {
+        return this.batchingEnabled;
+    }
+
+    public int getBatchingMaxSize() {
+        return this.batchingMaxSize;
+    }
+
     private String getStringProperty(String propertyName) {
         String stringProperty = "";
         final Object stringPropertyObj = this.properties.get(propertyName);
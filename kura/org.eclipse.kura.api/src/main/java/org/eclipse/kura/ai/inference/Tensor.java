@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,9 @@
  ******************************************************************************/
 package org.eclipse.kura.ai.inference;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,7 +31,8 @@ public class Tensor {
 
     private final TensorDescriptor descriptor;
     private final Class<?> type;
-    private final List<?> data;
+    private final ByteBuffer rawData;
+    private volatile List<?> data;
 
     /**
      * Instantiates a Tensor
@@ -44,6 +48,40 @@ public class Tensor {
         this.type = type;
         this.descriptor = descriptor;
         this.data = data;
+        this.rawData = null;
+    }
+
+    /**
+     * Instantiates a Tensor backed by a buffer containing its elements in little endian byte order. The supported
+     * types are {@link Boolean}, {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float} and
+     * {@link Double}; booleans are represented by a single byte.
+     *
+     * The content of the buffer between its position and its limit is not copied and must not be modified after
+     * the tensor has been created. The list returned by {@link #getData(Class)} is decoded from the buffer only if
+     * requested.
+     *
+     * @param type
+     *            the type of tensor data as Java class
+     * @param descriptor
+     *            the {@link TensorDescriptor} of this tensor
+     * @param rawData
+     *            the buffer containing the data of this tensor
+     * @throws IllegalArgumentException
+     *             if the type is not supported or the buffer size is not a multiple of the element size
+     * @since 3.0
+     */
+    public <T> Tensor(Class<T> type, TensorDescriptor descriptor, ByteBuffer rawData) {
+        final int elementSize = getElementSize(type);
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Raw data is not supported for type " + type);
+        }
+        if (rawData.remaining() % elementSize != 0) {
+            throw new IllegalArgumentException(
+                    "The size of the raw data is not a multiple of the " + type.getSimpleName() + " size");
+        }
+        this.type = type;
+        this.descriptor = descriptor;
+        this.rawData = rawData.slice().order(ByteOrder.LITTLE_ENDIAN);
     }
 
     /**
@@ -64,11 +102,30 @@ public class Tensor {
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<List<T>> getData(Class<T> type) {
-        if (this.type == type) {
-            return Optional.of((List<T>) this.data);
-        } else {
+        if (this.type != type) {
             return Optional.empty();
         }
+        List<?> result = this.data;
+        if (result == null && this.rawData != null) {
+            result = decodeRawData();
+            this.data = result;
+        }
+        return Optional.of((List<T>) result);
+    }
+
+    /**
+     * Return the buffer containing the data of the tensor in little endian byte order, if the tensor has been
+     * created from a buffer.
+     *
+     * @return a read only view of the raw data, or an empty {@link Optional} if the tensor has been created from a
+     *         list
+     * @since 3.0
+     */
+    public Optional<ByteBuffer> getRawData() {
+        if (this.rawData == null) {
+            return Optional.empty();
+        }
+        return Optional.of(this.rawData.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN));
     }
 
     /**
@@ -79,4 +136,42 @@ public class Tensor {
     public Class<?> getType() {
         return this.type;
     }
+
+    private List<Object> decodeRawData() {
+        final ByteBuffer buffer = this.rawData.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final List<Object> result = new ArrayList<>(buffer.remaining() / getElementSize(this.type));
+
+        while (buffer.hasRemaining()) {
+            if (this.type == Boolean.class) {
+                result.add(buffer.get() != 0);
+            } else if (this.type == Byte.class) {
+                result.add(buffer.get());
+            } else if (this.type == Short.class) {
+                result.add(buffer.getShort());
+            } else if (this.type == Integer.class) {
+                result.add(buffer.getInt());
+            } else if (this.type == Long.class) {
+                result.add(buffer.getLong());
+            } else if (this.type == Float.class) {
+                result.add(buffer.getFloat());
+            } else {
+                result.add(buffer.getDouble());
+            }
+        }
+        return result;
+    }
+
+    private static int getElementSize(Class<?> type) {
+        if (type == Boolean.class || type == Byte.class) {
+            return 1;
+        } else if (type == Short.class) {
+            return Short.BYTES;
+        } else if (type == Integer.class || type == Float.class) {
+            return Integer.BYTES;
+        } else if (type == Long.class || type == Double.class) {
+            return Long.BYTES;
+        } else {
+            return -1;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.eclipse.kura.log.listener;
 
+import java.util.List;
+
 import org.eclipse.kura.log.LogEntry;
 import org.osgi.annotation.versioning.ConsumerType;
 
@@ -28,4 +30,21 @@ public interface LogListener {
      * Notifies the listener that a new log entry has been received.
      */
     public void newLogEntry(LogEntry entry);
+
+    /**
+     * Notifies the listener that a batch of new log entries has been received. The entries are provided in the order
+     * in which they have been read.
+     * <br>
+     * The default implementation invokes {@link #newLogEntry(LogEntry)} for each entry, implementors can override
+     * this method in order to process the whole batch at once.
+     *
+     * @param entries
+     *            the new log entries
+     * @since 3.0
+     */
+    public default void newLogEntries(List<LogEntry> entries) {
+        for (final LogEntry entry : entries) {
+            newLogEntry(entry);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,11 @@
  ******************************************************************************/
 package org.eclipse.kura.message.store.provider;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.eclipse.kura.KuraStoreException;
@@ -48,6 +52,39 @@ public interface MessageStore {
     public int store(String topic, byte[] payload, int qos, boolean retain, int priority)
             throws KuraStoreException;
 
+    /**
+     * Inserts all the provided messages in the store, in the same order as they
+     * appear in the list. Only the <code>topic</code>, <code>payload</code>,
+     * <code>QoS</code>, <code>retain</code> and <code>priority</code> parameters
+     * of the provided messages are used, the other parameters, including the
+     * identifier, are ignored. The implementation must set the value of the
+     * <code>createdOn</code> message parameter to the current time.
+     * <br>
+     * This method should be equivalent to invoking
+     * {@link #store(String, byte[], int, boolean, int)} for each message, but
+     * implementations are encouraged to insert all messages with a single
+     * operation.
+     * <br>
+     * The default implementation invokes
+     * {@link #store(String, byte[], int, boolean, int)} for each message.
+     *
+     * @param messages the messages to be stored.
+     * @return the identifiers of the stored messages, in the same order as the
+     *         provided list.
+     * @throws KuraStoreException
+     * @since 3.0
+     */
+    public default List<Integer> storeAll(List<StoredMessage> messages) throws KuraStoreException {
+        final List<Integer> result = new ArrayList<>(messages.size());
+
+        for (final StoredMessage message : messages) {
+            result.add(store(message.getTopic(), message.getPayload(), message.getQos(), message.isRetain(),
+                    message.getPriority()));
+        }
+
+        return result;
+    }
+
     /**
      * Sets the value of the <code>publishedOn</code> parameter to the current time.
      * <br>
@@ -71,6 +108,52 @@ public interface MessageStore {
      */
     public void markAsPublished(int msgId, DataTransportToken dataTransportToken) throws KuraStoreException;
 
+    /**
+     * Sets the value of the <code>publishedOn</code> parameter to the current time
+     * for all the messages in the provided list.
+     * <br>
+     * This method must be used for messages with QoS = 0. It should be equivalent
+     * to invoking {@link #markAsPublished(int)} for each message, but
+     * implementations are encouraged to apply all changes with a single operation.
+     * <br>
+     * The default implementation invokes {@link #markAsPublished(int)} for each
+     * message.
+     *
+     * @param msgIds the message identifiers.
+     * @throws KuraStoreException
+     * @since 3.0
+     */
+    public default void markAsPublished(List<Integer> msgIds) throws KuraStoreException {
+        for (final Integer msgId : msgIds) {
+            markAsPublished(msgId);
+        }
+    }
+
+    /**
+     * Sets the value of the <code>publishedOn</code> parameter to the current time
+     * and associates the corresponding {@link DataTransportToken} with each of
+     * the messages in the provided map.
+     * <br>
+     * This method must be used for messages with QoS >= 1. It should be equivalent
+     * to invoking {@link #markAsPublished(int, DataTransportToken)} for each map
+     * entry, but implementations are encouraged to apply all changes with a
+     * single operation.
+     * <br>
+     * The default implementation invokes
+     * {@link #markAsPublished(int, DataTransportToken)} for each map entry.
+     *
+     * @param dataTransportTokens a map that associates message identifiers with
+     *                            the corresponding {@link DataTransportToken}.
+     * @throws KuraStoreException
+     * @since 3.0
+     */
+    public default void markAsPublished(Map<Integer, DataTransportToken> dataTransportTokens)
+            throws KuraStoreException {
+        for (final Entry<Integer, DataTransportToken> entry : dataTransportTokens.entrySet()) {
+            markAsPublished(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Sets the value of the <code>confirmedOn</code> parameter to the current time.
      * <br>
@@ -81,6 +164,27 @@ public interface MessageStore {
      */
     public void markAsConfirmed(int msgId) throws KuraStoreException;
 
+    /**
+     * Sets the value of the <code>confirmedOn</code> parameter to the current time
+     * for all the messages in the provided list.
+     * <br>
+     * This method must be used for messages with QoS >= 1. It should be equivalent
+     * to invoking {@link #markAsConfirmed(int)} for each message, but
+     * implementations are encouraged to apply all changes with a single operation.
+     * <br>
+     * The default implementation invokes {@link #markAsConfirmed(int)} for each
+     * message.
+     *
+     * @param msgIds the message identifiers.
+     * @throws KuraStoreException
+     * @since 3.0
+     */
+    public default void markAsConfirmed(List<Integer> msgIds) throws KuraStoreException {
+        for (final Integer msgId : msgIds) {
+            markAsConfirmed(msgId);
+        }
+    }
+
     /**
      * Gets the next message that should be published, if any.
      * 
@@ -102,6 +206,29 @@ public interface MessageStore {
      */
     public Optional<StoredMessage> getNextMessage() throws KuraStoreException;
 
+    /**
+     * Gets at most <code>count</code> messages that should be published, in the
+     * order in which they should be published.
+     * <br>
+     * The returned list must contain the messages whose <code>publishedOn</code>
+     * parameter is not set, sorted by ascending <code>priority</code> and then by
+     * ascending <code>createdOn</code> parameter values, so that its first element
+     * is the same message that would be returned by {@link #getNextMessage()}.
+     * <br>
+     * The default implementation returns a list containing at most the message
+     * returned by {@link #getNextMessage()}.
+     *
+     * @param count the maximum number of messages to return, must be greater than
+     *              0.
+     * @return the list of the next messages that should be published, an empty
+     *         list if there are no messages to publish.
+     * @throws KuraStoreException
+     * @since 3.0
+     */
+    public default List<StoredMessage> getNextMessages(int count) throws KuraStoreException {
+        return getNextMessage().map(Collections::singletonList).orElseGet(Collections::emptyList);
+    }
+
     /**
      * Retrieves the message with the given identifier from the store.
      * 
@@ -0,0 +1,419 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * A {@link WireRecord} that stores its properties in columns described by a shared {@link WireRecordSchema}.
+ * Numeric and boolean values are kept in a primitive array and are not boxed into {@link TypedValue} instances
+ * unless {@link #getProperties()} is called. Consumers that are aware of this class can read values by column index
+ * using the typed getters, consumers that are not can keep using the {@link #getProperties()} map view, which is
+ * created on first access and cached.
+ * <br>
+ * A column can be absent, in this case it will not appear in the map returned by {@link #getProperties()}.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class ColumnarWireRecord extends WireRecord {
+
+    private final WireRecordSchema schema;
+    private final long[] primitives;
+    private final Object[] objects;
+    private final boolean[] present;
+
+    private volatile Map<String, TypedValue<?>> properties;
+
+    private ColumnarWireRecord(final WireRecordSchema schema, final long[] primitives, final Object[] objects,
+            final boolean[] present) {
+        this.schema = schema;
+        this.primitives = primitives;
+        this.objects = objects;
+        this.present = present;
+    }
+
+    /**
+     * @return the schema of this record
+     */
+    public WireRecordSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Returns whether the given column has a value.
+     *
+     * @param index
+     *            the column index
+     * @return {@code true} if the column has a value, {@code false} otherwise
+     */
+    public boolean isPresent(final int index) {
+        return this.present[index];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#LONG} column, or 0 if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#LONG}
+     */
+    public long getLong(final int index) {
+        return this.primitives[slot(index, DataType.LONG)];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#INTEGER} column, or 0 if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#INTEGER}
+     */
+    public int getInteger(final int index) {
+        return (int) this.primitives[slot(index, DataType.INTEGER)];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#DOUBLE} column, or 0 if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#DOUBLE}
+     */
+    public double getDouble(final int index) {
+        return Double.longBitsToDouble(this.primitives[slot(index, DataType.DOUBLE)]);
+    }
+
+    /**
+     * Returns the value of a {@link DataType#FLOAT} column, or 0 if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#FLOAT}
+     */
+    public float getFloat(final int index) {
+        return Float.intBitsToFloat((int) this.primitives[slot(index, DataType.FLOAT)]);
+    }
+
+    /**
+     * Returns the value of a {@link DataType#BOOLEAN} column, or {@code false} if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#BOOLEAN}
+     */
+    public boolean getBoolean(final int index) {
+        return this.primitives[slot(index, DataType.BOOLEAN)] != 0;
+    }
+
+    /**
+     * Returns the value of a {@link DataType#STRING} column, or {@code null} if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#STRING}
+     */
+    public String getString(final int index) {
+        return (String) this.objects[slot(index, DataType.STRING)];
+    }
+
+    /**
+     * Returns a copy of the value of a {@link DataType#BYTE_ARRAY} column, or {@code null} if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return a copy of the column value
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#BYTE_ARRAY}
+     */
+    public byte[] getByteArray(final int index) {
+        return copyOf((byte[]) this.objects[slot(index, DataType.BYTE_ARRAY)]);
+    }
+
+    /**
+     * Returns the value of the given column as a boxed Java object, or {@code null} if the column is absent.
+     * {@link DataType#BYTE_ARRAY} values are returned as a copy.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     */
+    public Object getObject(final int index) {
+        if (!this.present[index]) {
+            return null;
+        }
+
+        switch (this.schema.getType(index)) {
+        case LONG:
+            return getLong(index);
+        case INTEGER:
+            return getInteger(index);
+        case DOUBLE:
+            return getDouble(index);
+        case FLOAT:
+            return getFloat(index);
+        case BOOLEAN:
+            return getBoolean(index);
+        case BYTE_ARRAY:
+            return getByteArray(index);
+        default:
+            return this.objects[this.schema.getSlot(index)];
+        }
+    }
+
+    /**
+     * Returns the value of the given column as a {@link TypedValue}, or {@code null} if the column is absent.
+     *
+     * @param index
+     *            the column index
+     * @return the column value
+     */
+    public TypedValue<?> getValue(final int index) {
+        if (!this.present[index]) {
+            return null;
+        }
+
+        switch (this.schema.getType(index)) {
+        case LONG:
+            return TypedValues.newLongValue(getLong(index));
+        case INTEGER:
+            return TypedValues.newIntegerValue(getInteger(index));
+        case DOUBLE:
+            return TypedValues.newDoubleValue(getDouble(index));
+        case FLOAT:
+            return TypedValues.newFloatValue(getFloat(index));
+        case BOOLEAN:
+            return TypedValues.newBooleanValue(getBoolean(index));
+        case STRING:
+            return TypedValues.newStringValue(getString(index));
+        default:
+            return TypedValues.newByteArrayValue(getByteArray(index));
+        }
+    }
+
+    /**
+     * Returns a map view of the properties stored in this record. The map is created on first invocation and
+     * cached.
+     *
+     * @return the properties
+     */
+    @Override
+    public Map<String, TypedValue<?>> getProperties() {
+        Map<String, TypedValue<?>> result = this.properties;
+
+        if (result == null) {
+            final int size = this.schema.size();
+            final Map<String, TypedValue<?>> map = new HashMap<>(size * 2);
+
+            for (int i = 0; i < size; i++) {
+                if (this.present[i]) {
+                    map.put(this.schema.getName(i), getValue(i));
+                }
+            }
+
+            result = Collections.unmodifiableMap(map);
+            this.properties = result;
+        }
+
+        return result;
+    }
+
+    private static byte[] copyOf(final byte[] value) {
+        return value != null ? value.clone() : null;
+    }
+
+    private int slot(final int index, final DataType expectedType) {
+        checkType(this.schema, index, expectedType);
+        return this.schema.getSlot(index);
+    }
+
+    private static void checkType(final WireRecordSchema schema, final int index, final DataType expectedType) {
+        final DataType actualType = schema.getType(index);
+
+        if (actualType != expectedType) {
+            throw new IllegalArgumentException(
+                    "Column " + schema.getName(index) + " has type " + actualType + ", not " + expectedType);
+        }
+    }
+
+    /**
+     * Creates a new builder for records with the given schema. A builder can be reused to create multiple records.
+     *
+     * @param schema
+     *            the record schema
+     * @return the builder
+     */
+    public static ColumnarWireRecordBuilder builder(final WireRecordSchema schema) {
+        return new ColumnarWireRecordBuilder(requireNonNull(schema, "Schema cannot be null"));
+    }
+
+    /**
+     * A reusable builder for {@link ColumnarWireRecord} instances. After {@link #build()} is called, the builder is
+     * reset and all columns are absent. Instances of this class are not thread safe.
+     */
+    public static final class ColumnarWireRecordBuilder {
+
+        private final WireRecordSchema schema;
+        private long[] primitives;
+        private Object[] objects;
+        private boolean[] present;
+
+        private ColumnarWireRecordBuilder(final WireRecordSchema schema) {
+            this.schema = schema;
+            reset();
+        }
+
+        public WireRecordSchema getSchema() {
+            return this.schema;
+        }
+
+        public ColumnarWireRecordBuilder setLong(final int index, final long value) {
+            return setPrimitive(index, DataType.LONG, value);
+        }
+
+        public ColumnarWireRecordBuilder setInteger(final int index, final int value) {
+            return setPrimitive(index, DataType.INTEGER, value);
+        }
+
+        public ColumnarWireRecordBuilder setDouble(final int index, final double value) {
+            return setPrimitive(index, DataType.DOUBLE, Double.doubleToRawLongBits(value));
+        }
+
+        public ColumnarWireRecordBuilder setFloat(final int index, final float value) {
+            return setPrimitive(index, DataType.FLOAT, Float.floatToRawIntBits(value));
+        }
+
+        public ColumnarWireRecordBuilder setBoolean(final int index, final boolean value) {
+            return setPrimitive(index, DataType.BOOLEAN, value ? 1 : 0);
+        }
+
+        public ColumnarWireRecordBuilder setString(final int index, final String value) {
+            return setObject(index, DataType.STRING, value);
+        }
+
+        public ColumnarWireRecordBuilder setByteArray(final int index, final byte[] value) {
+            return setObject(index, DataType.BYTE_ARRAY, copyOf(value));
+        }
+
+        /**
+         * Sets the value of a column from a {@link TypedValue}, a {@code null} value makes the column absent.
+         *
+         * @param index
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the type of the value does not match the column type
+         */
+        public ColumnarWireRecordBuilder setValue(final int index, final TypedValue<?> value) {
+            if (value == null) {
+                return clear(index);
+            }
+
+            checkType(this.schema, index, value.getType());
+
+            switch (value.getType()) {
+            case LONG:
+                return setLong(index, (Long) value.getValue());
+            case INTEGER:
+                return setInteger(index, (Integer) value.getValue());
+            case DOUBLE:
+                return setDouble(index, (Double) value.getValue());
+            case FLOAT:
+                return setFloat(index, (Float) value.getValue());
+            case BOOLEAN:
+                return setBoolean(index, (Boolean) value.getValue());
+            case STRING:
+                return setString(index, (String) value.getValue());
+            default:
+                return setByteArray(index, (byte[]) value.getValue());
+            }
+        }
+
+        /**
+         * Marks the given column as absent.
+         *
+         * @param index
+         *            the column index
+         * @return this builder
+         */
+        public ColumnarWireRecordBuilder clear(final int index) {
+            final int slot = this.schema.getSlot(index);
+
+            if (WireRecordSchema.isPrimitive(this.schema.getType(index))) {
+                this.primitives[slot] = 0;
+            } else {
+                this.objects[slot] = null;
+            }
+
+            this.present[index] = false;
+            return this;
+        }
+
+        public ColumnarWireRecord build() {
+            final ColumnarWireRecord result = new ColumnarWireRecord(this.schema, this.primitives, this.objects,
+                    this.present);
+
+            reset();
+
+            return result;
+        }
+
+        private ColumnarWireRecordBuilder setPrimitive(final int index, final DataType type, final long value) {
+            checkType(this.schema, index, type);
+            this.primitives[this.schema.getSlot(index)] = value;
+            this.present[index] = true;
+            return this;
+        }
+
+        private ColumnarWireRecordBuilder setObject(final int index, final DataType type, final Object value) {
+            checkType(this.schema, index, type);
+            this.objects[this.schema.getSlot(index)] = value;
+            this.present[index] = value != null;
+            return this;
+        }
+
+        private void reset() {
+            this.primitives = new long[this.schema.getPrimitiveSlotCount()];
+            this.objects = new Object[this.schema.getObjectSlotCount()];
+            this.present = new boolean[this.schema.size()];
+        }
+    }
+}
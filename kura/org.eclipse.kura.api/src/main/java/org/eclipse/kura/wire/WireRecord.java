@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,16 @@ public class WireRecord {
         this.properties = Collections.unmodifiableMap(properties);
     }
 
+    /**
+     * Instantiates a new {@link WireRecord} without a backing property map. This constructor is intended to be used
+     * by subclasses that provide a different storage for record properties and override {@link #getProperties()}.
+     *
+     * @since 3.0
+     */
+    protected WireRecord() {
+        this.properties = Collections.emptyMap();
+    }
+
     /**
      * Returns the properties stored in this {@link WireRecord}
      *
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Describes the layout of a {@link ColumnarWireRecord}: an ordered list of property names, each one associated with
+ * a {@link DataType}. A schema is meant to be created once and shared by all the records emitted by a wire component
+ * as long as the set of emitted properties does not change, so that consumers can resolve property names to column
+ * indexes only once.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class WireRecordSchema {
+
+    private final String[] names;
+    private final DataType[] types;
+    private final int[] slots;
+    private final int primitiveSlotCount;
+    private final int objectSlotCount;
+    private final Map<String, Integer> indexes;
+
+    private WireRecordSchema(final List<String> names, final List<DataType> types) {
+        final int size = names.size();
+
+        this.names = names.toArray(new String[size]);
+        this.types = types.toArray(new DataType[size]);
+        this.slots = new int[size];
+        this.indexes = new HashMap<>(size * 2);
+
+        int primitives = 0;
+        int objects = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (this.indexes.put(this.names[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate property name: " + this.names[i]);
+            }
+
+            this.slots[i] = isPrimitive(this.types[i]) ? primitives++ : objects++;
+        }
+
+        this.primitiveSlotCount = primitives;
+        this.objectSlotCount = objects;
+    }
+
+    /**
+     * @return the number of columns in this schema
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Returns the property name of the given column.
+     *
+     * @param index
+     *            the column index
+     * @return the property name
+     * @throws IndexOutOfBoundsException
+     *             if the index is not valid
+     */
+    public String getName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Returns the {@link DataType} of the given column.
+     *
+     * @param index
+     *            the column index
+     * @return the column type
+     * @throws IndexOutOfBoundsException
+     *             if the index is not valid
+     */
+    public DataType getType(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Returns the index of the column with the given property name.
+     *
+     * @param name
+     *            the property name
+     * @return the column index, or -1 if this schema does not contain the given property
+     */
+    public int indexOf(final String name) {
+        final Integer result = this.indexes.get(name);
+
+        return result != null ? result : -1;
+    }
+
+    /**
+     * @return the property names of this schema, in column order
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(this.names));
+    }
+
+    int getSlot(final int index) {
+        return this.slots[index];
+    }
+
+    int getPrimitiveSlotCount() {
+        return this.primitiveSlotCount;
+    }
+
+    int getObjectSlotCount() {
+        return this.objectSlotCount;
+    }
+
+    static boolean isPrimitive(final DataType type) {
+        return type != DataType.STRING && type != DataType.BYTE_ARRAY;
+    }
+
+    public static WireRecordSchemaBuilder builder() {
+        return new WireRecordSchemaBuilder();
+    }
+
+    public static final class WireRecordSchemaBuilder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<DataType> types = new ArrayList<>();
+
+        private WireRecordSchemaBuilder() {
+        }
+
+        public WireRecordSchemaBuilder withColumn(final String name, final DataType type) {
+            this.names.add(requireNonNull(name, "Name cannot be null"));
+            this.types.add(requireNonNull(type, "Type cannot be null"));
+            return this;
+        }
+
+        /**
+         * Creates the schema.
+         *
+         * @return the schema
+         * @throws IllegalArgumentException
+         *             if the same property name has been added more than once
+         */
+        public WireRecordSchema build() {
+            return new WireRecordSchema(this.names, this.types);
+        }
+    }
+}
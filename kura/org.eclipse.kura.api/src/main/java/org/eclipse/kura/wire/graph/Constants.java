@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,31 @@ public enum Constants {
     RECEIVER_PORT_COUNT_PROP_NAME("receiver.port.count"),
     EMITTER_PORT_COUNT_PROP_NAME("emitter.port.count"),
     RECEIVER_KURA_SERVICE_PID_PROP_NAME("receiver.kura.service.pid"),
-    EMITTER_KURA_SERVICE_PID_PROP_NAME("emitter.kura.service.pid");
+    EMITTER_KURA_SERVICE_PID_PROP_NAME("emitter.kura.service.pid"),
+    /**
+     * The name of the wire component property that selects how the received envelopes are dispatched to the
+     * component. Supported values are {@code SYNC}, the default, which delivers envelopes on the thread of the
+     * emitting component, and {@code ASYNC}, which enqueues them on a bounded queue that is drained by a dedicated
+     * worker.
+     *
+     * @since 3.0
+     */
+    WIRE_DISPATCH_MODE_PROP_NAME("wire.dispatch.mode"),
+    /**
+     * The name of the wire component property that defines the capacity of the queue used by the {@code ASYNC}
+     * dispatch mode.
+     *
+     * @since 3.0
+     */
+    WIRE_DISPATCH_QUEUE_CAPACITY_PROP_NAME("wire.dispatch.queue.capacity"),
+    /**
+     * The name of the wire component property that defines what happens when an envelope is received and the queue
+     * used by the {@code ASYNC} dispatch mode is full. Supported values are {@code BLOCK}, the default, which blocks
+     * the emitting component until space is available, {@code DROP_OLDEST} and {@code DROP_NEWEST}.
+     *
+     * @since 3.0
+     */
+    WIRE_DISPATCH_OVERFLOW_POLICY_PROP_NAME("wire.dispatch.overflow.policy");
 
     private final String value;
 
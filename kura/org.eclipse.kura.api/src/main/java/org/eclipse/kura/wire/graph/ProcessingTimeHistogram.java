@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.graph;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Represents the distribution of the time spent by a wire component processing the received envelopes. Samples are
+ * counted in buckets: the i-th bucket counts the samples greater than the upper bound of the (i-1)-th bucket and less
+ * than or equal to its own upper bound. The last bucket has an upper bound of {@link Long#MAX_VALUE}. All times are
+ * expressed in microseconds.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@ProviderType
+public class ProcessingTimeHistogram {
+
+    private final List<Long> bucketUpperBounds;
+    private final List<Long> bucketCounts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    public ProcessingTimeHistogram(final List<Long> bucketUpperBounds, final List<Long> bucketCounts,
+            final long total, final long max) {
+        if (bucketUpperBounds.size() != bucketCounts.size()) {
+            throw new IllegalArgumentException("Bucket upper bounds and counts must have the same size");
+        }
+
+        this.bucketUpperBounds = Collections.unmodifiableList(bucketUpperBounds);
+        this.bucketCounts = Collections.unmodifiableList(bucketCounts);
+        this.count = bucketCounts.stream().mapToLong(Long::longValue).sum();
+        this.total = total;
+        this.max = max;
+    }
+
+    public List<Long> getBucketUpperBounds() {
+        return this.bucketUpperBounds;
+    }
+
+    public List<Long> getBucketCounts() {
+        return this.bucketCounts;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getTotal() {
+        return this.total;
+    }
+
+    public long getMax() {
+        return this.max;
+    }
+
+    public double getMean() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Returns an estimate of the given percentile, computed as the upper bound of the bucket that contains it. If the
+     * percentile falls in the last bucket, the maximum observed value is returned.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the estimated percentile, or 0 if no samples have been collected
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        if (this.count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+
+        long cumulative = 0;
+
+        for (int i = 0; i < this.bucketCounts.size(); i++) {
+            cumulative += this.bucketCounts.get(i);
+
+            if (cumulative >= rank) {
+                return Math.min(this.bucketUpperBounds.get(i), this.max);
+            }
+        }
+
+        return this.max;
+    }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.graph;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Represents a snapshot of the runtime metrics of a wire component.
+ *
+ * @see WireGraphMetricsService
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@ProviderType
+public class WireComponentMetrics {
+
+    private final String pid;
+    private final long envelopesReceived;
+    private final long recordsReceived;
+    private final long envelopesEmitted;
+    private final long recordsEmitted;
+    private final long errors;
+    private final long envelopesDropped;
+    private final int queueDepth;
+    private final ProcessingTimeHistogram processingTime;
+    private final List<WireDispatchMetrics> wireDispatchMetrics;
+
+    public WireComponentMetrics(final WireComponentMetricsBuilder builder) {
+        this.pid = requireNonNull(builder.pid, "pid cannot be null");
+        this.envelopesReceived = builder.envelopesReceived;
+        this.recordsReceived = builder.recordsReceived;
+        this.envelopesEmitted = builder.envelopesEmitted;
+        this.recordsEmitted = builder.recordsEmitted;
+        this.errors = builder.errors;
+        this.envelopesDropped = builder.envelopesDropped;
+        this.queueDepth = builder.queueDepth;
+        this.processingTime = builder.processingTime;
+        this.wireDispatchMetrics = Collections.unmodifiableList(builder.wireDispatchMetrics);
+    }
+
+    /**
+     * @return the kura.service.pid of the wire component
+     */
+    public String getPid() {
+        return this.pid;
+    }
+
+    /**
+     * @return the number of envelopes delivered to the component
+     */
+    public long getEnvelopesReceived() {
+        return this.envelopesReceived;
+    }
+
+    /**
+     * @return the total number of records contained in the envelopes delivered to the component
+     */
+    public long getRecordsReceived() {
+        return this.recordsReceived;
+    }
+
+    /**
+     * @return the number of envelopes emitted by the component, counted once for each emitter port
+     */
+    public long getEnvelopesEmitted() {
+        return this.envelopesEmitted;
+    }
+
+    /**
+     * @return the total number of records contained in the envelopes emitted by the component
+     */
+    public long getRecordsEmitted() {
+        return this.recordsEmitted;
+    }
+
+    /**
+     * @return the number of envelopes whose processing failed with an exception
+     */
+    public long getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * @return the number of received envelopes dropped because the asynchronous dispatch queue of the component was
+     *         full
+     * @see Constants#WIRE_DISPATCH_OVERFLOW_POLICY_PROP_NAME
+     */
+    public long getEnvelopesDropped() {
+        return this.envelopesDropped;
+    }
+
+    /**
+     * @return the number of received envelopes waiting in the asynchronous dispatch queue of the component, always
+     *         zero if the component uses synchronous dispatch
+     * @see Constants#WIRE_DISPATCH_MODE_PROP_NAME
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * @return the distribution of the time spent by the component processing the received envelopes
+     */
+    public ProcessingTimeHistogram getProcessingTime() {
+        return this.processingTime;
+    }
+
+    /**
+     * @return the queue depth and the number of dropped envelopes of each wire connected to the receiver ports of the
+     *         component, empty if the component uses synchronous dispatch
+     * @see Constants#WIRE_DISPATCH_MODE_PROP_NAME
+     */
+    public List<WireDispatchMetrics> getWireDispatchMetrics() {
+        return this.wireDispatchMetrics;
+    }
+
+    public static WireComponentMetricsBuilder builder() {
+        return new WireComponentMetricsBuilder();
+    }
+
+    public static final class WireComponentMetricsBuilder {
+
+        private String pid;
+        private long envelopesReceived;
+        private long recordsReceived;
+        private long envelopesEmitted;
+        private long recordsEmitted;
+        private long errors;
+        private long envelopesDropped;
+        private int queueDepth;
+        private ProcessingTimeHistogram processingTime = new ProcessingTimeHistogram(Collections.emptyList(),
+                Collections.emptyList(), 0, 0);
+        private List<WireDispatchMetrics> wireDispatchMetrics = Collections.emptyList();
+
+        private WireComponentMetricsBuilder() {
+        }
+
+        public WireComponentMetricsBuilder withPid(final String pid) {
+            this.pid = pid;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withEnvelopesReceived(final long envelopesReceived) {
+            this.envelopesReceived = envelopesReceived;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withRecordsReceived(final long recordsReceived) {
+            this.recordsReceived = recordsReceived;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withEnvelopesEmitted(final long envelopesEmitted) {
+            this.envelopesEmitted = envelopesEmitted;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withRecordsEmitted(final long recordsEmitted) {
+            this.recordsEmitted = recordsEmitted;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withErrors(final long errors) {
+            this.errors = errors;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withEnvelopesDropped(final long envelopesDropped) {
+            this.envelopesDropped = envelopesDropped;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withQueueDepth(final int queueDepth) {
+            this.queueDepth = queueDepth;
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withProcessingTime(final ProcessingTimeHistogram processingTime) {
+            this.processingTime = requireNonNull(processingTime, "processing time cannot be null");
+            return this;
+        }
+
+        public WireComponentMetricsBuilder withWireDispatchMetrics(
+                final List<WireDispatchMetrics> wireDispatchMetrics) {
+            this.wireDispatchMetrics = requireNonNull(wireDispatchMetrics, "wire dispatch metrics cannot be null");
+            return this;
+        }
+
+        public WireComponentMetrics build() {
+            return new WireComponentMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.graph;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Represents a snapshot of the asynchronous dispatch metrics of a single wire connected to a receiver port of a wire
+ * component.
+ *
+ * @see WireComponentMetrics#getWireDispatchMetrics()
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@ProviderType
+public class WireDispatchMetrics {
+
+    private final String emitterPid;
+    private final int emitterPort;
+    private final int receiverPort;
+    private final int queueDepth;
+    private final long envelopesDropped;
+
+    public WireDispatchMetrics(final String emitterPid, final int emitterPort, final int receiverPort,
+            final int queueDepth, final long envelopesDropped) {
+        this.emitterPid = emitterPid;
+        this.emitterPort = emitterPort;
+        this.receiverPort = receiverPort;
+        this.queueDepth = queueDepth;
+        this.envelopesDropped = envelopesDropped;
+    }
+
+    /**
+     * @return the kura.service.pid of the component at the emitter side of the wire, or {@code null} if the wire does
+     *         not provide it
+     * @see Constants#EMITTER_KURA_SERVICE_PID_PROP_NAME
+     */
+    public String getEmitterPid() {
+        return this.emitterPid;
+    }
+
+    /**
+     * @return the index of the emitter port the wire is connected to
+     */
+    public int getEmitterPort() {
+        return this.emitterPort;
+    }
+
+    /**
+     * @return the index of the receiver port the wire is connected to
+     */
+    public int getReceiverPort() {
+        return this.receiverPort;
+    }
+
+    /**
+     * @return the number of envelopes received from the wire that are waiting in the dispatch queue
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * @return the number of envelopes received from the wire that have been dropped because the dispatch queue was
+     *         full
+     */
+    public long getEnvelopesDropped() {
+        return this.envelopesDropped;
+    }
+}
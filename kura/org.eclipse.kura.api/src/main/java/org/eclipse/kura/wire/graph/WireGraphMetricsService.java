@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.graph;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * This interface provides runtime metrics about the wire components that are part of the Wire Graph, collected by the
+ * {@link org.eclipse.kura.wire.WireSupport} instance of each component. Metrics are cumulative since component
+ * activation or since the last call to {@link #resetWireComponentMetrics()}.
+ *
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @since 3.0
+ */
+@ProviderType
+public interface WireGraphMetricsService {
+
+    /**
+     * Returns the metrics of all active wire components.
+     *
+     * @return the list of {@link WireComponentMetrics}, one for each active wire component
+     */
+    public List<WireComponentMetrics> getWireComponentMetrics();
+
+    /**
+     * Returns the metrics of the wire component with the given kura.service.pid.
+     *
+     * @param pid
+     *            the kura.service.pid of the wire component
+     * @return the {@link WireComponentMetrics} of the component, or an empty optional if no active wire component
+     *         with the given pid exists
+     */
+    public Optional<WireComponentMetrics> getWireComponentMetrics(String pid);
+
+    /**
+     * Resets the metrics of all wire components.
+     */
+    public void resetWireComponentMetrics();
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.wire.store.provider;
+
+/**
+ * Describes how the records of a {@link WireRecordStore} are partitioned according to their insertion time.
+ * <br>
+ * The records of a partitioned store are stored in separate partitions (for example child tables in a RDBMS) covering
+ * a fixed time interval each, allowing to remove old records by dropping whole partitions.
+ *
+ * @since 3.0
+ */
+public enum WireRecordStorePartitioning {
+
+    /**
+     * All the records are stored in a single partition.
+     */
+    NONE(0),
+    /**
+     * The records are stored in a new partition every hour.
+     */
+    HOURLY(3600000L),
+    /**
+     * The records are stored in a new partition every day.
+     */
+    DAILY(86400000L);
+
+    private final long intervalMillis;
+
+    private WireRecordStorePartitioning(final long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns the length of the time interval covered by a partition, in milliseconds.
+     * 
+     * @return the partition interval in milliseconds, or 0 for {@link #NONE}
+     */
+    public long getIntervalMillis() {
+        return this.intervalMillis;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,35 @@ public interface WireRecordStoreProvider {
      */
     public WireRecordStore openWireRecordStore(String name) throws KuraStoreException;
 
+    /**
+     * Opens or creates a {@link WireRecordStore} instance with the given name, that stores the records in time based
+     * partitions as specified by the <code>partitioning</code> parameter. Partitioned stores should remove old records
+     * by dropping whole partitions when {@link WireRecordStore#truncate(int)} is invoked.
+     * <br>
+     * Implementations that support queries should allow to query the records of all the partitions as they were
+     * stored in a single collection with the given name.
+     * <br>
+     * The default implementation delegates to {@link #openWireRecordStore(String)} if <code>partitioning</code> is
+     * {@link WireRecordStorePartitioning#NONE} and fails otherwise.
+     * 
+     * @param name
+     *            the store name
+     * @param partitioning
+     *            the partitioning of the store records
+     * @return the result {@link WireRecordStore}.
+     * @throws KuraStoreException
+     *             if the store cannot be opened or the requested partitioning is not supported
+     * @since 3.0
+     */
+    public default WireRecordStore openWireRecordStore(String name, WireRecordStorePartitioning partitioning)
+            throws KuraStoreException {
+        if (partitioning == WireRecordStorePartitioning.NONE) {
+            return openWireRecordStore(name);
+        }
+
+        throw new KuraStoreException("Partitioning " + partitioning + " is not supported");
+    }
+
     /**
      * Adds a {@link ConnectionListener}. A typical behavior of a client of this listener is to close the currently
      * open
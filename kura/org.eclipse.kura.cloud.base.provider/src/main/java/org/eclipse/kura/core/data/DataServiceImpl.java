@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -123,6 +123,9 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
     private final Random random = new SecureRandom();
     private AtomicBoolean disconnectionGuard = new AtomicBoolean();
 
+    // The highest priority (lowest value) of the messages stored since the publisher fetched the last batch
+    private final AtomicInteger storedMessagesPriority = new AtomicInteger(Integer.MAX_VALUE);
+
     // ----------------------------------------------------------------
     //
     // Activation APIs
@@ -637,6 +640,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
                     logger.info("Stored message on topic: {}, priority: {}", topic, priority);
                 }
 
+                this.storedMessagesPriority.accumulateAndGet(priority, Math::min);
+
                 signalPublisher();
 
                 return messageId;
@@ -913,6 +918,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
     private final class PublishManager implements Runnable {
 
+        private boolean throttled;
+
         @Override
         public void run() {
             Thread.currentThread().setName("DataServiceImpl:Submit");
@@ -922,7 +929,17 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
                 if (DataServiceImpl.this.dataTransportService.isConnected()) {
                     try {
-                        if (DataServiceImpl.this.storeState.isPresent()) {
+                        final int batchSize = DataServiceImpl.this.dataServiceOptions.getPublishBatchSize();
+
+                        if (DataServiceImpl.this.storeState.isPresent() && batchSize > 1) {
+                            this.throttled = false;
+                            messagePublished = publishBatch(
+                                    DataServiceImpl.this.storeState.get().getOrOpenMessageStore(), batchSize);
+
+                            if (this.throttled) {
+                                sleepingTime = DataServiceImpl.this.throttle.getTokenWaitTime();
+                            }
+                        } else if (DataServiceImpl.this.storeState.isPresent()) {
                             final Optional<StoredMessage> message = DataServiceImpl.this.storeState.get()
                                     .getOrOpenMessageStore().getNextMessage();
 
@@ -1005,6 +1022,89 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             return false;
         }
 
+        // Publishes the next batch of stored messages, the publication state of the published messages is
+        // updated in the store with a single batch operation. The batch is interrupted as soon as a message
+        // cannot be published because of the rate limit or of the in-flight messages limit, or if a message
+        // with a higher priority than the next one in the batch has been stored in the meantime.
+        private synchronized boolean publishBatch(final MessageStore store, final int batchSize)
+                throws KuraException {
+
+            DataServiceImpl.this.storedMessagesPriority.set(Integer.MAX_VALUE);
+
+            final List<StoredMessage> messages = store.getNextMessages(batchSize);
+
+            final List<StoredMessage> publishedMessages = new ArrayList<>(messages.size());
+            final List<Integer> publishedMsgIds = new ArrayList<>();
+            final Map<Integer, DataTransportToken> publishedMsgTokens = new HashMap<>();
+
+            try {
+                for (final StoredMessage message : messages) {
+                    if (!DataServiceImpl.this.publisherEnabled.get()
+                            || DataServiceImpl.this.storedMessagesPriority.get() < message.getPriority()) {
+                        break;
+                    }
+
+                    if (!publishedMessages.isEmpty() && isInFlightWindowFull(message)) {
+                        break;
+                    }
+
+                    checkInFlightMessages(message);
+
+                    if (DataServiceImpl.this.dataServiceOptions.isRateLimitEnabled() && message.getPriority() >= 5
+                            && !DataServiceImpl.this.throttle.getToken()) {
+                        this.throttled = true;
+                        break;
+                    }
+
+                    logger.debug("Publishing message with ID: {} on topic: {}, priority: {}", message.getId(),
+                            message.getTopic(), message.getPriority());
+
+                    final DataTransportToken token = DataServiceImpl.this.dataTransportService
+                            .publish(message.getTopic(), message.getPayload(), message.getQos(), message.isRetain());
+
+                    if (token == null) {
+                        publishedMsgIds.add(message.getId());
+                    } else {
+                        final Integer trackedMsgId = DataServiceImpl.this.inFlightMsgIds.get(token);
+                        if (trackedMsgId != null) {
+                            logger.error("Token already tracked: {} - {}", token.getSessionId(), token.getMessageId());
+                        }
+
+                        DataServiceImpl.this.inFlightMsgIds.put(token, message.getId());
+                        publishedMsgTokens.put(message.getId(), token);
+                    }
+
+                    publishedMessages.add(message);
+                }
+            } finally {
+                markAsPublished(store, publishedMsgIds, publishedMsgTokens);
+            }
+
+            logger.debug("Published {} messages out of a batch of {}", publishedMessages.size(), messages.size());
+
+            for (final StoredMessage message : publishedMessages) {
+                // Notify the listeners
+                DataServiceImpl.this.dataServiceListeners.onMessagePublished(message.getId(), message.getTopic());
+            }
+
+            return !publishedMessages.isEmpty();
+        }
+
+        private boolean isInFlightWindowFull(final StoredMessage message) {
+            return message.getQos() > 0 && DataServiceImpl.this.inFlightMsgIds
+                    .size() >= DataServiceImpl.this.dataServiceOptions.getMaxInFlightMessages();
+        }
+
+        private void markAsPublished(final MessageStore store, final List<Integer> publishedMsgIds,
+                final Map<Integer, DataTransportToken> publishedMsgTokens) {
+            try {
+                store.markAsPublished(publishedMsgIds);
+                store.markAsPublished(publishedMsgTokens);
+            } catch (KuraStoreException e) {
+                DataServiceImpl.this.disconnectDataTransportAndLog(e);
+            }
+        }
+
         private void handleInFlightCongestion() {
             int timeout = DataServiceImpl.this.dataServiceOptions.getInFlightMessagesCongestionTimeout();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ public class DataServiceOptions {
     private static final String CONNECTION_SCHEDULE_PRIORITY_OVERRIDE_ENABLE = "connection.schedule.priority.override.enable";
     private static final String CONNECTION_SCHEDULE_PRIORITY_OVERRIDE_THRESHOLD = "connection.schedule.priority.override.threshold";
     private static final String MAXIMUM_PAYLOAD_SIZE = "maximum.payload.size";
+    private static final String PUBLISH_BATCH_SIZE_PROP_NAME = "publish.batch.size";
 
     private static final boolean AUTOCONNECT_PROP_DEFAULT = false;
     private static final int CONNECT_DELAY_DEFAULT = 60;
@@ -72,6 +73,7 @@ public class DataServiceOptions {
     private static final boolean CONNECTION_SCHEDULE_PRIORITY_OVERRIDE_ENABLE_DEFAULT = false;
     private static final int CONNECTION_SCHEDULE_PRIORITY_OVERRIDE_THRESHOLD_DEFAULT = 1;
     private static final long MAXIMUM_PAYLOAD_SIZE_DEFAULT = 16777216;
+    private static final int PUBLISH_BATCH_SIZE_DEFAULT = 1;
 
     private static final int CONNECT_CRITICAL_COMPONENT_TIMEOUT_MULTIPLIER = 5000;
 
@@ -218,4 +220,13 @@ public class DataServiceOptions {
             return MAXIMUM_PAYLOAD_SIZE_DEFAULT;
         }
     }
+
+    public int getPublishBatchSize() {
+        try {
+            return Math.max(1,
+                    (int) this.properties.getOrDefault(PUBLISH_BATCH_SIZE_PROP_NAME, PUBLISH_BATCH_SIZE_DEFAULT));
+        } catch (final Exception e) {
+            return PUBLISH_BATCH_SIZE_DEFAULT;
+        }
+    }
 }
@@ -0,0 +1,638 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.data.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.core.data.store.WriteBehindMessageStoreOptions.DurabilityPolicy;
+import org.eclipse.kura.data.DataTransportToken;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MessageStore} that keeps recently stored messages in a bounded in-memory queue in front of a backing
+ * store.
+ * <p>
+ * Messages that are kept in memory are identified by negative ids, while the ids of the messages in the backing store
+ * are always non negative. When a message kept in memory is persisted, the store keeps track of the id assigned by
+ * the backing store, so that clients can keep using the id returned by {@link #store(String, byte[], int, boolean,
+ * int)} for the whole lifetime of the message.
+ */
+public class WriteBehindMessageStore implements MessageStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindMessageStore.class);
+
+    private static final Comparator<MemoryMessage> PUBLISHING_ORDER = Comparator
+            .comparingInt((MemoryMessage m) -> m.priority).thenComparingLong(m -> m.sequenceNumber);
+
+    private final MessageStore backingStore;
+    private final Consumer<WriteBehindMessageStore> closeListener;
+    private WriteBehindMessageStoreOptions options;
+
+    private final Map<Integer, MemoryMessage> memoryMessages = new LinkedHashMap<>();
+    private final NavigableSet<MemoryMessage> unpublishedMessages = new TreeSet<>(PUBLISHING_ORDER);
+    private final Map<Integer, StoredMessage> completedMessages = new LinkedHashMap<Integer, StoredMessage>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, StoredMessage> eldest) {
+            return size() > WriteBehindMessageStore.this.options.getQueueCapacity();
+        }
+    };
+    private final Map<Integer, PersistedMessage> persistedMessages = new HashMap<>();
+    private final Map<Integer, Integer> wrapperIds = new HashMap<>();
+
+    private int nextId = -1;
+    private long nextSequenceNumber = 0;
+    private boolean closed = false;
+
+    public WriteBehindMessageStore(final MessageStore backingStore, final WriteBehindMessageStoreOptions options,
+            final Consumer<WriteBehindMessageStore> closeListener) {
+        this.backingStore = backingStore;
+        this.options = options;
+        this.closeListener = closeListener;
+    }
+
+    public synchronized void setOptions(final WriteBehindMessageStoreOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public synchronized int store(final String topic, final byte[] payload, final int qos, final boolean retain,
+            final int priority) throws KuraStoreException {
+        checkOpen();
+
+        final DurabilityPolicy policy = this.options.getDurabilityPolicy(qos, priority);
+
+        if (policy == DurabilityPolicy.WRITE_THROUGH) {
+            return this.backingStore.store(topic, payload, qos, retain, priority);
+        }
+
+        if (this.memoryMessages.size() >= this.options.getQueueCapacity()) {
+            logger.info("Write-behind queue is full, persisting {} messages", this.memoryMessages.size());
+            persist(new ArrayList<>(this.memoryMessages.values()));
+        }
+
+        final MemoryMessage message = new MemoryMessage(allocateId(), this.nextSequenceNumber++, policy, topic,
+                payload, qos, retain, priority);
+
+        this.memoryMessages.put(message.id, message);
+        this.unpublishedMessages.add(message);
+
+        return message.id;
+    }
+
+    @Override
+    public synchronized void markAsPublished(final int msgId) throws KuraStoreException {
+        checkOpen();
+
+        final MemoryMessage message = this.memoryMessages.remove(msgId);
+
+        if (message != null) {
+            this.unpublishedMessages.remove(message);
+            message.publishedOn = new Date();
+            this.completedMessages.put(msgId, message.toStoredMessage());
+            return;
+        }
+
+        this.backingStore.markAsPublished(toBackingId(msgId));
+        retire(msgId);
+    }
+
+    @Override
+    public synchronized void markAsPublished(final int msgId, final DataTransportToken dataTransportToken)
+            throws KuraStoreException {
+        checkOpen();
+
+        final MemoryMessage message = this.memoryMessages.get(msgId);
+
+        if (message != null) {
+            this.unpublishedMessages.remove(message);
+            message.publishedOn = new Date();
+            message.dataTransportToken = dataTransportToken;
+            return;
+        }
+
+        this.backingStore.markAsPublished(toBackingId(msgId), dataTransportToken);
+
+        final PersistedMessage persisted = this.persistedMessages.get(msgId);
+
+        if (persisted != null) {
+            persisted.inFlight = true;
+        }
+    }
+
+    @Override
+    public synchronized void markAsConfirmed(final int msgId) throws KuraStoreException {
+        checkOpen();
+
+        final MemoryMessage message = this.memoryMessages.remove(msgId);
+
+        if (message != null) {
+            this.unpublishedMessages.remove(message);
+            message.confirmedOn = new Date();
+            this.completedMessages.put(msgId, message.toStoredMessage());
+            return;
+        }
+
+        this.backingStore.markAsConfirmed(toBackingId(msgId));
+        retire(msgId);
+    }
+
+    @Override
+    public synchronized void markAsPublished(final List<Integer> msgIds) throws KuraStoreException {
+        checkOpen();
+
+        final List<Integer> backingIds = new ArrayList<>(msgIds.size());
+        final Date now = new Date();
+
+        for (final Integer msgId : msgIds) {
+            final MemoryMessage message = this.memoryMessages.remove(msgId);
+
+            if (message != null) {
+                this.unpublishedMessages.remove(message);
+                message.publishedOn = now;
+                this.completedMessages.put(msgId, message.toStoredMessage());
+            } else {
+                backingIds.add(toBackingId(msgId));
+                retire(msgId);
+            }
+        }
+
+        this.backingStore.markAsPublished(backingIds);
+    }
+
+    @Override
+    public synchronized void markAsPublished(final Map<Integer, DataTransportToken> dataTransportTokens)
+            throws KuraStoreException {
+        checkOpen();
+
+        final Map<Integer, DataTransportToken> backingTokens = new HashMap<>();
+        final Date now = new Date();
+
+        for (final Map.Entry<Integer, DataTransportToken> entry : dataTransportTokens.entrySet()) {
+            final MemoryMessage message = this.memoryMessages.get(entry.getKey());
+
+            if (message != null) {
+                this.unpublishedMessages.remove(message);
+                message.publishedOn = now;
+                message.dataTransportToken = entry.getValue();
+                continue;
+            }
+
+            backingTokens.put(toBackingId(entry.getKey()), entry.getValue());
+
+            final PersistedMessage persisted = this.persistedMessages.get(entry.getKey());
+
+            if (persisted != null) {
+                persisted.inFlight = true;
+            }
+        }
+
+        this.backingStore.markAsPublished(backingTokens);
+    }
+
+    @Override
+    public synchronized void markAsConfirmed(final List<Integer> msgIds) throws KuraStoreException {
+        checkOpen();
+
+        final List<Integer> backingIds = new ArrayList<>(msgIds.size());
+        final Date now = new Date();
+
+        for (final Integer msgId : msgIds) {
+            final MemoryMessage message = this.memoryMessages.remove(msgId);
+
+            if (message != null) {
+                this.unpublishedMessages.remove(message);
+                message.confirmedOn = now;
+                this.completedMessages.put(msgId, message.toStoredMessage());
+            } else {
+                backingIds.add(toBackingId(msgId));
+                retire(msgId);
+            }
+        }
+
+        this.backingStore.markAsConfirmed(backingIds);
+    }
+
+    @Override
+    public synchronized Optional<StoredMessage> getNextMessage() throws KuraStoreException {
+        checkOpen();
+
+        final Optional<StoredMessage> fromBackingStore = this.backingStore.getNextMessage().map(this::toWrapperMessage);
+
+        if (this.unpublishedMessages.isEmpty()) {
+            return fromBackingStore;
+        }
+
+        final StoredMessage fromMemory = this.unpublishedMessages.first().toStoredMessage();
+
+        if (fromBackingStore.isPresent() && !isPublishedAfter(fromBackingStore.get(), fromMemory)) {
+            return fromBackingStore;
+        }
+
+        return Optional.of(fromMemory);
+    }
+
+    @Override
+    public synchronized List<StoredMessage> getNextMessages(final int count) throws KuraStoreException {
+        checkOpen();
+
+        final List<StoredMessage> fromBackingStore = this.backingStore.getNextMessages(count);
+        final Iterator<MemoryMessage> fromMemory = this.unpublishedMessages.iterator();
+
+        final List<StoredMessage> result = new ArrayList<>(count);
+
+        int backingIndex = 0;
+        StoredMessage nextFromMemory = fromMemory.hasNext() ? fromMemory.next().toStoredMessage() : null;
+
+        while (result.size() < count && (nextFromMemory != null || backingIndex < fromBackingStore.size())) {
+            final StoredMessage nextFromBackingStore = backingIndex < fromBackingStore.size()
+                    ? fromBackingStore.get(backingIndex)
+                    : null;
+
+            if (nextFromMemory == null
+                    || nextFromBackingStore != null && !isPublishedAfter(nextFromBackingStore, nextFromMemory)) {
+                result.add(toWrapperMessage(nextFromBackingStore));
+                backingIndex++;
+            } else {
+                result.add(nextFromMemory);
+                nextFromMemory = fromMemory.hasNext() ? fromMemory.next().toStoredMessage() : null;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized Optional<StoredMessage> get(final int msgId) throws KuraStoreException {
+        checkOpen();
+
+        final MemoryMessage message = this.memoryMessages.get(msgId);
+
+        if (message != null) {
+            return Optional.of(message.toStoredMessage());
+        }
+
+        final StoredMessage completed = this.completedMessages.get(msgId);
+
+        if (completed != null) {
+            return Optional.of(completed);
+        }
+
+        return this.backingStore.get(toBackingId(msgId)).map(this::toWrapperMessage);
+    }
+
+    @Override
+    public synchronized int getMessageCount() throws KuraStoreException {
+        checkOpen();
+
+        return this.backingStore.getMessageCount() + this.memoryMessages.size();
+    }
+
+    @Override
+    public synchronized List<StoredMessage> getUnpublishedMessages() throws KuraStoreException {
+        checkOpen();
+
+        final List<StoredMessage> result = toWrapperMessages(this.backingStore.getUnpublishedMessages());
+
+        for (final MemoryMessage message : this.unpublishedMessages) {
+            result.add(message.toStoredMessage());
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized List<StoredMessage> getInFlightMessages() throws KuraStoreException {
+        checkOpen();
+
+        final List<StoredMessage> result = toWrapperMessages(this.backingStore.getInFlightMessages());
+
+        for (final MemoryMessage message : this.memoryMessages.values()) {
+            if (message.isInFlight()) {
+                result.add(message.toStoredMessage());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized List<StoredMessage> getDroppedMessages() throws KuraStoreException {
+        checkOpen();
+
+        return toWrapperMessages(this.backingStore.getDroppedMessages());
+    }
+
+    @Override
+    public synchronized void unpublishAllInFlighMessages() throws KuraStoreException {
+        checkOpen();
+
+        this.backingStore.unpublishAllInFlighMessages();
+
+        for (final PersistedMessage persisted : this.persistedMessages.values()) {
+            persisted.inFlight = false;
+        }
+
+        for (final MemoryMessage message : this.memoryMessages.values()) {
+            if (message.isInFlight()) {
+                message.publishedOn = null;
+                message.dataTransportToken = null;
+                this.unpublishedMessages.add(message);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void dropAllInFlightMessages() throws KuraStoreException {
+        checkOpen();
+
+        persist(this.memoryMessages.values().stream().filter(MemoryMessage::isInFlight).collect(Collectors.toList()));
+
+        this.backingStore.dropAllInFlightMessages();
+
+        final Date now = new Date();
+
+        for (final PersistedMessage persisted : this.persistedMessages.values()) {
+            if (persisted.inFlight) {
+                persisted.inFlight = false;
+                persisted.retiredOn = now;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void deleteStaleMessages(final int purgeAgeSeconds) throws KuraStoreException {
+        checkOpen();
+
+        this.backingStore.deleteStaleMessages(purgeAgeSeconds);
+
+        final long purgeTimestamp = System.currentTimeMillis() - purgeAgeSeconds * 1000L;
+
+        final Iterator<Map.Entry<Integer, PersistedMessage>> persisted = this.persistedMessages.entrySet().iterator();
+
+        while (persisted.hasNext()) {
+            final PersistedMessage message = persisted.next().getValue();
+
+            if (message.retiredOn != null && message.retiredOn.getTime() < purgeTimestamp) {
+                this.wrapperIds.remove(message.backingId);
+                persisted.remove();
+            }
+        }
+
+        this.completedMessages.values().removeIf(m -> getCompletedOn(m) < purgeTimestamp);
+    }
+
+    /**
+     * Persists the write-behind messages that have been kept in memory for more than the configured flush interval,
+     * in batches of at most the configured flush batch size. The store lock is released between batches.
+     *
+     * @throws KuraStoreException
+     *             if persisting the messages fails
+     */
+    public void flush() throws KuraStoreException {
+        while (true) {
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+
+                final long flushTimestamp = System.currentTimeMillis() - this.options.getFlushInterval();
+                final int batchSize = this.options.getFlushBatchSize();
+
+                final List<MemoryMessage> batch = this.memoryMessages.values().stream()
+                        .filter(m -> m.policy == DurabilityPolicy.WRITE_BEHIND
+                                && m.createdOn.getTime() <= flushTimestamp)
+                        .limit(batchSize).collect(Collectors.toList());
+
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                logger.debug("Persisting {} write-behind messages", batch.size());
+
+                persist(batch);
+
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Persists all messages currently kept in memory, regardless of their durability policy.
+     *
+     * @throws KuraStoreException
+     *             if persisting the messages fails
+     */
+    public synchronized void flushAll() throws KuraStoreException {
+        checkOpen();
+
+        persist(new ArrayList<>(this.memoryMessages.values()));
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            try {
+                persist(new ArrayList<>(this.memoryMessages.values()));
+            } catch (final KuraStoreException e) {
+                logger.warn("Failed to persist write-behind messages on close, {} messages will be lost",
+                        this.memoryMessages.size(), e);
+            }
+
+            this.closed = true;
+            this.memoryMessages.clear();
+            this.unpublishedMessages.clear();
+            this.backingStore.close();
+        }
+
+        this.closeListener.accept(this);
+    }
+
+    private void persist(final List<MemoryMessage> messages) throws KuraStoreException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        final List<Integer> backingIds = this.backingStore
+                .storeAll(messages.stream().map(MemoryMessage::toStoredMessage).collect(Collectors.toList()));
+
+        final Map<Integer, DataTransportToken> inFlightMessages = new HashMap<>();
+
+        for (int i = 0; i < messages.size(); i++) {
+            final MemoryMessage message = messages.get(i);
+            final int backingId = backingIds.get(i);
+
+            final PersistedMessage persisted = new PersistedMessage(backingId);
+
+            if (message.isInFlight()) {
+                inFlightMessages.put(backingId, message.dataTransportToken);
+                persisted.inFlight = true;
+            }
+
+            this.persistedMessages.put(message.id, persisted);
+            this.wrapperIds.put(backingId, message.id);
+            this.memoryMessages.remove(message.id);
+            this.unpublishedMessages.remove(message);
+        }
+
+        this.backingStore.markAsPublished(inFlightMessages);
+    }
+
+    private void retire(final int msgId) {
+        final PersistedMessage persisted = this.persistedMessages.get(msgId);
+
+        if (persisted != null) {
+            persisted.inFlight = false;
+            persisted.retiredOn = new Date();
+        }
+    }
+
+    private int allocateId() {
+        int result;
+
+        do {
+            result = this.nextId;
+            this.nextId = this.nextId == Integer.MIN_VALUE ? -1 : this.nextId - 1;
+        } while (this.memoryMessages.containsKey(result) || this.persistedMessages.containsKey(result)
+                || this.completedMessages.containsKey(result));
+
+        return result;
+    }
+
+    private int toBackingId(final int msgId) {
+        final PersistedMessage persisted = this.persistedMessages.get(msgId);
+
+        return persisted != null ? persisted.backingId : msgId;
+    }
+
+    private StoredMessage toWrapperMessage(final StoredMessage message) {
+        final Integer wrapperId = this.wrapperIds.get(message.getId());
+
+        if (wrapperId == null) {
+            return message;
+        }
+
+        return new StoredMessage.Builder(wrapperId).withTopic(message.getTopic()).withQos(message.getQos())
+                .withRetain(message.isRetain()).withPriority(message.getPriority()).withPayload(message.getPayload())
+                .withCreatedOn(message.getCreatedOn().orElse(null))
+                .withPublishedOn(message.getPublishedOn().orElse(null))
+                .withConfirmedOn(message.getConfirmedOn().orElse(null))
+                .withDroppedOn(message.getDroppedOn().orElse(null))
+                .withDataTransportToken(message.getDataTransportToken().orElse(null)).build();
+    }
+
+    private List<StoredMessage> toWrapperMessages(final List<StoredMessage> messages) {
+        final List<StoredMessage> result = new ArrayList<>(messages.size());
+
+        for (final StoredMessage message : messages) {
+            result.add(toWrapperMessage(message));
+        }
+
+        return result;
+    }
+
+    private void checkOpen() throws KuraStoreException {
+        if (this.closed) {
+            throw new KuraStoreException("Message store is closed");
+        }
+    }
+
+    private static long getCompletedOn(final StoredMessage message) {
+        final Optional<Date> confirmedOn = message.getConfirmedOn();
+
+        return (confirmedOn.isPresent() ? confirmedOn : message.getPublishedOn()).map(Date::getTime).orElse(0L);
+    }
+
+    private static boolean isPublishedAfter(final StoredMessage first, final StoredMessage second) {
+        if (first.getPriority() != second.getPriority()) {
+            return first.getPriority() > second.getPriority();
+        }
+
+        return first.getCreatedOn().map(Date::getTime).orElse(0L) > second.getCreatedOn().map(Date::getTime)
+                .orElse(0L);
+    }
+
+    private static final class MemoryMessage {
+
+        private final int id;
+        private final long sequenceNumber;
+        private final DurabilityPolicy policy;
+        private final String topic;
+        private final byte[] payload;
+        private final int qos;
+        private final boolean retain;
+        private final int priority;
+        private final Date createdOn = new Date();
+        private Date publishedOn;
+        private Date confirmedOn;
+        private DataTransportToken dataTransportToken;
+
+        MemoryMessage(final int id, final long sequenceNumber, final DurabilityPolicy policy, final String topic,
+                final byte[] payload, final int qos, final boolean retain, final int priority) {
+            this.id = id;
+            this.sequenceNumber = sequenceNumber;
+            this.policy = policy;
+            this.topic = topic;
+            this.payload = payload;
+            this.qos = qos;
+            this.retain = retain;
+            this.priority = priority;
+        }
+
+        boolean isInFlight() {
+            return this.publishedOn != null;
+        }
+
+        StoredMessage toStoredMessage() {
+            return new StoredMessage.Builder(this.id).withTopic(this.topic).withQos(this.qos).withRetain(this.retain)
+                    .withPriority(this.priority).withPayload(this.payload).withCreatedOn(this.createdOn)
+                    .withPublishedOn(this.publishedOn).withConfirmedOn(this.confirmedOn)
+                    .withDataTransportToken(this.dataTransportToken).build();
+        }
+    }
+
+    private static final class PersistedMessage {
+
+        private final int backingId;
+        private boolean inFlight;
+        private Date retiredOn;
+
+        PersistedMessage(final int backingId) {
+            this.backingId = backingId;
+        }
+    }
+}
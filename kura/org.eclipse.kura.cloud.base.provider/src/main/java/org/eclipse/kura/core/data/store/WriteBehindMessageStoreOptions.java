@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.data.store;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class WriteBehindMessageStoreOptions {
+
+    /**
+     * Defines how a message is handled by the write-behind message store, depending on its priority and QoS.
+     */
+    public enum DurabilityPolicy {
+        /**
+         * The message is synchronously written to the backing store.
+         */
+        WRITE_THROUGH,
+        /**
+         * The message is kept in memory and persisted to the backing store if it is still pending after the flush
+         * interval.
+         */
+        WRITE_BEHIND,
+        /**
+         * The message is kept in memory and persisted only on queue pressure or on shutdown.
+         */
+        VOLATILE
+    }
+
+    private static final String WRITE_THROUGH_PRIORITY_THRESHOLD_PROP_NAME = "write.through.priority.threshold";
+    private static final String VOLATILE_PRIORITY_THRESHOLD_PROP_NAME = "volatile.priority.threshold";
+    private static final String QUEUE_CAPACITY_PROP_NAME = "queue.capacity";
+    private static final String FLUSH_INTERVAL_PROP_NAME = "flush.interval.ms";
+    private static final String FLUSH_BATCH_SIZE_PROP_NAME = "flush.batch.size";
+
+    private static final int WRITE_THROUGH_PRIORITY_THRESHOLD_DEFAULT = 1;
+    private static final int VOLATILE_PRIORITY_THRESHOLD_DEFAULT = 5;
+    private static final int QUEUE_CAPACITY_DEFAULT = 1000;
+    private static final long FLUSH_INTERVAL_DEFAULT = 5000;
+    private static final int FLUSH_BATCH_SIZE_DEFAULT = 100;
+
+    private final Map<String, Object> properties;
+
+    public WriteBehindMessageStoreOptions(final Map<String, Object> properties) {
+        requireNonNull(properties, "Required not null");
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    public int getWriteThroughPriorityThreshold() {
+        return (int) this.properties.getOrDefault(WRITE_THROUGH_PRIORITY_THRESHOLD_PROP_NAME,
+                WRITE_THROUGH_PRIORITY_THRESHOLD_DEFAULT);
+    }
+
+    public int getVolatilePriorityThreshold() {
+        return (int) this.properties.getOrDefault(VOLATILE_PRIORITY_THRESHOLD_PROP_NAME,
+                VOLATILE_PRIORITY_THRESHOLD_DEFAULT);
+    }
+
+    public int getQueueCapacity() {
+        return Math.max(1, (int) this.properties.getOrDefault(QUEUE_CAPACITY_PROP_NAME, QUEUE_CAPACITY_DEFAULT));
+    }
+
+    public long getFlushInterval() {
+        return Math.max(1, ((Number) this.properties.getOrDefault(FLUSH_INTERVAL_PROP_NAME, FLUSH_INTERVAL_DEFAULT))
+                .longValue());
+    }
+
+    public int getFlushBatchSize() {
+        return Math.max(1, (int) this.properties.getOrDefault(FLUSH_BATCH_SIZE_PROP_NAME, FLUSH_BATCH_SIZE_DEFAULT));
+    }
+
+    public DurabilityPolicy getDurabilityPolicy(final int qos, final int priority) {
+        if (priority <= getWriteThroughPriorityThreshold()) {
+            return DurabilityPolicy.WRITE_THROUGH;
+        } else if (qos == 0 && priority >= getVolatilePriorityThreshold()) {
+            return DurabilityPolicy.VOLATILE;
+        } else {
+            return DurabilityPolicy.WRITE_BEHIND;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.data.store;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.connection.listener.ConnectionListener;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.eclipse.kura.message.store.provider.MessageStoreProvider;
+import org.eclipse.kura.util.store.listener.ConnectionListenerManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MessageStoreProvider} that wraps the {@link MessageStore} instances returned by another provider with a
+ * bounded, priority aware, in-memory queue. See {@link WriteBehindMessageStore} for details.
+ */
+public class WriteBehindMessageStoreProvider
+        implements MessageStoreProvider, ConfigurableComponent, ConnectionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindMessageStoreProvider.class);
+
+    private final ConnectionListenerManager listenerManager = new ConnectionListenerManager();
+    private final Set<WriteBehindMessageStore> openStores = new CopyOnWriteArraySet<>();
+
+    private Optional<MessageStoreProvider> backingProvider = Optional.empty();
+    private WriteBehindMessageStoreOptions options;
+    private ScheduledExecutorService flushExecutor;
+    private ScheduledFuture<?> flushTask;
+
+    public synchronized void bindMessageStoreProvider(final MessageStoreProvider messageStoreProvider) {
+        if (messageStoreProvider == this) {
+            logger.warn("The write-behind message store provider cannot be backed by itself");
+            return;
+        }
+
+        if (this.backingProvider.isPresent()) {
+            this.backingProvider.get().removeListener(this);
+            closeAll();
+        }
+
+        this.backingProvider = Optional.of(messageStoreProvider);
+        messageStoreProvider.addListener(this);
+        this.listenerManager.dispatchConnected();
+    }
+
+    public synchronized void unbindMessageStoreProvider(final MessageStoreProvider messageStoreProvider) {
+        if (this.backingProvider.equals(Optional.of(messageStoreProvider))) {
+            messageStoreProvider.removeListener(this);
+            closeAll();
+            this.backingProvider = Optional.empty();
+            this.listenerManager.dispatchDisconnected();
+        }
+    }
+
+    public void activate(final Map<String, Object> properties) {
+        logger.info("Activating write-behind message store provider...");
+
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        updated(properties);
+
+        logger.info("Activating write-behind message store provider... Done");
+    }
+
+    public synchronized void updated(final Map<String, Object> properties) {
+        logger.info("Updating write-behind message store provider...");
+
+        this.options = new WriteBehindMessageStoreOptions(properties);
+
+        for (final WriteBehindMessageStore store : this.openStores) {
+            store.setOptions(this.options);
+        }
+
+        if (this.flushTask != null) {
+            this.flushTask.cancel(false);
+        }
+
+        final long flushInterval = this.options.getFlushInterval();
+
+        this.flushTask = this.flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+
+        logger.info("Updating write-behind message store provider... Done");
+    }
+
+    public void deactivate() {
+        logger.info("Deactivating write-behind message store provider...");
+
+        synchronized (this) {
+            if (this.flushTask != null) {
+                this.flushTask.cancel(false);
+                this.flushTask = null;
+            }
+
+            closeAll();
+        }
+
+        this.flushExecutor.shutdown();
+        this.listenerManager.shutdown();
+
+        logger.info("Deactivating write-behind message store provider... Done");
+    }
+
+    @Override
+    public synchronized MessageStore openMessageStore(final String name) throws KuraStoreException {
+        if (!this.backingProvider.isPresent()) {
+            throw new KuraStoreException("Backing message store provider is not available");
+        }
+
+        final WriteBehindMessageStore result = new WriteBehindMessageStore(
+                this.backingProvider.get().openMessageStore(name), this.options, this.openStores::remove);
+
+        this.openStores.add(result);
+
+        return result;
+    }
+
+    @Override
+    public void addListener(final ConnectionListener listener) {
+        this.listenerManager.add(listener);
+    }
+
+    @Override
+    public void removeListener(final ConnectionListener listener) {
+        this.listenerManager.remove(listener);
+    }
+
+    @Override
+    public void connected() {
+        this.listenerManager.dispatchConnected();
+    }
+
+    @Override
+    public void disconnected() {
+        this.listenerManager.dispatchDisconnected();
+    }
+
+    private void flush() {
+        for (final WriteBehindMessageStore store : this.openStores) {
+            try {
+                store.flush();
+            } catch (final Exception e) {
+                logger.warn("Failed to persist write-behind messages", e);
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (final WriteBehindMessageStore store : this.openStores) {
+            store.close();
+        }
+    }
+}
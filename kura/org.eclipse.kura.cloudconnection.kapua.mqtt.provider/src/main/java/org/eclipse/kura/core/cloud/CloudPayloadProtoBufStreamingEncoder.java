@@ -0,0 +1,400 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.cloud;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.eclipse.kura.KuraInvalidMetricTypeException;
+import org.eclipse.kura.core.message.protobuf.KuraPayloadProto;
+import org.eclipse.kura.core.message.protobuf.KuraPayloadProto.KuraPayload.KuraMetric;
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.message.KuraPosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Encodes a KuraPayload using the Google ProtoBuf binary format, producing the same output as
+ * {@link CloudPayloadProtoBufEncoderImpl} without building the intermediate KuraPayloadProto message.
+ * <br>
+ * The serialized size is computed upfront and the fields are written by a {@link CodedOutputStream} directly into the
+ * returned array. If gzip compression is enabled, the payload is serialized into a per thread buffer and compressed
+ * with a per thread {@link Deflater}. As in {@link CloudPayloadGZipEncoder}, compressed data is returned only if
+ * shorter than the uncompressed one.
+ */
+public class CloudPayloadProtoBufStreamingEncoder implements CloudPayloadEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CloudPayloadProtoBufStreamingEncoder.class);
+
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<GZipContext> GZIP_CONTEXT = ThreadLocal.withInitial(GZipContext::new);
+
+    private final KuraPayload kuraPayload;
+    private final boolean gzip;
+
+    public CloudPayloadProtoBufStreamingEncoder(KuraPayload kuraPayload) {
+        this(kuraPayload, false);
+    }
+
+    public CloudPayloadProtoBufStreamingEncoder(KuraPayload kuraPayload, boolean gzip) {
+        this.kuraPayload = kuraPayload;
+        this.gzip = gzip;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        final Map<String, Object> metrics = this.kuraPayload.metrics();
+        final int[] metricSizes = new int[metrics.size()];
+        final int size = computePayloadSize(metrics, metricSizes);
+
+        if (!this.gzip) {
+            final byte[] result = new byte[size];
+            writePayload(CodedOutputStream.newInstance(result), metrics, metricSizes);
+            return result;
+        }
+
+        final GZipContext context = GZIP_CONTEXT.get();
+
+        try {
+            final byte[] source = context.getSourceBuffer(size);
+            writePayload(CodedOutputStream.newInstance(source, 0, size), metrics, metricSizes);
+            return context.compress(size);
+        } finally {
+            context.release();
+        }
+    }
+
+    //
+    // Size computation
+    //
+    private int computePayloadSize(final Map<String, Object> metrics, final int[] metricSizes) throws IOException {
+        int size = 0;
+
+        final Date timestamp = this.kuraPayload.getTimestamp();
+        if (timestamp != null) {
+            size += CodedOutputStream.computeInt64Size(KuraPayloadProto.KuraPayload.TIMESTAMP_FIELD_NUMBER,
+                    timestamp.getTime());
+        }
+
+        final KuraPosition position = this.kuraPayload.getPosition();
+        if (position != null) {
+            size += computeMessageSize(KuraPayloadProto.KuraPayload.POSITION_FIELD_NUMBER,
+                    computePositionSize(position));
+        }
+
+        int i = 0;
+        for (final Map.Entry<String, Object> entry : metrics.entrySet()) {
+            final int metricSize = computeMetricSize(entry.getKey(), entry.getValue());
+
+            metricSizes[i++] = metricSize;
+
+            if (metricSize >= 0) {
+                size += computeMessageSize(KuraPayloadProto.KuraPayload.METRIC_FIELD_NUMBER, metricSize);
+            }
+        }
+
+        final byte[] body = this.kuraPayload.getBody();
+        if (body != null) {
+            size += CodedOutputStream.computeByteArraySize(KuraPayloadProto.KuraPayload.BODY_FIELD_NUMBER, body);
+        }
+
+        return size;
+    }
+
+    private static int computeMessageSize(final int fieldNumber, final int messageSize) {
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(messageSize)
+                + messageSize;
+    }
+
+    private static int computePositionSize(final KuraPosition position) throws IOException {
+        if (position.getLatitude() == null || position.getLongitude() == null) {
+            throw new IOException("Position latitude and longitude are required");
+        }
+
+        int size = CodedOutputStream.computeDoubleSize(KuraPayloadProto.KuraPayload.KuraPosition.LATITUDE_FIELD_NUMBER,
+                position.getLatitude());
+        size += CodedOutputStream.computeDoubleSize(KuraPayloadProto.KuraPayload.KuraPosition.LONGITUDE_FIELD_NUMBER,
+                position.getLongitude());
+
+        if (position.getAltitude() != null) {
+            size += CodedOutputStream.computeDoubleSize(
+                    KuraPayloadProto.KuraPayload.KuraPosition.ALTITUDE_FIELD_NUMBER, position.getAltitude());
+        }
+        if (position.getPrecision() != null) {
+            size += CodedOutputStream.computeDoubleSize(
+                    KuraPayloadProto.KuraPayload.KuraPosition.PRECISION_FIELD_NUMBER, position.getPrecision());
+        }
+        if (position.getHeading() != null) {
+            size += CodedOutputStream.computeDoubleSize(KuraPayloadProto.KuraPayload.KuraPosition.HEADING_FIELD_NUMBER,
+                    position.getHeading());
+        }
+        if (position.getSpeed() != null) {
+            size += CodedOutputStream.computeDoubleSize(KuraPayloadProto.KuraPayload.KuraPosition.SPEED_FIELD_NUMBER,
+                    position.getSpeed());
+        }
+        if (position.getTimestamp() != null) {
+            size += CodedOutputStream.computeInt64Size(
+                    KuraPayloadProto.KuraPayload.KuraPosition.TIMESTAMP_FIELD_NUMBER,
+                    position.getTimestamp().getTime());
+        }
+        if (position.getSatellites() != null) {
+            size += CodedOutputStream.computeInt32Size(
+                    KuraPayloadProto.KuraPayload.KuraPosition.SATELLITES_FIELD_NUMBER, position.getSatellites());
+        }
+        if (position.getStatus() != null) {
+            size += CodedOutputStream.computeInt32Size(KuraPayloadProto.KuraPayload.KuraPosition.STATUS_FIELD_NUMBER,
+                    position.getStatus());
+        }
+
+        return size;
+    }
+
+    /**
+     * Computes the serialized size of a metric.
+     *
+     * @return the size of the metric, or -1 if the metric has a null value and must be skipped
+     */
+    private static int computeMetricSize(final String name, final Object o) {
+        final int valueSize;
+        final int type;
+
+        if (o instanceof String) {
+            type = KuraMetric.ValueType.STRING_VALUE;
+            valueSize = CodedOutputStream.computeStringSize(KuraMetric.STRING_VALUE_FIELD_NUMBER, (String) o);
+        } else if (o instanceof Double) {
+            type = KuraMetric.ValueType.DOUBLE_VALUE;
+            valueSize = CodedOutputStream.computeDoubleSize(KuraMetric.DOUBLE_VALUE_FIELD_NUMBER, (Double) o);
+        } else if (o instanceof Integer) {
+            type = KuraMetric.ValueType.INT32_VALUE;
+            valueSize = CodedOutputStream.computeInt32Size(KuraMetric.INT_VALUE_FIELD_NUMBER, (Integer) o);
+        } else if (o instanceof Float) {
+            type = KuraMetric.ValueType.FLOAT_VALUE;
+            valueSize = CodedOutputStream.computeFloatSize(KuraMetric.FLOAT_VALUE_FIELD_NUMBER, (Float) o);
+        } else if (o instanceof Long) {
+            type = KuraMetric.ValueType.INT64_VALUE;
+            valueSize = CodedOutputStream.computeInt64Size(KuraMetric.LONG_VALUE_FIELD_NUMBER, (Long) o);
+        } else if (o instanceof Boolean) {
+            type = KuraMetric.ValueType.BOOL_VALUE;
+            valueSize = CodedOutputStream.computeBoolSize(KuraMetric.BOOL_VALUE_FIELD_NUMBER, (Boolean) o);
+        } else if (o instanceof byte[]) {
+            type = KuraMetric.ValueType.BYTES_VALUE;
+            valueSize = CodedOutputStream.computeByteArraySize(KuraMetric.BYTES_VALUE_FIELD_NUMBER, (byte[]) o);
+        } else if (o == null) {
+            logger.warn("Received a metric with a null value!");
+            return -1;
+        } else {
+            logger.error("During serialization, ignoring metric named: {}. Unrecognized value type: {}.", name,
+                    o.getClass().getName());
+            throw new RuntimeException(new KuraInvalidMetricTypeException(o.getClass().getName()));
+        }
+
+        return CodedOutputStream.computeStringSize(KuraMetric.NAME_FIELD_NUMBER, name)
+                + CodedOutputStream.computeEnumSize(KuraMetric.TYPE_FIELD_NUMBER, type) + valueSize;
+    }
+
+    //
+    // Serialization, fields are written in field number order as done by the generated code
+    //
+    private void writePayload(final CodedOutputStream out, final Map<String, Object> metrics,
+            final int[] metricSizes) throws IOException {
+
+        final Date timestamp = this.kuraPayload.getTimestamp();
+        if (timestamp != null) {
+            out.writeInt64(KuraPayloadProto.KuraPayload.TIMESTAMP_FIELD_NUMBER, timestamp.getTime());
+        }
+
+        final KuraPosition position = this.kuraPayload.getPosition();
+        if (position != null) {
+            writeMessageHeader(out, KuraPayloadProto.KuraPayload.POSITION_FIELD_NUMBER, computePositionSize(position));
+            writePosition(out, position);
+        }
+
+        int i = 0;
+        for (final Map.Entry<String, Object> entry : metrics.entrySet()) {
+            final int metricSize = metricSizes[i++];
+
+            if (metricSize >= 0) {
+                writeMessageHeader(out, KuraPayloadProto.KuraPayload.METRIC_FIELD_NUMBER, metricSize);
+                writeMetric(out, entry.getKey(), entry.getValue());
+            }
+        }
+
+        final byte[] body = this.kuraPayload.getBody();
+        if (body != null) {
+            out.writeByteArray(KuraPayloadProto.KuraPayload.BODY_FIELD_NUMBER, body);
+        }
+
+        out.checkNoSpaceLeft();
+    }
+
+    private static void writeMessageHeader(final CodedOutputStream out, final int fieldNumber, final int size)
+            throws IOException {
+        out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+    }
+
+    private static void writePosition(final CodedOutputStream out, final KuraPosition position) throws IOException {
+        out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.LATITUDE_FIELD_NUMBER, position.getLatitude());
+        out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.LONGITUDE_FIELD_NUMBER, position.getLongitude());
+
+        if (position.getAltitude() != null) {
+            out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.ALTITUDE_FIELD_NUMBER, position.getAltitude());
+        }
+        if (position.getPrecision() != null) {
+            out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.PRECISION_FIELD_NUMBER,
+                    position.getPrecision());
+        }
+        if (position.getHeading() != null) {
+            out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.HEADING_FIELD_NUMBER, position.getHeading());
+        }
+        if (position.getSpeed() != null) {
+            out.writeDouble(KuraPayloadProto.KuraPayload.KuraPosition.SPEED_FIELD_NUMBER, position.getSpeed());
+        }
+        if (position.getTimestamp() != null) {
+            out.writeInt64(KuraPayloadProto.KuraPayload.KuraPosition.TIMESTAMP_FIELD_NUMBER,
+                    position.getTimestamp().getTime());
+        }
+        if (position.getSatellites() != null) {
+            out.writeInt32(KuraPayloadProto.KuraPayload.KuraPosition.SATELLITES_FIELD_NUMBER,
+                    position.getSatellites());
+        }
+        if (position.getStatus() != null) {
+            out.writeInt32(KuraPayloadProto.KuraPayload.KuraPosition.STATUS_FIELD_NUMBER, position.getStatus());
+        }
+    }
+
+    private static void writeMetric(final CodedOutputStream out, final String name, final Object o)
+            throws IOException {
+        out.writeString(KuraMetric.NAME_FIELD_NUMBER, name);
+
+        if (o instanceof String) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.STRING_VALUE);
+            out.writeString(KuraMetric.STRING_VALUE_FIELD_NUMBER, (String) o);
+        } else if (o instanceof Double) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.DOUBLE_VALUE);
+            out.writeDouble(KuraMetric.DOUBLE_VALUE_FIELD_NUMBER, (Double) o);
+        } else if (o instanceof Integer) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.INT32_VALUE);
+            out.writeInt32(KuraMetric.INT_VALUE_FIELD_NUMBER, (Integer) o);
+        } else if (o instanceof Float) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.FLOAT_VALUE);
+            out.writeFloat(KuraMetric.FLOAT_VALUE_FIELD_NUMBER, (Float) o);
+        } else if (o instanceof Long) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.INT64_VALUE);
+            out.writeInt64(KuraMetric.LONG_VALUE_FIELD_NUMBER, (Long) o);
+        } else if (o instanceof Boolean) {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.BOOL_VALUE);
+            out.writeBool(KuraMetric.BOOL_VALUE_FIELD_NUMBER, (Boolean) o);
+        } else {
+            out.writeEnum(KuraMetric.TYPE_FIELD_NUMBER, KuraMetric.ValueType.BYTES_VALUE);
+            out.writeByteArray(KuraMetric.BYTES_VALUE_FIELD_NUMBER, (byte[]) o);
+        }
+    }
+
+    /**
+     * Per thread buffers and deflater used to produce gzip data without intermediate streams.
+     */
+    private static final class GZipContext {
+
+        private static final int GZIP_MAGIC = 0x8b1f;
+        private static final int HEADER_SIZE = 10;
+        private static final int TRAILER_SIZE = 8;
+
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+
+        private byte[] source = new byte[0];
+        private byte[] compressed = new byte[0];
+
+        byte[] getSourceBuffer(final int size) {
+            if (this.source.length < size) {
+                this.source = new byte[size];
+            }
+            return this.source;
+        }
+
+        /**
+         * Compresses the first {@code length} bytes of the source buffer.
+         *
+         * @return the gzip compressed data if shorter than the source, a copy of the source otherwise
+         */
+        byte[] compress(final int length) {
+            // compressed data is useful only if it fits in less than length bytes
+            final int end = length - TRAILER_SIZE;
+
+            if (end <= HEADER_SIZE) {
+                return Arrays.copyOf(this.source, length);
+            }
+
+            if (this.compressed.length < end) {
+                this.compressed = new byte[end];
+            }
+
+            this.deflater.reset();
+            this.deflater.setInput(this.source, 0, length);
+            this.deflater.finish();
+
+            int position = HEADER_SIZE;
+
+            while (!this.deflater.finished() && position < end) {
+                position += this.deflater.deflate(this.compressed, position, end - position);
+            }
+
+            if (!this.deflater.finished() || position + TRAILER_SIZE >= length) {
+                return Arrays.copyOf(this.source, length);
+            }
+
+            this.crc.reset();
+            this.crc.update(this.source, 0, length);
+
+            final byte[] result = new byte[position + TRAILER_SIZE];
+
+            writeHeader(result);
+            System.arraycopy(this.compressed, HEADER_SIZE, result, HEADER_SIZE, position - HEADER_SIZE);
+            writeIntLE(result, position, (int) this.crc.getValue());
+            writeIntLE(result, position + 4, length);
+
+            return result;
+        }
+
+        void release() {
+            if (this.source.length > MAX_POOLED_BUFFER_SIZE) {
+                this.source = new byte[0];
+            }
+            if (this.compressed.length > MAX_POOLED_BUFFER_SIZE) {
+                this.compressed = new byte[0];
+            }
+        }
+
+        private static void writeHeader(final byte[] buffer) {
+            Arrays.fill(buffer, 0, HEADER_SIZE, (byte) 0);
+            buffer[0] = (byte) GZIP_MAGIC;
+            buffer[1] = (byte) (GZIP_MAGIC >> 8);
+            buffer[2] = Deflater.DEFLATED;
+        }
+
+        private static void writeIntLE(final byte[] buffer, final int offset, final int value) {
+            buffer[offset] = (byte) value;
+            buffer[offset + 1] = (byte) (value >> 8);
+            buffer[offset + 2] = (byte) (value >> 16);
+            buffer[offset + 3] = (byte) (value >> 24);
+        }
+    }
+}
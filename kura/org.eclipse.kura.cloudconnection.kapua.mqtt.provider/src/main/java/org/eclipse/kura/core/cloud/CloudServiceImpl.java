@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -756,10 +756,7 @@ public class CloudServiceImpl
 
     @Override
     public byte[] getBytes(KuraPayload kuraPayload, boolean gzipped) throws KuraException {
-        CloudPayloadEncoder encoder = new CloudPayloadProtoBufEncoderImpl(kuraPayload);
-        if (gzipped) {
-            encoder = new CloudPayloadGZipEncoder(encoder);
-        }
+        CloudPayloadEncoder encoder = new CloudPayloadProtoBufStreamingEncoder(kuraPayload, gzipped);
 
         byte[] bytes;
         try {
@@ -908,10 +905,7 @@ public class CloudServiceImpl
             return bytes;
         }
 
-        CloudPayloadEncoder encoder = new CloudPayloadProtoBufEncoderImpl(payload);
-        if (this.options.getEncodeGzip()) {
-            encoder = new CloudPayloadGZipEncoder(encoder);
-        }
+        CloudPayloadEncoder encoder = new CloudPayloadProtoBufStreamingEncoder(payload, this.options.getEncodeGzip());
 
         try {
             bytes = encoder.getBytes();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,7 @@ import org.eclipse.kura.KuraTimeoutException;
 import org.eclipse.kura.cloud.CloudCallService;
 import org.eclipse.kura.cloud.app.RequestIdGenerator;
 import org.eclipse.kura.core.cloud.CloudPayloadProtoBufDecoderImpl;
-import org.eclipse.kura.core.cloud.CloudPayloadProtoBufEncoderImpl;
+import org.eclipse.kura.core.cloud.CloudPayloadProtoBufStreamingEncoder;
 import org.eclipse.kura.core.cloud.KuraTopicImpl;
 import org.eclipse.kura.data.DataService;
 import org.eclipse.kura.data.listener.DataServiceListener;
@@ -117,7 +117,7 @@ public class CloudCallServiceImpl implements CloudCallService, DataServiceListen
         req.setRequestId(requestId);
         req.setRequesterClientId(CLIENT_ID_VAR_NAME);
 
-        CloudPayloadProtoBufEncoderImpl encoder = new CloudPayloadProtoBufEncoderImpl(req);
+        CloudPayloadProtoBufStreamingEncoder encoder = new CloudPayloadProtoBufStreamingEncoder(req);
         byte[] rawPayload;
         try {
             rawPayload = encoder.getBytes();
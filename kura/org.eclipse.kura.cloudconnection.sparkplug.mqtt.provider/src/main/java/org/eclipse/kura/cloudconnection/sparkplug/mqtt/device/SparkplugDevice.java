@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.device;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +36,7 @@ import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugMessageT
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.utils.InvocationUtils;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.utils.SparkplugCloudEndpointTracker;
 import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.message.KuraPayload;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -45,15 +48,19 @@ public class SparkplugDevice
     private static final Logger logger = LoggerFactory.getLogger(SparkplugDevice.class);
 
     public static final String KEY_MESSAGE_TYPE = "message.type";
-    public static final String KEY_DEVICE_ID = "device.id";
+    public static final String KEY_DEVICE_ID = SparkplugDeviceOptions.KEY_DEVICE_ID;
+    public static final String KEY_METRIC_ALIASES = "metric.aliases";
 
     private String deviceId;
+    private SparkplugDeviceOptions options;
     private SparkplugCloudEndpointTracker endpointTracker;
     private Optional<SparkplugCloudEndpoint> sparkplugCloudEndpoint = Optional.empty();
     private final Set<CloudConnectionListener> cloudConnectionListeners = new CopyOnWriteArraySet<>();
     private final Set<CloudDeliveryListener> cloudDeliveryListeners = new CopyOnWriteArraySet<>();
     private final ExecutorService executorService = Executors.newCachedThreadPool();
-    private Set<String> deviceMetrics = new HashSet<>();
+    private final Map<String, MetricState> deviceMetrics = new HashMap<>();
+    private Map<String, Long> metricAliases = Collections.emptyMap();
+    private boolean birthRequired = true;
 
     /*
      * ConfigurableComponent APIs
@@ -71,13 +78,11 @@ public class SparkplugDevice
         update(properties);
     }
 
-    public void update(final Map<String, Object> properties) {
-        this.deviceId = (String) properties.get(KEY_DEVICE_ID);
-        if (Objects.isNull(this.deviceId) || this.deviceId.trim().isEmpty()) {
-            throw new IllegalArgumentException("Property '" + KEY_DEVICE_ID + "' cannot be null or empty");
-        }
+    public synchronized void update(final Map<String, Object> properties) {
+        this.options = new SparkplugDeviceOptions(properties);
+        this.deviceId = this.options.getDeviceId();
 
-        this.deviceMetrics.clear();
+        resetMetrics();
 
         logger.info("Sparkplug Device {} - Updated device ID", this.deviceId);
     }
@@ -99,19 +104,19 @@ public class SparkplugDevice
 
     @Override
     public void onDisconnected() {
-        this.deviceMetrics.clear();
+        resetMetrics();
         this.cloudConnectionListeners.forEach(listener -> this.executorService.execute(listener::onDisconnected));
     }
 
     @Override
     public void onConnectionLost() {
-        this.deviceMetrics.clear();
+        resetMetrics();
         this.cloudConnectionListeners.forEach(listener -> this.executorService.execute(listener::onConnectionLost));
     }
 
     @Override
     public void onConnectionEstablished() {
-        this.deviceMetrics.clear();
+        resetMetrics();
         this.cloudConnectionListeners
                 .forEach(listener -> this.executorService.execute(listener::onConnectionEstablished));
     }
@@ -126,19 +131,34 @@ public class SparkplugDevice
             throw new KuraException(KuraErrorCode.SERVICE_UNAVAILABLE, "Missing SparkplugCloudEndpoint reference");
         }
 
+        final KuraPayload payload = message.getPayload();
         final Map<String, Object> newMessageProperties = new HashMap<>();
         newMessageProperties.put(KEY_DEVICE_ID, this.deviceId);
 
-        if (this.deviceMetrics.isEmpty() || !this.deviceMetrics.equals(message.getPayload().metricNames())) {
-            this.deviceMetrics.clear();
-            this.deviceMetrics.addAll(message.getPayload().metricNames());
+        KuraPayload payloadToPublish = payload;
+
+        if (isBirthRequired(payload)) {
+            updateDeviceMetrics(payload);
             newMessageProperties.put(KEY_MESSAGE_TYPE, SparkplugMessageType.DBIRTH);
             logger.info("Sparkplug Device {} - Metrics set changed, publishing DBIRTH", this.deviceId);
         } else {
+            if (this.options.isReportByExceptionEnabled()) {
+                payloadToPublish = getChangedMetricsPayload(payload);
+            }
+
+            if (Objects.isNull(payloadToPublish)) {
+                logger.debug("Sparkplug Device {} - No metric changed, skipping DDATA", this.deviceId);
+                return null;
+            }
+
             newMessageProperties.put(KEY_MESSAGE_TYPE, SparkplugMessageType.DDATA);
         }
 
-        return this.sparkplugCloudEndpoint.get().publish(new KuraMessage(message.getPayload(), newMessageProperties));
+        if (this.options.isMetricAliasesEnabled()) {
+            newMessageProperties.put(KEY_METRIC_ALIASES, this.metricAliases);
+        }
+
+        return this.sparkplugCloudEndpoint.get().publish(new KuraMessage(payloadToPublish, newMessageProperties));
     }
 
     @Override
@@ -175,6 +195,68 @@ public class SparkplugDevice
      * Utils
      */
 
+    private synchronized void resetMetrics() {
+        this.deviceMetrics.clear();
+        this.metricAliases = Collections.emptyMap();
+        this.birthRequired = true;
+    }
+
+    private boolean isBirthRequired(final KuraPayload payload) {
+        if (this.birthRequired || this.deviceMetrics.size() != payload.metrics().size()) {
+            return true;
+        }
+
+        for (String metricName : payload.metrics().keySet()) {
+            if (!this.deviceMetrics.containsKey(metricName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void updateDeviceMetrics(final KuraPayload payload) {
+        this.deviceMetrics.clear();
+        this.birthRequired = false;
+
+        final Map<String, Long> aliases = new HashMap<>();
+        long nextAlias = this.options.isMetricAliasesEnabled()
+                ? this.sparkplugCloudEndpoint.get().reserveMetricAliases(payload.metrics().size())
+                : 0;
+
+        for (Entry<String, Object> metric : payload.metrics().entrySet()) {
+            this.deviceMetrics.put(metric.getKey(),
+                    new MetricState(metric.getValue(), this.options.getDeadband(metric.getKey())));
+
+            if (this.options.isMetricAliasesEnabled()) {
+                aliases.put(metric.getKey(), nextAlias++);
+            }
+        }
+
+        this.metricAliases = Collections.unmodifiableMap(aliases);
+    }
+
+    private KuraPayload getChangedMetricsPayload(final KuraPayload payload) {
+        final KuraPayload result = new KuraPayload();
+
+        for (Entry<String, Object> metric : payload.metrics().entrySet()) {
+            if (this.deviceMetrics.get(metric.getKey()).report(metric.getValue())) {
+                result.addMetric(metric.getKey(), metric.getValue());
+            }
+        }
+
+        if (result.metrics().isEmpty() && Objects.isNull(payload.getBody())
+                && Objects.isNull(payload.getPosition())) {
+            return null;
+        }
+
+        result.setTimestamp(payload.getTimestamp());
+        result.setPosition(payload.getPosition());
+        result.setBody(payload.getBody());
+
+        return result;
+    }
+
     private synchronized void setSparkplugCloudEndpoint(SparkplugCloudEndpoint endpoint) {
         this.sparkplugCloudEndpoint = Optional.of(endpoint);
         this.sparkplugCloudEndpoint.get().registerCloudConnectionListener(this);
@@ -189,4 +271,38 @@ public class SparkplugDevice
         }
     }
 
+    private static final class MetricState {
+
+        private final double deadband;
+        private Object lastReportedValue;
+
+        MetricState(final Object value, final double deadband) {
+            this.lastReportedValue = value;
+            this.deadband = deadband;
+        }
+
+        /**
+         * Returns true and records the value as the last reported one if it differs from the previously reported
+         * value by more than the deadband. Non numeric values are reported on any change.
+         */
+        boolean report(final Object value) {
+            final boolean changed;
+
+            if (this.deadband > 0 && value instanceof Number && this.lastReportedValue instanceof Number) {
+                changed = Math.abs(((Number) value).doubleValue()
+                        - ((Number) this.lastReportedValue).doubleValue()) > this.deadband;
+            } else if (value instanceof byte[] && this.lastReportedValue instanceof byte[]) {
+                changed = !Arrays.equals((byte[]) value, (byte[]) this.lastReportedValue);
+            } else {
+                changed = !Objects.equals(value, this.lastReportedValue);
+            }
+
+            if (changed) {
+                this.lastReportedValue = value;
+            }
+
+            return changed;
+        }
+    }
+
 }
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.cloudconnection.sparkplug.mqtt.device;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class SparkplugDeviceOptions {
+
+    public static final String KEY_DEVICE_ID = "device.id";
+    public static final String KEY_METRIC_ALIASES_ENABLED = "metric.aliases.enabled";
+    public static final String KEY_REPORT_BY_EXCEPTION_ENABLED = "report.by.exception.enabled";
+    public static final String KEY_DEFAULT_DEADBAND = "deadband.default";
+    public static final String KEY_DEADBAND_OVERRIDES = "deadband.overrides";
+
+    private final String deviceId;
+    private final boolean metricAliasesEnabled;
+    private final boolean reportByExceptionEnabled;
+    private final double defaultDeadband;
+    private final Map<String, Double> deadbandOverrides;
+
+    public SparkplugDeviceOptions(final Map<String, Object> properties) {
+        this.deviceId = (String) properties.get(KEY_DEVICE_ID);
+        if (Objects.isNull(this.deviceId) || this.deviceId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Property '" + KEY_DEVICE_ID + "' cannot be null or empty");
+        }
+
+        this.metricAliasesEnabled = getBoolean(KEY_METRIC_ALIASES_ENABLED, properties);
+        this.reportByExceptionEnabled = getBoolean(KEY_REPORT_BY_EXCEPTION_ENABLED, properties);
+
+        Object deadband = properties.get(KEY_DEFAULT_DEADBAND);
+        this.defaultDeadband = deadband instanceof Number ? Math.max(0, ((Number) deadband).doubleValue()) : 0;
+
+        this.deadbandOverrides = parseDeadbandOverrides((String) properties.get(KEY_DEADBAND_OVERRIDES));
+    }
+
+    public String getDeviceId() {
+        return this.deviceId;
+    }
+
+    public boolean isMetricAliasesEnabled() {
+        return this.metricAliasesEnabled;
+    }
+
+    public boolean isReportByExceptionEnabled() {
+        return this.reportByExceptionEnabled;
+    }
+
+    public double getDeadband(final String metricName) {
+        return this.deadbandOverrides.getOrDefault(metricName, this.defaultDeadband);
+    }
+
+    private static boolean getBoolean(final String key, final Map<String, Object> properties) {
+        Object value = properties.get(key);
+        return value instanceof Boolean && (Boolean) value;
+    }
+
+    private static Map<String, Double> parseDeadbandOverrides(final String value) {
+        if (Objects.isNull(value) || value.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Double> result = new HashMap<>();
+
+        for (String entry : value.split(";")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                if (!entry.trim().isEmpty()) {
+                    throw new IllegalArgumentException(
+                            "Invalid entry '" + entry + "' in '" + KEY_DEADBAND_OVERRIDES + "', expected name=value");
+                }
+                continue;
+            }
+
+            try {
+                double deadband = Double.parseDouble(entry.substring(separator + 1).trim());
+                result.put(entry.substring(0, separator).trim(), Math.max(0, deadband));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                        "Invalid deadband in entry '" + entry + "' of '" + KEY_DEADBAND_OVERRIDES + "'", e);
+            }
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,11 @@ package org.eclipse.kura.cloudconnection.sparkplug.mqtt.endpoint;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.kura.KuraConnectException;
 import org.eclipse.kura.KuraDisconnectException;
@@ -63,6 +65,7 @@ public class SparkplugCloudEndpoint
     private SeqCounter seqCounter = new SeqCounter();
     private SubscriptionsMap subscriptions = new SubscriptionsMap();
     private ExecutorService executorService = Executors.newCachedThreadPool();
+    private final AtomicLong nextMetricAlias = new AtomicLong(1);
 
     /*
      * Activation APIs
@@ -127,11 +130,20 @@ public class SparkplugCloudEndpoint
 
         SparkplugMessageType type = (SparkplugMessageType) messageProperties.get(SparkplugDevice.KEY_MESSAGE_TYPE);
         String deviceId = (String) messageProperties.get(SparkplugDevice.KEY_DEVICE_ID);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> metricAliases = (Map<String, Long>) messageProperties
+                .get(SparkplugDevice.KEY_METRIC_ALIASES);
 
         logger.debug("{} - Sending message with seq: {}", this.kuraServicePid, this.seqCounter.getCurrent());
 
-        byte[] sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
-                message.getPayload());
+        byte[] sparkplugPayload;
+        if (Objects.isNull(metricAliases)) {
+            sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
+                    message.getPayload());
+        } else {
+            sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
+                    message.getPayload(), metricAliases, type == SparkplugMessageType.DBIRTH);
+        }
 
         this.seqCounter.next();
 
@@ -150,6 +162,14 @@ public class SparkplugCloudEndpoint
         return null;
     }
 
+    /**
+     * Reserves a contiguous range of {@code count} metric aliases and returns the first one. Aliases are unique
+     * across all the devices attached to this Edge Node, as required by the Sparkplug specification.
+     */
+    public long reserveMetricAliases(final int count) {
+        return this.nextMetricAlias.getAndAdd(count);
+    }
+
     private String publishInternal(String topic, byte[] payload, int qos, boolean retain, int priority)
             throws KuraStoreException {
         int id = this.dataService.publish(topic, payload, qos, retain, priority);
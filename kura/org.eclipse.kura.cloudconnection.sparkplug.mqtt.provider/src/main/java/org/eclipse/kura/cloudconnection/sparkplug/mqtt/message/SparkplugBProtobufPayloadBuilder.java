@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,44 @@ public class SparkplugBProtobufPayloadBuilder {
     private Payload.Builder payloadBuilder = Payload.newBuilder();
 
     public SparkplugBProtobufPayloadBuilder withMetric(String name, Object value, long timestamp) {
+        return this.withMetric(name, value, getDataType(value), timestamp);
+    }
+
+    /**
+     * Adds a metric carrying both its name and its alias, as required in birth messages when metric aliases are
+     * in use.
+     */
+    public SparkplugBProtobufPayloadBuilder withMetric(String name, long alias, Object value, long timestamp) {
+        DataType dataType = getDataType(value);
+
+        Payload.Metric.Builder metricBuilder = Payload.Metric.newBuilder();
+        metricBuilder.setName(name);
+        metricBuilder.setAlias(alias);
+        metricBuilder.setDatatype(dataType.getNumber());
+        metricBuilder.setTimestamp(timestamp);
+        setValue(metricBuilder, value, dataType);
+
+        this.payloadBuilder.addMetrics(metricBuilder.build());
+
+        return this;
+    }
+
+    /**
+     * Adds a metric identified only by an alias previously announced in a birth message. Name and data type are
+     * omitted since the Host Application already knows them from the birth.
+     */
+    public SparkplugBProtobufPayloadBuilder withAliasedMetric(long alias, Object value, long timestamp) {
+        Payload.Metric.Builder metricBuilder = Payload.Metric.newBuilder();
+        metricBuilder.setAlias(alias);
+        metricBuilder.setTimestamp(timestamp);
+        setValue(metricBuilder, value, getDataType(value));
+
+        this.payloadBuilder.addMetrics(metricBuilder.build());
+
+        return this;
+    }
+
+    private static DataType getDataType(Object value) {
         DataType sparkplugDataType = DataType.Unknown;
 
         if (value instanceof Boolean) {
@@ -80,7 +118,7 @@ public class SparkplugBProtobufPayloadBuilder {
         logger.debug("Converting Java Type: {} to Sparkplug.DataType: {}", value.getClass().getName(),
                 sparkplugDataType);
 
-        return this.withMetric(name, value, sparkplugDataType, timestamp);
+        return sparkplugDataType;
     }
 
     public SparkplugBProtobufPayloadBuilder withMetric(String name, Object value, DataType dataType, long timestamp) {
@@ -88,7 +126,14 @@ public class SparkplugBProtobufPayloadBuilder {
         metricBuilder.setName(name);
         metricBuilder.setDatatype(dataType.getNumber());
         metricBuilder.setTimestamp(timestamp);
+        setValue(metricBuilder, value, dataType);
+
+        this.payloadBuilder.addMetrics(metricBuilder.build());
 
+        return this;
+    }
+
+    private static void setValue(Payload.Metric.Builder metricBuilder, Object value, DataType dataType) {
         switch (dataType) {
         case Boolean:
             metricBuilder.setBooleanValue((Boolean) value);
@@ -156,10 +201,6 @@ public class SparkplugBProtobufPayloadBuilder {
         default:
             throw new UnsupportedOperationException("DataType " + dataType.toString() + " not implemented");
         }
-
-        this.payloadBuilder.addMetrics(metricBuilder.build());
-
-        return this;
     }
 
     public SparkplugBProtobufPayloadBuilder withBdSeq(long bdSeq, long timestamp) {
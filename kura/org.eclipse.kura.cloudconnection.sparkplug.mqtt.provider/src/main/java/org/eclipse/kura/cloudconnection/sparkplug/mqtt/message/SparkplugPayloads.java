@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -61,6 +63,16 @@ public class SparkplugPayloads {
     }
 
     public static byte[] getSparkplugDevicePayload(final long seq, final KuraPayload kuraPayload) {
+        return getSparkplugDevicePayload(seq, kuraPayload, Collections.emptyMap(), false);
+    }
+
+    /**
+     * Builds a device payload using the provided metric aliases. Metrics having an alias are encoded with both name
+     * and alias if {@code isBirth} is true, with the alias only otherwise. Metrics without an alias are always encoded
+     * by name.
+     */
+    public static byte[] getSparkplugDevicePayload(final long seq, final KuraPayload kuraPayload,
+            final Map<String, Long> metricAliases, final boolean isBirth) {
         SparkplugBProtobufPayloadBuilder payloadBuilder = new SparkplugBProtobufPayloadBuilder();
 
         byte[] payloadBody = kuraPayload.getBody();
@@ -73,7 +85,15 @@ public class SparkplugPayloads {
         payloadBuilder.withTimestamp(timestamp);
 
         for (Entry<String, Object> metric : kuraPayload.metrics().entrySet()) {
-            payloadBuilder.withMetric(metric.getKey(), metric.getValue(), timestamp);
+            Long alias = metricAliases.get(metric.getKey());
+
+            if (Objects.isNull(alias)) {
+                payloadBuilder.withMetric(metric.getKey(), metric.getValue(), timestamp);
+            } else if (isBirth) {
+                payloadBuilder.withMetric(metric.getKey(), alias, metric.getValue(), timestamp);
+            } else {
+                payloadBuilder.withAliasedMetric(alias, metric.getValue(), timestamp);
+            }
         }
 
         KuraPosition position = kuraPayload.getPosition();
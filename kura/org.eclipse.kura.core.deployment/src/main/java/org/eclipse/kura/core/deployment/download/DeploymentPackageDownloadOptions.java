@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
     public static final String METRIC_DP_DOWNLOAD_NOTIFY_BLOCK_SIZE = "dp.download.notify.block.size";
     public static final String METRIC_DP_DOWNLOAD_FORCE_DOWNLOAD = "dp.download.force";
     public static final String METRIC_DP_DOWNLOAD_HASH = "dp.download.hash";
+    public static final String METRIC_DP_DOWNLOAD_SEGMENTS = "dp.download.segments";
     public static final String METRIC_DP_INSTALL = "dp.install";
 
     private String deployUri;
@@ -49,6 +50,7 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
     private boolean forceDownload = false;
 
     private String hash;
+    private int downloadSegments = 1;
 
     public DeploymentPackageDownloadOptions(String deployUri, String dpName, String dpVersion) {
         super(dpName, dpVersion);
@@ -123,6 +125,10 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
             if (metric != null) {
                 this.hash = (String) metric;
             }
+            metric = request.getMetric(METRIC_DP_DOWNLOAD_SEGMENTS);
+            if (metric != null) {
+                this.downloadSegments = (Integer) metric;
+            }
             metric = request.getMetric(METRIC_DP_INSTALL);
             if (metric != null) {
                 super.setInstall((Boolean) metric);
@@ -241,4 +247,12 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
     public void setHash(String hash) {
         this.hash = hash;
     }
+
+    public int getDownloadSegments() {
+        return this.downloadSegments;
+    }
+
+    public void setDownloadSegments(int downloadSegments) {
+        this.downloadSegments = downloadSegments;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import org.eclipse.kura.core.deployment.util.FileUtilities;
 
 public class DownloadFileUtilities extends FileUtilities {
 
+    private static final String DOWNLOAD_PROGRESS_FILE_SUFFIX = ".progress";
+
     // File Management
     public static File getDpDownloadFile(DeploymentPackageInstallOptions options) throws IOException {
         String downloadDirectory = options.getDownloadDirectory();
@@ -40,9 +42,18 @@ public class DownloadFileUtilities extends FileUtilities {
         return new File(fileName);
     }
 
+    public static File getDownloadProgressFile(File downloadFile) {
+        return new File(downloadFile.getPath() + DOWNLOAD_PROGRESS_FILE_SUFFIX);
+    }
+
     public static boolean deleteDownloadedFile(DeploymentPackageInstallOptions options) throws IOException {
         File file = getDpDownloadFile(options);
 
+        File progressFile = getDownloadProgressFile(file);
+        if (progressFile.exists()) {
+            progressFile.delete();
+        }
+
         if (file != null && file.exists() && file.isFile()) {
             return file.delete();
         }
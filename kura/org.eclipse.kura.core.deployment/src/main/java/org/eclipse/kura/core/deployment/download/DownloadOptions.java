@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
 
 package org.eclipse.kura.core.deployment.download;
 
+import java.io.File;
 import java.io.OutputStream;
+import java.security.MessageDigest;
 
 import org.eclipse.kura.core.deployment.progress.ProgressListener;
 import org.eclipse.kura.ssl.SslManagerService;
@@ -26,6 +28,8 @@ public class DownloadOptions {
     private SslManagerService sslManagerService;
     private String downloadURL;
     private int alreadyDownloaded;
+    private File file;
+    private MessageDigest digest;
 
     public OutputStream getOut() {
         return this.out;
@@ -74,4 +78,27 @@ public class DownloadOptions {
     public void setAlreadyDownloaded(int alreadyDownloaded) {
         this.alreadyDownloaded = alreadyDownloaded;
     }
+
+    /**
+     * Returns the file the download is written to if ranged transfers are enabled, {@code null} otherwise. In the
+     * latter case the download is written sequentially to the stream returned by {@link #getOut()}.
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    public void setFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the digest updated with the downloaded content by ranged transfers, can be {@code null}.
+     */
+    public MessageDigest getDigest() {
+        return this.digest;
+    }
+
+    public void setDigest(MessageDigest digest) {
+        this.digest = digest;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.concurrent.CancellationException;
 
@@ -150,7 +153,8 @@ public class DownloadImpl implements ProgressListener {
         try {
             File dp = DownloadFileUtilities.getDpDownloadFile(this.options);
 
-            return dp.exists();
+            // a progress file is left next to a download that has been interrupted and can be resumed
+            return dp.exists() && !DownloadFileUtilities.getDownloadProgressFile(dp).exists();
         } catch (Exception e) {
             throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e);
         }
@@ -175,12 +179,50 @@ public class DownloadImpl implements ProgressListener {
     // ----------------------------------------------------------------
 
     private void incrementalDownloadFromURL(File dpFile, String url, int downloadIndex) throws Exception {
+        MessageDigest digest = null;
+        String hashAlgorithm = null;
+        String hashValue = null;
+
+        if (this.options.getHash() != null) {
+            String[] hashAlgorithmValue = this.options.getHash().split(":");
+
+            if (hashAlgorithmValue.length == 2) {
+                hashAlgorithm = hashAlgorithmValue[0].trim();
+                hashValue = hashAlgorithmValue[1].trim();
+            }
+
+            // these things are checked beforehand, so that the download is not performed if it cannot be verified
+            if (hashAlgorithm == null || "".equals(hashAlgorithm) || hashValue == null || "".equals(hashValue)) {
+                throw new KuraException(KuraErrorCode.INTERNAL_ERROR, null,
+                        "Failed to verify checksum with empty algorithm: " + hashAlgorithm);
+            }
+
+            try {
+                digest = MessageDigest.getInstance(hashAlgorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e,
+                        "Failed to verify checksum with algorithm: " + hashAlgorithm);
+            }
+        }
+
+        // ranged downloads write the file themselves, so that it can be resumed or written by concurrent requests
+        boolean rangedDownload = this.options.isResume() || this.options.getDownloadSegments() > 1;
+
         OutputStream os = null;
 
         try {
-            os = new FileOutputStream(dpFile);
             DownloadOptions downloadOptions = new DownloadOptions();
-            downloadOptions.setOut(os);
+            if (rangedDownload) {
+                downloadOptions.setFile(dpFile);
+                downloadOptions.setDigest(digest);
+            } else {
+                os = new FileOutputStream(dpFile);
+                if (digest != null) {
+                    // the digest is computed while the file is written instead of reading it back afterwards
+                    os = new DigestOutputStream(os, digest);
+                }
+                downloadOptions.setOut(os);
+            }
             downloadOptions.setRequestOptions(this.options);
             downloadOptions.setCallback(this);
             downloadOptions.setSslManagerService(this.sslManagerService);
@@ -200,33 +242,15 @@ public class DownloadImpl implements ProgressListener {
             }
         }
 
-        if (this.options.getHash() != null) {
-            String[] hashAlgorithmValue = this.options.getHash().split(":");
-
-            String hashAlgorithm = null;
-            String hashValue = null;
-            if (hashAlgorithmValue.length == 2) {
-                hashAlgorithm = hashAlgorithmValue[0].trim();
-                hashValue = hashAlgorithmValue[1].trim();
-            }
+        if (digest != null) {
             s_logger.info("--> Going to verify hash signature!");
-            try {
-                // these things should be checked beforehand, so that hash() has a chance to
-                // succeed
-                if (hashAlgorithm == null || "".equals(hashAlgorithm) || hashValue == null || "".equals(hashValue)) {
-                    throw new KuraException(KuraErrorCode.INTERNAL_ERROR, null,
-                            "Failed to verify checksum with empty algorithm: " + hashAlgorithm);
-                }
 
-                String checksum = HashUtil.hash(hashAlgorithm, dpFile);
+            String checksum = HashUtil.toHex(digest.digest());
 
-                if (checksum == null || !checksum.equals(hashValue)) {
-                    throw new KuraException(KuraErrorCode.INTERNAL_ERROR, null,
-                            "Failed to verify checksum with algorithm: " + hashAlgorithm);
-                }
-            } catch (Exception e) {
+            if (!checksum.equals(hashValue)) {
                 dpFile.delete();
-                throw e;
+                throw new KuraException(KuraErrorCode.INTERNAL_ERROR, null,
+                        "Failed to verify checksum with algorithm: " + hashAlgorithm);
             }
         }
     }
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the byte ranges of a ranged download that have already been written to the destination file.
+ *
+ * The resource is split in one or more contiguous segments, each one downloaded with its own range request. The
+ * state can be persisted to a progress file, so that an interrupted download can be resumed with range requests
+ * starting from the last persisted position of each segment instead of from scratch.
+ */
+final class DownloadProgress {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownloadProgress.class);
+
+    private static final String URL_KEY = "url";
+    private static final String LENGTH_KEY = "length";
+    private static final String VALIDATOR_KEY = "validator";
+    private static final String SEGMENTS_KEY = "segments";
+    private static final String SEGMENT_KEY_PREFIX = "segment.";
+    private static final String START_KEY_SUFFIX = ".start";
+    private static final String END_KEY_SUFFIX = ".end";
+    private static final String POSITION_KEY_SUFFIX = ".position";
+
+    private final String url;
+    private final long length;
+    private final String validator;
+    private final List<Segment> segments;
+
+    private DownloadProgress(String url, long length, String validator, List<Segment> segments) {
+        this.url = url;
+        this.length = length;
+        this.validator = validator;
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Creates the progress of a new download, splitting the resource in at most {@code maxSegments} segments that
+     * are not smaller than {@code minSegmentSize} bytes.
+     */
+    static DownloadProgress create(String url, long length, String validator, int maxSegments,
+            long minSegmentSize) {
+        int segmentCount = (int) Math.max(1, Math.min(maxSegments, length / Math.max(1, minSegmentSize)));
+        long segmentSize = length / segmentCount;
+
+        List<Segment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            long start = i * segmentSize;
+            long end = i == segmentCount - 1 ? length - 1 : start + segmentSize - 1;
+            segments.add(new Segment(start, end, start));
+        }
+
+        return new DownloadProgress(url, length, validator, segments);
+    }
+
+    /**
+     * Loads the progress persisted in the given file, returns {@code null} if the file does not exist or cannot be
+     * parsed.
+     */
+    static DownloadProgress load(File progressFile) {
+        if (!progressFile.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(progressFile.toPath())) {
+            properties.load(in);
+
+            int segmentCount = Integer.parseInt(properties.getProperty(SEGMENTS_KEY));
+            List<Segment> segments = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                long start = Long.parseLong(properties.getProperty(SEGMENT_KEY_PREFIX + i + START_KEY_SUFFIX));
+                long end = Long.parseLong(properties.getProperty(SEGMENT_KEY_PREFIX + i + END_KEY_SUFFIX));
+                long position = Long.parseLong(properties.getProperty(SEGMENT_KEY_PREFIX + i + POSITION_KEY_SUFFIX));
+                if (position < start || position > end + 1) {
+                    throw new IllegalArgumentException("Invalid position for segment " + i);
+                }
+                segments.add(new Segment(start, end, position));
+            }
+
+            return new DownloadProgress(properties.getProperty(URL_KEY),
+                    Long.parseLong(properties.getProperty(LENGTH_KEY)), properties.getProperty(VALIDATOR_KEY),
+                    segments);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable download progress file {}", progressFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Persists the progress to the given file. The file is replaced atomically, so that a failure while storing it
+     * never leaves a truncated progress file behind.
+     */
+    synchronized void store(File progressFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(URL_KEY, this.url);
+        properties.setProperty(LENGTH_KEY, Long.toString(this.length));
+        if (this.validator != null) {
+            properties.setProperty(VALIDATOR_KEY, this.validator);
+        }
+        properties.setProperty(SEGMENTS_KEY, Integer.toString(this.segments.size()));
+        for (int i = 0; i < this.segments.size(); i++) {
+            Segment segment = this.segments.get(i);
+            properties.setProperty(SEGMENT_KEY_PREFIX + i + START_KEY_SUFFIX, Long.toString(segment.getStart()));
+            properties.setProperty(SEGMENT_KEY_PREFIX + i + END_KEY_SUFFIX, Long.toString(segment.getEnd()));
+            properties.setProperty(SEGMENT_KEY_PREFIX + i + POSITION_KEY_SUFFIX,
+                    Long.toString(segment.getPosition()));
+        }
+
+        File tmpFile = new File(progressFile.getPath() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmpFile.toPath())) {
+            properties.store(out, null);
+        }
+        Files.move(tmpFile.toPath(), progressFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns {@code true} if this progress refers to the same version of the same resource.
+     */
+    boolean matches(String otherUrl, long otherLength, String otherValidator) {
+        return Objects.equals(this.url, otherUrl) && this.length == otherLength
+                && Objects.equals(this.validator, otherValidator);
+    }
+
+    String getValidator() {
+        return this.validator;
+    }
+
+    long getLength() {
+        return this.length;
+    }
+
+    List<Segment> getSegments() {
+        return this.segments;
+    }
+
+    long getDownloadedBytes() {
+        long result = 0;
+        for (Segment segment : this.segments) {
+            result += segment.getPosition() - segment.getStart();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the length of the prefix of the resource that has been completely downloaded.
+     */
+    long getContiguousBytes() {
+        for (Segment segment : this.segments) {
+            if (!segment.isComplete()) {
+                return segment.getPosition();
+            }
+        }
+        return this.length;
+    }
+
+    boolean isComplete() {
+        return getContiguousBytes() == this.length;
+    }
+
+    static final class Segment {
+
+        private final long start;
+        private final long end;
+        private volatile long position;
+
+        private Segment(long start, long end, long position) {
+            this.start = start;
+            this.end = end;
+            this.position = position;
+        }
+
+        long getStart() {
+            return this.start;
+        }
+
+        /**
+         * Returns the position of the last byte of the segment, inclusive as in the HTTP range header.
+         */
+        long getEnd() {
+            return this.end;
+        }
+
+        /**
+         * Returns the position of the first byte of the segment that has not been written yet.
+         */
+        long getPosition() {
+            return this.position;
+        }
+
+        void setPosition(long position) {
+            this.position = position;
+        }
+
+        boolean isComplete() {
+            return this.position > this.end;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,10 +12,13 @@
  *******************************************************************************/
 package org.eclipse.kura.core.deployment.download.impl;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 
 import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
 import org.eclipse.kura.core.deployment.DownloadStatus;
 import org.eclipse.kura.core.deployment.download.DeploymentPackageDownloadOptions;
 import org.eclipse.kura.core.deployment.download.DownloadOptions;
@@ -38,19 +41,25 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
     final ProgressListener pl;
     final int alreadyDownloaded;
     final String downloadURL;
+    final File downloadFile;
+    final MessageDigest digest;
 
     InputStream is = null;
 
     private long currentStep = 1;
+    private long resumedBytes;
     private DownloadStatus downloadStatus = DownloadStatus.FAILED;
 
     public GenericDownloadCountingOutputStream(DownloadOptions downloadOptions) {
-        super(downloadOptions.getOut());
+        // ranged downloads write the file directly, the stream is only used to count the transferred bytes
+        super(downloadOptions.getFile() != null ? NullOutputStream.NULL_OUTPUT_STREAM : downloadOptions.getOut());
         this.options = downloadOptions.getRequestOptions();
         this.sslManagerService = downloadOptions.getSslManagerService();
         this.pl = downloadOptions.getCallback();
         this.downloadURL = downloadOptions.getDownloadURL();
         this.alreadyDownloaded = downloadOptions.getAlreadyDownloaded();
+        this.downloadFile = downloadOptions.getFile();
+        this.digest = downloadOptions.getDigest();
     }
 
     public DownloadStatus getDownloadTransferStatus() {
@@ -74,18 +83,33 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
         this.totalBytes = totalBytes;
     }
 
+    /**
+     * Returns the number of bytes transferred, including the ones downloaded before the transfer was resumed.
+     */
+    @Override
+    public synchronized long getByteCount() {
+        return super.getByteCount() + this.resumedBytes;
+    }
+
+    protected synchronized void setResumedBytes(long resumedBytes) {
+        this.resumedBytes = resumedBytes;
+    }
+
     @Override
     protected void afterWrite(int n) throws IOException {
         super.afterWrite(n);
-        if (this.propResolution == 0 && getTotalBytes() > 0) {
-            this.propResolution = Math.round(this.totalBytes / 100F * 5F);
-        } else if (this.propResolution == 0) {
-            this.propResolution = 1024 * 256;
-        }
-        if (getByteCount() >= this.currentStep * this.propResolution) {
-            this.currentStep++;
-            postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.IN_PROGRESS,
-                    null);
+        // ranged downloads write from several threads
+        synchronized (this) {
+            if (this.propResolution == 0 && getTotalBytes() > 0) {
+                this.propResolution = Math.round(this.totalBytes / 100F * 5F);
+            } else if (this.propResolution == 0) {
+                this.propResolution = 1024 * 256;
+            }
+            if (getByteCount() >= this.currentStep * this.propResolution) {
+                this.currentStep = getByteCount() / this.propResolution + 1;
+                postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes,
+                        DownloadStatus.IN_PROGRESS, null);
+            }
         }
         try {
             Thread.sleep(this.propBlockDelay);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,18 +12,39 @@
  *******************************************************************************/
 package org.eclipse.kura.core.deployment.download.impl;
 
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.Authenticator;
 import java.net.HttpURLConnection;
 import java.net.PasswordAuthentication;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.net.ssl.HttpsURLConnection;
 
@@ -35,7 +56,9 @@ import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraRuntimeException;
 import org.eclipse.kura.core.deployment.DownloadStatus;
 import org.eclipse.kura.core.deployment.download.DownloadCountingOutputStream;
+import org.eclipse.kura.core.deployment.download.DownloadFileUtilities;
 import org.eclipse.kura.core.deployment.download.DownloadOptions;
+import org.eclipse.kura.core.deployment.download.impl.DownloadProgress.Segment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,8 +67,18 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
 
     private static final Logger s_logger = LoggerFactory.getLogger(HttpDownloadCountingOutputStream.class);
 
+    private static final String RANGE_HEADER = "Range";
+    private static final String IF_RANGE_HEADER = "If-Range";
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final long MIN_SEGMENT_SIZE = 1024L * 1024L;
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private ExecutorService executor;
     private Future<Void> future;
+    private volatile ExecutorService segmentExecutor;
+
+    private final Object checkpointLock = new Object();
+    private long lastCheckpoint = System.nanoTime();
 
     public HttpDownloadCountingOutputStream(DownloadOptions downloadOptions) {
         super(downloadOptions);
@@ -61,6 +94,11 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
             this.future.cancel(true);
             this.executor.shutdownNow();
 
+            ExecutorService localSegmentExecutor = this.segmentExecutor;
+            if (localSegmentExecutor != null) {
+                localSegmentExecutor.shutdownNow();
+            }
+
             postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.CANCELLED,
                     "Download cancelled");
         }
@@ -95,9 +133,13 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
                     }
 
                     HttpURLConnection.setFollowRedirects(false);
-                    URLConnection urlConnection = getUrlConnection(HttpDownloadCountingOutputStream.this.downloadURL);
 
-                    testConnectionProtocol(urlConnection);
+                    if (HttpDownloadCountingOutputStream.this.downloadFile != null) {
+                        rangedDownload();
+                        return null;
+                    }
+
+                    URLConnection urlConnection = getUrlConnection(HttpDownloadCountingOutputStream.this.downloadURL);
 
                     HttpDownloadCountingOutputStream.this.is = urlConnection.getInputStream();
 
@@ -108,17 +150,7 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
                     postProgressEvent(HttpDownloadCountingOutputStream.this.options.getClientId(), 0,
                             HttpDownloadCountingOutputStream.this.totalBytes, DownloadStatus.IN_PROGRESS, null);
 
-                    int bufferSize = getBufferSize();
-
-                    if (bufferSize == 0 && getTotalBytes() > 0) {
-                        int newSize = Math.round(HttpDownloadCountingOutputStream.this.totalBytes / 100F + 1F);
-                        bufferSize = newSize;
-                        setBufferSize(newSize);
-                    } else if (bufferSize == 0) {
-                        int newSize = 1024 * 4;
-                        bufferSize = newSize;
-                        setBufferSize(newSize);
-                    }
+                    int bufferSize = initBufferSize();
 
                     long numBytes = IOUtils.copyLarge(HttpDownloadCountingOutputStream.this.is,
                             HttpDownloadCountingOutputStream.this, new byte[bufferSize]);
@@ -160,20 +192,316 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
         }
     }
 
-    private URLConnection getUrlConnection(String downloadUrlString) throws IOException {
+    private int initBufferSize() {
+        int bufferSize = getBufferSize();
+
+        if (bufferSize == 0 && getTotalBytes() > 0) {
+            bufferSize = Math.round(this.totalBytes / 100F + 1F);
+            setBufferSize(bufferSize);
+        } else if (bufferSize == 0) {
+            bufferSize = 1024 * 4;
+            setBufferSize(bufferSize);
+        }
+
+        return bufferSize;
+    }
+
+    /**
+     * Downloads the resource to {@link #downloadFile} using range requests, possibly split in several concurrent
+     * segments. If resume is enabled, the progress of the segments is periodically persisted to a progress file next
+     * to the downloaded file and an interrupted download continues from the persisted positions if the resource did
+     * not change in the meantime. Falls back to a sequential download if the server does not support ranges.
+     */
+    private void rangedDownload() throws IOException, KuraException {
+        final File progressFile = DownloadFileUtilities.getDownloadProgressFile(this.downloadFile);
+        final boolean resume = this.options.isResume();
+
+        if (!resume) {
+            Files.deleteIfExists(progressFile.toPath());
+        }
+
+        final HttpURLConnection probe = (HttpURLConnection) getUrlConnection(this.downloadURL,
+                Collections.singletonMap(RANGE_HEADER, "bytes=0-0"));
+        final int responseCode = probe.getResponseCode();
+
+        if (responseCode == HttpURLConnection.HTTP_OK) {
+            s_logger.info("The server does not support range requests, downloading sequentially");
+            Files.deleteIfExists(progressFile.toPath());
+            sequentialDownload(probe);
+            return;
+        }
+
+        final long[] contentRange = responseCode == HttpURLConnection.HTTP_PARTIAL
+                ? parseContentRange(probe.getHeaderField("Content-Range"))
+                : null;
+
+        if (contentRange == null || contentRange[2] <= 0) {
+            probe.disconnect();
+            Files.deleteIfExists(progressFile.toPath());
+            sequentialDownload((HttpURLConnection) getUrlConnection(this.downloadURL));
+            return;
+        }
+
+        probe.getInputStream().close();
+
+        final long length = contentRange[2];
+        final String validator = getValidator(probe);
+
+        DownloadProgress progress = resume ? DownloadProgress.load(progressFile) : null;
+
+        if (progress != null && (!progress.matches(this.downloadURL, length, validator)
+                || this.downloadFile.length() != length)) {
+            s_logger.info("The resource changed since the previous download attempt, restarting the download");
+            progress = null;
+        }
+
+        if (progress == null) {
+            progress = DownloadProgress.create(this.downloadURL, length, validator, this.options.getDownloadSegments(),
+                    MIN_SEGMENT_SIZE);
+            try (RandomAccessFile file = new RandomAccessFile(this.downloadFile, "rw")) {
+                file.setLength(0);
+                file.setLength(length);
+            }
+        } else {
+            s_logger.info("Resuming download from {} of {} bytes", progress.getDownloadedBytes(), length);
+        }
+
+        setTotalBytes(length);
+        setResumedBytes(progress.getDownloadedBytes());
+        initBufferSize();
+        postProgressEvent(this.options.getClientId(), getByteCount(), length, DownloadStatus.IN_PROGRESS, null);
+
+        try (FileChannel channel = FileChannel.open(this.downloadFile.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final StreamingDigest streamingDigest = this.digest != null
+                    ? new StreamingDigest(this.digest, channel, progress)
+                    : null;
+
+            try {
+                downloadSegments(progress, channel, streamingDigest, resume ? progressFile : null);
+            } finally {
+                if (resume && !progress.isComplete()) {
+                    storeProgress(progress, progressFile);
+                }
+            }
+
+            if (streamingDigest != null) {
+                streamingDigest.finish();
+            }
+        }
+
+        Files.deleteIfExists(progressFile.toPath());
+
+        postProgressEvent(this.options.getClientId(), length, length, DownloadStatus.COMPLETED, null);
+    }
+
+    private void sequentialDownload(HttpURLConnection connection) throws IOException {
+        String contentLength = connection.getHeaderField("Content-Length");
+        s_logger.info("Content-Length: {}", contentLength);
+
+        setTotalBytes(contentLength != null ? Long.parseLong(contentLength) : -1);
+        postProgressEvent(this.options.getClientId(), 0, this.totalBytes, DownloadStatus.IN_PROGRESS, null);
+
+        byte[] buffer = new byte[initBufferSize()];
+        long numBytes = 0;
+
+        try (InputStream in = connection.getInputStream();
+                OutputStream fileOut = Files.newOutputStream(this.downloadFile.toPath())) {
+            OutputStream target = fileOut;
+            if (this.digest != null) {
+                this.digest.reset();
+                target = new DigestOutputStream(fileOut, this.digest);
+            }
+
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                target.write(buffer, 0, read);
+                // only counts the transferred bytes
+                write(buffer, 0, read);
+                numBytes += read;
+            }
+        }
+
+        postProgressEvent(this.options.getClientId(), numBytes, this.totalBytes, DownloadStatus.COMPLETED, null);
+    }
+
+    private void downloadSegments(final DownloadProgress progress, final FileChannel channel,
+            final StreamingDigest streamingDigest, final File progressFile) throws IOException, KuraException {
+        final List<Segment> pendingSegments = new ArrayList<>();
+        for (Segment segment : progress.getSegments()) {
+            if (!segment.isComplete()) {
+                pendingSegments.add(segment);
+            }
+        }
+
+        if (pendingSegments.size() <= 1) {
+            for (Segment segment : pendingSegments) {
+                downloadSegment(segment, progress, channel, streamingDigest, progressFile);
+            }
+            return;
+        }
+
+        final ExecutorService localExecutor = Executors.newFixedThreadPool(pendingSegments.size());
+        this.segmentExecutor = localExecutor;
+
+        try {
+            final CompletionService<Void> completionService = new ExecutorCompletionService<>(localExecutor);
+            for (Segment segment : pendingSegments) {
+                completionService.submit(() -> {
+                    downloadSegment(segment, progress, channel, streamingDigest, progressFile);
+                    return null;
+                });
+            }
+
+            // fail as soon as any segment fails
+            for (int i = 0; i < pendingSegments.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download interrupted");
+        } finally {
+            localExecutor.shutdownNow();
+            this.segmentExecutor = null;
+        }
+    }
+
+    private void downloadSegment(Segment segment, DownloadProgress progress, FileChannel channel,
+            StreamingDigest streamingDigest, File progressFile) throws IOException, KuraException {
+        final Map<String, String> requestProperties = new HashMap<>();
+        requestProperties.put(RANGE_HEADER, "bytes=" + segment.getPosition() + "-" + segment.getEnd());
+        if (progress.getValidator() != null) {
+            // the server replies with the whole resource instead of the range if it changed
+            requestProperties.put(IF_RANGE_HEADER, progress.getValidator());
+        }
+
+        final HttpURLConnection connection = (HttpURLConnection) getUrlConnection(this.downloadURL,
+                requestProperties);
+        final long[] contentRange = connection.getResponseCode() == HttpURLConnection.HTTP_PARTIAL
+                ? parseContentRange(connection.getHeaderField("Content-Range"))
+                : null;
+
+        if (contentRange == null || contentRange[0] != segment.getPosition()) {
+            connection.disconnect();
+            throw new IOException("The server did not return the requested range, response code: "
+                    + connection.getResponseCode());
+        }
+
+        final byte[] buffer = new byte[getBufferSize()];
+
+        try (InputStream in = connection.getInputStream()) {
+            while (!segment.isComplete()) {
+                final long position = segment.getPosition();
+                final int read = in.read(buffer, 0, (int) Math.min(buffer.length, segment.getEnd() - position + 1));
+                if (read < 0) {
+                    throw new EOFException("Connection closed before the end of the requested range");
+                }
+
+                final ByteBuffer source = ByteBuffer.wrap(buffer, 0, read);
+                long writePosition = position;
+                while (source.hasRemaining()) {
+                    writePosition += channel.write(source, writePosition);
+                }
+                segment.setPosition(position + read);
+
+                if (streamingDigest != null) {
+                    streamingDigest.update(position, buffer, 0, read);
+                }
+
+                // only counts the transferred bytes and notifies the progress
+                write(buffer, 0, read);
+
+                if (progressFile != null) {
+                    checkpoint(progress, channel, progressFile);
+                }
+            }
+        }
+    }
+
+    private void checkpoint(DownloadProgress progress, FileChannel channel, File progressFile) throws IOException {
+        synchronized (this.checkpointLock) {
+            final long now = System.nanoTime();
+            if (now - this.lastCheckpoint < CHECKPOINT_INTERVAL_NANOS) {
+                return;
+            }
+            this.lastCheckpoint = now;
+
+            // the data must be on the storage before the positions referring to it
+            channel.force(false);
+            progress.store(progressFile);
+        }
+    }
+
+    private void storeProgress(DownloadProgress progress, File progressFile) {
+        try {
+            progress.store(progressFile);
+        } catch (IOException e) {
+            s_logger.warn("Failed to store download progress", e);
+        }
+    }
+
+    private static String getValidator(URLConnection connection) {
+        final String etag = connection.getHeaderField("ETag");
+        // weak entity tags cannot be used for range requests
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return connection.getHeaderField("Last-Modified");
+    }
+
+    /**
+     * Parses a {@code Content-Range} header, returns the first and last byte positions and the total length, -1 if
+     * unknown, or {@code null} if the header is missing or malformed.
+     */
+    static long[] parseContentRange(String contentRange) {
+        if (contentRange == null) {
+            return null;
+        }
+
+        final Matcher matcher = CONTENT_RANGE_PATTERN.matcher(contentRange.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            final long length = "*".equals(matcher.group(3)) ? -1 : Long.parseLong(matcher.group(3));
+            return new long[] { Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), length };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private URLConnection getUrlConnection(String downloadUrlString) throws IOException, KuraConnectException {
+        return getUrlConnection(downloadUrlString, Collections.<String, String> emptyMap());
+    }
+
+    private URLConnection getUrlConnection(String downloadUrlString, Map<String, String> requestProperties)
+            throws IOException, KuraConnectException {
         URL localUrl = new URL(downloadUrlString);
         URLConnection urlConnection = localUrl.openConnection();
         int connectTimeout = getConnectTimeout();
         int readTimeout = getPropReadTimeout();
         urlConnection.setConnectTimeout(connectTimeout);
         urlConnection.setReadTimeout(readTimeout);
+        for (Map.Entry<String, String> requestProperty : requestProperties.entrySet()) {
+            urlConnection.setRequestProperty(requestProperty.getKey(), requestProperty.getValue());
+        }
+
+        // must be done before connecting
+        testConnectionProtocol(urlConnection);
 
         int responseCode = ((HttpURLConnection) urlConnection).getResponseCode();
         if (responseCode == HttpURLConnection.HTTP_MOVED_TEMP || responseCode == HttpURLConnection.HTTP_MOVED_PERM
                 || responseCode == HttpURLConnection.HTTP_SEE_OTHER) {
             String newLocation = urlConnection.getHeaderField("Location");
             if (StringUtils.isNotEmpty(newLocation)) {
-                return getUrlConnection(newLocation);
+                return getUrlConnection(newLocation, requestProperties);
             } else {
                 throw new KuraRuntimeException(KuraErrorCode.INVALID_PARAMETER);
             }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Updates a {@link MessageDigest} with the content of a ranged download while it is being written.
+ *
+ * The digest must be computed in order. The bytes received at the current digest position are digested directly from
+ * the download buffer. The bytes that are received out of order by parallel range requests, or that were written
+ * before the download was resumed, are read back from the file as soon as the downloaded prefix of the file covers
+ * them. Each update only reads back a bounded amount of data, so the download threads are never stalled for long.
+ */
+final class StreamingDigest {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_CATCH_UP_PER_UPDATE = 4L * READ_BUFFER_SIZE;
+
+    private final MessageDigest digest;
+    private final FileChannel channel;
+    private final DownloadProgress progress;
+
+    private ByteBuffer readBuffer;
+    private long digestedBytes;
+
+    StreamingDigest(MessageDigest digest, FileChannel channel, DownloadProgress progress) {
+        this.digest = digest;
+        this.channel = channel;
+        this.progress = progress;
+        this.digest.reset();
+    }
+
+    /**
+     * Notifies that the given bytes have been written to the file at the given position.
+     */
+    synchronized void update(long position, byte[] buffer, int offset, int length) throws IOException {
+        if (position == this.digestedBytes) {
+            this.digest.update(buffer, offset, length);
+            this.digestedBytes += length;
+        }
+        catchUp(MAX_CATCH_UP_PER_UPDATE);
+    }
+
+    /**
+     * Digests the remaining downloaded bytes, must be called once the download is complete.
+     */
+    synchronized void finish() throws IOException {
+        catchUp(Long.MAX_VALUE);
+    }
+
+    private void catchUp(long maxBytes) throws IOException {
+        long end = this.progress.getContiguousBytes();
+        if (end - this.digestedBytes > maxBytes) {
+            end = this.digestedBytes + maxBytes;
+        }
+
+        if (this.digestedBytes >= end) {
+            return;
+        }
+
+        if (this.readBuffer == null) {
+            this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        }
+
+        while (this.digestedBytes < end) {
+            this.readBuffer.clear();
+            this.readBuffer.limit((int) Math.min(this.readBuffer.capacity(), end - this.digestedBytes));
+
+            int read = this.channel.read(this.readBuffer, this.digestedBytes);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of the downloaded file");
+            }
+
+            this.digest.update(this.readBuffer.array(), 0, read);
+            this.digestedBytes += read;
+        }
+    }
+}
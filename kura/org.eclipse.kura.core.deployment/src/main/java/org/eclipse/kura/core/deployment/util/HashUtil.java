@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,8 @@ import org.eclipse.kura.KuraException;
 
 public class HashUtil {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     public static String hash(String digestAlgorithm, File file) throws IOException, Exception {
         MessageDigest cript = null;
         FileInputStream fis = null;
@@ -32,17 +34,12 @@ public class HashUtil {
             cript = MessageDigest.getInstance(digestAlgorithm);
             fis = new FileInputStream(file);
 
-            byte[] byteArray = new byte[1024];
+            byte[] byteArray = new byte[BUFFER_SIZE];
             int bytesCount = 0;
             while ((bytesCount = fis.read(byteArray)) != -1) {
                 cript.update(byteArray, 0, bytesCount);
             }
-            byte[] encodedBytes = cript.digest();
-            StringBuilder sb = new StringBuilder();
-            for (byte encodedByte : encodedBytes) {
-                sb.append(Integer.toString((encodedByte & 0xff) + 0x100, 16).substring(1));
-            }
-            return sb.toString();
+            return toHex(cript.digest());
         } catch (FileNotFoundException e) {
             throw new KuraException(KuraErrorCode.STORE_ERROR, null, e.getMessage());
         } catch (IOException e) {
@@ -56,4 +53,11 @@ public class HashUtil {
         }
     }
 
+    public static String toHex(byte[] encodedBytes) {
+        StringBuilder sb = new StringBuilder(encodedBytes.length * 2);
+        for (byte encodedByte : encodedBytes) {
+            sb.append(Integer.toString((encodedByte & 0xff) + 0x100, 16).substring(1));
+        }
+        return sb.toString();
+    }
 }
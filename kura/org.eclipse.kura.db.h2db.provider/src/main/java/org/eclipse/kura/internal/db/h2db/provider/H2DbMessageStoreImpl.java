@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.message.store.StoredMessage;
@@ -95,6 +97,10 @@ public class H2DbMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
                         + this.escapedTableName + " AS a JOIN (SELECT id, publishedOn FROM " + super.escapedTableName
                         + " ORDER BY publishedOn ASC NULLS FIRST, priority ASC, createdOn ASC LIMIT 1) AS b "
                         + "WHERE a.id = b.id AND b.publishedOn IS NULL;")
+                .withSqlGetNextMessages("SELECT id, topic, qos, retain, createdOn, publishedOn, publishedMessageId, "
+                        + "confirmedOn, smallPayload, largePayload, priority, sessionId, droppedOn FROM "
+                        + this.escapedTableName
+                        + " WHERE publishedOn IS NULL ORDER BY priority ASC, createdOn ASC LIMIT ?;")
                 .withSqlSetPublishedQoS1(UPDATE + super.escapedTableName
                         + " SET publishedOn = ?, publishedMessageId = ?, sessionId = ? WHERE id = ?;")
                 .withSqlSetPublishedQoS0(UPDATE + super.escapedTableName + " SET publishedOn = ? WHERE id = ?;")
@@ -146,6 +152,27 @@ public class H2DbMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
 
     }
 
+    @Override
+    public synchronized List<Integer> storeAll(final List<StoredMessage> messages) throws KuraStoreException {
+
+        final List<Long> ids;
+
+        try {
+            ids = storeAllInternal(messages);
+        } catch (KuraStoreException e) {
+            handleKuraStoreException(e);
+            return storeEach(messages);
+        }
+
+        final List<Integer> result = new ArrayList<>(ids.size());
+
+        for (final Long id : ids) {
+            result.add(id.intValue());
+        }
+
+        return result;
+    }
+
     private void handleKuraStoreException(final KuraStoreException e) throws KuraStoreException {
 
         final Throwable cause = e.getCause();
@@ -185,25 +212,7 @@ public class H2DbMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
             final long result;
 
             try (PreparedStatement pstmt = c.prepareStatement(super.queries.getSqlStore(), new String[] { "id" })) {
-                pstmt.setString(1, topic);
-                pstmt.setInt(2, qos);
-                pstmt.setBoolean(3, retain);
-                pstmt.setTimestamp(4, now, this.utcCalendar);
-                pstmt.setTimestamp(5, null);
-                pstmt.setInt(6, -1);
-                pstmt.setTimestamp(7, null);
-
-                if (payload == null || payload.length < PAYLOAD_BYTE_SIZE_THRESHOLD) {
-                    pstmt.setBytes(8, payload);
-                    pstmt.setNull(9, Types.BLOB);
-                } else {
-                    pstmt.setNull(8, Types.VARBINARY);
-                    pstmt.setBinaryStream(9, new ByteArrayInputStream(payload), payload.length);
-                }
-
-                pstmt.setInt(10, priority);
-                pstmt.setString(11, null);
-                pstmt.setTimestamp(12, null);
+                setStoreParameters(pstmt, now, topic, payload, qos, retain, priority);
 
                 pstmt.execute();
 
@@ -218,6 +227,30 @@ public class H2DbMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
 
     }
 
+    @Override
+    protected void setStoreParameters(final PreparedStatement pstmt, final Timestamp now, final String topic,
+            final byte[] payload, final int qos, final boolean retain, final int priority) throws SQLException {
+        pstmt.setString(1, topic);
+        pstmt.setInt(2, qos);
+        pstmt.setBoolean(3, retain);
+        pstmt.setTimestamp(4, now, this.utcCalendar);
+        pstmt.setTimestamp(5, null);
+        pstmt.setInt(6, -1);
+        pstmt.setTimestamp(7, null);
+
+        if (payload == null || payload.length < PAYLOAD_BYTE_SIZE_THRESHOLD) {
+            pstmt.setBytes(8, payload);
+            pstmt.setNull(9, Types.BLOB);
+        } else {
+            pstmt.setNull(8, Types.VARBINARY);
+            pstmt.setBinaryStream(9, new ByteArrayInputStream(payload), payload.length);
+        }
+
+        pstmt.setInt(10, priority);
+        pstmt.setString(11, null);
+        pstmt.setTimestamp(12, null);
+    }
+
     @Override
     protected Builder buildStoredMessageBuilder(ResultSet rs, boolean includePayload) throws SQLException {
         StoredMessage.Builder result = super.buildStoredMessageBuilder(rs, false);
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.db.h2db.provider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.wire.store.AbstractJdbcPartitionedWireRecordStoreImpl;
+import org.eclipse.kura.util.wire.store.AbstractJdbcWireRecordStoreImpl;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
+
+@SuppressWarnings("restriction")
+public class H2DbPartitionedWireRecordStoreImpl extends AbstractJdbcPartitionedWireRecordStoreImpl {
+
+    public H2DbPartitionedWireRecordStoreImpl(final ConnectionProvider provider, final String tableName,
+            final WireRecordStorePartitioning partitioning) throws KuraStoreException {
+        super(provider, tableName, partitioning);
+
+        super.loadPartitions();
+    }
+
+    @Override
+    protected AbstractJdbcWireRecordStoreImpl openPartition(final String partitionTableName)
+            throws KuraStoreException {
+        return new H2DbWireRecordStoreImpl(super.connectionProvider, partitionTableName);
+    }
+
+    @Override
+    protected void setNextId(final Connection c, final String partitionTableName, final long nextId)
+            throws SQLException {
+        try (final Statement stmt = c.createStatement()) {
+            stmt.execute("ALTER TABLE " + super.escapeIdentifier(partitionTableName) + " ALTER COLUMN ID RESTART WITH "
+                    + nextId + ";");
+        }
+    }
+
+}
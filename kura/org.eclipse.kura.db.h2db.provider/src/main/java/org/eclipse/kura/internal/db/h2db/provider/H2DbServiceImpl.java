@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.kura.util.store.listener.ConnectionListenerManager;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.store.provider.QueryableWireRecordStoreProvider;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
 import org.eclipse.kura.wire.store.provider.WireRecordStoreProvider;
 import org.h2.jdbcx.JdbcConnectionPool;
 import org.h2.jdbcx.JdbcDataSource;
@@ -640,6 +641,17 @@ public class H2DbServiceImpl implements H2DbService, MessageStoreProvider, WireR
         return new H2DbWireRecordStoreImpl(this::withConnectionAdapter, name);
     }
 
+    @Override
+    public WireRecordStore openWireRecordStore(String name, WireRecordStorePartitioning partitioning)
+            throws KuraStoreException {
+
+        if (partitioning == WireRecordStorePartitioning.NONE) {
+            return openWireRecordStore(name);
+        }
+
+        return new H2DbPartitionedWireRecordStoreImpl(this::withConnectionAdapter, name, partitioning);
+    }
+
     @Override
     public List<WireRecord> performQuery(String query) throws KuraStoreException {
 
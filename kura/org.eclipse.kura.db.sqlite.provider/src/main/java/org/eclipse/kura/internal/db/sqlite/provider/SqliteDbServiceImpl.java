@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@ import org.eclipse.kura.util.store.listener.ConnectionListenerManager;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.store.provider.QueryableWireRecordStoreProvider;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
 import org.eclipse.kura.wire.store.provider.WireRecordStoreProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -314,6 +315,17 @@ public class SqliteDbServiceImpl implements BaseDbService, ConfigurableComponent
         return new SqliteWireRecordStoreImpl(this::withConnection, name);
     }
 
+    @Override
+    public WireRecordStore openWireRecordStore(String name, WireRecordStorePartitioning partitioning)
+            throws KuraStoreException {
+
+        if (partitioning == WireRecordStorePartitioning.NONE) {
+            return openWireRecordStore(name);
+        }
+
+        return new SqlitePartitionedWireRecordStoreImpl(this::withConnection, name, partitioning);
+    }
+
     @Override
     @SuppressWarnings("restriction")
     public List<WireRecord> performQuery(String query) throws KuraStoreException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.db.sqlite.provider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.message.store.AbstractJdbcMessageStoreImpl;
 import org.eclipse.kura.util.message.store.JdbcMessageStoreQueries;
@@ -63,6 +67,9 @@ public class SqliteMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
                         + escapedTableName + " AS a JOIN (SELECT id, publishedOn FROM " + super.escapedTableName
                         + " ORDER BY publishedOn ASC NULLS FIRST, priority ASC, createdOn ASC LIMIT 1) AS b "
                         + "WHERE a.id = b.id AND b.publishedOn IS NULL;")
+                .withSqlGetNextMessages("SELECT id, topic, qos, retain, createdOn, publishedOn, publishedMessageId, "
+                        + "confirmedOn, payload, priority, sessionId, droppedOn FROM " + super.escapedTableName
+                        + " WHERE publishedOn IS NULL ORDER BY priority ASC, createdOn ASC LIMIT ?;")
                 .withSqlSetPublishedQoS1(UPDATE + super.escapedTableName
                         + " SET publishedOn = ?, publishedMessageId = ?, sessionId = ? WHERE id = ?;")
                 .withSqlSetPublishedQoS0(UPDATE + super.escapedTableName + " SET publishedOn = ? WHERE id = ?;")
@@ -122,4 +129,28 @@ public class SqliteMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
 
     }
 
+    @Override
+    public synchronized List<Integer> storeAll(final List<StoredMessage> messages) throws KuraStoreException {
+
+        final List<Long> ids = super.storeAllInternal(messages);
+        final List<Integer> result = new ArrayList<>(ids.size());
+
+        for (int i = 0; i < ids.size(); i++) {
+            final long id = ids.get(i);
+
+            if (id > Integer.MAX_VALUE) {
+                super.execute(this.sqlDeleteMessage, id);
+
+                final StoredMessage message = messages.get(i);
+
+                result.add(store(message.getTopic(), message.getPayload(), message.getQos(), message.isRetain(),
+                        message.getPriority()));
+            } else {
+                result.add((int) id);
+            }
+        }
+
+        return result;
+    }
+
 }
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.db.sqlite.provider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.wire.store.AbstractJdbcPartitionedWireRecordStoreImpl;
+import org.eclipse.kura.util.wire.store.AbstractJdbcWireRecordStoreImpl;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
+
+@SuppressWarnings("restriction")
+public class SqlitePartitionedWireRecordStoreImpl extends AbstractJdbcPartitionedWireRecordStoreImpl {
+
+    public SqlitePartitionedWireRecordStoreImpl(final ConnectionProvider provider, final String tableName,
+            final WireRecordStorePartitioning partitioning) throws KuraStoreException {
+        super(provider, tableName, partitioning);
+
+        super.loadPartitions();
+    }
+
+    @Override
+    protected AbstractJdbcWireRecordStoreImpl openPartition(final String partitionTableName)
+            throws KuraStoreException {
+        return new SqliteWireRecordStoreImpl(super.connectionProvider, partitionTableName);
+    }
+
+    @Override
+    protected void setNextId(final Connection c, final String partitionTableName, final long nextId)
+            throws SQLException {
+        // AUTOINCREMENT tables take the next id from the sqlite_sequence table
+        try (final PreparedStatement delete = c.prepareStatement("DELETE FROM sqlite_sequence WHERE name = ?;");
+                final PreparedStatement insert = c
+                        .prepareStatement("INSERT INTO sqlite_sequence (name, seq) VALUES (?, ?);")) {
+            delete.setString(1, partitionTableName);
+            delete.execute();
+
+            insert.setString(1, partitionTableName);
+            insert.setLong(2, nextId - 1);
+            insert.execute();
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -122,6 +122,19 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         return 0;
     }
 
+    /**
+     * Returns a value that must change every time the parameters used by the aggregation process change, for example
+     * if the minimum gap size is estimated at runtime using an {@link AdaptiveGapSizeEstimator}. The
+     * {@link PreparedRead} instances returned by {@link #prepareRead(List)} will repeat the aggregation if the value
+     * returned by this method differs from the one observed at the previous execution. The default is 0.
+     *
+     * @return the aggregation revision
+     * @since 1.1
+     */
+    protected long getAggregationRevision() {
+        return 0;
+    }
+
     /**
      * This method is called immediately before an aggregation is performed for the specific domain and mode. This
      * method can be overridden by implementors in order to customize the {@link BlockTaskAggregator} provided as
@@ -235,10 +248,7 @@ public abstract class AbstractBlockDriver<T> implements Driver {
             optimize(records, Mode.READ).forEach(this::runTask);
         } catch (Exception e) {
             logger.warn("Unexpected exception during read", e);
-            for (ChannelRecord record : records) {
-                record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, e.getMessage(), e));
-                record.setTimestamp(System.currentTimeMillis());
-            }
+            setFailure(records, e);
         }
     }
 
@@ -249,10 +259,14 @@ public abstract class AbstractBlockDriver<T> implements Driver {
             optimize(records, Mode.WRITE).forEach(this::runTask);
         } catch (Exception e) {
             logger.warn("Unexpected exception during write", e);
-            for (ChannelRecord record : records) {
-                record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, e.getMessage(), e));
-                record.setTimestamp(System.currentTimeMillis());
-            }
+            setFailure(records, e);
+        }
+    }
+
+    private static void setFailure(final List<ChannelRecord> records, final Exception e) {
+        for (ChannelRecord record : records) {
+            record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, e.getMessage(), e));
+            record.setTimestamp(System.currentTimeMillis());
         }
     }
 
@@ -265,22 +279,26 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         try {
             return createPreparedRead(records, optimize(records, Mode.READ));
         } catch (KuraException e) {
-            for (ChannelRecord record : records) {
-                record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, e.getMessage(), e));
-                record.setTimestamp(System.currentTimeMillis());
-            }
+            setFailure(records, e);
             return createPreparedRead(records, Collections.emptyList());
         }
     }
 
+    /**
+     * A {@link PreparedRead} that reuses the result of the aggregation, and the buffers allocated by the
+     * {@link ToplevelBlockTask} instances, across executions. The aggregation is repeated if the value returned by
+     * {@link AbstractBlockDriver#getAggregationRevision()} changes.
+     */
     public class BlockPreparedRead implements PreparedRead {
 
         private final List<ChannelRecord> records;
-        private final List<BlockTask> tasks;
+        private List<BlockTask> tasks;
+        private long revision;
 
         public BlockPreparedRead(List<ChannelRecord> records, List<BlockTask> tasks) {
             this.records = records;
             this.tasks = tasks;
+            this.revision = getAggregationRevision();
         }
 
         @Override
@@ -291,6 +309,7 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         public List<ChannelRecord> execute() throws ConnectionException, KuraException {
             synchronized (AbstractBlockDriver.this) {
                 connect();
+                updateTasks();
                 for (BlockTask task : this.tasks) {
                     runTask(task);
                 }
@@ -298,6 +317,20 @@ public abstract class AbstractBlockDriver<T> implements Driver {
             }
         }
 
+        private void updateTasks() {
+            final long currentRevision = getAggregationRevision();
+            if (currentRevision == this.revision) {
+                return;
+            }
+            this.revision = currentRevision;
+            try {
+                this.tasks = optimize(this.records, Mode.READ);
+            } catch (KuraException e) {
+                setFailure(this.records, e);
+                this.tasks = Collections.emptyList();
+            }
+        }
+
         @Override
         public List<ChannelRecord> getChannelRecords() {
             return this.records;
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block.task;
+
+/**
+ * <p>
+ * Estimates the minimum gap size to be used by a {@link BlockTaskAggregator} from the timings of the requests actually
+ * performed by a driver.
+ * </p>
+ *
+ * <p>
+ * The time required for transferring {@code n} bytes is modeled as {@code requests(n) * latency + n * byteCost},
+ * where {@code requests(n)} is the number of requests needed for transferring {@code n} bytes given the maximum
+ * request size (for example the PDU size negotiated with the device) and {@code latency} and {@code byteCost} are
+ * estimated using an exponentially weighted least squares fit of the collected samples.
+ * </p>
+ *
+ * <p>
+ * Aggregating two blocks separated by a gap of {@code g} bytes saves a request but transfers {@code g} additional
+ * bytes, therefore the aggregation is convenient if {@code g < latency / byteCost}. This value, limited to the maximum
+ * request size, is used as the minimum gap size.
+ * </p>
+ *
+ * <p>
+ * The estimate is recomputed every {@code reoptimizationInterval} samples, and it is applied only if it differs from
+ * the current value by more than the configured hysteresis, in order to avoid continuously changing the aggregation
+ * result because of noisy measurements. The value returned by {@link #getRevision()} is incremented every time the
+ * minimum gap size changes.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.1
+ */
+public class AdaptiveGapSizeEstimator {
+
+    private static final double DEFAULT_DECAY = 0.95;
+    private static final double DEFAULT_HYSTERESIS = 0.2;
+    private static final int DEFAULT_REOPTIMIZATION_INTERVAL = 50;
+
+    private final double decay;
+    private final double hysteresis;
+    private final int reoptimizationInterval;
+
+    private int maximumRequestSize;
+    private int minimumGapSize;
+    private long revision;
+    private int pendingSamples;
+
+    private double sumRequestsRequests;
+    private double sumRequestsBytes;
+    private double sumBytesBytes;
+    private double sumRequestsTime;
+    private double sumBytesTime;
+
+    /**
+     * Creates a new instance with default parameters.
+     *
+     * @param initialGapSize
+     *            the minimum gap size to be used until enough samples are collected
+     */
+    public AdaptiveGapSizeEstimator(int initialGapSize) {
+        this(initialGapSize, DEFAULT_REOPTIMIZATION_INTERVAL, DEFAULT_HYSTERESIS, DEFAULT_DECAY);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param initialGapSize
+     *            the minimum gap size to be used until enough samples are collected
+     * @param reoptimizationInterval
+     *            the number of samples to be collected before recomputing the estimate
+     * @param hysteresis
+     *            the minimum relative change of the estimate required for updating the minimum gap size
+     * @param decay
+     *            the weight of the existing samples when a new sample is added, must be in the (0, 1] range
+     * @throws IllegalArgumentException
+     *             if any of the arguments is out of range
+     */
+    public AdaptiveGapSizeEstimator(int initialGapSize, int reoptimizationInterval, double hysteresis, double decay) {
+        if (initialGapSize < 0) {
+            throw new IllegalArgumentException("Initial gap size must be non negative");
+        }
+        if (reoptimizationInterval <= 0) {
+            throw new IllegalArgumentException("Reoptimization interval must be positive");
+        }
+        if (hysteresis < 0) {
+            throw new IllegalArgumentException("Hysteresis must be non negative");
+        }
+        if (decay <= 0 || decay > 1) {
+            throw new IllegalArgumentException("Decay must be in the (0, 1] range");
+        }
+        this.minimumGapSize = initialGapSize;
+        this.reoptimizationInterval = reoptimizationInterval;
+        this.hysteresis = hysteresis;
+        this.decay = decay;
+    }
+
+    /**
+     * Specifies the maximum number of bytes that can be transferred by a single request, larger transfers are assumed
+     * to be split in multiple requests. The minimum gap size will never exceed this value. A value of 0, the default,
+     * means that the maximum request size is unknown.
+     *
+     * @param maximumRequestSize
+     *            the maximum request size in bytes
+     */
+    public synchronized void setMaximumRequestSize(int maximumRequestSize) {
+        this.maximumRequestSize = Math.max(0, maximumRequestSize);
+    }
+
+    /**
+     * Adds a new sample.
+     *
+     * @param length
+     *            the number of bytes transferred
+     * @param durationNanos
+     *            the time required by the transfer in nanoseconds
+     */
+    public synchronized void addSample(int length, long durationNanos) {
+        if (length <= 0 || durationNanos < 0) {
+            return;
+        }
+
+        final double requests = this.maximumRequestSize > 0
+                ? Math.ceil((double) length / this.maximumRequestSize)
+                : 1;
+        final double time = durationNanos;
+
+        this.sumRequestsRequests = this.decay * this.sumRequestsRequests + requests * requests;
+        this.sumRequestsBytes = this.decay * this.sumRequestsBytes + requests * length;
+        this.sumBytesBytes = this.decay * this.sumBytesBytes + (double) length * length;
+        this.sumRequestsTime = this.decay * this.sumRequestsTime + requests * time;
+        this.sumBytesTime = this.decay * this.sumBytesTime + length * time;
+
+        if (++this.pendingSamples >= this.reoptimizationInterval) {
+            this.pendingSamples = 0;
+            reoptimize();
+        }
+    }
+
+    /**
+     * Returns the current minimum gap size.
+     *
+     * @return the minimum gap size in bytes
+     */
+    public synchronized int getMinimumGapSize() {
+        return this.minimumGapSize;
+    }
+
+    /**
+     * Returns a value that is incremented every time the minimum gap size changes.
+     *
+     * @return the revision
+     */
+    public synchronized long getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * Discards the collected samples and sets the minimum gap size to the provided value.
+     *
+     * @param initialGapSize
+     *            the minimum gap size to be used until enough samples are collected
+     */
+    public synchronized void reset(int initialGapSize) {
+        if (initialGapSize < 0) {
+            throw new IllegalArgumentException("Initial gap size must be non negative");
+        }
+        this.sumRequestsRequests = 0;
+        this.sumRequestsBytes = 0;
+        this.sumBytesBytes = 0;
+        this.sumRequestsTime = 0;
+        this.sumBytesTime = 0;
+        this.pendingSamples = 0;
+        setMinimumGapSize(initialGapSize);
+    }
+
+    private void reoptimize() {
+        final double det = this.sumRequestsRequests * this.sumBytesBytes - this.sumRequestsBytes * this.sumRequestsBytes;
+
+        if (det <= 1e-9 * this.sumRequestsRequests * this.sumBytesBytes) {
+            // all samples have the same size, latency and byte cost cannot be distinguished
+            return;
+        }
+
+        final double latency = (this.sumBytesBytes * this.sumRequestsTime - this.sumRequestsBytes * this.sumBytesTime)
+                / det;
+        final double byteCost = (this.sumRequestsRequests * this.sumBytesTime
+                - this.sumRequestsBytes * this.sumRequestsTime) / det;
+
+        final int limit = this.maximumRequestSize > 0 ? this.maximumRequestSize : Integer.MAX_VALUE;
+        final int estimate;
+
+        if (latency <= 0) {
+            estimate = 0;
+        } else if (byteCost <= 0) {
+            estimate = limit == Integer.MAX_VALUE ? this.minimumGapSize : limit;
+        } else {
+            estimate = (int) Math.min(limit, Math.ceil(latency / byteCost));
+        }
+
+        if (Math.abs(estimate - this.minimumGapSize) > Math.max(1, this.hysteresis * this.minimumGapSize)) {
+            setMinimumGapSize(estimate);
+        }
+    }
+
+    private void setMinimumGapSize(int minimumGapSize) {
+        if (minimumGapSize != this.minimumGapSize) {
+            this.minimumGapSize = minimumGapSize;
+            this.revision++;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2018, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.kura.internal.driver.opcua;
 import static org.eclipse.kura.internal.driver.opcua.Utils.fillRecord;
 import static org.eclipse.kura.internal.driver.opcua.Utils.fillStatus;
 import static org.eclipse.kura.internal.driver.opcua.Utils.runSafe;
+import static org.eclipse.kura.internal.driver.opcua.Utils.splitInMultipleRequests;
 
 import java.security.KeyPair;
 import java.security.KeyStore.PrivateKeyEntry;
@@ -27,6 +28,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -63,21 +65,30 @@ public class ConnectionManager {
     private final BiConsumer<ConnectionManager, Throwable> failureHandler;
     private final AsyncTaskQueue queue;
 
-    private final SubscriptionManager subscriptionManager;
+    private final SubscriptionPool subscriptionPool;
     private final SubtreeSubscriptionManager subtreeSubscriptionManager;
     private final OpcUaOptions options;
+    private final OperationLimits operationLimits;
 
     public ConnectionManager(final OpcUaClient client, final OpcUaOptions options,
             final BiConsumer<ConnectionManager, Throwable> failureHandler,
             final ListenerRegistrationRegistry registrations,
             final ListenerRegistrationRegistry subtreeListenerRegistrations) {
+        this(client, options, OperationLimits.UNKNOWN, failureHandler, registrations, subtreeListenerRegistrations);
+    }
+
+    ConnectionManager(final OpcUaClient client, final OpcUaOptions options, final OperationLimits operationLimits,
+            final BiConsumer<ConnectionManager, Throwable> failureHandler,
+            final ListenerRegistrationRegistry registrations,
+            final ListenerRegistrationRegistry subtreeListenerRegistrations) {
         this.options = options;
         this.client = client;
+        this.operationLimits = operationLimits;
         this.queue = new AsyncTaskQueue();
         this.failureHandler = failureHandler;
         this.queue.onFailure(ex -> failureHandler.accept(this, ex));
-        this.subscriptionManager = new SubscriptionManager(options, client, this.queue, registrations);
-        this.subtreeSubscriptionManager = new SubtreeSubscriptionManager(options, client, this.queue,
+        this.subscriptionPool = new SubscriptionPool(options, operationLimits, client, this.queue, registrations);
+        this.subtreeSubscriptionManager = new SubtreeSubscriptionManager(options, operationLimits, client, this.queue,
                 subtreeListenerRegistrations);
     }
 
@@ -94,8 +105,9 @@ public class ConnectionManager {
 
         return DiscoveryClient.getEndpoints(endpointString)
                 .thenCompose(endpoints -> tryConnectToEndpoints(options, endpoints)) //
-                .thenApply(client -> new ConnectionManager((OpcUaClient) client, options, failureHandler, registrations,
-                        subtreeListenerRegistrations)) //
+                .thenCompose(client -> OperationLimits.read((OpcUaClient) client) //
+                        .thenApply(limits -> new ConnectionManager((OpcUaClient) client, options, limits,
+                                failureHandler, registrations, subtreeListenerRegistrations))) //
                 .whenComplete((ok, err) -> {
                     if (err != null) {
                         logger.warn("Connecting to OPC-UA...failed", err);
@@ -106,38 +118,73 @@ public class ConnectionManager {
     }
 
     public synchronized void start() {
-        this.subscriptionManager.onRegistrationsChanged();
+        this.subscriptionPool.start();
     }
 
+    /**
+     * Reads the provided requests. The requests are split in multiple batches according to the configured maximum
+     * item count and to the MaxNodesPerRead limit advertised by the server, all batches are sent before waiting for
+     * the responses.
+     */
     public void read(final List<Request<ReadParams>> requests) throws Exception {
 
-        final int maxItemsPerRequest = this.options.getMaxItemCountPerRequest();
-        final ArrayList<ReadValueId> tempList = new ArrayList<>(maxItemsPerRequest);
+        final int maxItemsPerRequest = this.operationLimits
+                .getReadItemCount(this.options.getMaxItemCountPerRequest());
+
+        final List<List<Request<ReadParams>>> batches = new ArrayList<>();
+        final List<Future<ReadResponse>> responses = new ArrayList<>();
+
+        splitInMultipleRequests(maxItemsPerRequest, requests.size(), (start, end) -> {
+            final List<Request<ReadParams>> batch = requests.subList(start, end);
+            final List<ReadValueId> readValueIds = new ArrayList<>(batch.size());
+
+            for (final Request<ReadParams> request : batch) {
+                readValueIds.add(request.getParameters().getReadValueId());
+            }
+
+            batches.add(batch);
+            responses.add(this.client.read(0.0, TimestampsToReturn.Both, readValueIds));
+        });
 
-        for (int i = 0; i < requests.size(); i += maxItemsPerRequest) {
-            this.read(requests.subList(i, Math.min(i + maxItemsPerRequest, requests.size())), tempList);
+        for (int i = 0; i < batches.size(); i++) {
+            fillReadResults(batches.get(i), responses.get(i));
         }
     }
 
+    /**
+     * Writes the provided requests. The requests are split in multiple batches according to the configured maximum
+     * item count and to the MaxNodesPerWrite limit advertised by the server, all batches are sent before waiting for
+     * the responses.
+     */
     public void write(final List<Request<WriteParams>> requests) throws Exception {
 
-        final int maxItemsPerRequest = this.options.getMaxItemCountPerRequest();
-        final ArrayList<WriteValue> tempList = new ArrayList<>(maxItemsPerRequest);
+        final int maxItemsPerRequest = this.operationLimits
+                .getWriteItemCount(this.options.getMaxItemCountPerRequest());
 
-        for (int i = 0; i < requests.size(); i += maxItemsPerRequest) {
-            this.write(requests.subList(i, Math.min(i + maxItemsPerRequest, requests.size())), tempList);
-        }
-    }
+        final List<List<Request<WriteParams>>> batches = new ArrayList<>();
+        final List<Future<WriteResponse>> responses = new ArrayList<>();
+
+        splitInMultipleRequests(maxItemsPerRequest, requests.size(), (start, end) -> {
+            final List<Request<WriteParams>> batch = requests.subList(start, end);
+            final List<WriteValue> writeValues = new ArrayList<>(batch.size());
+
+            for (final Request<WriteParams> request : batch) {
+                writeValues.add(request.getParameters().getWriteValue());
+            }
 
-    private void read(final List<Request<ReadParams>> requests, final List<ReadValueId> tempList) throws Exception {
-        tempList.clear();
+            batches.add(batch);
+            responses.add(this.client.write(writeValues));
+        });
 
-        for (final Request<ReadParams> request : requests) {
-            tempList.add(request.getParameters().getReadValueId());
+        for (int i = 0; i < batches.size(); i++) {
+            fillWriteResults(batches.get(i), responses.get(i));
         }
+    }
 
-        final ReadResponse response = runSafe(this.client.read(0.0, TimestampsToReturn.Both, tempList),
-                this.options.getRequestTimeout(), ex -> this.failureHandler.accept(this, ex));
+    private void fillReadResults(final List<Request<ReadParams>> requests, final Future<ReadResponse> future)
+            throws Exception {
+        final ReadResponse response = runSafe(future, this.options.getRequestTimeout(),
+                ex -> this.failureHandler.accept(this, ex));
 
         final DataValue[] results = response.getResults();
         for (int i = 0; i < requests.size(); i++) {
@@ -147,14 +194,9 @@ public class ConnectionManager {
         logger.debug("Read Successful");
     }
 
-    private void write(final List<Request<WriteParams>> requests, final List<WriteValue> tempList) throws Exception {
-        tempList.clear();
-
-        for (final Request<WriteParams> request : requests) {
-            tempList.add(request.getParameters().getWriteValue());
-        }
-
-        final WriteResponse response = runSafe(this.client.write(tempList), this.options.getRequestTimeout(),
+    private void fillWriteResults(final List<Request<WriteParams>> requests, final Future<WriteResponse> future)
+            throws Exception {
+        final WriteResponse response = runSafe(future, this.options.getRequestTimeout(),
                 ex -> this.failureHandler.accept(this, ex));
 
         final StatusCode[] results = response.getResults();
@@ -172,7 +214,7 @@ public class ConnectionManager {
         logger.info("Disconnecting from OPC-UA...");
 
         this.queue.close(
-                () -> CompletableFuture.allOf(this.subscriptionManager.close(), this.subtreeSubscriptionManager.close()) //
+                () -> CompletableFuture.allOf(this.subscriptionPool.close(), this.subtreeSubscriptionManager.close()) //
                         .whenComplete((ok, ex) -> this.client.disconnect() //
                                 .handle((o, e) -> {
                                     if (e == null) {
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -138,6 +138,8 @@ final class OpcUaOptions {
 
     private static final String MAX_REQUEST_ITEMS = "max.request.items";
 
+    private static final String MAX_SUBSCRIPTION_COUNT = "max.subscription.count";
+
     private static final String FORCE_ENDPOINT_URL = "force.endpoint.url";
 
     private static final String SUBTREE_SUBSCRIPTION_CHANNEL_NAME_FORMAT = "subtree.subscription.name.format";
@@ -427,6 +429,14 @@ final class OpcUaOptions {
         return 10;
     }
 
+    int getMaxSubscriptionCount() {
+        final Object maxSubscriptionCount = this.properties.get(MAX_SUBSCRIPTION_COUNT);
+        if (maxSubscriptionCount instanceof Integer) {
+            return Math.max(1, (Integer) maxSubscriptionCount);
+        }
+        return 4;
+    }
+
     boolean shouldForceEndpointUrl() {
         final Object raw = this.properties.get(FORCE_ENDPOINT_URL);
         if (raw instanceof Boolean) {
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.driver.opcua;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the operation limits advertised by the server in the OperationLimits object of its ServerCapabilities.
+ * A value of 0 means that the server does not impose a limit.
+ */
+final class OperationLimits {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationLimits.class);
+
+    static final OperationLimits UNKNOWN = new OperationLimits(0, 0, 0);
+
+    private static final List<NodeId> LIMIT_NODES = Arrays.asList(
+            Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead,
+            Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerWrite,
+            Identifiers.Server_ServerCapabilities_OperationLimits_MaxMonitoredItemsPerCall);
+
+    private final long maxNodesPerRead;
+    private final long maxNodesPerWrite;
+    private final long maxMonitoredItemsPerCall;
+
+    OperationLimits(final long maxNodesPerRead, final long maxNodesPerWrite, final long maxMonitoredItemsPerCall) {
+        this.maxNodesPerRead = maxNodesPerRead;
+        this.maxNodesPerWrite = maxNodesPerWrite;
+        this.maxMonitoredItemsPerCall = maxMonitoredItemsPerCall;
+    }
+
+    static CompletableFuture<OperationLimits> read(final OpcUaClient client) {
+        final List<ReadValueId> readValueIds = LIMIT_NODES.stream()
+                .map(nodeId -> new ReadValueId(nodeId, AttributeId.Value.uid(), null, null))
+                .collect(Collectors.toList());
+
+        return client.read(0.0, TimestampsToReturn.Neither, readValueIds) //
+                .thenApply(response -> {
+                    final DataValue[] results = response.getResults();
+                    final OperationLimits limits = new OperationLimits(getLimit(results, 0), getLimit(results, 1),
+                            getLimit(results, 2));
+                    logger.info("Server operation limits - max nodes per read: {}, max nodes per write: {}, "
+                            + "max monitored items per call: {}", limits.maxNodesPerRead, limits.maxNodesPerWrite,
+                            limits.maxMonitoredItemsPerCall);
+                    return limits;
+                }) //
+                .exceptionally(e -> {
+                    logger.debug("Failed to read server operation limits", e);
+                    return UNKNOWN;
+                });
+    }
+
+    int getReadItemCount(final int configuredItemCount) {
+        return limit(configuredItemCount, this.maxNodesPerRead);
+    }
+
+    int getWriteItemCount(final int configuredItemCount) {
+        return limit(configuredItemCount, this.maxNodesPerWrite);
+    }
+
+    int getMonitoredItemCount(final int configuredItemCount) {
+        return limit(configuredItemCount, this.maxMonitoredItemsPerCall);
+    }
+
+    private static int limit(final int configuredItemCount, final long serverLimit) {
+        if (serverLimit <= 0) {
+            return configuredItemCount;
+        }
+        return (int) Math.min(configuredItemCount, serverLimit);
+    }
+
+    private static long getLimit(final DataValue[] results, final int index) {
+        if (results == null || results.length <= index || results[index] == null
+                || results[index].getValue() == null) {
+            return 0;
+        }
+
+        final Object value = results[index].getValue().getValue();
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return 0;
+    }
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2018, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -72,7 +72,8 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
             new ContentFilter(null));
 
     private final OpcUaClient client;
-    private final OpcUaOptions options;
+    private final double publishInterval;
+    private final int maxItemsPerRequest;
     private final ListenerRegistrationRegistry registrations;
     private final AsyncTaskQueue queue;
     private final ExtensionObject defaultEventFilterObject;
@@ -82,10 +83,12 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
 
     private State state;
 
-    public SubscriptionManager(final OpcUaOptions options, final OpcUaClient client, final AsyncTaskQueue queue,
+    public SubscriptionManager(final OpcUaOptions options, final OperationLimits operationLimits,
+            final double publishInterval, final OpcUaClient client, final AsyncTaskQueue queue,
             final ListenerRegistrationRegistry registrations) {
         this.queue = queue;
-        this.options = options;
+        this.publishInterval = publishInterval;
+        this.maxItemsPerRequest = operationLimits.getMonitoredItemCount(options.getMaxItemCountPerRequest());
         this.client = client;
         this.registrations = registrations;
         this.defaultEventFilterObject = ExtensionObject.encode(client.getStaticSerializationContext(),
@@ -104,6 +107,9 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
 
     @Override
     public synchronized void onSubscriptionTransferFailed(UaSubscription subscription, StatusCode statusCode) {
+        if (!(this.state instanceof Subscribed) || ((Subscribed) this.state).subscription != subscription) {
+            return;
+        }
         logger.debug("Subscription transfer failed");
         this.state = new Unsubscribed();
         onRegistrationsChanged();
@@ -219,7 +225,7 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
             if (!requests.isEmpty()) {
                 final ArrayList<CompletableFuture<?>> tasks = new ArrayList<>();
 
-                splitInMultipleRequests(SubscriptionManager.this.options.getMaxItemCountPerRequest(), requests.size(),
+                splitInMultipleRequests(SubscriptionManager.this.maxItemsPerRequest, requests.size(),
                         (start, end) -> tasks.add(createMonitoredItems(subscription, requests.subList(start, end),
                                 handlers.subList(start, end))));
 
@@ -261,7 +267,7 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
             if (!requests.isEmpty()) {
                 final ArrayList<CompletableFuture<?>> tasks = new ArrayList<>();
 
-                splitInMultipleRequests(SubscriptionManager.this.options.getMaxItemCountPerRequest(), requests.size(),
+                splitInMultipleRequests(SubscriptionManager.this.maxItemsPerRequest, requests.size(),
                         (start, end) -> tasks.add(subscription.deleteMonitoredItems(requests.subList(start, end))));
 
                 return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[tasks.size()]));
@@ -286,9 +292,10 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
             logger.debug("Subscribing...");
 
             return SubscriptionManager.this.client.getSubscriptionManager() //
-                    .createSubscription(SubscriptionManager.this.options.getSubsciptionPublishInterval()) //
+                    .createSubscription(SubscriptionManager.this.publishInterval) //
                     .thenAccept(subscription -> {
-                        logger.debug("Subscribing...done, max notifications per publish: {}",
+                        logger.debug("Subscribing...done, publish interval: {}, max notifications per publish: {}",
+                                subscription.getRevisedPublishingInterval(),
                                 subscription.getMaxNotificationsPerPublish());
                         synchronized (SubscriptionManager.this) {
                             SubscriptionManager.this.state = new Subscribed(subscription);
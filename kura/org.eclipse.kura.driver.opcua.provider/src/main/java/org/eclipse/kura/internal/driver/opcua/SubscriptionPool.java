@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.driver.opcua;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.kura.channel.listener.ChannelListener;
+import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
+import org.eclipse.kura.internal.driver.opcua.request.ListenRequest;
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+
+/**
+ * Distributes the monitored items described by a {@link ListenerRegistrationRegistry} among a small number of shared
+ * subscriptions, grouping them by sampling interval. The subscription with index {@code i} has a publish interval
+ * equal to {@code publishInterval * 2^i}, where {@code publishInterval} is the configured subscription publish
+ * interval, and contains the items whose sampling interval is at least as long as its publish interval but shorter
+ * than the publish interval of the next one. Each subscription is managed by a dedicated {@link SubscriptionManager}.
+ */
+public class SubscriptionPool implements ListenerRegistrationRegistry.Listener {
+
+    private final OpcUaOptions options;
+    private final OperationLimits operationLimits;
+    private final OpcUaClient client;
+    private final AsyncTaskQueue queue;
+    private final ListenerRegistrationRegistry registrations;
+
+    private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+
+    public SubscriptionPool(final OpcUaOptions options, final OperationLimits operationLimits,
+            final OpcUaClient client, final AsyncTaskQueue queue, final ListenerRegistrationRegistry registrations) {
+        this.options = options;
+        this.operationLimits = operationLimits;
+        this.client = client;
+        this.queue = queue;
+        this.registrations = registrations;
+
+        synchronized (registrations) {
+            registrations.addRegistrationItemListener(this);
+            registrations.getRegisteredListeners().values().stream().flatMap(Collection::stream)
+                    .forEach(this::onListenerRegistered);
+        }
+    }
+
+    public synchronized void start() {
+        for (final Bucket bucket : this.buckets.values()) {
+            bucket.subscriptionManager.onRegistrationsChanged();
+        }
+    }
+
+    public CompletableFuture<Void> close() {
+        this.registrations.removeRegistrationItemListener(this);
+
+        final List<CompletableFuture<Void>> closeFutures = new ArrayList<>();
+
+        synchronized (this) {
+            for (final Bucket bucket : this.buckets.values()) {
+                closeFutures.add(bucket.subscriptionManager.close());
+            }
+        }
+
+        return CompletableFuture.allOf(closeFutures.toArray(new CompletableFuture<?>[closeFutures.size()]));
+    }
+
+    @Override
+    public void onRegistrationsChanged() {
+        // no need, the bucket registries notify their subscription managers
+    }
+
+    @Override
+    public synchronized void onListenerRegistered(final ListenRequest request) {
+        final long publishInterval = getPublishInterval(request.getParameters());
+
+        Bucket bucket = this.buckets.get(publishInterval);
+
+        if (bucket == null) {
+            bucket = new Bucket(publishInterval);
+            this.buckets.put(publishInterval, bucket);
+        }
+
+        bucket.registrations.registerListener(request);
+    }
+
+    @Override
+    public synchronized void onListenerUnregistered(final ChannelListener listener) {
+        for (final Bucket bucket : this.buckets.values()) {
+            bucket.registrations.unregisterListener(listener);
+        }
+    }
+
+    private long getPublishInterval(final ListenParams params) {
+        final long basePublishInterval = Math.max(1, this.options.getSubsciptionPublishInterval());
+
+        if (AttributeId.EventNotifier.uid().equals(params.getReadValueId().getAttributeId())) {
+            return basePublishInterval;
+        }
+
+        final double samplingInterval = params.getSamplingInterval();
+        final int maxIndex = this.options.getMaxSubscriptionCount() - 1;
+
+        int index = 0;
+
+        while (index < maxIndex && samplingInterval >= basePublishInterval * (2L << index)) {
+            index++;
+        }
+
+        return basePublishInterval << index;
+    }
+
+    private class Bucket {
+
+        private final ListenerRegistrationRegistry registrations = new ListenerRegistrationRegistry();
+        private final SubscriptionManager subscriptionManager;
+
+        Bucket(final long publishInterval) {
+            this.subscriptionManager = new SubscriptionManager(SubscriptionPool.this.options,
+                    SubscriptionPool.this.operationLimits, publishInterval, SubscriptionPool.this.client,
+                    SubscriptionPool.this.queue, this.registrations);
+        }
+    }
+}
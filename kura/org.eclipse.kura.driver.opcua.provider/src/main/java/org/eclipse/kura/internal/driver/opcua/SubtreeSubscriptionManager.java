@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2019, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -44,19 +44,20 @@ public class SubtreeSubscriptionManager implements ListenerRegistrationRegistry.
     private final ListenerRegistrationRegistry registrations;
     private final ListenerRegistrationRegistry subtreeRegistrations;
 
-    private final SubscriptionManager subscriptionManager;
+    private final SubscriptionPool subscriptionPool;
 
     private final ChannelNameFormat channelNameFormat;
 
     private final Set<PendingVisit> pendingVisits = new CopyOnWriteArraySet<>();
     private boolean isClosed;
 
-    public SubtreeSubscriptionManager(final OpcUaOptions options, final OpcUaClient client, final AsyncTaskQueue queue,
-            final ListenerRegistrationRegistry registrations) {
+    public SubtreeSubscriptionManager(final OpcUaOptions options, final OperationLimits operationLimits,
+            final OpcUaClient client, final AsyncTaskQueue queue, final ListenerRegistrationRegistry registrations) {
         this.client = client;
         this.registrations = registrations;
         this.subtreeRegistrations = new ListenerRegistrationRegistry();
-        this.subscriptionManager = new SubscriptionManager(options, client, queue, this.subtreeRegistrations);
+        this.subscriptionPool = new SubscriptionPool(options, operationLimits, client, queue,
+                this.subtreeRegistrations);
         this.channelNameFormat = options.getSubtreeSubscriptionChannelNameFormat();
 
         synchronized (this) {
@@ -140,7 +141,7 @@ public class SubtreeSubscriptionManager implements ListenerRegistrationRegistry.
         this.pendingVisits.clear();
 
         return CompletableFuture.allOf(visitFutures.toArray(new CompletableFuture<?>[visitFutures.size()])) //
-                .thenCompose(ok -> this.subscriptionManager.close());
+                .thenCompose(ok -> this.subscriptionPool.close());
     }
 
     private synchronized void removeVisit(final TreeVisit visit) {
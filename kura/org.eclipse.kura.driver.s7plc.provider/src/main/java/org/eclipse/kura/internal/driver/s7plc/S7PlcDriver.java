@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.kura.crypto.CryptoService;
 import org.eclipse.kura.driver.ChannelDescriptor;
 import org.eclipse.kura.driver.block.BlockFactory;
 import org.eclipse.kura.driver.block.task.AbstractBlockDriver;
+import org.eclipse.kura.driver.block.task.AdaptiveGapSizeEstimator;
 import org.eclipse.kura.driver.block.task.BlockTask;
 import org.eclipse.kura.driver.block.task.Mode;
 import org.eclipse.kura.driver.block.task.ToplevelBlockTask;
@@ -59,8 +60,12 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
 
     private static final Logger logger = LoggerFactory.getLogger(S7PlcDriver.class);
 
+    // 18 bytes of the PDU are used by the read response header
+    private static final int READ_RESPONSE_HEADER_SIZE = 18;
+
     private S7ClientState state = new S7ClientState(new S7PlcOptions(Collections.emptyMap()));
     private final AtomicReference<S7PlcOptions> options = new AtomicReference<>();
+    private final AdaptiveGapSizeEstimator gapSizeEstimator = new AdaptiveGapSizeEstimator(0);
 
     private CryptoService cryptoService;
 
@@ -121,6 +126,7 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
                 logger.info("configuration changed, disconnecting...");
                 disconnect();
                 this.state = createClientState(currentOptions);
+                this.gapSizeEstimator.reset(currentOptions.getMinimumGapSize());
                 logger.info("configuration changed, disconnecting...Done");
             }
 
@@ -135,6 +141,8 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
                 if (currentOptions.shouldAuthenticate()) {
                     authenticate(this.state);
                 }
+                this.gapSizeEstimator
+                        .setMaximumRequestSize(this.state.client.PDULength() - READ_RESPONSE_HEADER_SIZE);
                 logger.debug("Connecting to S7 PLC... Done");
             }
         } catch (Exception e) {
@@ -153,7 +161,19 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
 
     @Override
     protected int getReadMinimumGapSizeForDomain(S7PlcDomain domain) {
-        return this.options.get().getMinimumGapSize();
+        final S7PlcOptions currentOptions = this.options.get();
+        if (currentOptions.isAdaptiveGapSizeEnabled()) {
+            return this.gapSizeEstimator.getMinimumGapSize();
+        }
+        return currentOptions.getMinimumGapSize();
+    }
+
+    @Override
+    protected long getAggregationRevision() {
+        if (this.options.get().isAdaptiveGapSizeEnabled()) {
+            return this.gapSizeEstimator.getRevision();
+        }
+        return 0;
     }
 
     @Override
@@ -207,7 +227,11 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
     }
 
     public synchronized void read(int db, int offset, byte[] data) throws IOException {
+        final long start = System.nanoTime();
         int result = this.state.client.ReadArea(S7.S7AreaDB, db, offset, data.length, data);
+        if (result == 0 && this.state.options.isAdaptiveGapSizeEnabled()) {
+            this.gapSizeEstimator.addSample(data.length, System.nanoTime() - start);
+        }
         if (result != 0) {
             throw new Moka7Exception("DB: " + db + " off: " + offset + " len: " + data.length + " status: " + result,
                     result);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,31 +12,65 @@
  *******************************************************************************/
 package org.eclipse.kura.log.filesystem.provider;
 
-import java.io.EOFException;
-import java.io.File;
-import java.io.FileNotFoundException;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.kura.KuraErrorCode;
+import org.eclipse.kura.KuraException;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.log.LogEntry;
 import org.eclipse.kura.log.LogProvider;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistory;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryIndex;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryPage;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryQuery;
 import org.eclipse.kura.log.listener.LogListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class FilesystemLogProvider implements ConfigurableComponent, LogProvider {
+public class FilesystemLogProvider implements ConfigurableComponent, LogProvider, LogHistory {
 
     private static final Logger logger = LoggerFactory.getLogger(FilesystemLogProvider.class);
     public static final String LOG_FILEPATH_PROP_KEY = "logFilePath";
+    public static final String HISTORY_ENABLED_PROP_KEY = "history.enabled";
+    public static final String HISTORY_DIRECTORY_PROP_KEY = "history.directory";
+    public static final String HISTORY_CAPACITY_PROP_KEY = "history.capacity";
+
+    private static final String DEFAULT_HISTORY_DIRECTORY = "/tmp";
+    private static final long DEFAULT_HISTORY_CAPACITY = 8L * 1024 * 1024;
+    private static final String HISTORY_FILE_SUFFIX = ".history";
 
-    private final List<LogListener> registeredListeners = new LinkedList<>();
+    private final List<LogListener> registeredListeners = new CopyOnWriteArrayList<>();
     private FileLogReader readerThread;
     private String filePath;
+    private volatile LogHistoryIndex history;
 
     protected void activate(Map<String, Object> properties) {
         logger.info("Activating FilesystemLogProvider...");
@@ -49,6 +83,7 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
         if (this.readerThread != null) {
             this.readerThread.interrupt();
         }
+        closeHistory();
         logger.info("Deactivating FilesystemLogProvider... Done.");
     }
 
@@ -58,11 +93,66 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
             this.readerThread.interrupt();
         }
         this.filePath = (String) properties.get(LOG_FILEPATH_PROP_KEY);
-        this.readerThread = new FileLogReader(this.filePath);
+        closeHistory();
+        this.history = openHistory(properties);
+        this.readerThread = new FileLogReader(this.filePath, this.history);
         this.readerThread.start();
         logger.info("Updated FilesystemLogProvider... Done.");
     }
 
+    private LogHistoryIndex openHistory(Map<String, Object> properties) {
+        if (!Boolean.TRUE.equals(properties.get(HISTORY_ENABLED_PROP_KEY))) {
+            return null;
+        }
+
+        final Object directory = properties.getOrDefault(HISTORY_DIRECTORY_PROP_KEY, DEFAULT_HISTORY_DIRECTORY);
+        final Object capacity = properties.getOrDefault(HISTORY_CAPACITY_PROP_KEY, DEFAULT_HISTORY_CAPACITY);
+
+        try {
+            final Path historyDirectory = Paths.get(directory.toString());
+            Files.createDirectories(historyDirectory);
+
+            return new LogHistoryIndex(
+                    historyDirectory.resolve(Paths.get(this.filePath).getFileName() + HISTORY_FILE_SUFFIX),
+                    ((Number) capacity).longValue(), this.filePath);
+        } catch (Exception e) {
+            logger.error("Failed to create log history for '{}'.", this.filePath, e);
+            return null;
+        }
+    }
+
+    private void closeHistory() {
+        if (this.history == null) {
+            return;
+        }
+        try {
+            this.history.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close log history.", e);
+        }
+        this.history = null;
+    }
+
+    @Override
+    public boolean isHistoryEnabled() {
+        return this.history != null;
+    }
+
+    @Override
+    public LogHistoryPage queryHistory(LogHistoryQuery query) throws KuraException {
+        final LogHistoryIndex currentHistory = this.history;
+
+        if (currentHistory == null) {
+            throw new KuraException(KuraErrorCode.OPERATION_NOT_SUPPORTED, "log history");
+        }
+
+        try {
+            return currentHistory.query(query);
+        } catch (IOException e) {
+            throw new KuraException(KuraErrorCode.IO_ERROR, e);
+        }
+    }
+
     @Override
     public void registerLogListener(LogListener listener) {
         this.registeredListeners.add(listener);
@@ -73,83 +163,244 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
         this.registeredListeners.remove(listener);
     }
 
+    /**
+     * Follows the log file and notifies the registered listeners in batches.
+     *
+     * The file is read through a {@link FileChannel} into a direct buffer and decoded as UTF-8, multi-byte sequences
+     * split across two reads are handled by the decoder. The reader is woken up by a {@link WatchService} registered
+     * on the parent directory, the directory is also polled every {@link #WATCH_TIMEOUT} ms in case some event is
+     * missed or every {@link #SAMPLE_INTERVAL} ms if a watch service cannot be created.
+     *
+     * If the file becomes shorter than the current read position it is assumed to have been truncated and it is read
+     * again from the beginning. If the path starts pointing to a different file (e.g. after a rotation) the remaining
+     * content of the old file is consumed before switching to the new one.
+     *
+     * If a {@link LogHistoryIndex} is provided, each batch is also added to it.
+     */
     class FileLogReader extends Thread {
 
         private static final long SAMPLE_INTERVAL = 100;
-        private final File logFile;
-        private boolean follow = true;
+        private static final long WATCH_TIMEOUT = 1000;
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private static final int MAX_BATCH_SIZE = 500;
+
+        private final Path logFile;
+        private final LogHistoryIndex history;
+        private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        private final StringBuilder currentLine = new StringBuilder();
+        private final StringBuilder stacktrace = new StringBuilder();
+        private final List<LogEntry> batch = new ArrayList<>();
+        private String message;
 
-        public FileLogReader(String filePath) {
-            this.logFile = new File(filePath);
-            this.follow = true;
+        private FileChannel channel;
+        private Object fileKey;
+
+        public FileLogReader(String filePath, LogHistoryIndex history) {
+            this.logFile = Paths.get(filePath).toAbsolutePath();
+            this.history = history;
         }
 
         @Override
         public void run() {
-            try (RandomAccessFile file = new RandomAccessFile(this.logFile, "r")) {
-                while (this.follow) {
-                    readLinesAndNotifyListeners(file);
-                    sleep(SAMPLE_INTERVAL);
+            try (WatchService watchService = createWatchService()) {
+                open();
+                while (!isInterrupted()) {
+                    readAvailableEntries();
+                    awaitChanges(watchService);
                 }
-            } catch (FileNotFoundException fnf) {
-                logger.error("File '{}' not found.", this.logFile.getPath());
-            } catch (InterruptedException ie) {
+            } catch (NoSuchFileException | AccessDeniedException e) {
+                logger.error("File '{}' not found or not readable.", this.logFile);
+            } catch (InterruptedException | ClosedByInterruptException ie) {
                 // nothing to do
             } catch (Exception e) {
                 logger.error("Unexpected exception in FilesystemLogProvider.", e);
             } finally {
+                closeChannel();
                 Thread.currentThread().interrupt();
             }
         }
 
-        private void readLinesAndNotifyListeners(RandomAccessFile file) throws IOException {
-            Optional<String> line = readUntilNewLine(file);
+        private WatchService createWatchService() {
+            final Path directory = this.logFile.getParent();
+
+            if (directory == null) {
+                return null;
+            }
+
+            WatchService watchService = null;
+            try {
+                watchService = directory.getFileSystem().newWatchService();
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                return watchService;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.debug("Unable to watch directory '{}', falling back to polling.", directory, e);
+                closeWatchService(watchService);
+                return null;
+            }
+        }
+
+        private void closeWatchService(WatchService watchService) {
+            if (watchService == null) {
+                return;
+            }
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close watch service.", e);
+            }
+        }
+
+        private void awaitChanges(WatchService watchService) throws InterruptedException {
+            if (watchService == null) {
+                sleep(SAMPLE_INTERVAL);
+                return;
+            }
+
+            WatchKey key = watchService.poll(WATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+
+            while (key != null) {
+                key.pollEvents();
+                key.reset();
+                key = watchService.poll();
+            }
+        }
+
+        private void open() throws IOException {
+            this.channel = FileChannel.open(this.logFile, StandardOpenOption.READ);
+            this.fileKey = getFileKey();
+            resetDecoder();
+        }
+
+        private boolean reopen() throws IOException {
+            try {
+                open();
+                return true;
+            } catch (NoSuchFileException e) {
+                // the new file has not been created yet, retry at next wake-up
+                return false;
+            }
+        }
+
+        private void closeChannel() {
+            if (this.channel == null) {
+                return;
+            }
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close '{}'.", this.logFile, e);
+            }
+            this.channel = null;
+        }
+
+        private Object getFileKey() {
+            try {
+                return Files.readAttributes(this.logFile, BasicFileAttributes.class).fileKey();
+            } catch (IOException e) {
+                return null;
+            }
+        }
 
-            if (line.isPresent()) {
-                String stacktrace = readStacktrace(file);
-                notifyListeners(line.get(), stacktrace);
+        private boolean isRotated() {
+            if (this.fileKey == null) {
+                return false;
             }
+            final Object currentKey = getFileKey();
+            return currentKey != null && !Objects.equals(this.fileKey, currentKey);
         }
 
-        private Optional<String> readUntilNewLine(RandomAccessFile file) throws IOException {
-            StringBuilder resultLine = new StringBuilder();
-            long pointerToLastSuccessfulRead = file.getFilePointer();
+        private void readAvailableEntries() throws IOException {
+            if (this.channel == null && !reopen()) {
+                return;
+            }
+
+            final boolean rotated = isRotated();
+
+            if (this.channel.size() < this.channel.position()) {
+                logger.debug("File '{}' truncated, reading from the beginning.", this.logFile);
+                this.channel.position(0);
+                resetDecoder();
+            }
 
-            if (pointerToLastSuccessfulRead < file.length()) {
-                char newChar = 0;
+            readUntilEndOfFile();
 
+            if (rotated) {
+                logger.debug("File '{}' rotated, reopening.", this.logFile);
+                flushPendingEntry();
+                closeChannel();
+                if (!reopen()) {
+                    return;
+                }
+                readUntilEndOfFile();
+            }
+
+            flushPendingEntry();
+            notifyListeners();
+        }
+
+        private void readUntilEndOfFile() throws IOException {
+            while (this.channel.read(this.byteBuffer) > 0) {
+                this.byteBuffer.flip();
+
+                CoderResult result;
                 do {
-                    try {
-                        newChar = (char) file.readByte();
-                        resultLine.append(newChar);
-                        pointerToLastSuccessfulRead = file.getFilePointer();
-                    } catch (EOFException eof) {
-                        file.seek(pointerToLastSuccessfulRead);
-                    }
-                } while (newChar != '\n');
+                    result = this.decoder.decode(this.byteBuffer, this.charBuffer, false);
+                    this.charBuffer.flip();
+                    splitLines();
+                    this.charBuffer.clear();
+                } while (result.isOverflow());
 
-                return Optional.of(resultLine.toString());
-            } else {
-                return Optional.empty();
+                this.byteBuffer.compact();
             }
         }
 
-        private String readStacktrace(RandomAccessFile file) throws IOException {
-            StringBuilder stacktrace = new StringBuilder();
-            long lastReadPosition = file.getFilePointer();
+        private void splitLines() {
+            while (this.charBuffer.hasRemaining()) {
+                final char c = this.charBuffer.get();
+                this.currentLine.append(c);
 
-            Optional<String> maybeStacktrace = readUntilNewLine(file);
+                if (c == '\n') {
+                    processLine(this.currentLine.toString());
+                    this.currentLine.setLength(0);
+                }
+            }
+        }
 
-            while (maybeStacktrace.isPresent() && isStacktrace(maybeStacktrace.get())) {
-                stacktrace.append(maybeStacktrace.get());
-                stacktrace.append("\n");
-                lastReadPosition = file.getFilePointer();
-                maybeStacktrace = readUntilNewLine(file);
+        private void processLine(String line) {
+            if (this.message != null && isStacktrace(line)) {
+                this.stacktrace.append(line);
+                return;
             }
 
-            file.seek(lastReadPosition);
+            flushPendingEntry();
+            this.message = line;
+        }
+
+        private void flushPendingEntry() {
+            if (this.message == null) {
+                return;
+            }
 
-            return stacktrace.toString().trim();
+            this.batch.add(new KuraLogLineParser(this.message, FilesystemLogProvider.this.filePath,
+                    this.stacktrace.toString().trim()).createLogEntry());
+            this.message = null;
+            this.stacktrace.setLength(0);
+
+            if (this.batch.size() >= MAX_BATCH_SIZE) {
+                notifyListeners();
+            }
+        }
+
+        private void resetDecoder() {
+            this.decoder.reset();
+            this.byteBuffer.clear();
+            this.currentLine.setLength(0);
+            this.message = null;
+            this.stacktrace.setLength(0);
         }
 
         private boolean isStacktrace(String line) {
@@ -161,14 +412,25 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
             return line.length() > 4 && !line.substring(0, 4).matches("\\d{4}") && !line.startsWith("<");
         }
 
-        private synchronized void notifyListeners(String message, String stacktrace) {
-            if (message != null) {
-                for (LogListener listener : FilesystemLogProvider.this.registeredListeners) {
-                    LogEntry entry = new KuraLogLineParser(message, FilesystemLogProvider.this.filePath, stacktrace)
-                            .createLogEntry();
-                    listener.newLogEntry(entry);
+        private void notifyListeners() {
+            if (this.batch.isEmpty() || isInterrupted()) {
+                return;
+            }
+
+            final List<LogEntry> entries = Collections.unmodifiableList(new ArrayList<>(this.batch));
+            this.batch.clear();
+
+            if (this.history != null) {
+                try {
+                    this.history.append(entries);
+                } catch (IOException e) {
+                    logger.warn("Failed to update log history.", e);
                 }
             }
+
+            for (LogListener listener : FilesystemLogProvider.this.registeredListeners) {
+                listener.newLogEntries(entries);
+            }
         }
     }
 
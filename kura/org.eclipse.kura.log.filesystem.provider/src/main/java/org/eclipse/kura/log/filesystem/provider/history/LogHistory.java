@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.history;
+
+import org.eclipse.kura.KuraException;
+
+/**
+ * Provides access to the history of the entries read by a log provider.
+ */
+public interface LogHistory {
+
+    /**
+     * Returns whether the history is enabled for this log provider.
+     */
+    public boolean isHistoryEnabled();
+
+    /**
+     * Returns the entries matching the provided query.
+     *
+     * @throws KuraException
+     *             if the history is not enabled or cannot be read
+     */
+    public LogHistoryPage queryHistory(LogHistoryQuery query) throws KuraException;
+}
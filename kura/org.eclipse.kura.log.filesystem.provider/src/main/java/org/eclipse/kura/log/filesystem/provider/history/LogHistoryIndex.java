@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.kura.log.LogEntry;
+
+/**
+ * <p>
+ * Stores a bounded history of {@link LogEntry} instances.
+ * </p>
+ *
+ * <p>
+ * The entries are serialized in a file used as a ring buffer of {@code capacity} bytes, when the file is full the
+ * oldest entries are overwritten. The timestamp, level and logger of each entry, together with its position in the
+ * file, are kept in memory in a set of primitive arrays, levels and loggers are stored as indexes in a dictionary.
+ * Queries are evaluated on the in-memory index and only the matching entries are read from the file.
+ * </p>
+ *
+ * <p>
+ * The logger of an entry is the word preceding the {@code " - "} separator at the beginning of the message, as
+ * produced by the Kura log layout, or the syslog identifier if the message does not have this format.
+ * </p>
+ *
+ * <p>
+ * The content of the file is not preserved across restarts, the history is rebuilt by the log provider while reading
+ * the log file. This class is thread safe.
+ * </p>
+ */
+public class LogHistoryIndex implements Closeable {
+
+    private static final String PID = "_PID";
+    private static final String MESSAGE = "MESSAGE";
+    private static final String PRIORITY = "PRIORITY";
+    private static final String SYSLOG_IDENTIFIER = "SYSLOG_IDENTIFIER";
+    private static final String TRANSPORT = "_TRANSPORT";
+    private static final String STACKTRACE = "STACKTRACE";
+
+    private static final String LOGGER_SEPARATOR = " - ";
+    private static final int INITIAL_INDEX_SIZE = 1024;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final long MIN_CAPACITY = 4096;
+
+    private final FileChannel channel;
+    private final long capacity;
+    private final int maxRecordSize;
+    private final String source;
+
+    private final Dictionary levels = new Dictionary();
+    private final Dictionary loggers = new Dictionary();
+
+    private long[] timestamps = new long[INITIAL_INDEX_SIZE];
+    private long[] maxTimestamps = new long[INITIAL_INDEX_SIZE];
+    private long[] offsets = new long[INITIAL_INDEX_SIZE];
+    private int[] lengths = new int[INITIAL_INDEX_SIZE];
+    private int[] levelIds = new int[INITIAL_INDEX_SIZE];
+    private int[] loggerIds = new int[INITIAL_INDEX_SIZE];
+
+    private int head;
+    private int size;
+    private long firstSequence;
+    private long endOffset;
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    private final RecordBuffer record = new RecordBuffer();
+    private final RecordBuffer batch = new RecordBuffer();
+    private boolean closed;
+
+    /**
+     * Creates a new instance, the content of the file, if any, is discarded.
+     *
+     * @param file
+     *            the file to be used for storing the entries
+     * @param capacity
+     *            the maximum size of the file in bytes
+     * @param source
+     *            the value of the {@code _TRANSPORT} property of the returned entries
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    public LogHistoryIndex(Path file, long capacity, String source) throws IOException {
+        if (capacity < MIN_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be at least " + MIN_CAPACITY + " bytes");
+        }
+        this.capacity = capacity;
+        this.maxRecordSize = (int) Math.min(MAX_RECORD_SIZE, capacity / 4);
+        this.source = source;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends the provided entries to the history, evicting the oldest entries if needed.
+     *
+     * @param entries
+     *            the entries to be added
+     * @throws IOException
+     *             if writing to the file fails
+     */
+    public synchronized void append(List<LogEntry> entries) throws IOException {
+        if (this.closed || entries.isEmpty()) {
+            return;
+        }
+
+        final long batchStart = this.endOffset;
+        this.batch.clear();
+
+        for (final LogEntry entry : entries) {
+            encode(entry);
+
+            evict(this.endOffset + this.record.length - this.capacity);
+            addToIndex(entry, this.endOffset, this.record.length);
+
+            this.endOffset += this.record.length;
+            this.batch.write(this.record.data, 0, this.record.length);
+        }
+
+        write(batchStart, this.batch.data, this.batch.length);
+    }
+
+    /**
+     * Returns the entries matching the provided query, starting from the most recent one.
+     *
+     * @param query
+     *            the query
+     * @return the matching entries
+     * @throws IOException
+     *             if reading from the file fails
+     */
+    public synchronized LogHistoryPage query(LogHistoryQuery query) throws IOException {
+        if (this.closed) {
+            throw new IOException("History is closed");
+        }
+
+        final Set<String> levelNames = query.getLevels();
+        final String loggerPrefix = query.getLoggerPrefix();
+
+        final boolean[] levelMask = this.levels.match(l -> levelNames.isEmpty() || levelNames.contains(l));
+        final boolean[] loggerMask = this.loggers.match(l -> loggerPrefix == null || l.startsWith(loggerPrefix));
+
+        final long lastSequence = Math.min(query.getBefore(), this.firstSequence + this.size) - 1;
+        final int mask = this.timestamps.length - 1;
+        final List<Integer> matches = new ArrayList<>();
+
+        for (long i = lastSequence - this.firstSequence; i >= 0 && matches.size() < query.getLimit(); i--) {
+            final int slot = (int) (this.head + i) & mask;
+
+            if (this.maxTimestamps[slot] < query.getSince()) {
+                // all previous entries are older
+                break;
+            }
+
+            final long timestamp = this.timestamps[slot];
+
+            if (timestamp >= query.getSince() && timestamp <= query.getUntil() && levelMask[this.levelIds[slot]]
+                    && loggerMask[this.loggerIds[slot]]) {
+                matches.add((int) i);
+            }
+        }
+
+        final List<LogEntry> result = new ArrayList<>(matches.size());
+
+        for (final int i : matches) {
+            result.add(read((this.head + i) & mask));
+        }
+
+        final long nextCursor = matches.size() == query.getLimit() && matches.get(matches.size() - 1) > 0
+                ? this.firstSequence + matches.get(matches.size() - 1)
+                : -1;
+
+        return new LogHistoryPage(result, nextCursor);
+    }
+
+    /**
+     * Returns the number of entries currently stored.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.closed = true;
+        this.channel.close();
+    }
+
+    private void encode(final LogEntry entry) {
+        final Map<String, Object> properties = entry.getProperties();
+
+        String message = getString(properties, MESSAGE);
+        String stacktrace = getString(properties, STACKTRACE);
+
+        while (true) {
+            this.record.clear();
+            this.record.writeLong(entry.getTimestamp());
+            this.record.writeString(getString(properties, PID));
+            this.record.writeString(getString(properties, PRIORITY));
+            this.record.writeString(getString(properties, SYSLOG_IDENTIFIER));
+            this.record.writeString(message);
+            this.record.writeString(stacktrace);
+
+            final int overflow = this.record.length - this.maxRecordSize;
+
+            if (overflow <= 0 || message.isEmpty() && stacktrace.isEmpty()) {
+                return;
+            }
+
+            if (!stacktrace.isEmpty()) {
+                stacktrace = stacktrace.substring(0, Math.max(0, stacktrace.length() - overflow));
+            } else {
+                message = message.substring(0, Math.max(0, message.length() - overflow));
+            }
+        }
+    }
+
+    private LogEntry read(final int slot) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(this.lengths[slot]);
+        final long position = this.offsets[slot] % this.capacity;
+        final int firstChunk = (int) Math.min(buffer.capacity(), this.capacity - position);
+
+        buffer.limit(firstChunk);
+        readFully(buffer, position);
+        buffer.limit(buffer.capacity());
+        readFully(buffer, 0);
+        buffer.flip();
+
+        final long timestamp = buffer.getLong();
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(PID, readString(buffer));
+        properties.put(PRIORITY, readString(buffer));
+        properties.put(SYSLOG_IDENTIFIER, readString(buffer));
+        properties.put(MESSAGE, readString(buffer));
+        properties.put(STACKTRACE, readString(buffer));
+        properties.put(TRANSPORT, this.source);
+
+        return new LogEntry(properties, timestamp);
+    }
+
+    private void readFully(final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = this.channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of history file");
+            }
+            position += read;
+        }
+    }
+
+    private void write(long offset, final byte[] data, final int length) throws IOException {
+        int start = 0;
+
+        if (length > this.capacity) {
+            // only the last part of the batch fits in the file
+            start = (int) (length - this.capacity);
+            offset += start;
+        }
+
+        while (start < length) {
+            final long position = offset % this.capacity;
+            final int chunk = (int) Math.min(length - start, this.capacity - position);
+            final ByteBuffer buffer = ByteBuffer.wrap(data, start, chunk);
+
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer, position + buffer.position() - start);
+            }
+
+            start += chunk;
+            offset += chunk;
+        }
+    }
+
+    private void evict(final long minOffset) {
+        while (this.size > 0 && this.offsets[this.head] < minOffset) {
+            this.head = (this.head + 1) & (this.timestamps.length - 1);
+            this.size--;
+            this.firstSequence++;
+        }
+    }
+
+    private void addToIndex(final LogEntry entry, final long offset, final int length) {
+        if (this.size == this.timestamps.length) {
+            grow();
+        }
+
+        final Map<String, Object> properties = entry.getProperties();
+        final int slot = (this.head + this.size) & (this.timestamps.length - 1);
+
+        this.maxTimestamp = Math.max(this.maxTimestamp, entry.getTimestamp());
+
+        this.timestamps[slot] = entry.getTimestamp();
+        this.maxTimestamps[slot] = this.maxTimestamp;
+        this.offsets[slot] = offset;
+        this.lengths[slot] = length;
+        this.levelIds[slot] = this.levels.getId(getString(properties, PRIORITY).trim());
+        this.loggerIds[slot] = this.loggers.getId(getLogger(properties));
+        this.size++;
+    }
+
+    private void grow() {
+        final int newLength = this.timestamps.length * 2;
+
+        this.timestamps = unwrap(this.timestamps, newLength);
+        this.maxTimestamps = unwrap(this.maxTimestamps, newLength);
+        this.offsets = unwrap(this.offsets, newLength);
+        this.lengths = unwrap(this.lengths, newLength);
+        this.levelIds = unwrap(this.levelIds, newLength);
+        this.loggerIds = unwrap(this.loggerIds, newLength);
+        this.head = 0;
+    }
+
+    private long[] unwrap(final long[] array, final int newLength) {
+        final long[] result = new long[newLength];
+        final int firstChunk = array.length - this.head;
+        System.arraycopy(array, this.head, result, 0, firstChunk);
+        System.arraycopy(array, 0, result, firstChunk, this.head);
+        return result;
+    }
+
+    private int[] unwrap(final int[] array, final int newLength) {
+        final int[] result = new int[newLength];
+        final int firstChunk = array.length - this.head;
+        System.arraycopy(array, this.head, result, 0, firstChunk);
+        System.arraycopy(array, 0, result, firstChunk, this.head);
+        return result;
+    }
+
+    private static String getLogger(final Map<String, Object> properties) {
+        final String message = getString(properties, MESSAGE);
+        final int separator = message.indexOf(LOGGER_SEPARATOR);
+
+        if (separator > 0 && message.lastIndexOf(' ', separator - 1) < 0) {
+            return message.substring(0, separator);
+        }
+
+        return getString(properties, SYSLOG_IDENTIFIER);
+    }
+
+    private static String getString(final Map<String, Object> properties, final String key) {
+        final Object value = properties.get(key);
+        return value == null ? "" : value.toString();
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            b = buffer.get();
+            length |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        final String result = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return result;
+    }
+
+    private static class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int getId(final String name) {
+            return this.ids.computeIfAbsent(name, n -> {
+                this.names.add(n);
+                return this.names.size() - 1;
+            });
+        }
+
+        boolean[] match(final Predicate<String> predicate) {
+            final boolean[] result = new boolean[this.names.size()];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = predicate.test(this.names.get(i));
+            }
+
+            return result;
+        }
+    }
+
+    private static class RecordBuffer {
+
+        private byte[] data = new byte[1024];
+        private int length;
+
+        void clear() {
+            this.length = 0;
+        }
+
+        void writeLong(final long value) {
+            ensureCapacity(Long.BYTES);
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                this.data[this.length++] = (byte) (value >>> (i * 8));
+            }
+        }
+
+        void writeString(final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int remaining = bytes.length;
+
+            ensureCapacity(5 + bytes.length);
+
+            while ((remaining & ~0x7f) != 0) {
+                this.data[this.length++] = (byte) ((remaining & 0x7f) | 0x80);
+                remaining >>>= 7;
+            }
+            this.data[this.length++] = (byte) remaining;
+
+            write(bytes, 0, bytes.length);
+        }
+
+        void write(final byte[] bytes, final int offset, final int count) {
+            ensureCapacity(count);
+            System.arraycopy(bytes, offset, this.data, this.length, count);
+            this.length += count;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (this.length + additional > this.data.length) {
+                this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.length + additional));
+            }
+        }
+    }
+}
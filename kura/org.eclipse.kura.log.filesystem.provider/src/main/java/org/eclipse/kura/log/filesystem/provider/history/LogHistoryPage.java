@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.history;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.kura.log.LogEntry;
+
+/**
+ * A page of results returned by a {@link LogHistory} query, entries are sorted from the most recent to the oldest.
+ */
+public class LogHistoryPage {
+
+    private final List<LogEntry> entries;
+    private final long nextCursor;
+
+    public LogHistoryPage(List<LogEntry> entries, long nextCursor) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<LogEntry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Returns the value to be passed to {@link LogHistoryQuery#setBefore(long)} to retrieve the next page, or -1 if
+     * there are no more entries.
+     */
+    public long getNextCursor() {
+        return this.nextCursor;
+    }
+}
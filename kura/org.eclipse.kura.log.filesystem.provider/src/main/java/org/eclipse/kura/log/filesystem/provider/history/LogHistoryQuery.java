@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.history;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes a query on a {@link LogHistory}. Entries are returned starting from the most recent one, the
+ * {@link LogHistoryPage#getNextCursor()} value of a page can be used as {@code before} parameter to fetch the next
+ * page.
+ *
+ * Timestamps are expressed in the same unit used by {@link org.eclipse.kura.log.LogEntry#getTimestamp()}.
+ */
+public class LogHistoryQuery {
+
+    private long since = Long.MIN_VALUE;
+    private long until = Long.MAX_VALUE;
+    private long before = Long.MAX_VALUE;
+    private Set<String> levels = Collections.emptySet();
+    private String loggerPrefix;
+    private int limit = 100;
+
+    /**
+     * Only return entries with timestamp greater or equal than the provided value.
+     */
+    public LogHistoryQuery setSince(long since) {
+        this.since = since;
+        return this;
+    }
+
+    /**
+     * Only return entries with timestamp less or equal than the provided value.
+     */
+    public LogHistoryQuery setUntil(long until) {
+        this.until = until;
+        return this;
+    }
+
+    /**
+     * Only return entries with a sequence number lower than the provided value.
+     */
+    public LogHistoryQuery setBefore(long before) {
+        this.before = before;
+        return this;
+    }
+
+    /**
+     * Only return entries whose level is one of the provided ones, an empty set matches all levels.
+     */
+    public LogHistoryQuery setLevels(Set<String> levels) {
+        this.levels = levels == null ? Collections.emptySet() : new HashSet<>(levels);
+        return this;
+    }
+
+    /**
+     * Only return entries whose logger name starts with the provided prefix, {@code null} matches all loggers.
+     */
+    public LogHistoryQuery setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of entries to be returned.
+     */
+    public LogHistoryQuery setLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public long getSince() {
+        return this.since;
+    }
+
+    public long getUntil() {
+        return this.until;
+    }
+
+    public long getBefore() {
+        return this.before;
+    }
+
+    public Set<String> getLevels() {
+        return Collections.unmodifiableSet(this.levels);
+    }
+
+    public String getLoggerPrefix() {
+        return this.loggerPrefix;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+}
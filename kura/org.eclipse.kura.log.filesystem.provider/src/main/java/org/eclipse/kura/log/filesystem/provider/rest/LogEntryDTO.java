@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.rest;
+
+import java.util.Map;
+
+import org.eclipse.kura.log.LogEntry;
+
+public class LogEntryDTO {
+
+    @SuppressWarnings("unused")
+    private final long timestamp;
+    @SuppressWarnings("unused")
+    private final Map<String, Object> properties;
+
+    public LogEntryDTO(final LogEntry entry) {
+        this.timestamp = entry.getTimestamp();
+        this.properties = entry.getProperties();
+    }
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.rest;
+
+import java.util.List;
+
+public class LogHistoryPageDTO {
+
+    @SuppressWarnings("unused")
+    private final List<LogEntryDTO> entries;
+    @SuppressWarnings("unused")
+    private final Long nextCursor;
+
+    public LogHistoryPageDTO(final List<LogEntryDTO> entries, final long nextCursor) {
+        this.entries = entries;
+        this.nextCursor = nextCursor >= 0 ? nextCursor : null;
+    }
+}
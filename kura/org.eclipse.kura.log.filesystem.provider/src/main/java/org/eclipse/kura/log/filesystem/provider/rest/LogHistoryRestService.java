@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.rest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.security.RolesAllowed;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistory;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryPage;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryQuery;
+import org.osgi.service.useradmin.Role;
+import org.osgi.service.useradmin.UserAdmin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/log/v1")
+public class LogHistoryRestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogHistoryRestService.class);
+
+    private static final String REST_ROLE_NAME = "log";
+    private static final String KURA_PERMISSION_REST_ROLE = "kura.permission.rest." + REST_ROLE_NAME;
+    private static final int MAX_LIMIT = 1000;
+
+    private final Map<String, LogHistory> histories = new ConcurrentHashMap<>();
+
+    public void setUserAdmin(final UserAdmin userAdmin) {
+        userAdmin.createRole(KURA_PERMISSION_REST_ROLE, Role.GROUP);
+    }
+
+    public void setLogHistory(final LogHistory history, final Map<String, Object> properties) {
+        final Object pid = properties.get(ConfigurationService.KURA_SERVICE_PID);
+
+        if (pid != null) {
+            this.histories.put(pid.toString(), history);
+        }
+    }
+
+    public void unsetLogHistory(final LogHistory history, final Map<String, Object> properties) {
+        final Object pid = properties.get(ConfigurationService.KURA_SERVICE_PID);
+
+        if (pid != null) {
+            this.histories.remove(pid.toString(), history);
+        }
+    }
+
+    @GET
+    @RolesAllowed(REST_ROLE_NAME)
+    @Path("/history")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<String> listLogHistories() {
+        return this.histories.entrySet().stream().filter(e -> e.getValue().isHistoryEnabled()).map(Map.Entry::getKey)
+                .sorted().collect(Collectors.toList());
+    }
+
+    @GET
+    @RolesAllowed(REST_ROLE_NAME)
+    @Path("/history/{pid}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public LogHistoryPageDTO getLogHistory(@PathParam("pid") final String pid,
+            @QueryParam("since") final Long since, @QueryParam("until") final Long until,
+            @QueryParam("level") final List<String> levels, @QueryParam("logger") final String loggerPrefix,
+            @QueryParam("before") final Long before, @QueryParam("limit") @DefaultValue("100") final int limit) {
+
+        final LogHistory history = this.histories.get(pid);
+
+        if (history == null || !history.isHistoryEnabled()) {
+            throw new WebApplicationException(Status.NOT_FOUND);
+        }
+
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new WebApplicationException(Status.BAD_REQUEST);
+        }
+
+        final LogHistoryQuery query = new LogHistoryQuery().setLimit(limit).setLoggerPrefix(loggerPrefix);
+
+        if (since != null) {
+            query.setSince(since);
+        }
+        if (until != null) {
+            query.setUntil(until);
+        }
+        if (before != null) {
+            query.setBefore(before);
+        }
+        if (levels != null) {
+            query.setLevels(new HashSet<>(levels));
+        }
+
+        try {
+            final LogHistoryPage page = history.queryHistory(query);
+            final List<LogEntryDTO> entries = new ArrayList<>(page.getEntries().size());
+            page.getEntries().forEach(e -> entries.add(new LogEntryDTO(e)));
+
+            return new LogHistoryPageDTO(entries, page.getNextCursor());
+        } catch (final KuraException e) {
+            logger.warn("Failed to query log history {}", pid, e);
+            throw new WebApplicationException(e);
+        }
+    }
+}
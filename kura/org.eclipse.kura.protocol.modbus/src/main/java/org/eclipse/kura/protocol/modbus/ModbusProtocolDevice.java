@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
@@ -189,6 +190,15 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
      * <td>port</td>
      * <td>port on the field device to connect to</td>
      * </tr>
+     * <tr>
+     * <td>connectionPoolSize</td>
+     * <td>TCP/IP only, number of connections opened to the field device (default 1)</td>
+     * </tr>
+     * <tr>
+     * <td>maxTransactionsInFlight</td>
+     * <td>TCP/IP only, maximum number of transactions sent on a connection without waiting for their responses
+     * (default 1). Values greater than 1 require a field device supporting pipelined requests.</td>
+     * </tr>
      * </table>
      */
     @Override
@@ -288,6 +298,14 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
         abstract public int getConnectStatus();
 
         abstract public byte[] msgTransaction(byte[] msg) throws ModbusProtocolException;
+
+        public List<byte[]> msgTransactions(List<byte[]> msgs) throws ModbusProtocolException {
+            List<byte[]> result = new ArrayList<>(msgs.size());
+            for (byte[] msg : msgs) {
+                result.add(msgTransaction(msg));
+            }
+            return result;
+        }
     }
 
     /**
@@ -637,7 +655,8 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
     }
 
     /**
-     * Installation of an ethernet connection to communicate
+     * Installation of an ethernet connection to communicate. Modbus TCP/IP transactions are handled by a
+     * {@link ModbusTcpTransactionEngine}, RTU over TCP/IP uses the socket streams directly.
      */
     private final class EthernetCommunicate extends Communicate {
 
@@ -648,6 +667,7 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
         String ipAddress;
         String connType;
         boolean connected = false;
+        ModbusTcpTransactionEngine engine;
 
         public EthernetCommunicate(ConnectionFactory connFactory, Properties connectionConfig)
                 throws ModbusProtocolException {
@@ -661,13 +681,36 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
             }
             this.port = Integer.valueOf(sPort).intValue();
             ModbusProtocolDevice.this.connConfigd = true;
-            this.socket = new Socket();
+
+            if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)) {
+                int poolSize;
+                int maxInFlight;
+                try {
+                    poolSize = Integer.parseInt(connectionConfig.getProperty("connectionPoolSize", "1"));
+                    maxInFlight = Integer.parseInt(connectionConfig.getProperty("maxTransactionsInFlight", "1"));
+                } catch (NumberFormatException e) {
+                    throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
+                }
+                if (poolSize < 1 || maxInFlight < 1) {
+                    throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
+                }
+                this.engine = new ModbusTcpTransactionEngine(this.ipAddress, this.port,
+                        ModbusProtocolDevice.this.respTout, poolSize, maxInFlight);
+            } else {
+                this.socket = new Socket();
+            }
         }
 
         @Override
         public void connect() {
             if (!ModbusProtocolDevice.this.connConfigd) {
                 logger.error("Can't connect, port not configured");
+            } else if (this.engine != null) {
+                try {
+                    this.engine.connect();
+                } catch (IOException e) {
+                    logger.error("Failed to connect to remote: " + e);
+                }
             } else {
                 if (!this.connected) {
                     try {
@@ -693,6 +736,10 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
 
         @Override
         public void disconnect() {
+            if (this.engine != null) {
+                this.engine.close();
+                return;
+            }
             if (this.socket == null) {
                 return;
             }
@@ -719,7 +766,7 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
 
         @Override
         public int getConnectStatus() {
-            if (this.connected) {
+            if (this.engine != null ? this.engine.isConnected() : this.connected) {
                 return KuraConnectionStatus.CONNECTED;
             } else if (ModbusProtocolDevice.this.connConfigd) {
                 return KuraConnectionStatus.DISCONNECTED;
@@ -728,8 +775,20 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
             }
         }
 
+        @Override
+        public List<byte[]> msgTransactions(List<byte[]> msgs) throws ModbusProtocolException {
+            if (this.engine != null) {
+                return this.engine.transact(msgs);
+            }
+            return super.msgTransactions(msgs);
+        }
+
         @Override
         public byte[] msgTransaction(byte[] msg) throws ModbusProtocolException {
+            if (this.engine != null) {
+                return this.engine.transact(msg);
+            }
+
             byte[] cmd = null;
 
             // ---------------------------------------------- Send Message
@@ -1094,81 +1153,91 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
             throw new ModbusProtocolException(ModbusProtocolErrorCode.NOT_CONNECTED);
         }
 
-        int[] ret = new int[count];
-        int index = 0;
-
-        byte[] resp;
-        /*
-         * construct the command issue and get results, putting the results
-         * away at index and then incrementing index for the next command
-         */
-        byte[] cmd = new byte[6];
-        cmd[0] = (byte) unitAddr;
-        cmd[1] = (byte) ModbusFunctionCodes.READ_HOLDING_REGS;
-        cmd[2] = (byte) (dataAddress / 256);
-        cmd[3] = (byte) (dataAddress % 256);
-        cmd[4] = 0;
-        cmd[5] = (byte) count;
-
         /*
          * send the message and get the response
          */
-        resp = this.comm.msgTransaction(cmd);
+        byte[] resp = this.comm
+                .msgTransaction(buildReadRegistersCommand(unitAddr, ModbusFunctionCodes.READ_HOLDING_REGS,
+                        dataAddress, count));
 
-        /*
-         * process the response (address & CRC already confirmed)
-         */
-        if (resp.length < 3 || resp.length < (resp[2] & 0xff) + 3) {
-            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_TYPE);
-        }
-        if ((resp[2] & 0xff) == count * 2) {
-            int byteOffset = 3;
-            for (int j = 0; j < count; j++, index++) {
-                int val = resp[byteOffset + ModbusDataOrder.MODBUS_WORD_ORDER_BIG_ENDIAN.charAt(0) - '1'] & 0xff;
-                val <<= 8;
-                val += resp[byteOffset + ModbusDataOrder.MODBUS_WORD_ORDER_BIG_ENDIAN.charAt(1) - '1'] & 0xff;
+        return parseRegisters(resp, count);
+    }
 
-                ret[index] = val;
+    @Override
+    public int[][] readHoldingRegisters(int unitAddr, int[] dataAddresses, int[] counts)
+            throws ModbusProtocolException {
+        return readRegisterBlocks(unitAddr, ModbusFunctionCodes.READ_HOLDING_REGS, dataAddresses, counts);
+    }
 
-                byteOffset += 2;
-            }
-        } else {
-            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_ADDRESS);
+    @Override
+    public int[] readInputRegisters(int unitAddr, int dataAddress, int count) throws ModbusProtocolException {
+
+        if (!this.connConfigd) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.NOT_CONNECTED);
         }
-        return ret;
+
+        /*
+         * send the message and get the response
+         */
+        byte[] resp = this.comm.msgTransaction(
+                buildReadRegistersCommand(unitAddr, ModbusFunctionCodes.READ_INPUT_REGS, dataAddress, count));
+
+        return parseRegisters(resp, count);
     }
 
     @Override
-    public int[] readInputRegisters(int unitAddr, int dataAddress, int count) throws ModbusProtocolException {
+    public int[][] readInputRegisters(int unitAddr, int[] dataAddresses, int[] counts)
+            throws ModbusProtocolException {
+        return readRegisterBlocks(unitAddr, ModbusFunctionCodes.READ_INPUT_REGS, dataAddresses, counts);
+    }
 
+    private int[][] readRegisterBlocks(int unitAddr, int functionCode, int[] dataAddresses, int[] counts)
+            throws ModbusProtocolException {
         if (!this.connConfigd) {
             throw new ModbusProtocolException(ModbusProtocolErrorCode.NOT_CONNECTED);
         }
+        if (dataAddresses.length != counts.length) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_LENGTH);
+        }
 
-        int[] ret = new int[count];
-        int index = 0;
+        List<byte[]> cmds = new ArrayList<>(dataAddresses.length);
+        for (int i = 0; i < dataAddresses.length; i++) {
+            cmds.add(buildReadRegistersCommand(unitAddr, functionCode, dataAddresses[i], counts[i]));
+        }
 
-        byte[] resp;
         /*
-         * construct the command issue and get results, putting the results
-         * away at index and then incrementing index for the next command
+         * send the messages and get the responses, Modbus TCP connections can keep several of them in flight
          */
+        List<byte[]> resps = this.comm.msgTransactions(cmds);
+
+        int[][] ret = new int[dataAddresses.length][];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = parseRegisters(resps.get(i), counts[i]);
+        }
+        return ret;
+    }
+
+    /*
+     * construct a read holding or input registers command
+     */
+    private static byte[] buildReadRegistersCommand(int unitAddr, int functionCode, int dataAddress, int count) {
         byte[] cmd = new byte[6];
         cmd[0] = (byte) unitAddr;
-        cmd[1] = (byte) ModbusFunctionCodes.READ_INPUT_REGS;
+        cmd[1] = (byte) functionCode;
         cmd[2] = (byte) (dataAddress / 256);
         cmd[3] = (byte) (dataAddress % 256);
         cmd[4] = 0;
         cmd[5] = (byte) count;
+        return cmd;
+    }
 
-        /*
-         * send the message and get the response
-         */
-        resp = this.comm.msgTransaction(cmd);
+    /*
+     * process the response (address & CRC already confirmed)
+     */
+    private static int[] parseRegisters(byte[] resp, int count) throws ModbusProtocolException {
+        int[] ret = new int[count];
+        int index = 0;
 
-        /*
-         * process the response (address & CRC already confirmed)
-         */
         if (resp.length < 3 || resp.length < (resp[2] & 0xff) + 3) {
             throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_TYPE);
         }
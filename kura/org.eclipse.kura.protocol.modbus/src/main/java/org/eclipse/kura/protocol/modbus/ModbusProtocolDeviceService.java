@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -111,6 +111,9 @@ public interface ModbusProtocolDeviceService {
      *            <ul>
      *            <li>port : TCP port to be used
      *            <li>ipAddress : the 4 bytes IP address of the field device (xxx.xxx.xxx.xxx)
+     *            <li>connectionPoolSize : TCP/IP only, number of connections opened to the field device (default 1)
+     *            <li>maxTransactionsInFlight : TCP/IP only, maximum number of requests sent on a connection without
+     *            waiting for their responses (default 1)
      *            </ul>
      *            <br>
      *            Modbus properties :
@@ -305,6 +308,76 @@ public interface ModbusProtocolDeviceService {
      */
     public int[] readInputRegisters(int unitAddr, int dataAddress, int count) throws ModbusProtocolException;
 
+    /**
+     * <b>Modbus function 03</b><br>
+     * Read contents of several blocks of holding registers from the attached field device. On Modbus TCP/IP
+     * connections the requests can be kept in flight at the same time, depending on the
+     * <code>maxTransactionsInFlight</code> and <code>connectionPoolSize</code> connection properties.
+     * <p>
+     *
+     * @param unitAddr
+     *            modbus slave address (must be unique in the range 1 - 247)
+     * @param dataAddresses
+     *            starting address of each block
+     * @param counts
+     *            quantity of registers of each block (maximum 0x7D)
+     * @return for each block, an array of int representing the requested data points (data registers on 2 bytes).
+     * @throws ModbusProtocolException
+     *             with a {@link ModbusProtocolErrorCode#NOT_CONNECTED}
+     *             current connection is in a status other than <b>CONNECTED</b>
+     * @throws ModbusProtocolException
+     *             with a {@link ModbusProtocolErrorCode#TRANSACTION_FAILURE}
+     *             should include a protocol specific message to help clarify
+     *             the cause of the exception
+     * @since 1.1
+     */
+    public default int[][] readHoldingRegisters(int unitAddr, int[] dataAddresses, int[] counts)
+            throws ModbusProtocolException {
+        if (dataAddresses.length != counts.length) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_LENGTH);
+        }
+        int[][] result = new int[dataAddresses.length][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readHoldingRegisters(unitAddr, dataAddresses[i], counts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * <b>Modbus function 04</b><br>
+     * Read contents of several blocks of input registers from the attached field device. On Modbus TCP/IP
+     * connections the requests can be kept in flight at the same time, depending on the
+     * <code>maxTransactionsInFlight</code> and <code>connectionPoolSize</code> connection properties.
+     * <p>
+     *
+     * @param unitAddr
+     *            modbus slave address (must be unique in the range 1 - 247)
+     * @param dataAddresses
+     *            starting address of each block
+     * @param counts
+     *            quantity of registers of each block (maximum 0x7D)
+     * @return for each block, an array of int representing the requested data points (data registers on 2 bytes).
+     * @throws ModbusProtocolException
+     *             with a {@link ModbusProtocolErrorCode#NOT_CONNECTED}
+     *             current connection is in a status other than <b>CONNECTED</b>
+     * @throws ModbusProtocolException
+     *             with a {@link ModbusProtocolErrorCode#TRANSACTION_FAILURE}
+     *             should include a protocol specific message to help clarify
+     *             the cause of the exception
+     * @since 1.1
+     */
+    public default int[][] readInputRegisters(int unitAddr, int[] dataAddresses, int[] counts)
+            throws ModbusProtocolException {
+        if (dataAddresses.length != counts.length) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_LENGTH);
+        }
+        int[][] result = new int[dataAddresses.length][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readInputRegisters(unitAddr, dataAddresses[i], counts[i]);
+        }
+        return result;
+    }
+
     /**
      * <b>Modbus function 06</b><br>
      * write a single holding register in the attached field device.
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.modbus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Modbus TCP transaction engine. Requests are sent over a pool of connections to the same slave, each connection
+ * keeping up to a configurable number of transactions in flight. Responses are read as whole MBAP frames by a reader
+ * thread per connection and matched to their request by transaction identifier.
+ */
+final class ModbusTcpTransactionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModbusTcpTransactionEngine.class);
+
+    private static final int MBAP_HEADER_LENGTH = 6;
+    private static final int MAX_ADU_LENGTH = 260;
+
+    private final InetSocketAddress address;
+    private final int timeout;
+    private final int maxInFlight;
+    private final Connection[] pool;
+    private final AtomicInteger nextTransactionId = new AtomicInteger();
+    private final AtomicInteger nextConnection = new AtomicInteger();
+    private final ScheduledExecutorService timeoutExecutor;
+
+    private volatile boolean closed = false;
+
+    ModbusTcpTransactionEngine(String host, int port, int timeout, int poolSize, int maxInFlight) {
+        this.address = new InetSocketAddress(host, port);
+        this.timeout = timeout;
+        this.maxInFlight = Math.max(1, Math.min(maxInFlight, 0xffff));
+        this.pool = new Connection[Math.max(1, poolSize)];
+        for (int i = 0; i < this.pool.length; i++) {
+            this.pool[i] = new Connection(i);
+        }
+        this.timeoutExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ModbusTcpTimeout-" + host + ":" + port);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens all the pooled connections that are not already open.
+     */
+    void connect() throws IOException {
+        for (Connection connection : this.pool) {
+            connection.open();
+        }
+    }
+
+    boolean isConnected() {
+        for (Connection connection : this.pool) {
+            if (connection.isOpen()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void close() {
+        this.closed = true;
+        for (Connection connection : this.pool) {
+            connection.close(new IOException("Connection closed"));
+        }
+        this.timeoutExecutor.shutdownNow();
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     *
+     * @param msg
+     *            the request PDU prefixed with the unit identifier
+     * @return the response PDU prefixed with the unit identifier
+     */
+    byte[] transact(byte[] msg) throws ModbusProtocolException {
+        return checkResponse(msg, await(submit(msg)));
+    }
+
+    /**
+     * Sends all the requests without waiting for the previous responses, as allowed by the in flight limit of the
+     * pooled connections, and then waits for all the responses.
+     *
+     * @return the responses, in the same order as the requests
+     */
+    List<byte[]> transact(List<byte[]> msgs) throws ModbusProtocolException {
+        final List<CompletableFuture<byte[]>> futures = new ArrayList<>(msgs.size());
+        for (byte[] msg : msgs) {
+            futures.add(submit(msg));
+        }
+
+        final List<byte[]> result = new ArrayList<>(msgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            result.add(checkResponse(msgs.get(i), await(futures.get(i))));
+        }
+        return result;
+    }
+
+    CompletableFuture<byte[]> submit(byte[] msg) throws ModbusProtocolException {
+        if (this.closed) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.NOT_CONNECTED);
+        }
+        if (msg.length > MAX_ADU_LENGTH - MBAP_HEADER_LENGTH) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_DATA_LENGTH);
+        }
+
+        return selectConnection().submit(msg);
+    }
+
+    private Connection selectConnection() {
+        final int start = (this.nextConnection.getAndIncrement() & Integer.MAX_VALUE) % this.pool.length;
+
+        Connection selected = this.pool[start];
+        for (int i = 1; i < this.pool.length; i++) {
+            Connection candidate = this.pool[(start + i) % this.pool.length];
+            if (candidate.pending.size() < selected.pending.size()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) throws ModbusProtocolException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Thread interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ModbusProtocolException) {
+                throw (ModbusProtocolException) e.getCause();
+            }
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, e.getCause().getMessage());
+        }
+    }
+
+    private static byte[] checkResponse(byte[] msg, byte[] response) throws ModbusProtocolException {
+        if (response[0] != msg[0]) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "incorrect modbus id " + String.format("%02X", response[0]));
+        }
+        if ((response[1] & 0x7f) != msg[1]) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "incorrect function number " + String.format("%02X", response[1]));
+        }
+        if ((response[1] & 0x80) == 0x80) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "Modbus responds an error = " + String.format("%02X", response.length > 2 ? response[2] : 0));
+        }
+        return response;
+    }
+
+    private static final class Transaction {
+
+        private final int id;
+        private final byte[] msg;
+        private final SocketChannel channel;
+        private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeoutTask;
+
+        Transaction(int id, byte[] msg, SocketChannel channel) {
+            this.id = id;
+            this.msg = msg;
+            this.channel = channel;
+        }
+    }
+
+    private final class Connection implements Runnable {
+
+        private final int index;
+        private final Map<Integer, Transaction> pending = new ConcurrentHashMap<>();
+        private final Semaphore permits = new Semaphore(ModbusTcpTransactionEngine.this.maxInFlight);
+        private final ByteBuffer writeBuffer = ByteBuffer.allocate(MAX_ADU_LENGTH);
+
+        private volatile SocketChannel channel;
+
+        Connection(int index) {
+            this.index = index;
+        }
+
+        boolean isOpen() {
+            SocketChannel current = this.channel;
+            return current != null && current.isOpen();
+        }
+
+        synchronized SocketChannel open() throws IOException {
+            if (isOpen()) {
+                return this.channel;
+            }
+
+            final SocketChannel newChannel = SocketChannel.open();
+            try {
+                newChannel.socket().connect(ModbusTcpTransactionEngine.this.address,
+                        ModbusTcpTransactionEngine.this.timeout);
+                newChannel.socket().setTcpNoDelay(true);
+            } catch (IOException e) {
+                newChannel.close();
+                throw e;
+            }
+
+            this.channel = newChannel;
+
+            final Thread reader = new Thread(this,
+                    "ModbusTcpReader-" + ModbusTcpTransactionEngine.this.address + "-" + this.index);
+            reader.setDaemon(true);
+            reader.start();
+
+            logger.info("TCP connected");
+            return newChannel;
+        }
+
+        CompletableFuture<byte[]> submit(byte[] msg) throws ModbusProtocolException {
+            try {
+                if (!this.permits.tryAcquire(ModbusTcpTransactionEngine.this.timeout, TimeUnit.MILLISECONDS)) {
+                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                            "Too many transactions in flight");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Thread interrupted");
+            }
+
+            final Transaction transaction;
+            try {
+                transaction = register(msg, open());
+            } catch (IOException | RuntimeException e) {
+                this.permits.release();
+                logger.error("Failed to connect to remote: " + e);
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                        "Cannot transact on closed socket");
+            }
+
+            // from now on completing the future releases the permit and unregisters the transaction
+            try {
+                transaction.timeoutTask = ModbusTcpTransactionEngine.this.timeoutExecutor.schedule(
+                        () -> onTimeout(transaction), ModbusTcpTransactionEngine.this.timeout, TimeUnit.MILLISECONDS);
+                send(transaction);
+            } catch (IOException e) {
+                logger.error("Socket disconnect in send: " + e);
+                close(transaction.channel, e);
+                transaction.future.completeExceptionally(new ModbusProtocolException(
+                        ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Send failure: " + e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.error("Failed to submit transaction: " + e);
+                transaction.future.completeExceptionally(new ModbusProtocolException(
+                        ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Submit failure: " + e.getMessage()));
+            }
+
+            return transaction.future;
+        }
+
+        private Transaction register(byte[] msg, SocketChannel currentChannel) {
+            while (true) {
+                final int id = ModbusTcpTransactionEngine.this.nextTransactionId.getAndIncrement() & 0xffff;
+                final Transaction transaction = new Transaction(id, msg, currentChannel);
+
+                if (this.pending.putIfAbsent(id, transaction) == null) {
+                    transaction.future.whenComplete((response, error) -> {
+                        this.pending.remove(id, transaction);
+                        this.permits.release();
+                        ScheduledFuture<?> timeoutTask = transaction.timeoutTask;
+                        if (timeoutTask != null) {
+                            timeoutTask.cancel(false);
+                        }
+                    });
+                    return transaction;
+                }
+            }
+        }
+
+        private void send(Transaction transaction) throws IOException {
+            synchronized (this.writeBuffer) {
+                this.writeBuffer.clear();
+                this.writeBuffer.putShort((short) transaction.id);
+                this.writeBuffer.putShort((short) 0);
+                this.writeBuffer.putShort((short) transaction.msg.length);
+                this.writeBuffer.put(transaction.msg);
+                this.writeBuffer.flip();
+
+                while (this.writeBuffer.hasRemaining()) {
+                    transaction.channel.write(this.writeBuffer);
+                }
+            }
+        }
+
+        private void onTimeout(Transaction transaction) {
+            if (transaction.future.isDone()) {
+                return;
+            }
+
+            logger.warn("Recv timeout");
+
+            transaction.future.completeExceptionally(
+                    new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Recv timeout"));
+
+            if (ModbusTcpTransactionEngine.this.maxInFlight == 1) {
+                // a late response could otherwise be taken as the response to the next transaction
+                close(transaction.channel, new IOException("Recv timeout"));
+            }
+        }
+
+        @Override
+        public void run() {
+            final SocketChannel currentChannel = this.channel;
+            final ByteBuffer buffer = ByteBuffer.allocate(MAX_ADU_LENGTH * 4);
+
+            try {
+                while (true) {
+                    if (currentChannel.read(buffer) < 0) {
+                        throw new EOFException("Connection closed by remote");
+                    }
+                    buffer.flip();
+
+                    while (buffer.remaining() >= MBAP_HEADER_LENGTH) {
+                        final int start = buffer.position();
+                        final int protocolId = buffer.getShort(start + 2) & 0xffff;
+                        final int length = buffer.getShort(start + 4) & 0xffff;
+
+                        if (protocolId != 0 || length < 2 || length > MAX_ADU_LENGTH - MBAP_HEADER_LENGTH) {
+                            throw new IOException("Invalid MBAP header");
+                        }
+                        if (buffer.remaining() < MBAP_HEADER_LENGTH + length) {
+                            break;
+                        }
+
+                        final int id = buffer.getShort(start) & 0xffff;
+                        final byte[] response = new byte[length];
+                        buffer.position(start + MBAP_HEADER_LENGTH);
+                        buffer.get(response);
+
+                        dispatch(id, response);
+                    }
+
+                    buffer.compact();
+                }
+            } catch (IOException e) {
+                if (!ModbusTcpTransactionEngine.this.closed && currentChannel.isOpen()) {
+                    logger.error("Socket disconnect in recv: " + e);
+                }
+                close(currentChannel, e);
+            }
+        }
+
+        private void dispatch(int id, byte[] response) {
+            Transaction transaction = this.pending.get(id);
+
+            if (transaction == null && ModbusTcpTransactionEngine.this.maxInFlight == 1 && this.pending.size() == 1) {
+                // some devices do not echo the transaction identifier, accept the response for the only pending
+                // transaction
+                logger.debug("Unexpected transaction id {}, matching the pending transaction", id);
+                transaction = this.pending.values().iterator().next();
+            }
+
+            if (transaction == null) {
+                logger.debug("Discarding response for unknown transaction id {}", id);
+                return;
+            }
+
+            transaction.future.complete(response);
+        }
+
+        void close(IOException cause) {
+            SocketChannel current = this.channel;
+            if (current != null) {
+                close(current, cause);
+            }
+        }
+
+        private void close(SocketChannel closingChannel, IOException cause) {
+            synchronized (this) {
+                if (this.channel == closingChannel) {
+                    this.channel = null;
+                }
+            }
+
+            try {
+                closingChannel.close();
+            } catch (IOException e) {
+                logger.error("Error closing TCP: " + e);
+            }
+
+            for (Transaction transaction : this.pending.values()) {
+                if (transaction.channel == closingChannel) {
+                    transaction.future.completeExceptionally(new ModbusProtocolException(
+                            ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Recv failure: " + cause.getMessage()));
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +75,8 @@ import org.eclipse.kura.rest.configuration.api.PidSet;
 import org.eclipse.kura.rest.configuration.api.PropertyDTO;
 import org.eclipse.kura.rest.wire.api.DriverDescriptorDTO;
 import org.eclipse.kura.rest.wire.api.WireComponentDefinitionDTO;
+import org.eclipse.kura.rest.wire.api.WireComponentMetricsDTO;
+import org.eclipse.kura.rest.wire.api.WireComponentMetricsList;
 import org.eclipse.kura.rest.wire.api.WireGraphMetadata;
 import org.eclipse.kura.util.service.ServiceUtil;
 import org.eclipse.kura.wire.WireComponent;
@@ -82,7 +85,9 @@ import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.graph.WireComponentConfiguration;
 import org.eclipse.kura.wire.graph.WireComponentDefinition;
 import org.eclipse.kura.wire.graph.WireComponentDefinitionService;
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
 import org.eclipse.kura.wire.graph.WireGraphConfiguration;
+import org.eclipse.kura.wire.graph.WireGraphMetricsService;
 import org.eclipse.kura.wire.graph.WireGraphService;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
@@ -122,6 +127,7 @@ public class WireRestService {
             WireComponent.class, WireEmitter.class, WireReceiver.class };
 
     private WireGraphService wireGraphService;
+    private WireGraphMetricsService wireGraphMetricsService;
     private Marshaller jsonMarshaller;
     private Unmarshaller jsonUnmarshaller;
     private CryptoService cryptoService;
@@ -137,6 +143,10 @@ public class WireRestService {
         this.wireGraphService = wireGraphService;
     }
 
+    public void setWireGraphMetricsService(final WireGraphMetricsService wireGraphMetricsService) {
+        this.wireGraphMetricsService = wireGraphMetricsService;
+    }
+
     public void setConfigurationService(final ConfigurationService configurationService) {
         this.configurationService = configurationService;
     }
@@ -345,6 +355,48 @@ public class WireRestService {
         }
     }
 
+    @GET
+    @RolesAllowed(WIRES_ADMIN_ROLE)
+    @Path("/metrics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public WireComponentMetricsList getWireComponentMetrics() {
+        try {
+            return toWireComponentMetricsList(this.wireGraphMetricsService.getWireComponentMetrics().stream());
+        } catch (final Exception e) {
+            throw DefaultExceptionHandler.toWebApplicationException(e);
+        }
+    }
+
+    @POST
+    @RolesAllowed(WIRES_ADMIN_ROLE)
+    @Path("/metrics/byPid")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public WireComponentMetricsList getWireComponentMetricsByPid(final PidSet pidSet) {
+        pidSet.validate();
+
+        try {
+            return toWireComponentMetricsList(pidSet.getPids().stream()
+                    .map(this.wireGraphMetricsService::getWireComponentMetrics).filter(Optional::isPresent)
+                    .map(Optional::get));
+        } catch (final Exception e) {
+            throw DefaultExceptionHandler.toWebApplicationException(e);
+        }
+    }
+
+    @POST
+    @RolesAllowed(WIRES_ADMIN_ROLE)
+    @Path("/metrics/reset")
+    public Response resetWireComponentMetrics() {
+        try {
+            this.wireGraphMetricsService.resetWireComponentMetrics();
+        } catch (final Exception e) {
+            throw DefaultExceptionHandler.toWebApplicationException(e);
+        }
+
+        return Response.ok().build();
+    }
+
     @POST
     @RolesAllowed(WIRES_ADMIN_ROLE)
     @Path("/configs/byPid")
@@ -908,4 +960,8 @@ public class WireRestService {
         }
     }
 
+    private static WireComponentMetricsList toWireComponentMetricsList(final Stream<WireComponentMetrics> metrics) {
+        return new WireComponentMetricsList(metrics.sorted(Comparator.comparing(WireComponentMetrics::getPid))
+                .map(WireComponentMetricsDTO::new).collect(Collectors.toList()));
+    }
 }
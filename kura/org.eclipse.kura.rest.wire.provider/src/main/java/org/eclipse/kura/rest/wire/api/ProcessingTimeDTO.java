@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.rest.wire.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.kura.wire.graph.ProcessingTimeHistogram;
+
+/**
+ * Processing time statistics of a wire component. All values are expressed in microseconds.
+ */
+public class ProcessingTimeDTO {
+
+    private final long count;
+    private final double mean;
+    private final long max;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final List<BucketDTO> buckets;
+
+    public ProcessingTimeDTO(final ProcessingTimeHistogram histogram) {
+        this.count = histogram.getCount();
+        this.mean = histogram.getMean();
+        this.max = histogram.getMax();
+        this.p50 = histogram.getPercentile(50);
+        this.p90 = histogram.getPercentile(90);
+        this.p99 = histogram.getPercentile(99);
+        this.buckets = new ArrayList<>(histogram.getBucketCounts().size());
+
+        for (int i = 0; i < histogram.getBucketCounts().size(); i++) {
+            final long upperBound = histogram.getBucketUpperBounds().get(i);
+
+            this.buckets.add(new BucketDTO(upperBound == Long.MAX_VALUE ? null : upperBound,
+                    histogram.getBucketCounts().get(i)));
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public List<BucketDTO> getBuckets() {
+        return buckets;
+    }
+
+    public static class BucketDTO {
+
+        private final Long upperBound;
+        private final long count;
+
+        public BucketDTO(final Long upperBound, final long count) {
+            this.upperBound = upperBound;
+            this.count = count;
+        }
+
+        /**
+         * @return the upper bound of the bucket, or {@code null} for the last bucket, which has no upper bound
+         */
+        public Long getUpperBound() {
+            return upperBound;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
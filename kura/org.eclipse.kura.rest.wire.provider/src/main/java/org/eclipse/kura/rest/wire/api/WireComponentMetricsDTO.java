@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.rest.wire.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
+
+public class WireComponentMetricsDTO {
+
+    private final String pid;
+    private final long envelopesReceived;
+    private final long recordsReceived;
+    private final double recordsPerEnvelopeReceived;
+    private final long envelopesEmitted;
+    private final long recordsEmitted;
+    private final double recordsPerEnvelopeEmitted;
+    private final long errors;
+    private final long envelopesDropped;
+    private final int queueDepth;
+    private final ProcessingTimeDTO processingTime;
+    private final List<WireDispatchMetricsDTO> wires;
+
+    public WireComponentMetricsDTO(final WireComponentMetrics metrics) {
+        this.pid = metrics.getPid();
+        this.envelopesReceived = metrics.getEnvelopesReceived();
+        this.recordsReceived = metrics.getRecordsReceived();
+        this.recordsPerEnvelopeReceived = ratio(this.recordsReceived, this.envelopesReceived);
+        this.envelopesEmitted = metrics.getEnvelopesEmitted();
+        this.recordsEmitted = metrics.getRecordsEmitted();
+        this.recordsPerEnvelopeEmitted = ratio(this.recordsEmitted, this.envelopesEmitted);
+        this.errors = metrics.getErrors();
+        this.envelopesDropped = metrics.getEnvelopesDropped();
+        this.queueDepth = metrics.getQueueDepth();
+        this.processingTime = new ProcessingTimeDTO(metrics.getProcessingTime());
+        this.wires = metrics.getWireDispatchMetrics().stream().map(WireDispatchMetricsDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    public String getPid() {
+        return pid;
+    }
+
+    public long getEnvelopesReceived() {
+        return envelopesReceived;
+    }
+
+    public long getRecordsReceived() {
+        return recordsReceived;
+    }
+
+    public double getRecordsPerEnvelopeReceived() {
+        return recordsPerEnvelopeReceived;
+    }
+
+    public long getEnvelopesEmitted() {
+        return envelopesEmitted;
+    }
+
+    public long getRecordsEmitted() {
+        return recordsEmitted;
+    }
+
+    public double getRecordsPerEnvelopeEmitted() {
+        return recordsPerEnvelopeEmitted;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getEnvelopesDropped() {
+        return envelopesDropped;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public ProcessingTimeDTO getProcessingTime() {
+        return processingTime;
+    }
+
+    /**
+     * @return the queue depth and the number of dropped envelopes of each incoming wire, empty if the component uses
+     *         synchronous dispatch
+     */
+    public List<WireDispatchMetricsDTO> getWires() {
+        return wires;
+    }
+
+    private static double ratio(final long dividend, final long divisor) {
+        return divisor == 0 ? 0 : (double) dividend / divisor;
+    }
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.rest.wire.api;
+
+import java.util.List;
+
+public class WireComponentMetricsList {
+
+    private final List<WireComponentMetricsDTO> components;
+
+    public WireComponentMetricsList(final List<WireComponentMetricsDTO> components) {
+        this.components = components;
+    }
+
+    public List<WireComponentMetricsDTO> getComponents() {
+        return components;
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.rest.wire.api;
+
+import org.eclipse.kura.wire.graph.WireDispatchMetrics;
+
+/**
+ * Asynchronous dispatch statistics of a single wire connected to a receiver port of a wire component.
+ */
+public class WireDispatchMetricsDTO {
+
+    private final String emitterPid;
+    private final int emitterPort;
+    private final int receiverPort;
+    private final int queueDepth;
+    private final long envelopesDropped;
+
+    public WireDispatchMetricsDTO(final WireDispatchMetrics metrics) {
+        this.emitterPid = metrics.getEmitterPid();
+        this.emitterPort = metrics.getEmitterPort();
+        this.receiverPort = metrics.getReceiverPort();
+        this.queueDepth = metrics.getQueueDepth();
+        this.envelopesDropped = metrics.getEnvelopesDropped();
+    }
+
+    public String getEmitterPid() {
+        return emitterPid;
+    }
+
+    public int getEmitterPort() {
+        return emitterPort;
+    }
+
+    public int getReceiverPort() {
+        return receiverPort;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getEnvelopesDropped() {
+        return envelopesDropped;
+    }
+}
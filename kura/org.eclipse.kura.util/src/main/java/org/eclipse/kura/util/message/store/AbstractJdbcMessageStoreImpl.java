@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.kura.util.jdbc.JdbcUtil.getFirstColumnValue;
 import static org.eclipse.kura.util.jdbc.JdbcUtil.getFirstColumnValueOrEmpty;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -24,6 +25,8 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +37,7 @@ import org.eclipse.kura.message.store.StoredMessage;
 import org.eclipse.kura.message.store.provider.MessageStore;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.jdbc.SQLFunction;
+import org.eclipse.kura.util.jdbc.SQLSupplier;
 
 public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
 
@@ -106,17 +110,7 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
             try (PreparedStatement pstmt = c.prepareStatement(this.queries.getSqlStore(),
                     new String[] { "id" })) {
 
-                pstmt.setString(1, topic);
-                pstmt.setInt(2, qos);
-                pstmt.setBoolean(3, retain);
-                pstmt.setTimestamp(4, now, this.utcCalendar);
-                pstmt.setTimestamp(5, null);
-                pstmt.setInt(6, -1);
-                pstmt.setTimestamp(7, null);
-                pstmt.setBytes(8, payload);
-                pstmt.setInt(9, priority);
-                pstmt.setString(10, null);
-                pstmt.setTimestamp(11, null);
+                setStoreParameters(pstmt, now, topic, payload, qos, retain, priority);
                 pstmt.execute();
 
                 result = getFirstColumnValue(pstmt::getGeneratedKeys, ResultSet::getLong);
@@ -131,6 +125,94 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
 
     }
 
+    protected List<Long> storeAllInternal(final List<StoredMessage> messages) throws KuraStoreException {
+        for (final StoredMessage message : messages) {
+            validate(message.getTopic());
+        }
+
+        if (messages.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Timestamp now = new Timestamp(new Date().getTime());
+
+        return this.connectionProvider.withConnection(c -> withTransaction(c, () -> {
+
+            try (PreparedStatement pstmt = c.prepareStatement(this.queries.getSqlStore(), new String[] { "id" })) {
+
+                for (final StoredMessage message : messages) {
+                    setStoreParameters(pstmt, now, message.getTopic(), message.getPayload(), message.getQos(),
+                            message.isRetain(), message.getPriority());
+                    pstmt.addBatch();
+                }
+
+                pstmt.executeBatch();
+
+                return getGeneratedIds(pstmt, messages.size());
+            }
+
+        }), "Cannot store messages");
+    }
+
+    protected void setStoreParameters(final PreparedStatement pstmt, final Timestamp now, final String topic,
+            final byte[] payload, final int qos, final boolean retain, final int priority) throws SQLException {
+        pstmt.setString(1, topic);
+        pstmt.setInt(2, qos);
+        pstmt.setBoolean(3, retain);
+        pstmt.setTimestamp(4, now, this.utcCalendar);
+        pstmt.setTimestamp(5, null);
+        pstmt.setInt(6, -1);
+        pstmt.setTimestamp(7, null);
+        pstmt.setBytes(8, payload);
+        pstmt.setInt(9, priority);
+        pstmt.setString(10, null);
+        pstmt.setTimestamp(11, null);
+    }
+
+    /**
+     * Returns the identifiers generated by a batch insert. Some drivers only report the key generated by the last
+     * statement of the batch, in this case the identifiers are assumed to be consecutive, which holds for the
+     * auto-increment columns used by this class, since the inserts are performed in a single transaction.
+     */
+    protected List<Long> getGeneratedIds(final PreparedStatement pstmt, final int count) throws SQLException {
+        final List<Long> result = new ArrayList<>(count);
+
+        try (final ResultSet rs = pstmt.getGeneratedKeys()) {
+            while (rs.next()) {
+                result.add(rs.getLong(1));
+            }
+        }
+
+        if (result.size() == count) {
+            return result;
+        }
+
+        if (result.size() == 1) {
+            final long lastId = result.get(0);
+
+            result.clear();
+
+            for (long id = lastId - count + 1; id <= lastId; id++) {
+                result.add(id);
+            }
+
+            return result;
+        }
+
+        throw new SQLException("Unexpected number of generated keys: " + result.size() + ", expected: " + count);
+    }
+
+    protected List<Integer> storeEach(final List<StoredMessage> messages) throws KuraStoreException {
+        final List<Integer> result = new ArrayList<>(messages.size());
+
+        for (final StoredMessage message : messages) {
+            result.add(store(message.getTopic(), message.getPayload(), message.getQos(), message.isRetain(),
+                    message.getPriority()));
+        }
+
+        return result;
+    }
+
     @Override
     public Optional<StoredMessage> get(int msgId) throws KuraStoreException {
 
@@ -163,6 +245,69 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
                 "Cannot get message next message");
     }
 
+    @Override
+    public List<StoredMessage> getNextMessages(final int count) throws KuraStoreException {
+
+        return getNextMessages(count, rs -> buildStoredMessageBuilder(rs, true).build());
+    }
+
+    protected List<StoredMessage> getNextMessages(final int count,
+            final SQLFunction<ResultSet, StoredMessage> messageBuilder) throws KuraStoreException {
+
+        if (count <= 0) {
+            throw new IllegalArgumentException("Message count must be greater than 0");
+        }
+
+        return this.connectionProvider.withPreparedStatement(this.queries.getSqlGetNextMessages(), (c, stmt) -> {
+            stmt.setInt(1, count);
+
+            final List<StoredMessage> result = new ArrayList<>(count);
+
+            try (final ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    result.add(messageBuilder.call(rs));
+                }
+            }
+
+            return result;
+        }, "Cannot get next messages");
+    }
+
+    @Override
+    public void markAsPublished(final Map<Integer, DataTransportToken> dataTransportTokens)
+            throws KuraStoreException {
+
+        if (dataTransportTokens.isEmpty()) {
+            return;
+        }
+
+        final Timestamp now = new Timestamp(new Date().getTime());
+
+        this.connectionProvider.withConnection(c -> withTransaction(c, () -> {
+
+            try (final PreparedStatement stmt = c.prepareStatement(this.queries.getSqlSetPublishedQoS1())) {
+
+                for (final Entry<Integer, DataTransportToken> entry : dataTransportTokens.entrySet()) {
+                    stmt.setTimestamp(1, now, this.utcCalendar);
+                    stmt.setInt(2, entry.getValue().getMessageId());
+                    stmt.setString(3, entry.getValue().getSessionId());
+                    stmt.setInt(4, entry.getKey());
+                    stmt.addBatch();
+                }
+
+                stmt.executeBatch();
+            }
+
+            return null;
+
+        }), "Cannot update timestamps");
+    }
+
+    @Override
+    public void markAsPublished(final List<Integer> msgIds) throws KuraStoreException {
+        updateTimestamps(this.queries.getSqlSetPublishedQoS0(), msgIds);
+    }
+
     @Override
     public void markAsPublished(int msgId, DataTransportToken token) throws KuraStoreException {
         final Timestamp now = new Timestamp(new Date().getTime());
@@ -195,6 +340,11 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
         updateTimestamp(this.queries.getSqlSetConfirmed(), msgId);
     }
 
+    @Override
+    public void markAsConfirmed(final List<Integer> msgIds) throws KuraStoreException {
+        updateTimestamps(this.queries.getSqlSetConfirmed(), msgIds);
+    }
+
     @Override
     public List<StoredMessage> getUnpublishedMessages() throws KuraStoreException {
 
@@ -263,6 +413,55 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
         }, "Cannot update timestamp");
     }
 
+    protected void updateTimestamps(final String sql, final List<Integer> msgIds) throws KuraStoreException {
+
+        if (msgIds.isEmpty()) {
+            return;
+        }
+
+        final Timestamp now = new Timestamp(new Date().getTime());
+
+        this.connectionProvider.withConnection(c -> withTransaction(c, () -> {
+
+            try (final PreparedStatement stmt = c.prepareStatement(sql)) {
+
+                for (final Integer msgId : msgIds) {
+                    stmt.setTimestamp(1, now, this.utcCalendar);
+                    stmt.setInt(2, msgId);
+                    stmt.addBatch();
+                }
+
+                stmt.executeBatch();
+            }
+
+            return null;
+
+        }), "Cannot update timestamps");
+    }
+
+    protected <T> T withTransaction(final Connection c, final SQLSupplier<T> task) throws SQLException {
+        final boolean isAutoCommit = c.getAutoCommit();
+
+        if (isAutoCommit) {
+            c.setAutoCommit(false);
+        }
+
+        try {
+            final T result = task.get();
+
+            c.commit();
+
+            return result;
+        } catch (final SQLException | RuntimeException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            if (isAutoCommit) {
+                c.setAutoCommit(true);
+            }
+        }
+    }
+
     protected List<StoredMessage> listMessages(String sql, Integer... params) throws KuraStoreException {
         return this.connectionProvider.withPreparedStatement(sql, (c, stmt) -> {
             if (params != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ public final class JdbcMessageStoreQueries {
     private final String sqlStore;
     private final String sqlGetMessage;
     private final String sqlGetNextMessage;
+    private final String sqlGetNextMessages;
     private final String sqlSetPublishedQoS1;
     private final String sqlSetPublishedQoS0;
     private final String sqlSetConfirmed;
@@ -43,6 +44,7 @@ public final class JdbcMessageStoreQueries {
         this.sqlStore = requireNonNull(builder.sqlStore);
         this.sqlGetMessage = requireNonNull(builder.sqlGetMessage);
         this.sqlGetNextMessage = requireNonNull(builder.sqlGetNextMessage);
+        this.sqlGetNextMessages = requireNonNull(builder.sqlGetNextMessages);
         this.sqlSetPublishedQoS1 = requireNonNull(builder.sqlSetPublishedQoS1);
         this.sqlSetPublishedQoS0 = requireNonNull(builder.sqlSetPublishedQoS0);
         this.sqlSetConfirmed = requireNonNull(builder.sqlSetConfirmed);
@@ -80,6 +82,10 @@ public final class JdbcMessageStoreQueries {
         return sqlGetNextMessage;
     }
 
+    public String getSqlGetNextMessages() {
+        return sqlGetNextMessages;
+    }
+
     public String getSqlSetPublishedQoS1() {
         return sqlSetPublishedQoS1;
     }
@@ -151,6 +157,7 @@ public final class JdbcMessageStoreQueries {
         private String sqlStore;
         private String sqlGetMessage;
         private String sqlGetNextMessage;
+        private String sqlGetNextMessages;
         private String sqlSetPublishedQoS1;
         private String sqlSetPublishedQoS0;
         private String sqlSetConfirmed;
@@ -192,6 +199,11 @@ public final class JdbcMessageStoreQueries {
             return this;
         }
 
+        public Builder withSqlGetNextMessages(String sqlGetNextMessages) {
+            this.sqlGetNextMessages = sqlGetNextMessages;
+            return this;
+        }
+
         public Builder withSqlSetPublishedQoS1(String sqlSetPublishedQoS1) {
             this.sqlSetPublishedQoS1 = sqlSetPublishedQoS1;
             return this;
@@ -0,0 +1,482 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.util.wire.store;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link WireRecordStore} that stores the records in child tables covering a fixed time interval each, named
+ * {@code <tableName>_P<yyyyMMdd[HH]>}. The records of all the partitions can be queried through a view named
+ * {@code <tableName>}, that is updated when partitions or columns are added or removed.
+ * <br>
+ * Truncation drops whole partitions, starting from the oldest one, and deletes individual records only if the
+ * current partition alone contains too many records. The number of records in each partition is computed only once
+ * and then tracked in memory.
+ * <br>
+ * If a table named {@code <tableName>} already exists when the store is opened, it is renamed and used as the oldest
+ * partition.
+ */
+public abstract class AbstractJdbcPartitionedWireRecordStoreImpl implements WireRecordStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractJdbcPartitionedWireRecordStoreImpl.class);
+
+    private static final String PARTITION_SEPARATOR = "_P";
+
+    private static final DateTimeFormatter HOURLY_PARTITION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAILY_PARTITION_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    protected final String tableName;
+    protected final String escapedTableName;
+    protected final ConnectionProvider connectionProvider;
+    protected final WireRecordStorePartitioning partitioning;
+
+    private final TreeMap<Long, Partition> partitions = new TreeMap<>();
+    private boolean isViewStale;
+
+    protected AbstractJdbcPartitionedWireRecordStoreImpl(final ConnectionProvider connectionProvider,
+            final String tableName, final WireRecordStorePartitioning partitioning) {
+        if (tableName == null || tableName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table name cannot be null or empty.");
+        }
+        if (partitioning == null || partitioning == WireRecordStorePartitioning.NONE) {
+            throw new IllegalArgumentException("A partitioning interval is required.");
+        }
+        this.tableName = tableName;
+        this.connectionProvider = requireNonNull(connectionProvider, "Connection provider cannot be null");
+        this.partitioning = partitioning;
+        this.escapedTableName = escapeIdentifier(tableName);
+    }
+
+    /**
+     * Opens the store for the partition table with the given name, creating the table if needed.
+     */
+    protected abstract AbstractJdbcWireRecordStoreImpl openPartition(final String partitionTableName)
+            throws KuraStoreException;
+
+    /**
+     * Sets the value that will be assigned to the ID column of the next record inserted in the given empty partition
+     * table, so that records IDs are unique and increasing across partitions.
+     */
+    protected abstract void setNextId(final Connection c, final String partitionTableName, final long nextId)
+            throws SQLException;
+
+    protected String escapeIdentifier(final String string) {
+        final String escapedName = string.replace("\"", "\"\"");
+        return "\"" + escapedName + "\"";
+    }
+
+    protected void loadPartitions() throws KuraStoreException {
+        this.connectionProvider.withConnection(c -> {
+            if (!AbstractJdbcWireRecordStoreImpl.isView(c, this.tableName) && isTable(c, this.tableName)) {
+                adoptTable(c);
+            }
+
+            for (final String name : listTables(c)) {
+                final Optional<Long> key = parsePartitionKey(name);
+
+                if (key.isPresent()) {
+                    this.partitions.put(key.get(), new Partition(name));
+                }
+            }
+
+            logger.info("Found {} partitions for table {}", this.partitions.size(), this.escapedTableName);
+
+            refreshView(c);
+            return null;
+        }, "failed to load partitions");
+    }
+
+    @Override
+    public synchronized void truncate(final int noOfRecordsToKeep) throws KuraStoreException {
+        int size = getSize();
+
+        final List<Partition> removed = new ArrayList<>();
+        final Iterator<Partition> iter = this.partitions.values().iterator();
+        final int minPartitionCount = noOfRecordsToKeep == 0 ? 0 : 1;
+
+        while (size > noOfRecordsToKeep && this.partitions.size() - removed.size() > minPartitionCount) {
+            final Partition partition = iter.next();
+
+            removed.add(partition);
+            size -= partition.size;
+        }
+
+        if (!removed.isEmpty()) {
+            logger.info("Dropping {} partitions of table {}...", removed.size(), this.escapedTableName);
+
+            this.connectionProvider.withConnection(c -> {
+                dropView(c);
+
+                for (final Partition partition : removed) {
+                    partition.close();
+                    execute(c, "DROP TABLE IF EXISTS " + escapeIdentifier(partition.tableName));
+                    this.partitions.values().remove(partition);
+                }
+
+                refreshView(c);
+                return null;
+            }, "failed to drop partitions");
+        }
+
+        if (size > noOfRecordsToKeep) {
+            final Partition partition = this.partitions.lastEntry().getValue();
+
+            logger.info("Partially emptying partition {}", partition.tableName);
+            partition.getStore().truncate(noOfRecordsToKeep);
+            partition.size = -1;
+        }
+    }
+
+    @Override
+    public synchronized int getSize() throws KuraStoreException {
+        int result = 0;
+
+        for (final Partition partition : this.partitions.values()) {
+            if (partition.size < 0) {
+                partition.size = this.connectionProvider.withConnection(c -> getTableSize(c, partition.tableName),
+                        "failed to determine partition size");
+            }
+            result += partition.size;
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized void insertRecords(final List<WireRecord> records) throws KuraStoreException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final Partition partition = getCurrentPartition();
+
+        try {
+            partition.getStore().insertRecords(records);
+
+            if (partition.size >= 0) {
+                partition.size += records.size();
+            }
+        } catch (final KuraStoreException e) {
+            partition.size = -1;
+            throw e;
+        } finally {
+            if (this.isViewStale) {
+                this.connectionProvider.withConnection(c -> {
+                    refreshView(c);
+                    return null;
+                }, "failed to update view");
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (final Partition partition : this.partitions.values()) {
+            partition.close();
+        }
+    }
+
+    private Partition getCurrentPartition() throws KuraStoreException {
+        // do not create partitions older than the current one if the system time moves backwards
+        final long key = this.partitions.isEmpty() ? getPartitionKey(System.currentTimeMillis())
+                : Math.max(getPartitionKey(System.currentTimeMillis()), this.partitions.lastKey());
+
+        final Partition existing = this.partitions.get(key);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final Partition partition = new Partition(getPartitionTableName(key));
+
+        logger.info("Creating partition {}...", partition.tableName);
+
+        final long nextId = this.connectionProvider.withConnection(this::getNextId, "failed to determine next id");
+
+        partition.getStore();
+        partition.size = 0;
+
+        this.connectionProvider.withConnection(c -> {
+            if (nextId > 1) {
+                setNextId(c, partition.tableName, nextId);
+            }
+
+            for (final Partition previous : this.partitions.values()) {
+                previous.close();
+            }
+            this.partitions.put(key, partition);
+
+            refreshView(c);
+            return null;
+        }, "failed to create partition");
+
+        return partition;
+    }
+
+    private long getNextId(final Connection c) throws SQLException {
+        for (final Partition partition : this.partitions.descendingMap().values()) {
+            try (final Statement stmt = c.createStatement();
+                    final ResultSet rset = stmt
+                            .executeQuery("SELECT MAX(ID) FROM " + escapeIdentifier(partition.tableName))) {
+
+                if (rset.next()) {
+                    final long maxId = rset.getLong(1);
+
+                    if (!rset.wasNull()) {
+                        return maxId + 1;
+                    }
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    private void adoptTable(final Connection c) throws SQLException {
+        long key = getPartitionKey(System.currentTimeMillis());
+
+        try (final Statement stmt = c.createStatement();
+                final ResultSet rset = stmt.executeQuery("SELECT MIN(TIMESTAMP) FROM " + this.escapedTableName)) {
+
+            if (rset.next()) {
+                final long minTimestamp = rset.getLong(1);
+
+                if (!rset.wasNull()) {
+                    key = getPartitionKey(minTimestamp);
+                }
+            }
+        }
+
+        final String partitionTableName = getPartitionTableName(key);
+
+        logger.info("Renaming table {} to {}...", this.escapedTableName, partitionTableName);
+
+        execute(c, "ALTER TABLE " + this.escapedTableName + " RENAME TO " + escapeIdentifier(partitionTableName));
+    }
+
+    private void dropView(final Connection c) throws SQLException {
+        execute(c, "DROP VIEW IF EXISTS " + this.escapedTableName);
+        this.isViewStale = true;
+    }
+
+    private void refreshView(final Connection c) throws SQLException {
+        dropView(c);
+
+        if (this.partitions.isEmpty()) {
+            this.isViewStale = false;
+            return;
+        }
+
+        final Map<String, String> viewColumns = new LinkedHashMap<>();
+
+        for (final Partition partition : this.partitions.descendingMap().values()) {
+            for (final Entry<String, String> column : partition.getColumns(c).entrySet()) {
+                viewColumns.putIfAbsent(column.getKey(), column.getValue());
+            }
+        }
+
+        final StringBuilder sql = new StringBuilder("CREATE VIEW ").append(this.escapedTableName).append(" AS ");
+        boolean isFirst = true;
+
+        for (final Partition partition : this.partitions.values()) {
+            final Map<String, String> columns = partition.getColumns(c);
+
+            if (!isFirst) {
+                sql.append(" UNION ALL ");
+            }
+            isFirst = false;
+
+            sql.append("SELECT ");
+
+            final Iterator<Entry<String, String>> iter = viewColumns.entrySet().iterator();
+
+            while (iter.hasNext()) {
+                final Entry<String, String> column = iter.next();
+
+                if (column.getValue().equals(columns.get(column.getKey()))) {
+                    sql.append(column.getKey());
+                } else {
+                    // the column is missing or has a different type in this partition
+                    sql.append("CAST(NULL AS ").append(column.getValue()).append(") AS ").append(column.getKey());
+                }
+
+                if (iter.hasNext()) {
+                    sql.append(", ");
+                }
+            }
+
+            sql.append(" FROM ").append(escapeIdentifier(partition.tableName));
+        }
+
+        execute(c, sql.toString());
+        this.isViewStale = false;
+    }
+
+    private Map<String, String> probeColumnTypes(final Connection c, final String partitionTableName)
+            throws SQLException {
+        final Map<String, String> result = new LinkedHashMap<>();
+
+        try (final ResultSet rsColumns = c.getMetaData().getColumns(c.getCatalog(), null, partitionTableName, null)) {
+
+            while (rsColumns.next()) {
+                if (partitionTableName.equals(rsColumns.getString("TABLE_NAME"))) {
+                    result.put(escapeIdentifier(rsColumns.getString("COLUMN_NAME")), rsColumns.getString("TYPE_NAME"));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private List<String> listTables(final Connection c) throws SQLException {
+        final List<String> result = new ArrayList<>();
+
+        try (final ResultSet rsTables = c.getMetaData().getTables(c.getCatalog(), null, null, null)) {
+
+            while (rsTables.next()) {
+                final String type = rsTables.getString("TABLE_TYPE");
+
+                if (type != null && type.contains("TABLE") && !type.contains("SYSTEM")) {
+                    result.add(rsTables.getString("TABLE_NAME"));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isTable(final Connection c, final String name) throws SQLException {
+        return listTables(c).contains(name);
+    }
+
+    private int getTableSize(final Connection c, final String partitionTableName) throws SQLException {
+        try (final Statement stmt = c.createStatement();
+                final ResultSet rset = stmt
+                        .executeQuery("SELECT COUNT(*) FROM " + escapeIdentifier(partitionTableName))) {
+            return rset.next() ? rset.getInt(1) : 0;
+        }
+    }
+
+    private void execute(final Connection c, final String sql) throws SQLException {
+        try (final Statement stmt = c.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long getPartitionKey(final long timestamp) {
+        final long interval = this.partitioning.getIntervalMillis();
+
+        return Math.floorDiv(timestamp, interval) * interval;
+    }
+
+    private String getPartitionTableName(final long key) {
+        final DateTimeFormatter format = this.partitioning == WireRecordStorePartitioning.HOURLY
+                ? HOURLY_PARTITION_FORMAT
+                : DAILY_PARTITION_FORMAT;
+
+        return this.tableName + PARTITION_SEPARATOR
+                + format.format(Instant.ofEpochMilli(key).atOffset(ZoneOffset.UTC).toLocalDateTime());
+    }
+
+    private Optional<Long> parsePartitionKey(final String name) {
+        final String prefix = this.tableName + PARTITION_SEPARATOR;
+
+        if (!name.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        final String suffix = name.substring(prefix.length());
+
+        try {
+            // partitions created with a different partitioning interval are accepted as well
+            if (suffix.length() == 10) {
+                return Optional.of(LocalDateTime.parse(suffix, HOURLY_PARTITION_FORMAT).toInstant(ZoneOffset.UTC)
+                        .toEpochMilli());
+            } else if (suffix.length() == 8) {
+                return Optional.of(LocalDate.parse(suffix, DAILY_PARTITION_FORMAT).atStartOfDay()
+                        .toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+        } catch (final DateTimeParseException e) {
+            logger.debug("Ignoring table {}", name, e);
+        }
+
+        return Optional.empty();
+    }
+
+    private final class Partition {
+
+        private final String tableName;
+        private AbstractJdbcWireRecordStoreImpl store;
+        private Map<String, String> columns;
+        private int size = -1;
+
+        Partition(final String tableName) {
+            this.tableName = tableName;
+        }
+
+        AbstractJdbcWireRecordStoreImpl getStore() throws KuraStoreException {
+            if (this.store == null) {
+                this.store = openPartition(this.tableName);
+                this.store.setColumnsChangeListener(c -> {
+                    // dependent views might prevent altering the table, the view is created again after the insert
+                    dropView(c);
+                    this.columns = null;
+                });
+            }
+
+            return this.store;
+        }
+
+        Map<String, String> getColumns(final Connection c) throws SQLException {
+            if (this.columns == null) {
+                this.columns = probeColumnTypes(c, this.tableName);
+            }
+
+            return this.columns;
+        }
+
+        void close() {
+            if (this.store != null) {
+                this.store.close();
+                this.store = null;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -33,7 +35,9 @@ import org.eclipse.kura.connection.listener.ConnectionListener;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.jdbc.JdbcUtil;
+import org.eclipse.kura.wire.ColumnarWireRecord;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,12 +48,20 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     private static final String COLUMN_NAME = "COLUMN_NAME";
     private static final String TYPE_NAME = "TYPE_NAME";
+    private static final String TABLE_NAME = "TABLE_NAME";
+    private static final String TABLE_TYPE = "TABLE_TYPE";
+
+    private static final int MAX_CACHED_INSERT_SHAPES = 64;
 
     protected final String tableName;
     protected final String escapedTableName;
     protected final ConnectionProvider connectionProvider;
     protected final JdbcWireRecordStoreQueries queries;
 
+    private final Map<InsertShape, InsertShape> insertShapes = new HashMap<>();
+    private InsertShape lastInsertShape;
+    private ColumnsChangeListener columnsChangeListener;
+
     private Set<ConnectionListener> connectionListeners;
 
     protected AbstractJdbcWireRecordStoreImpl(final ConnectionProvider connectionProvider, final String tableName) {
@@ -80,6 +92,11 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     protected void createTable() throws KuraStoreException {
         this.connectionProvider.withConnection(c -> {
+            if (isView(c, this.tableName)) {
+                // left by a partitioned store with the same name, the partitions are not removed
+                logger.info("Dropping view {}...", this.escapedTableName);
+                execute(c, "DROP VIEW " + this.escapedTableName);
+            }
             execute(c, this.queries.getSqlCreateTable());
             return null;
         }, "failed to create table");
@@ -123,18 +140,21 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     @Override
     public synchronized void insertRecords(final List<WireRecord> records) throws KuraStoreException {
+        if (records.isEmpty()) {
+            return;
+        }
+
         this.connectionProvider.withConnection(c -> {
 
-            for (final WireRecord r : records) {
-                try {
-                    createColumns(c, r);
-                    insertRecord(c, r);
-                } catch (final SQLException e) {
-                    logger.info("Reconciling table and columns");
-                    execute(c, this.queries.getSqlCreateTable());
-                    createColumns(c, r);
-                    insertRecord(c, r);
-                }
+            final InsertBatch batch = new InsertBatch(c, records);
+
+            try {
+                batch.execute();
+            } catch (final SQLException e) {
+                logger.info("Reconciling table and columns");
+                clearInsertShapes();
+                execute(c, this.queries.getSqlCreateTable());
+                batch.execute();
             }
 
             return null;
@@ -147,8 +167,11 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
     }
 
     protected void createColumns(final Connection c, final WireRecord wireRecord) throws SQLException {
+        createColumns(c, wireRecord, probeColumnTypes(c));
+    }
 
-        final Map<String, String> columnTypes = probeColumnTypes(c);
+    protected void createColumns(final Connection c, final WireRecord wireRecord,
+            final Map<String, String> columnTypes) throws SQLException {
 
         for (Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
 
@@ -217,35 +240,112 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return columnMetadata.getString(TYPE_NAME);
     }
 
-    protected void insertRecord(Connection connection, final WireRecord wireRecord) throws SQLException {
+    private InsertShape getInsertShape(final WireRecord wireRecord) {
+        if (this.lastInsertShape != null && this.lastInsertShape.matches(wireRecord)) {
+            return this.lastInsertShape;
+        }
+
+        final InsertShape key = wireRecord instanceof ColumnarWireRecord
+                ? new InsertShape((ColumnarWireRecord) wireRecord, null)
+                : new InsertShape(wireRecord.getProperties(), null);
+        final InsertShape result = this.insertShapes.get(key);
 
-        final String insertQuery = buildInsertQuerySql(wireRecord.getProperties());
+        if (result != null) {
+            this.lastInsertShape = result;
+        }
 
-        final long timestamp = System.currentTimeMillis();
+        return result;
+    }
 
-        logger.debug("Storing data into table {}...", escapedTableName);
+    private InsertShape createInsertShape(final Connection c, final WireRecord wireRecord) throws SQLException {
+        final Map<String, TypedValue<?>> properties = getOrderedProperties(wireRecord);
+        final Map<String, String> columnTypes = probeColumnTypes(c);
 
-        try (final PreparedStatement stmt = connection.prepareStatement(insertQuery)) {
-            stmt.setLong(1, timestamp);
+        final boolean changesColumnTypes = changesColumnTypes(properties, columnTypes);
 
-            int i = 2;
+        if (changesColumnTypes) {
+            // the cached shapes may refer to the previous column types
+            clearInsertShapes();
+        }
 
-            for (Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+        if (this.columnsChangeListener != null && (changesColumnTypes || addsColumns(properties, columnTypes))) {
+            this.columnsChangeListener.beforeColumnsChange(c);
+        }
 
-                setParameterValue(stmt, i, entry.getValue().getValue());
+        createColumns(c, wireRecord, columnTypes);
 
-                i++;
+        if (this.insertShapes.size() >= MAX_CACHED_INSERT_SHAPES) {
+            clearInsertShapes();
+        }
+
+        final String sql = buildInsertQuerySql(properties);
+        final InsertShape result = wireRecord instanceof ColumnarWireRecord
+                ? new InsertShape((ColumnarWireRecord) wireRecord, sql)
+                : new InsertShape(properties, sql);
+
+        this.insertShapes.put(result, result);
+        this.lastInsertShape = result;
+
+        return result;
+    }
+
+    /**
+     * Returns the properties of the given record in the order of the parameters of its INSERT statement. The
+     * properties of a {@link ColumnarWireRecord} are returned in column order.
+     */
+    private static Map<String, TypedValue<?>> getOrderedProperties(final WireRecord wireRecord) {
+        if (!(wireRecord instanceof ColumnarWireRecord)) {
+            return wireRecord.getProperties();
+        }
+
+        final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+        final WireRecordSchema schema = columnarRecord.getSchema();
+        final Map<String, TypedValue<?>> result = new LinkedHashMap<>(schema.size() * 2);
+
+        for (int i = 0; i < schema.size(); i++) {
+            if (columnarRecord.isPresent(i)) {
+                result.put(schema.getName(i), columnarRecord.getValue(i));
             }
+        }
 
-            stmt.execute();
+        return result;
+    }
 
-            if (isExplicitCommitEnabled()) {
-                connection.commit();
+    private boolean changesColumnTypes(final Map<String, TypedValue<?>> properties,
+            final Map<String, String> columnTypes) {
+
+        for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+            final String actualType = columnTypes.get(escapeIdentifier(entry.getKey()));
+            final Optional<String> mappedType = getMappedSqlType(entry.getValue());
+
+            if (actualType != null && mappedType.isPresent()
+                    && !isCorrectColumnType(entry.getValue(), mappedType.get(), actualType)) {
+                return true;
             }
+        }
 
-            logger.debug("Stored typed value");
+        return false;
+    }
+
+    private boolean addsColumns(final Map<String, TypedValue<?>> properties, final Map<String, String> columnTypes) {
+
+        for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+            if (!columnTypes.containsKey(escapeIdentifier(entry.getKey()))
+                    && getMappedSqlType(entry.getValue()).isPresent()) {
+                return true;
+            }
         }
 
+        return false;
+    }
+
+    synchronized void setColumnsChangeListener(final ColumnsChangeListener columnsChangeListener) {
+        this.columnsChangeListener = columnsChangeListener;
+    }
+
+    private void clearInsertShapes() {
+        this.insertShapes.clear();
+        this.lastInsertShape = null;
     }
 
     protected String buildInsertQuerySql(final Map<String, TypedValue<?>> properties) {
@@ -285,6 +385,37 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         }
     }
 
+    /**
+     * Binds the value of a column of a {@link ColumnarWireRecord} to a statement parameter using the typed getters of
+     * the record, so that primitive values are not boxed.
+     */
+    protected void setColumnValue(final PreparedStatement stmt, final int index, final ColumnarWireRecord wireRecord,
+            final int column) throws SQLException {
+        switch (wireRecord.getSchema().getType(column)) {
+        case LONG:
+            stmt.setLong(index, wireRecord.getLong(column));
+            break;
+        case INTEGER:
+            stmt.setInt(index, wireRecord.getInteger(column));
+            break;
+        case DOUBLE:
+            stmt.setDouble(index, wireRecord.getDouble(column));
+            break;
+        case FLOAT:
+            stmt.setFloat(index, wireRecord.getFloat(column));
+            break;
+        case BOOLEAN:
+            stmt.setBoolean(index, wireRecord.getBoolean(column));
+            break;
+        case STRING:
+            stmt.setString(index, wireRecord.getString(column));
+            break;
+        default:
+            stmt.setBytes(index, wireRecord.getByteArray(column));
+            break;
+        }
+    }
+
     protected int getTableSize(final Connection c) throws SQLException {
         try (final Statement stmt = c.createStatement();
                 final ResultSet rset = stmt.executeQuery(this.queries.getSqlRowCount())) {
@@ -310,4 +441,300 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return false;
     }
 
+    static boolean isView(final Connection c, final String name) throws SQLException {
+        try (final ResultSet rsTables = c.getMetaData().getTables(c.getCatalog(), null, name, null)) {
+
+            while (rsTables.next()) {
+                final String type = rsTables.getString(TABLE_TYPE);
+
+                if (name.equals(rsTables.getString(TABLE_NAME)) && type != null && type.contains("VIEW")) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Notified before the columns of the table are added or altered while inserting records.
+     */
+    interface ColumnsChangeListener {
+
+        void beforeColumnsChange(Connection c) throws SQLException;
+    }
+
+    /**
+     * Describes the columns written by an INSERT statement: the names of the record properties, in iteration order,
+     * and the classes of their values, that determine the column types. The shape of a {@link ColumnarWireRecord}
+     * is instead identified by its schema and by the indexes of its present columns, so that it can be matched and
+     * bound without creating the map view of the record.
+     */
+    private static final class InsertShape {
+
+        private final String[] names;
+        private final Class<?>[] valueTypes;
+        private final WireRecordSchema schema;
+        private final int[] columns;
+        private final String sql;
+        private final int hashCode;
+
+        InsertShape(final Map<String, TypedValue<?>> properties, final String sql) {
+            this.names = new String[properties.size()];
+            this.valueTypes = new Class<?>[properties.size()];
+            this.schema = null;
+            this.columns = null;
+            this.sql = sql;
+
+            int i = 0;
+
+            for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+                this.names[i] = entry.getKey();
+                this.valueTypes[i] = getValueType(entry.getValue());
+                i++;
+            }
+
+            this.hashCode = 31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.valueTypes);
+        }
+
+        InsertShape(final ColumnarWireRecord wireRecord, final String sql) {
+            final WireRecordSchema recordSchema = wireRecord.getSchema();
+            int count = 0;
+
+            for (int i = 0; i < recordSchema.size(); i++) {
+                if (wireRecord.isPresent(i)) {
+                    count++;
+                }
+            }
+
+            this.names = null;
+            this.valueTypes = null;
+            this.schema = recordSchema;
+            this.columns = new int[count];
+            this.sql = sql;
+
+            int j = 0;
+
+            for (int i = 0; i < recordSchema.size(); i++) {
+                if (wireRecord.isPresent(i)) {
+                    this.columns[j++] = i;
+                }
+            }
+
+            this.hashCode = 31 * System.identityHashCode(recordSchema) + Arrays.hashCode(this.columns);
+        }
+
+        boolean matches(final WireRecord wireRecord) {
+            if (this.schema != null) {
+                return wireRecord instanceof ColumnarWireRecord && matches((ColumnarWireRecord) wireRecord);
+            }
+
+            return !(wireRecord instanceof ColumnarWireRecord) && matches(wireRecord.getProperties());
+        }
+
+        private boolean matches(final ColumnarWireRecord wireRecord) {
+            if (wireRecord.getSchema() != this.schema) {
+                return false;
+            }
+
+            int j = 0;
+
+            for (int i = 0; i < this.schema.size(); i++) {
+                if (wireRecord.isPresent(i)) {
+                    if (j == this.columns.length || this.columns[j] != i) {
+                        return false;
+                    }
+                    j++;
+                }
+            }
+
+            return j == this.columns.length;
+        }
+
+        private boolean matches(final Map<String, TypedValue<?>> properties) {
+            if (properties.size() != this.names.length) {
+                return false;
+            }
+
+            int i = 0;
+
+            for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+                if (!this.names[i].equals(entry.getKey()) || this.valueTypes[i] != getValueType(entry.getValue())) {
+                    return false;
+                }
+                i++;
+            }
+
+            return true;
+        }
+
+        private static Class<?> getValueType(final TypedValue<?> value) {
+            return value != null ? value.getClass() : null;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InsertShape)) {
+                return false;
+            }
+            final InsertShape other = (InsertShape) obj;
+            return this.schema == other.schema && Arrays.equals(this.columns, other.columns)
+                    && Arrays.equals(this.names, other.names) && Arrays.equals(this.valueTypes, other.valueTypes);
+        }
+    }
+
+    /**
+     * Inserts a list of records in a single transaction, adding a JDBC batch for each sequence of consecutive records
+     * with the same shape. The prepared statements are reused for the whole list. The columns required by all the
+     * records are created before the first insert, so that the table is not altered while the transaction is open.
+     * Only if a shape must be created again while inserting, for example because two records of the list require
+     * different types for the same column, the records added so far are committed before altering the table; a retry
+     * then starts from the first record not yet committed.
+     */
+    private final class InsertBatch {
+
+        private final Connection connection;
+        private final List<WireRecord> records;
+        private final Map<InsertShape, PreparedStatement> statements = new HashMap<>();
+
+        private int committedCount;
+
+        InsertBatch(final Connection connection, final List<WireRecord> records) {
+            this.connection = connection;
+            this.records = records;
+        }
+
+        void execute() throws SQLException {
+            final boolean isAutoCommit = this.connection.getAutoCommit();
+
+            if (isAutoCommit) {
+                this.connection.setAutoCommit(false);
+            }
+
+            logger.debug("Storing data into table {}...", escapedTableName);
+
+            try {
+                createMissingColumns();
+
+                PreparedStatement pending = null;
+
+                for (int i = this.committedCount; i < this.records.size(); i++) {
+                    final WireRecord wireRecord = this.records.get(i);
+                    InsertShape shape = getInsertShape(wireRecord);
+
+                    if (shape == null) {
+                        executeBatch(pending);
+                        pending = null;
+                        commit(i);
+                        closeStatements();
+
+                        shape = createInsertShape(this.connection, wireRecord);
+                        this.connection.commit();
+                    }
+
+                    final PreparedStatement stmt = getStatement(shape);
+
+                    if (pending != stmt) {
+                        executeBatch(pending);
+                        pending = stmt;
+                    }
+
+                    addBatch(stmt, shape, wireRecord);
+                }
+
+                executeBatch(pending);
+                commit(this.records.size());
+
+                logger.debug("Stored {} records", this.records.size());
+            } catch (final SQLException | RuntimeException e) {
+                this.connection.rollback();
+                throw e;
+            } finally {
+                closeStatements();
+
+                if (isAutoCommit) {
+                    this.connection.setAutoCommit(true);
+                }
+            }
+        }
+
+        private void createMissingColumns() throws SQLException {
+            boolean altered = false;
+
+            for (int i = this.committedCount; i < this.records.size(); i++) {
+                final WireRecord wireRecord = this.records.get(i);
+
+                if (getInsertShape(wireRecord) == null) {
+                    createInsertShape(this.connection, wireRecord);
+                    altered = true;
+                }
+            }
+
+            if (altered) {
+                this.connection.commit();
+            }
+        }
+
+        private PreparedStatement getStatement(final InsertShape shape) throws SQLException {
+            PreparedStatement result = this.statements.get(shape);
+
+            if (result == null) {
+                result = this.connection.prepareStatement(shape.sql);
+                this.statements.put(shape, result);
+            }
+
+            return result;
+        }
+
+        private void addBatch(final PreparedStatement stmt, final InsertShape shape, final WireRecord wireRecord)
+                throws SQLException {
+            stmt.setLong(1, System.currentTimeMillis());
+
+            int i = 2;
+
+            if (shape.columns != null) {
+                for (final int column : shape.columns) {
+                    setColumnValue(stmt, i, (ColumnarWireRecord) wireRecord, column);
+                    i++;
+                }
+            } else {
+                for (final TypedValue<?> value : wireRecord.getProperties().values()) {
+                    setParameterValue(stmt, i, value.getValue());
+                    i++;
+                }
+            }
+
+            stmt.addBatch();
+        }
+
+        private void executeBatch(final PreparedStatement stmt) throws SQLException {
+            if (stmt != null) {
+                stmt.executeBatch();
+            }
+        }
+
+        private void commit(final int count) throws SQLException {
+            this.connection.commit();
+            this.committedCount = count;
+        }
+
+        private void closeStatements() throws SQLException {
+            try {
+                for (final PreparedStatement stmt : this.statements.values()) {
+                    stmt.close();
+                }
+            } finally {
+                this.statements.clear();
+            }
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.wire.ai.component.provider;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -97,6 +98,15 @@ public class TensorListAdapter {
             String name = tensor.getDescriptor().getName();
             Class<?> tensorType = tensor.getType();
 
+            Optional<ByteBuffer> rawData = tensor.getRawData();
+            if (tensorType.isAssignableFrom(Byte.class) && rawData.isPresent()) {
+                byte[] data = new byte[rawData.get().remaining()];
+                rawData.get().get(data);
+                properties.put(name, TypedValues.newByteArrayValue(data));
+                result.add(new WireRecord(properties));
+                continue;
+            }
+
             Optional<?> tensorData = tensor.getData(tensorType);
             if (tensorData.isPresent()) {
 
@@ -145,12 +155,7 @@ public class TensorListAdapter {
         case BYTE_ARRAY:
             byte[] byteArrayValue = (byte[]) value;
 
-            List<Byte> byteArrayData = new ArrayList<>();
-            for (byte b : byteArrayValue) {
-                byteArrayData.add(b);
-            }
-
-            return new Tensor(Byte.class, descriptor, byteArrayData);
+            return new Tensor(Byte.class, descriptor, ByteBuffer.wrap(byteArrayValue));
         case DOUBLE:
             List<Double> doubleData = new ArrayList<>();
             doubleData.add((Double) value);
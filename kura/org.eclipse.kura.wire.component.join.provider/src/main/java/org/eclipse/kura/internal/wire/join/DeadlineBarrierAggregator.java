@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.graph.PortAggregator;
+import org.eclipse.kura.wire.graph.ReceiverPort;
+
+/**
+ * A {@link PortAggregator} with the same semantics of the barrier aggregator: the consumer is invoked as soon as an
+ * envelope has been received on every port. In addition, if not all ports receive an envelope within a deadline that
+ * starts when the first envelope of a cycle is received, the consumer is invoked with the envelopes received so far,
+ * the slots of the ports that did not receive anything will be {@code null}.
+ */
+class DeadlineBarrierAggregator implements PortAggregator {
+
+    private final List<WireEnvelope> envelopes;
+    private final ScheduledExecutorService executor;
+    private final long deadlineMs;
+    private final boolean emitOnDeadline;
+
+    private int fullSlots = 0;
+    private long cycle = 0;
+    private ScheduledFuture<?> deadlineTask;
+    private Consumer<List<WireEnvelope>> consumer = envelopes -> {
+        // do nothing
+    };
+
+    DeadlineBarrierAggregator(final List<ReceiverPort> ports, final ScheduledExecutorService executor,
+            final long deadlineMs, final boolean emitOnDeadline) {
+        requireNonNull(ports);
+        this.executor = requireNonNull(executor);
+        this.deadlineMs = deadlineMs;
+        this.emitOnDeadline = emitOnDeadline;
+        this.envelopes = new ArrayList<>(ports.size());
+
+        for (int i = 0; i < ports.size(); i++) {
+            this.envelopes.add(null);
+            final int port = i;
+
+            ports.get(i).onWireReceive(envelope -> onEnvelope(port, envelope));
+        }
+    }
+
+    private void onEnvelope(final int port, final WireEnvelope envelope) {
+        synchronized (this.envelopes) {
+            if (this.fullSlots == 0) {
+                final long currentCycle = this.cycle;
+                this.deadlineTask = this.executor.schedule(() -> onDeadline(currentCycle), this.deadlineMs,
+                        TimeUnit.MILLISECONDS);
+            }
+            if (this.envelopes.get(port) == null) {
+                this.fullSlots++;
+            }
+            this.envelopes.set(port, envelope);
+            if (this.fullSlots == this.envelopes.size()) {
+                this.deadlineTask.cancel(false);
+                flush();
+            }
+        }
+    }
+
+    private void onDeadline(final long expectedCycle) {
+        synchronized (this.envelopes) {
+            if (this.cycle != expectedCycle) {
+                // the cycle has already been completed
+                return;
+            }
+            if (this.emitOnDeadline) {
+                flush();
+            } else {
+                clearSlots();
+            }
+        }
+    }
+
+    private void flush() {
+        try {
+            this.consumer.accept(new ArrayList<>(this.envelopes));
+        } finally {
+            clearSlots();
+        }
+    }
+
+    private void clearSlots() {
+        this.fullSlots = 0;
+        this.cycle++;
+        this.deadlineTask = null;
+        for (int i = 0; i < this.envelopes.size(); i++) {
+            this.envelopes.set(i, null);
+        }
+    }
+
+    void close() {
+        synchronized (this.envelopes) {
+            if (this.deadlineTask != null) {
+                this.deadlineTask.cancel(false);
+            }
+            clearSlots();
+        }
+    }
+
+    @Override
+    public void onWireReceive(final Consumer<List<WireEnvelope>> consumer) {
+        requireNonNull(consumer);
+        this.consumer = consumer;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.graph.MultiportWireSupport;
+import org.eclipse.kura.wire.multiport.MultiportWireReceiver;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A wire component that waits for an envelope on each of its input ports and merges them into a single envelope.
+ * It is meant to be placed downstream of multiple Wire Assets triggered concurrently by the same Timer: the merged
+ * envelope is emitted as soon as all assets have produced their results, or when the configured deadline expires,
+ * so that a poll cycle does not wait forever for a device that does not respond.
+ * <br>
+ * Records are merged by position, the i-th emitted record contains the properties of the i-th record received on
+ * every port. If properties with the same name are received on different ports, the value received on the port with
+ * the greatest index is emitted.
+ */
+public final class GatherComponent implements MultiportWireReceiver, WireEmitter, ConfigurableComponent {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatherComponent.class);
+
+    private volatile WireHelperService wireHelperService;
+
+    private MultiportWireSupport wireSupport;
+    private ScheduledExecutorService executor;
+    private DeadlineBarrierAggregator aggregator;
+
+    public void bindWireHelperService(final WireHelperService wireHelperService) {
+        if (isNull(this.wireHelperService)) {
+            this.wireHelperService = wireHelperService;
+        }
+    }
+
+    public void unbindWireHelperService(final WireHelperService wireHelperService) {
+        if (this.wireHelperService == wireHelperService) {
+            this.wireHelperService = null;
+        }
+    }
+
+    protected void activate(final ComponentContext componentContext, final Map<String, Object> properties) {
+        logger.debug("Activating Gather Wire Component...");
+        this.wireSupport = (MultiportWireSupport) this.wireHelperService.newWireSupport(this,
+                (ServiceReference<WireComponent>) componentContext.getServiceReference());
+        this.executor = Executors.newSingleThreadScheduledExecutor();
+
+        updated(properties);
+
+        logger.debug("Activating Gather Wire Component... Done");
+    }
+
+    public synchronized void updated(final Map<String, Object> properties) {
+        logger.debug("Updating Gather Wire Component...");
+        final GatherComponentOptions options = new GatherComponentOptions(properties);
+
+        if (this.aggregator != null) {
+            this.aggregator.close();
+        }
+
+        this.aggregator = new DeadlineBarrierAggregator(this.wireSupport.getReceiverPorts(), this.executor,
+                options.getDeadlineMs(), options.isEmitOnDeadline());
+        this.aggregator.onWireReceive(this::onWireReceive);
+
+        logger.debug("Updating Gather Wire Component... Done");
+    }
+
+    protected synchronized void deactivate(final ComponentContext componentContext) {
+        logger.debug("Deactivating Gather Wire Component...");
+
+        if (this.aggregator != null) {
+            this.aggregator.close();
+            this.aggregator = null;
+        }
+
+        this.executor.shutdown();
+
+        logger.debug("Deactivating Gather Wire Component... Done");
+    }
+
+    private void onWireReceive(final List<WireEnvelope> envelopes) {
+        final List<Map<String, TypedValue<?>>> merged = new ArrayList<>();
+
+        for (final WireEnvelope envelope : envelopes) {
+            if (envelope == null) {
+                continue;
+            }
+
+            final List<WireRecord> records = envelope.getRecords();
+
+            for (int i = 0; i < records.size(); i++) {
+                if (merged.size() <= i) {
+                    merged.add(new HashMap<>());
+                }
+                merged.get(i).putAll(records.get(i).getProperties());
+            }
+        }
+
+        final List<WireRecord> result = new ArrayList<>(merged.size());
+
+        for (final Map<String, TypedValue<?>> properties : merged) {
+            result.add(new WireRecord(properties));
+        }
+
+        this.wireSupport.emit(result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void producersConnected(final Wire[] wires) {
+        this.wireSupport.producersConnected(wires);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updated(final Wire wire, final Object value) {
+        this.wireSupport.updated(wire, value);
+    }
+
+    @Override
+    public Object polled(Wire wire) {
+        return this.wireSupport.polled(wire);
+    }
+
+    @Override
+    public void consumersConnected(Wire[] wires) {
+        this.wireSupport.consumersConnected(wires);
+    }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+public class GatherComponentOptions {
+
+    private static final String DEADLINE_PROPERTY_KEY = "deadline.ms";
+    private static final String EMIT_ON_DEADLINE_PROPERTY_KEY = "emit.on.deadline";
+
+    private static final long DEADLINE_PROPERTY_DEFAULT = 1000;
+    private static final boolean EMIT_ON_DEADLINE_PROPERTY_DEFAULT = true;
+
+    private final Map<String, Object> properties;
+
+    GatherComponentOptions(final Map<String, Object> properties) {
+        requireNonNull(properties, "Properties must be not null");
+        this.properties = properties;
+    }
+
+    long getDeadlineMs() {
+        final Object deadline = this.properties.get(DEADLINE_PROPERTY_KEY);
+
+        if (deadline instanceof Number) {
+            return Math.max(1, ((Number) deadline).longValue());
+        }
+
+        return DEADLINE_PROPERTY_DEFAULT;
+    }
+
+    boolean isEmitOnDeadline() {
+        return (Boolean) this.properties.getOrDefault(EMIT_ON_DEADLINE_PROPERTY_KEY,
+                EMIT_ON_DEADLINE_PROPERTY_DEFAULT);
+    }
+
+}
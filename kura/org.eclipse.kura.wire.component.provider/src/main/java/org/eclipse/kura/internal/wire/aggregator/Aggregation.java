@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+/**
+ * The statistics that can be computed by the {@link WindowAggregator} for each property.
+ */
+enum Aggregation {
+
+    MIN("_min"),
+    MAX("_max"),
+    MEAN("_mean"),
+    COUNT("_count"),
+    LAST("_last"),
+    STDDEV("_stddev");
+
+    private final String suffix;
+
+    private Aggregation(final String suffix) {
+        this.suffix = suffix;
+    }
+
+    String getSuffix() {
+        return this.suffix;
+    }
+
+    /**
+     * @return {@code true} if this aggregation can only be computed on numeric properties
+     */
+    boolean isNumeric() {
+        return this != COUNT && this != LAST;
+    }
+}
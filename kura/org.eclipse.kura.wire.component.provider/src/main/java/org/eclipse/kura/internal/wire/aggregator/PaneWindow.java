@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.kura.type.TypedValue;
+
+/**
+ * A window split into a fixed number of panes, each one spanning a slide interval. Values are accumulated in the
+ * current pane, when a slide interval elapses the statistics of all panes are merged and the oldest pane is reused as
+ * the new current pane. A tumbling window is a window with a single pane.
+ * <br>
+ * This class is not thread safe.
+ */
+final class PaneWindow {
+
+    private final Map<String, PropertyAccumulator>[] panes;
+    private final Map<String, PropertyAccumulator> merged = new LinkedHashMap<>();
+    private int current;
+
+    @SuppressWarnings("unchecked")
+    PaneWindow(final int paneCount) {
+        if (paneCount < 1) {
+            throw new IllegalArgumentException("pane count must be at least 1");
+        }
+
+        this.panes = new Map[paneCount];
+
+        for (int i = 0; i < paneCount; i++) {
+            this.panes[i] = new HashMap<>();
+        }
+    }
+
+    int getPaneCount() {
+        return this.panes.length;
+    }
+
+    void add(final String name, final TypedValue<?> value) {
+        this.panes[this.current].computeIfAbsent(name, k -> new PropertyAccumulator()).add(value);
+    }
+
+    /**
+     * Merges the statistics of all panes and passes the properties that received at least a value in the whole
+     * window to the provided consumer, then discards the oldest pane. The accumulators passed to the consumer are
+     * reused and must not be retained.
+     *
+     * @param consumer
+     *            the consumer of the window statistics
+     * @return {@code true} if at least a value has been received in the whole window
+     */
+    boolean slide(final BiConsumer<String, PropertyAccumulator> consumer) {
+        for (final PropertyAccumulator accumulator : this.merged.values()) {
+            accumulator.reset();
+        }
+
+        final int paneCount = this.panes.length;
+
+        for (int i = 1; i <= paneCount; i++) {
+            final Map<String, PropertyAccumulator> pane = this.panes[(this.current + i) % paneCount];
+
+            for (final Map.Entry<String, PropertyAccumulator> e : pane.entrySet()) {
+                final PropertyAccumulator accumulator = e.getValue();
+
+                if (accumulator.getCount() > 0) {
+                    this.merged.computeIfAbsent(e.getKey(), k -> new PropertyAccumulator()).merge(accumulator);
+                }
+            }
+        }
+
+        boolean hasValues = false;
+
+        for (final Map.Entry<String, PropertyAccumulator> e : this.merged.entrySet()) {
+            if (e.getValue().getCount() > 0) {
+                hasValues = true;
+                consumer.accept(e.getKey(), e.getValue());
+            }
+        }
+
+        this.current = (this.current + 1) % paneCount;
+        clearPane(this.panes[this.current]);
+
+        // drop the properties that are no longer present in any pane
+        this.merged.values().removeIf(a -> a.getCount() == 0);
+
+        return hasValues;
+    }
+
+    private static void clearPane(final Map<String, PropertyAccumulator> pane) {
+        pane.values().removeIf(a -> a.getCount() == 0);
+
+        for (final PropertyAccumulator accumulator : pane.values()) {
+            accumulator.reset();
+        }
+    }
+}
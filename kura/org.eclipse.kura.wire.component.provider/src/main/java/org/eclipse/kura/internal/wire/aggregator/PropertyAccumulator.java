@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import org.eclipse.kura.type.TypedValue;
+
+/**
+ * Accumulates the statistics of a single property using primitive fields. Mean and variance are computed using the
+ * Welford online algorithm, accumulators can be merged using the parallel variant of the same algorithm.
+ */
+final class PropertyAccumulator {
+
+    private long count;
+    private long numericCount;
+    private double min;
+    private double max;
+    private double mean;
+    private double m2;
+    private TypedValue<?> last;
+
+    PropertyAccumulator() {
+        reset();
+    }
+
+    void reset() {
+        this.count = 0;
+        this.numericCount = 0;
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+        this.mean = 0;
+        this.m2 = 0;
+        this.last = null;
+    }
+
+    void add(final TypedValue<?> value) {
+        this.count++;
+        this.last = value;
+
+        final Object raw = value.getValue();
+
+        if (raw instanceof Number) {
+            addNumeric(((Number) raw).doubleValue());
+        }
+    }
+
+    private void addNumeric(final double value) {
+        this.numericCount++;
+
+        if (value < this.min) {
+            this.min = value;
+        }
+        if (value > this.max) {
+            this.max = value;
+        }
+
+        final double delta = value - this.mean;
+        this.mean += delta / this.numericCount;
+        this.m2 += delta * (value - this.mean);
+    }
+
+    /**
+     * Merges the statistics of another accumulator, that must contain more recent values, into this one.
+     *
+     * @param other
+     *            the other accumulator
+     */
+    void merge(final PropertyAccumulator other) {
+        if (other.count == 0) {
+            return;
+        }
+
+        this.count += other.count;
+        this.last = other.last;
+
+        if (other.numericCount == 0) {
+            return;
+        }
+
+        if (this.numericCount == 0) {
+            this.numericCount = other.numericCount;
+            this.min = other.min;
+            this.max = other.max;
+            this.mean = other.mean;
+            this.m2 = other.m2;
+            return;
+        }
+
+        final long totalCount = this.numericCount + other.numericCount;
+        final double delta = other.mean - this.mean;
+
+        this.mean += delta * other.numericCount / totalCount;
+        this.m2 += other.m2 + delta * delta * this.numericCount * other.numericCount / totalCount;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        this.numericCount = totalCount;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    boolean isNumeric() {
+        return this.numericCount > 0;
+    }
+
+    double getMin() {
+        return this.min;
+    }
+
+    double getMax() {
+        return this.max;
+    }
+
+    double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * @return the population standard deviation of the numeric values
+     */
+    double getStdDev() {
+        return this.numericCount > 0 ? Math.sqrt(this.m2 / this.numericCount) : 0;
+    }
+
+    TypedValue<?> getLast() {
+        return this.last;
+    }
+}
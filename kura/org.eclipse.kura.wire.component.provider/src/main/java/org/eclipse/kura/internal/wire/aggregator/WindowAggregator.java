@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireReceiver;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+
+/**
+ * A {@link WireComponent} that computes time based aggregates of the properties of the received {@link WireRecord}s
+ * and emits a single record per window. For each aggregated property {@code foo} the emitted record contains a
+ * {@code foo_<aggregation>} property for each configured aggregation, together with the {@code window_start} and
+ * {@code window_end} timestamps.
+ * <br>
+ * Tumbling windows are emitted every window size interval, sliding windows are emitted every slide interval and cover
+ * the last window size interval. Windows are based on the time of reception of the envelopes.
+ */
+public final class WindowAggregator implements WireEmitter, WireReceiver, ConfigurableComponent {
+
+    private static final Logger logger = LogManager.getLogger(WindowAggregator.class);
+
+    static final String WINDOW_START_PROP_NAME = "window_start";
+    static final String WINDOW_END_PROP_NAME = "window_end";
+
+    private volatile WireHelperService wireHelperService;
+    private WireSupport wireSupport;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> windowTask;
+
+    private WindowAggregatorOptions options;
+    private PaneWindow window;
+    private long windowStart;
+
+    public void bindWireHelperService(final WireHelperService wireHelperService) {
+        if (isNull(this.wireHelperService)) {
+            this.wireHelperService = wireHelperService;
+        }
+    }
+
+    public void unbindWireHelperService(final WireHelperService wireHelperService) {
+        if (this.wireHelperService == wireHelperService) {
+            this.wireHelperService = null;
+        }
+    }
+
+    public void activate(final Map<String, Object> properties, final ComponentContext componentContext) {
+        logger.info("Activating Window Aggregator...");
+
+        final String pid = String.valueOf(
+                properties.getOrDefault(ConfigurationService.KURA_SERVICE_PID, "WindowAggregator"));
+
+        this.wireSupport = this.wireHelperService.newWireSupport(this,
+                (ServiceReference<WireComponent>) componentContext.getServiceReference());
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, pid + "-WindowThread");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        updated(properties);
+
+        logger.info("Activating Window Aggregator... Done");
+    }
+
+    public synchronized void updated(final Map<String, Object> properties) {
+        logger.info("Updating Window Aggregator...");
+
+        if (this.windowTask != null) {
+            this.windowTask.cancel(false);
+        }
+
+        this.options = new WindowAggregatorOptions(properties);
+        this.window = new PaneWindow(this.options.getPaneCount());
+        this.windowStart = System.currentTimeMillis();
+
+        final long slide = this.options.getWindowSlide();
+
+        this.windowTask = this.executor.scheduleAtFixedRate(this::closeWindow, slide, slide, TimeUnit.MILLISECONDS);
+
+        logger.info("Updating Window Aggregator... Done");
+    }
+
+    public void deactivate() {
+        logger.info("Deactivating Window Aggregator...");
+
+        synchronized (this) {
+            if (this.windowTask != null) {
+                this.windowTask.cancel(false);
+                this.windowTask = null;
+            }
+        }
+
+        this.executor.shutdown();
+
+        logger.info("Deactivating Window Aggregator... Done");
+    }
+
+    @Override
+    public void onWireReceive(final WireEnvelope wireEnvelope) {
+        synchronized (this) {
+            final Pattern filter = this.options.getPropertyFilter();
+
+            for (final WireRecord wireRecord : wireEnvelope.getRecords()) {
+                for (final Entry<String, TypedValue<?>> e : wireRecord.getProperties().entrySet()) {
+                    final String name = e.getKey();
+                    final TypedValue<?> value = e.getValue();
+
+                    if (value != null && filter.matcher(name).matches()) {
+                        this.window.add(name, value);
+                    }
+                }
+            }
+        }
+    }
+
+    void closeWindow() {
+        final WireRecord wireRecord;
+
+        try {
+            synchronized (this) {
+                final long now = System.currentTimeMillis();
+                final Set<Aggregation> aggregations = this.options.getAggregations();
+                final Map<String, TypedValue<?>> properties = new HashMap<>();
+
+                final boolean hasValues = this.window
+                        .slide((name, accumulator) -> fillProperties(name, accumulator, aggregations, properties));
+
+                final long start = this.options.getWindowType() == WindowAggregatorOptions.WindowType.SLIDING
+                        ? Math.max(this.windowStart, now - this.options.getWindowSize())
+                        : this.windowStart;
+
+                if (this.options.getWindowType() == WindowAggregatorOptions.WindowType.TUMBLING) {
+                    this.windowStart = now;
+                }
+
+                if (!hasValues && !this.options.isEmitEmptyWindows()) {
+                    return;
+                }
+
+                properties.put(WINDOW_START_PROP_NAME, TypedValues.newLongValue(start));
+                properties.put(WINDOW_END_PROP_NAME, TypedValues.newLongValue(now));
+
+                wireRecord = new WireRecord(properties);
+            }
+
+            this.wireSupport.emit(Collections.singletonList(wireRecord));
+        } catch (final Exception e) {
+            logger.warn("Failed to emit window aggregates", e);
+        }
+    }
+
+    static void fillProperties(final String name, final PropertyAccumulator accumulator,
+            final Set<Aggregation> aggregations, final Map<String, TypedValue<?>> properties) {
+        for (final Aggregation aggregation : aggregations) {
+            if (aggregation.isNumeric() && !accumulator.isNumeric()) {
+                continue;
+            }
+
+            final String key = name + aggregation.getSuffix();
+
+            switch (aggregation) {
+            case MIN:
+                properties.put(key, TypedValues.newDoubleValue(accumulator.getMin()));
+                break;
+            case MAX:
+                properties.put(key, TypedValues.newDoubleValue(accumulator.getMax()));
+                break;
+            case MEAN:
+                properties.put(key, TypedValues.newDoubleValue(accumulator.getMean()));
+                break;
+            case STDDEV:
+                properties.put(key, TypedValues.newDoubleValue(accumulator.getStdDev()));
+                break;
+            case COUNT:
+                properties.put(key, TypedValues.newLongValue(accumulator.getCount()));
+                break;
+            case LAST:
+                properties.put(key, accumulator.getLast());
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void consumersConnected(final Wire[] wires) {
+        this.wireSupport.consumersConnected(wires);
+    }
+
+    @Override
+    public Object polled(final Wire wire) {
+        return this.wireSupport.polled(wire);
+    }
+
+    @Override
+    public void producersConnected(final Wire[] wires) {
+        this.wireSupport.producersConnected(wires);
+    }
+
+    @Override
+    public void updated(final Wire wire, final Object value) {
+        this.wireSupport.updated(wire, value);
+    }
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+final class WindowAggregatorOptions {
+
+    private static final Logger logger = LogManager.getLogger(WindowAggregatorOptions.class);
+
+    enum WindowType {
+        TUMBLING,
+        SLIDING
+    }
+
+    private static final String WINDOW_TYPE_PROP_NAME = "window.type";
+    private static final String WINDOW_SIZE_PROP_NAME = "window.size.ms";
+    private static final String WINDOW_SLIDE_PROP_NAME = "window.slide.ms";
+    private static final String AGGREGATIONS_PROP_NAME = "aggregations";
+    private static final String PROPERTY_FILTER_PROP_NAME = "property.filter";
+    private static final String EMIT_EMPTY_WINDOWS_PROP_NAME = "emit.empty.windows";
+
+    private static final String WINDOW_TYPE_DEFAULT = WindowType.TUMBLING.name();
+    private static final long WINDOW_SIZE_DEFAULT = 60000;
+    private static final long WINDOW_SLIDE_DEFAULT = 10000;
+    private static final String AGGREGATIONS_DEFAULT = "MIN,MAX,MEAN,COUNT,LAST";
+    private static final String PROPERTY_FILTER_DEFAULT = ".*";
+
+    static final int MAX_PANE_COUNT = 1000;
+
+    private final WindowType windowType;
+    private final long windowSize;
+    private final long windowSlide;
+    private final Set<Aggregation> aggregations;
+    private final Pattern propertyFilter;
+    private final boolean emitEmptyWindows;
+
+    WindowAggregatorOptions(final Map<String, Object> properties) {
+        requireNonNull(properties, "Properties cannot be null");
+
+        this.windowType = parseWindowType(
+                String.valueOf(properties.getOrDefault(WINDOW_TYPE_PROP_NAME, WINDOW_TYPE_DEFAULT)));
+        this.windowSize = Math.max(1,
+                ((Number) properties.getOrDefault(WINDOW_SIZE_PROP_NAME, WINDOW_SIZE_DEFAULT)).longValue());
+
+        if (this.windowType == WindowType.SLIDING) {
+            this.windowSlide = parseWindowSlide(this.windowSize,
+                    ((Number) properties.getOrDefault(WINDOW_SLIDE_PROP_NAME, WINDOW_SLIDE_DEFAULT)).longValue());
+        } else {
+            this.windowSlide = this.windowSize;
+        }
+
+        this.aggregations = parseAggregations(
+                String.valueOf(properties.getOrDefault(AGGREGATIONS_PROP_NAME, AGGREGATIONS_DEFAULT)));
+
+        final String filter = String
+                .valueOf(properties.getOrDefault(PROPERTY_FILTER_PROP_NAME, PROPERTY_FILTER_DEFAULT));
+        this.propertyFilter = Pattern.compile(filter.trim().isEmpty() ? PROPERTY_FILTER_DEFAULT : filter);
+
+        this.emitEmptyWindows = (Boolean) properties.getOrDefault(EMIT_EMPTY_WINDOWS_PROP_NAME, false);
+    }
+
+    WindowType getWindowType() {
+        return this.windowType;
+    }
+
+    long getWindowSize() {
+        return this.windowSize;
+    }
+
+    long getWindowSlide() {
+        return this.windowSlide;
+    }
+
+    /**
+     * @return the number of slide intervals covered by a window, the window size is rounded up to a multiple of the
+     *         slide interval. The result is at most {@link #MAX_PANE_COUNT}.
+     */
+    int getPaneCount() {
+        return (int) Math.min(Integer.MAX_VALUE, (this.windowSize + this.windowSlide - 1) / this.windowSlide);
+    }
+
+    Set<Aggregation> getAggregations() {
+        return this.aggregations;
+    }
+
+    Pattern getPropertyFilter() {
+        return this.propertyFilter;
+    }
+
+    boolean isEmitEmptyWindows() {
+        return this.emitEmptyWindows;
+    }
+
+    private static WindowType parseWindowType(final String value) {
+        try {
+            return WindowType.valueOf(value.trim().toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            logger.warn("Unknown window type: {}, using {}", value, WINDOW_TYPE_DEFAULT);
+            return WindowType.TUMBLING;
+        }
+    }
+
+    private static long parseWindowSlide(final long windowSize, final long value) {
+        final long slide = Math.max(1, value);
+
+        if (slide > windowSize) {
+            logger.warn("Window slide {} ms is greater than the window size, using {} ms", slide, windowSize);
+            return windowSize;
+        }
+
+        final long minSlide = (windowSize + MAX_PANE_COUNT - 1) / MAX_PANE_COUNT;
+
+        if (slide < minSlide) {
+            logger.warn("Window slide {} ms would split the window in more than {} panes, using {} ms", slide,
+                    MAX_PANE_COUNT, minSlide);
+            return minSlide;
+        }
+
+        return slide;
+    }
+
+    private static Set<Aggregation> parseAggregations(final String value) {
+        final Set<Aggregation> result = EnumSet.noneOf(Aggregation.class);
+
+        for (final String item : value.split(",")) {
+            final String trimmed = item.trim();
+
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            try {
+                result.add(Aggregation.valueOf(trimmed.toUpperCase()));
+            } catch (final IllegalArgumentException e) {
+                logger.warn("Ignoring unknown aggregation: {}", trimmed);
+            }
+        }
+
+        if (result.isEmpty()) {
+            result.add(Aggregation.LAST);
+        }
+
+        return Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecord;
+import org.eclipse.kura.wire.ColumnarWireRecord.ColumnarWireRecordBuilder;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+
+/**
+ * Creates {@link ColumnarWireRecord} instances for a prepared list of {@link ChannelRecord}s. The
+ * {@link WireRecordSchema} is computed once and contains the same properties that would be produced by
+ * {@link Utils#toWireRecordProperties(List, WireAssetOptions)}, values that are not available in a given read are
+ * left absent.
+ */
+final class ColumnarEmit {
+
+    private final List<ChannelRecord> preparedRecords;
+    private final TimestampMode timestampMode;
+    private final boolean emitEmptyEnvelopes;
+
+    private final WireRecordSchema schema;
+    private final int[] valueColumns;
+    private final int[] unitColumns;
+    private final int[] timestampColumns;
+    private final int[] errorColumns;
+    private final int singleTimestampColumn;
+    private final int assetNameColumn;
+
+    private ColumnarWireRecordBuilder builder;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param records
+     *            the prepared channel records
+     * @param options
+     *            the wire asset options
+     * @throws IllegalArgumentException
+     *             if the channel names produce duplicated property names
+     */
+    ColumnarEmit(final List<ChannelRecord> records, final WireAssetOptions options) {
+        this.preparedRecords = records;
+        this.timestampMode = options.getTimestampMode();
+        this.emitEmptyEnvelopes = options.emitEmptyEnvelopes();
+
+        final boolean isPerChannel = this.timestampMode == TimestampMode.PER_CHANNEL;
+        final boolean emitErrors = options.emitErrors();
+        final int size = records.size();
+
+        this.valueColumns = new int[size];
+        this.unitColumns = new int[size];
+        this.timestampColumns = isPerChannel ? new int[size] : null;
+        this.errorColumns = emitErrors ? new int[size] : null;
+
+        final WireRecordSchema.WireRecordSchemaBuilder schemaBuilder = WireRecordSchema.builder();
+        int column = 0;
+
+        for (int i = 0; i < size; i++) {
+            final ChannelRecord record = records.get(i);
+            final String channelName = record.getChannelName();
+
+            schemaBuilder.withColumn(channelName, record.getValueType());
+            this.valueColumns[i] = column++;
+
+            schemaBuilder.withColumn(channelName + WireAssetConstants.PROP_SUFFIX_UNIT.value(), DataType.STRING);
+            this.unitColumns[i] = column++;
+
+            if (isPerChannel) {
+                schemaBuilder.withColumn(channelName + WireAssetConstants.PROP_SUFFIX_TIMESTAMP.value(),
+                        DataType.LONG);
+                this.timestampColumns[i] = column++;
+            }
+
+            if (emitErrors) {
+                schemaBuilder.withColumn(channelName + WireAssetConstants.PROP_SUFFIX_ERROR.value(), DataType.STRING);
+                this.errorColumns[i] = column++;
+            }
+        }
+
+        if (this.timestampMode != TimestampMode.NO_TIMESTAMPS && !isPerChannel) {
+            schemaBuilder.withColumn(WireAssetConstants.PROP_SINGLE_TIMESTAMP_NAME.value(), DataType.LONG);
+            this.singleTimestampColumn = column++;
+        } else {
+            this.singleTimestampColumn = -1;
+        }
+
+        schemaBuilder.withColumn(WireAssetConstants.PROP_ASSET_NAME.value(), DataType.STRING);
+        this.assetNameColumn = column;
+
+        this.schema = schemaBuilder.build();
+        this.builder = ColumnarWireRecord.builder(this.schema);
+    }
+
+    boolean canEmit(final List<ChannelRecord> records) {
+        return records == this.preparedRecords;
+    }
+
+    /**
+     * Creates a record from the provided channel records, that must be the ones provided at construction time.
+     *
+     * @param records
+     *            the channel records
+     * @param assetName
+     *            the asset name
+     * @return the record, or an empty optional if the record would be empty and empty envelopes should not be
+     *         emitted
+     * @throws IllegalArgumentException
+     *             if the type of a channel value does not match the one declared by the channel
+     */
+    synchronized Optional<WireRecord> execute(final List<ChannelRecord> records, final String assetName) {
+        try {
+            boolean isEmpty = true;
+            long singleTimestamp = initialSingleTimestamp();
+
+            for (int i = 0; i < records.size(); i++) {
+                final ChannelRecord record = records.get(i);
+
+                if (record.getChannelStatus().getChannelFlag() == ChannelFlag.SUCCESS) {
+                    final TypedValue<?> value = record.getValue();
+
+                    if (value != null) {
+                        this.builder.setValue(this.valueColumns[i], value);
+                        isEmpty = false;
+                    }
+
+                    final String unit = record.getUnit();
+
+                    if (!isNull(unit) && !unit.trim().isEmpty()) {
+                        this.builder.setString(this.unitColumns[i], unit);
+                    }
+                }
+
+                if (this.timestampColumns != null) {
+                    this.builder.setLong(this.timestampColumns[i], record.getTimestamp());
+                    isEmpty = false;
+                }
+
+                if (this.errorColumns != null) {
+                    this.builder.setString(this.errorColumns[i],
+                            RecordFillers.getErrorMessage(record.getChannelStatus()));
+                    isEmpty = false;
+                }
+
+                singleTimestamp = updateSingleTimestamp(singleTimestamp, record.getTimestamp());
+            }
+
+            if (this.singleTimestampColumn != -1) {
+                this.builder.setLong(this.singleTimestampColumn, singleTimestamp);
+                isEmpty = false;
+            }
+
+            if (!this.emitEmptyEnvelopes && isEmpty) {
+                this.builder = ColumnarWireRecord.builder(this.schema);
+                return Optional.empty();
+            }
+
+            this.builder.setString(this.assetNameColumn, assetName);
+
+            return Optional.of(this.builder.build());
+        } catch (final RuntimeException e) {
+            this.builder = ColumnarWireRecord.builder(this.schema);
+            throw e;
+        }
+    }
+
+    private long initialSingleTimestamp() {
+        switch (this.timestampMode) {
+        case SINGLE_ASSET_GENERATED:
+            return System.currentTimeMillis();
+        case SINGLE_DRIVER_GENERATED_MIN:
+            return Long.MAX_VALUE;
+        default:
+            return 0;
+        }
+    }
+
+    private long updateSingleTimestamp(final long current, final long recordTimestamp) {
+        switch (this.timestampMode) {
+        case SINGLE_DRIVER_GENERATED_MAX:
+            return Math.max(current, recordTimestamp);
+        case SINGLE_DRIVER_GENERATED_MIN:
+            return Math.min(current, recordTimestamp);
+        default:
+            return current;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,23 @@ public final class RecordFillers {
         createInternal(record, options, f -> f.fill(envelopeProperties, record));
     }
 
+    static String getErrorMessage(final ChannelStatus channelStatus) {
+        if (channelStatus.getChannelFlag() == ChannelFlag.SUCCESS) {
+            return WireAssetConstants.PROP_VALUE_NO_ERROR.value();
+        }
+        String errorMessage = WireAssetConstants.ERROR_NOT_SPECIFIED_MESSAGE.value();
+        final Exception exception = channelStatus.getException();
+        final String exceptionMsg = channelStatus.getExceptionMessage();
+        if (nonNull(exception) && nonNull(exceptionMsg)) {
+            errorMessage = exceptionMsg + " " + exception.toString();
+        } else if (isNull(exception) && nonNull(exceptionMsg)) {
+            errorMessage = exceptionMsg;
+        } else if (nonNull(exception)) {
+            errorMessage = exception.toString();
+        }
+        return errorMessage;
+    }
+
     private static void createInternal(final ChannelRecord record, final WireAssetOptions options,
             final Consumer<RecordFiller> consumer) {
         final ValueFiller valueFiller = new ValueFiller(record);
@@ -113,23 +130,6 @@ public final class RecordFillers {
             envelopeProperties.put(this.errorKey,
                     TypedValues.newStringValue(getErrorMessage(record.getChannelStatus())));
         }
-
-        private String getErrorMessage(final ChannelStatus channelStatus) {
-            if (channelStatus.getChannelFlag() == ChannelFlag.SUCCESS) {
-                return WireAssetConstants.PROP_VALUE_NO_ERROR.value();
-            }
-            String errorMessage = WireAssetConstants.ERROR_NOT_SPECIFIED_MESSAGE.value();
-            final Exception exception = channelStatus.getException();
-            final String exceptionMsg = channelStatus.getExceptionMessage();
-            if (nonNull(exception) && nonNull(exceptionMsg)) {
-                errorMessage = exceptionMsg + " " + exception.toString();
-            } else if (isNull(exception) && nonNull(exceptionMsg)) {
-                errorMessage = exceptionMsg;
-            } else if (nonNull(exception)) {
-                errorMessage = exception.toString();
-            }
-            return errorMessage;
-        }
     }
 
     private static class TimestampFiller implements RecordFiller {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -339,10 +339,16 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
         final List<ChannelRecord> toBeEmitted = this.valueChangeCache.map(c -> c.filterRecords(channelRecords))
                 .orElse(channelRecords);
 
+        final PreparedEmit currentPreparedEmit = this.preparedEmit;
+
+        if (currentPreparedEmit != null && currentPreparedEmit.tryEmitColumnar(toBeEmitted)) {
+            return;
+        }
+
         final Map<String, TypedValue<?>> wireRecordProperties;
 
-        if (this.preparedEmit != null) {
-            wireRecordProperties = this.preparedEmit.execute(toBeEmitted);
+        if (currentPreparedEmit != null) {
+            wireRecordProperties = currentPreparedEmit.execute(toBeEmitted);
         } else {
             wireRecordProperties = Utils.toWireRecordProperties(toBeEmitted, this.options);
         }
@@ -475,10 +481,43 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
         private final List<ChannelRecord> preparedRecords;
         private final List<RecordFiller> recordFillers;
+        private final Optional<ColumnarEmit> columnarEmit;
 
         PreparedEmit(final List<ChannelRecord> records) {
             this.preparedRecords = records;
             this.recordFillers = RecordFillers.create(this.preparedRecords, WireAsset.this.options);
+            this.columnarEmit = createColumnarEmit(records);
+        }
+
+        boolean tryEmitColumnar(final List<ChannelRecord> channelRecords) {
+            if (!this.columnarEmit.isPresent() || !this.columnarEmit.get().canEmit(channelRecords)) {
+                return false;
+            }
+
+            try {
+                this.columnarEmit.get().execute(channelRecords, getKuraServicePid())
+                        .ifPresent(r -> WireAsset.this.wireSupport.emit(Collections.singletonList(r)));
+                return true;
+            } catch (final IllegalArgumentException e) {
+                // driver returned a value with an unexpected type
+                // fallback to map based records
+                logger.debug("Failed to create columnar record for Wire Asset: {}", getKuraServicePid(), e);
+                return false;
+            }
+        }
+
+        private Optional<ColumnarEmit> createColumnarEmit(final List<ChannelRecord> records) {
+            if (!WireAsset.this.options.emitColumnarRecords()) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(new ColumnarEmit(records, WireAsset.this.options));
+            } catch (final IllegalArgumentException e) {
+                logger.warn("Columnar records cannot be emitted by Wire Asset: {}, {}", getKuraServicePid(),
+                        e.getMessage());
+                return Optional.empty();
+            }
         }
 
         Map<String, TypedValue<?>> execute(final List<ChannelRecord> channelRecords) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,11 @@ public class WireAssetOCD extends BaseAssetOCD {
     private static final String EMIT_EMPTY_ENVELOPES_DESCRIPTION = "If set to false, this component will not emit empty envelopes."
             + " This property can be useful if combined with emit.on.change.";
 
+    private static final String EMIT_COLUMNAR_RECORDS_DESCRIPTION = "If set to true, this component will emit records"
+            + " that store channel values in a columnar layout shared across reads, reducing allocations at high sampling rates."
+            + " The emitted properties are the same, downstream components that are not aware of the columnar layout"
+            + " will see no difference.";
+
     private static void addOptions(Tad target, Enum<?>[] values) {
         final List<Option> options = target.getOption();
         for (Enum<?> value : values) {
@@ -141,6 +146,17 @@ public class WireAssetOCD extends BaseAssetOCD {
 
         addAD(emitEmptyEnvelopesAd);
 
+        final Tad emitColumnarRecordsAd = new Tad();
+        emitColumnarRecordsAd.setId(WireAssetOptions.EMIT_COLUMNAR_RECORDS_PROP_NAME);
+        emitColumnarRecordsAd.setName(WireAssetOptions.EMIT_COLUMNAR_RECORDS_PROP_NAME);
+        emitColumnarRecordsAd.setCardinality(0);
+        emitColumnarRecordsAd.setType(Tscalar.BOOLEAN);
+        emitColumnarRecordsAd.setDescription(EMIT_COLUMNAR_RECORDS_DESCRIPTION);
+        emitColumnarRecordsAd.setRequired(true);
+        emitColumnarRecordsAd.setDefault("false");
+
+        addAD(emitColumnarRecordsAd);
+
     }
 
 }
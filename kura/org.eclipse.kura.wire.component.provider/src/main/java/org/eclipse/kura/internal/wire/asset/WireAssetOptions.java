@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ class WireAssetOptions {
     public static final String EMIT_CONNECTION_ERRORS_PROP_NAME = "emit.connection.errors";
     public static final String EMIT_ON_CHANGE_PROP_NAME = "emit.on.change";
     public static final String EMIT_EMPTY_ENVELOPES_PROP_NAME = "emit.empty.envelopes";
+    public static final String EMIT_COLUMNAR_RECORDS_PROP_NAME = "emit.columnar.records";
 
     private boolean emitAllChannels;
     private TimestampMode timestampMode;
@@ -30,6 +31,7 @@ class WireAssetOptions {
     private boolean emitConnectionErrors;
     private boolean emitOnChange;
     private boolean emitEmptyEnvelopes;
+    private boolean emitColumnarRecords;
 
     public WireAssetOptions() {
     }
@@ -40,12 +42,14 @@ class WireAssetOptions {
         final Object emitConnectionErrorsProp = properties.get(EMIT_CONNECTION_ERRORS_PROP_NAME);
         final Object emitOnChangeProp = properties.get(EMIT_ON_CHANGE_PROP_NAME);
         final Object emitEmptyEnvelopesProp = properties.get(EMIT_EMPTY_ENVELOPES_PROP_NAME);
+        final Object emitColumnarRecordsProp = properties.get(EMIT_COLUMNAR_RECORDS_PROP_NAME);
 
         this.emitAllChannels = emitAllChannelsProp instanceof Boolean && (Boolean) emitAllChannelsProp;
         this.emitErrors = emitErrorsProp instanceof Boolean && (Boolean) emitErrorsProp;
         this.emitConnectionErrors = emitConnectionErrorsProp instanceof Boolean && (Boolean) emitConnectionErrorsProp;
         this.emitOnChange = emitOnChangeProp instanceof Boolean && (Boolean) emitOnChangeProp;
         this.emitEmptyEnvelopes = !(emitEmptyEnvelopesProp instanceof Boolean) || (Boolean) emitEmptyEnvelopesProp;
+        this.emitColumnarRecords = emitColumnarRecordsProp instanceof Boolean && (Boolean) emitColumnarRecordsProp;
 
         this.timestampMode = extractTimestampMode(properties);
     }
@@ -74,6 +78,10 @@ class WireAssetOptions {
         return this.emitEmptyEnvelopes;
     }
 
+    public boolean emitColumnarRecords() {
+        return this.emitColumnarRecords;
+    }
+
     private static TimestampMode extractTimestampMode(final Map<String, Object> properties) {
         try {
             return TimestampMode.valueOf(properties.get(TIMESTAMP_MODE_PROP_NAME).toString());
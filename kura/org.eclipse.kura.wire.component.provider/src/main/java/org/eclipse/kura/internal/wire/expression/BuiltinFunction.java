@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static org.eclipse.kura.internal.wire.expression.Operator.isIntegral;
+import static org.eclipse.kura.internal.wire.expression.Operator.typeName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The functions that can be called by the expressions of the {@link ExpressionFilter}. The math functions accept
+ * numeric arguments, the conversion functions (int, long, float, double, string and boolean) accept arguments of any
+ * type and can be used to select the type of the emitted properties.
+ */
+enum BuiltinFunction {
+
+    ABS("abs", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            checkNumber(arg);
+            if (arg instanceof Integer) {
+                return Math.abs((Integer) arg);
+            } else if (arg instanceof Long) {
+                return Math.abs((Long) arg);
+            } else if (arg instanceof Float) {
+                return Math.abs((Float) arg);
+            }
+            return Math.abs(((Number) arg).doubleValue());
+        }
+    },
+    SQRT("sqrt", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::sqrt);
+        }
+    },
+    EXP("exp", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::exp);
+        }
+    },
+    LOG("log", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::log);
+        }
+    },
+    LOG10("log10", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::log10);
+        }
+    },
+    SIN("sin", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::sin);
+        }
+    },
+    COS("cos", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::cos);
+        }
+    },
+    TAN("tan", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::tan);
+        }
+    },
+    FLOOR("floor", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::floor);
+        }
+    },
+    CEIL("ceil", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            return applyMath(args[0], Math::ceil);
+        }
+    },
+    ROUND("round", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            checkNumber(arg);
+            return isIntegral(arg) ? ((Number) arg).longValue() : Math.round(((Number) arg).doubleValue());
+        }
+    },
+    MIN("min", 2) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object first = args[0];
+            final Object second = args[1];
+            checkNumber(first);
+            checkNumber(second);
+            if (isIntegral(first) && isIntegral(second)) {
+                return Math.min(((Number) first).longValue(), ((Number) second).longValue());
+            }
+            return Math.min(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        }
+    },
+    MAX("max", 2) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object first = args[0];
+            final Object second = args[1];
+            checkNumber(first);
+            checkNumber(second);
+            if (isIntegral(first) && isIntegral(second)) {
+                return Math.max(((Number) first).longValue(), ((Number) second).longValue());
+            }
+            return Math.max(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        }
+    },
+    POW("pow", 2) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object first = args[0];
+            final Object second = args[1];
+            checkNumber(first);
+            checkNumber(second);
+            return Math.pow(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        }
+    },
+    INT("int", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            if (arg instanceof String) {
+                return Integer.parseInt(((String) arg).trim());
+            }
+            return toNumber(arg).intValue();
+        }
+    },
+    LONG("long", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            if (arg instanceof String) {
+                return Long.parseLong(((String) arg).trim());
+            }
+            return toNumber(arg).longValue();
+        }
+    },
+    FLOAT("float", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            if (arg instanceof String) {
+                return Float.parseFloat((String) arg);
+            }
+            return toNumber(arg).floatValue();
+        }
+    },
+    DOUBLE("double", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            if (arg instanceof String) {
+                return Double.parseDouble((String) arg);
+            }
+            return toNumber(arg).doubleValue();
+        }
+    },
+    STRING("string", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            return Operator.toString(arg);
+        }
+    },
+    BOOLEAN("boolean", 1) {
+
+        @Override
+        Object apply(final Object[] args) {
+            final Object arg = args[0];
+            if (arg instanceof Boolean) {
+                return arg;
+            } else if (arg instanceof String) {
+                return Boolean.parseBoolean(((String) arg).trim());
+            }
+            return toNumber(arg).doubleValue() != 0;
+        }
+    };
+
+    private static final Map<String, BuiltinFunction> FUNCTIONS = new HashMap<>();
+
+    static {
+        for (final BuiltinFunction function : values()) {
+            FUNCTIONS.put(function.functionName, function);
+        }
+    }
+
+    private final String functionName;
+    private final int arity;
+
+    private BuiltinFunction(final String functionName, final int arity) {
+        this.functionName = functionName;
+        this.arity = arity;
+    }
+
+    static BuiltinFunction forName(final String functionName) {
+        return FUNCTIONS.get(functionName);
+    }
+
+    String getFunctionName() {
+        return this.functionName;
+    }
+
+    int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * Applies the function to the given arguments, that are never {@code null}. The number of arguments is equal to
+     * {@link #getArity()}, this is checked when the expression is parsed.
+     */
+    abstract Object apply(Object[] args);
+
+    Object applyMath(final Object arg, final DoubleUnaryOperator mathFunction) {
+        checkNumber(arg);
+        return mathFunction.applyAsDouble(((Number) arg).doubleValue());
+    }
+
+    void checkNumber(final Object arg) {
+        if (!(arg instanceof Number)) {
+            throw new IllegalArgumentException(
+                    "Function " + this.functionName + " cannot be applied to " + typeName(arg));
+        }
+    }
+
+    Number toNumber(final Object arg) {
+        if (arg instanceof Boolean) {
+            return (Boolean) arg ? 1 : 0;
+        }
+        checkNumber(arg);
+        return (Number) arg;
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import java.util.Map;
+
+import org.eclipse.kura.type.TypedValue;
+
+/**
+ * A compiled expression, evaluated against the properties of a wire record.
+ * <br>
+ * The result is one of {@link Boolean}, {@link Integer}, {@link Long}, {@link Float}, {@link Double}, {@link String}
+ * or {@code byte[]}, or {@code null} if the expression references a property that is not present in the record.
+ */
+@FunctionalInterface
+interface Expression {
+
+    Object evaluate(Map<String, TypedValue<?>> properties);
+
+    /**
+     * An expression whose value does not depend on the record properties.
+     */
+    final class Constant implements Expression {
+
+        private final Object value;
+
+        Constant(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(final Map<String, TypedValue<?>> properties) {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.internal.wire.expression.ExpressionParser.Assignment;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireReceiver;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+
+/**
+ * A {@link WireComponent} that selects the received {@link WireRecord}s with a boolean condition and computes the
+ * properties of the emitted records with a set of {@code property = expression} assignments. The expressions are
+ * compiled when the component is configured and are evaluated directly on the {@link TypedValue}s of the received
+ * records, see {@link ExpressionParser} for the supported syntax.
+ * <br>
+ * An assignment is skipped if its expression references a property that is not present in the record or fails, the
+ * assignments are evaluated against the properties of the received record. Records without properties are not
+ * emitted.
+ */
+public final class ExpressionFilter implements WireEmitter, WireReceiver, ConfigurableComponent {
+
+    private static final Logger logger = LogManager.getLogger(ExpressionFilter.class);
+
+    private volatile WireHelperService wireHelperService;
+    private WireSupport wireSupport;
+
+    private volatile Optional<ExpressionFilterOptions> options = Optional.empty();
+
+    public void bindWireHelperService(final WireHelperService wireHelperService) {
+        if (isNull(this.wireHelperService)) {
+            this.wireHelperService = wireHelperService;
+        }
+    }
+
+    public void unbindWireHelperService(final WireHelperService wireHelperService) {
+        if (this.wireHelperService == wireHelperService) {
+            this.wireHelperService = null;
+        }
+    }
+
+    public void activate(final Map<String, Object> properties, final ComponentContext componentContext) {
+        logger.info("Activating Expression Filter...");
+
+        this.wireSupport = this.wireHelperService.newWireSupport(this,
+                (ServiceReference<WireComponent>) componentContext.getServiceReference());
+
+        updated(properties);
+
+        logger.info("Activating Expression Filter... Done");
+    }
+
+    public synchronized void updated(final Map<String, Object> properties) {
+        logger.info("Updating Expression Filter...");
+
+        try {
+            this.options = Optional.of(new ExpressionFilterOptions(properties));
+        } catch (final IllegalArgumentException e) {
+            logger.error("Invalid configuration, received envelopes will be dropped: {}", e.getMessage());
+            this.options = Optional.empty();
+        }
+
+        logger.info("Updating Expression Filter... Done");
+    }
+
+    @Override
+    public void onWireReceive(final WireEnvelope wireEnvelope) {
+        requireNonNull(wireEnvelope, "Wire Envelope cannot be null");
+
+        final Optional<ExpressionFilterOptions> currentOptions = this.options;
+
+        if (!currentOptions.isPresent()) {
+            return;
+        }
+
+        final List<WireRecord> result = new ArrayList<>(wireEnvelope.getRecords().size());
+
+        for (final WireRecord wireRecord : wireEnvelope.getRecords()) {
+            final Optional<WireRecord> output = evaluate(currentOptions.get(), wireRecord);
+
+            if (output.isPresent()) {
+                result.add(output.get());
+            }
+        }
+
+        if (!result.isEmpty()) {
+            this.wireSupport.emit(result);
+        }
+    }
+
+    static Optional<WireRecord> evaluate(final ExpressionFilterOptions options, final WireRecord wireRecord) {
+        final Map<String, TypedValue<?>> properties = wireRecord.getProperties();
+        final Optional<Expression> condition = options.getCondition();
+
+        if (condition.isPresent() && !isConditionSatisfied(condition.get(), properties)) {
+            return Optional.empty();
+        }
+
+        final List<Assignment> assignments = options.getAssignments();
+
+        if (assignments.isEmpty()) {
+            return properties.isEmpty() ? Optional.empty() : Optional.of(wireRecord);
+        }
+
+        final Map<String, TypedValue<?>> result = options.isEmitReceivedProperties() ? new HashMap<>(properties)
+                : new HashMap<>(assignments.size());
+
+        for (final Assignment assignment : assignments) {
+            try {
+                final Object value = assignment.getExpression().evaluate(properties);
+
+                if (value != null) {
+                    result.put(assignment.getPropertyName(), TypedValues.newTypedValue(value));
+                }
+            } catch (final RuntimeException e) {
+                logger.warn("Failed to evaluate the expression for property {}: {}", assignment.getPropertyName(),
+                        e.getMessage());
+            }
+        }
+
+        return result.isEmpty() ? Optional.empty() : Optional.of(new WireRecord(result));
+    }
+
+    private static boolean isConditionSatisfied(final Expression condition,
+            final Map<String, TypedValue<?>> properties) {
+        try {
+            final Object value = condition.evaluate(properties);
+
+            if (value == null || value instanceof Boolean) {
+                return Boolean.TRUE.equals(value);
+            }
+
+            logger.warn("The condition must evaluate to a boolean, found: {}", value);
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to evaluate the condition: {}", e.getMessage());
+        }
+
+        return false;
+    }
+
+    @Override
+    public void consumersConnected(final Wire[] wires) {
+        this.wireSupport.consumersConnected(wires);
+    }
+
+    @Override
+    public Object polled(final Wire wire) {
+        return this.wireSupport.polled(wire);
+    }
+
+    @Override
+    public void producersConnected(final Wire[] wires) {
+        this.wireSupport.producersConnected(wires);
+    }
+
+    @Override
+    public void updated(final Wire wire, final Object value) {
+        this.wireSupport.updated(wire, value);
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.kura.internal.wire.expression.ExpressionParser.Assignment;
+
+/**
+ * The configuration of the {@link ExpressionFilter}, the expressions are compiled when the options are created.
+ */
+final class ExpressionFilterOptions {
+
+    private static final String CONDITION_PROP_NAME = "condition";
+    private static final String EXPRESSIONS_PROP_NAME = "expressions";
+    private static final String EMIT_RECEIVED_PROPERTIES_PROP_NAME = "emit.received.properties";
+
+    private final Optional<Expression> condition;
+    private final List<Assignment> assignments;
+    private final boolean emitReceivedProperties;
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the condition or one of the expressions are not valid
+     */
+    ExpressionFilterOptions(final Map<String, Object> properties) {
+        requireNonNull(properties, "Properties cannot be null");
+
+        final String conditionSource = String.valueOf(properties.getOrDefault(CONDITION_PROP_NAME, "")).trim();
+        this.condition = conditionSource.isEmpty() ? Optional.empty()
+                : Optional.of(ExpressionParser.parse(conditionSource));
+
+        this.assignments = parseAssignments(String.valueOf(properties.getOrDefault(EXPRESSIONS_PROP_NAME, "")));
+        this.emitReceivedProperties = (Boolean) properties.getOrDefault(EMIT_RECEIVED_PROPERTIES_PROP_NAME, false);
+    }
+
+    /**
+     * @return the condition that selects the records to be emitted, if configured
+     */
+    Optional<Expression> getCondition() {
+        return this.condition;
+    }
+
+    List<Assignment> getAssignments() {
+        return this.assignments;
+    }
+
+    boolean isEmitReceivedProperties() {
+        return this.emitReceivedProperties;
+    }
+
+    private static List<Assignment> parseAssignments(final String value) {
+        final List<Assignment> result = new ArrayList<>();
+
+        for (final String line : value.split("\\r?\\n|\\r")) {
+            final String trimmed = line.trim();
+
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+
+            result.add(ExpressionParser.parseAssignment(trimmed));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+}
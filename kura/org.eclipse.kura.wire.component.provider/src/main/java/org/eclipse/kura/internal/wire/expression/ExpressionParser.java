@@ -0,0 +1,538 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.internal.wire.expression.Expression.Constant;
+import org.eclipse.kura.type.TypedValue;
+
+/**
+ * Compiles the expressions of the {@link ExpressionFilter} into a tree of {@link Expression} lambdas, so that the
+ * source is parsed only once when the component is configured. Sub-expressions that do not reference any property are
+ * evaluated at compile time.
+ * <br>
+ * The supported syntax, in order of increasing precedence:
+ * <ul>
+ * <li>the conditional operator {@code condition ? a : b}</li>
+ * <li>the logical operators {@code ||} and {@code &&}, operating on boolean values</li>
+ * <li>the equality operators {@code ==} and {@code !=}</li>
+ * <li>the comparison operators {@code <}, {@code <=}, {@code >} and {@code >=}, operating on numbers or strings</li>
+ * <li>the arithmetic operators {@code +}, {@code -}, {@code *}, {@code /} and {@code %}</li>
+ * <li>the unary operators {@code -} and {@code !}</li>
+ * <li>function calls, see {@link BuiltinFunction}, and {@code has(property)}, that returns true if the property is
+ * present in the record</li>
+ * <li>integer and decimal number literals, string literals enclosed in single or double quotes, {@code true} and
+ * {@code false}</li>
+ * <li>property references, property names can contain letters, digits, {@code _} and {@code .} characters, other
+ * names can be enclosed in backticks</li>
+ * </ul>
+ * If a referenced property is not present in the record, the expression evaluates to {@code null}.
+ */
+final class ExpressionParser {
+
+    private static final String HAS_FUNCTION_NAME = "has";
+
+    private final String source;
+    private int position;
+
+    private ExpressionParser(final String source) {
+        this.source = source;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @throws IllegalArgumentException
+     *             if the expression is not valid
+     */
+    static Expression parse(final String source) {
+        requireNonNull(source, "Expression cannot be null");
+
+        final ExpressionParser parser = new ExpressionParser(source);
+        final Expression result = parser.parseExpression();
+        parser.expectEnd();
+
+        return result;
+    }
+
+    /**
+     * Compiles an assignment in the {@code property = expression} form.
+     *
+     * @throws IllegalArgumentException
+     *             if the assignment is not valid
+     */
+    static Assignment parseAssignment(final String source) {
+        requireNonNull(source, "Assignment cannot be null");
+
+        final ExpressionParser parser = new ExpressionParser(source);
+        final String propertyName = parser.parsePropertyName();
+
+        parser.skipWhitespace();
+        if (!parser.consume("=") || parser.peek() == '=') {
+            throw parser.error("Expected '='");
+        }
+
+        final Expression expression = parser.parseExpression();
+        parser.expectEnd();
+
+        return new Assignment(propertyName, expression);
+    }
+
+    /**
+     * An expression whose result is assigned to a property of the emitted record.
+     */
+    static final class Assignment {
+
+        private final String propertyName;
+        private final Expression expression;
+
+        Assignment(final String propertyName, final Expression expression) {
+            this.propertyName = propertyName;
+            this.expression = expression;
+        }
+
+        String getPropertyName() {
+            return this.propertyName;
+        }
+
+        Expression getExpression() {
+            return this.expression;
+        }
+    }
+
+    private Expression parseExpression() {
+        final Expression condition = parseOr();
+
+        skipWhitespace();
+        if (!consume("?")) {
+            return condition;
+        }
+
+        final Expression whenTrue = parseExpression();
+
+        skipWhitespace();
+        if (!consume(":")) {
+            throw error("Expected ':'");
+        }
+
+        final Expression whenFalse = parseExpression();
+
+        return fold(properties -> {
+            final Object value = condition.evaluate(properties);
+            if (value == null) {
+                return null;
+            }
+            return checkBoolean("?", value) ? whenTrue.evaluate(properties) : whenFalse.evaluate(properties);
+        }, condition, whenTrue, whenFalse);
+    }
+
+    private Expression parseOr() {
+        Expression result = parseAnd();
+
+        while (true) {
+            skipWhitespace();
+            if (!consume("||")) {
+                return result;
+            }
+
+            final Expression left = result;
+            final Expression right = parseAnd();
+
+            result = fold(properties -> {
+                final Object value = left.evaluate(properties);
+                if (value == null) {
+                    return null;
+                }
+                return checkBoolean("||", value) ? Boolean.TRUE : evaluateBoolean("||", right, properties);
+            }, left, right);
+        }
+    }
+
+    private Expression parseAnd() {
+        Expression result = parseBinary(0);
+
+        while (true) {
+            skipWhitespace();
+            if (!consume("&&")) {
+                return result;
+            }
+
+            final Expression left = result;
+            final Expression right = parseBinary(0);
+
+            result = fold(properties -> {
+                final Object value = left.evaluate(properties);
+                if (value == null) {
+                    return null;
+                }
+                return checkBoolean("&&", value) ? evaluateBoolean("&&", right, properties) : Boolean.FALSE;
+            }, left, right);
+        }
+    }
+
+    private Expression parseBinary(final int minPrecedence) {
+        Expression result = parseUnary();
+
+        while (true) {
+            final Operator operator = peekOperator();
+            if (operator == null || operator.getPrecedence() < minPrecedence) {
+                return result;
+            }
+
+            consume(operator.getSymbol());
+
+            final Expression left = result;
+            final Expression right = parseBinary(operator.getPrecedence() + 1);
+
+            result = fold(properties -> {
+                final Object leftValue = left.evaluate(properties);
+                if (leftValue == null) {
+                    return null;
+                }
+                final Object rightValue = right.evaluate(properties);
+                if (rightValue == null) {
+                    return null;
+                }
+                return operator.apply(leftValue, rightValue);
+            }, left, right);
+        }
+    }
+
+    private Expression parseUnary() {
+        skipWhitespace();
+
+        if (consume("-")) {
+            final Expression operand = parseUnary();
+
+            return fold(properties -> {
+                final Object value = operand.evaluate(properties);
+                if (value == null) {
+                    return null;
+                }
+                return Operator.SUBTRACT.apply(value instanceof Double || value instanceof Float ? 0.0d : 0L, value);
+            }, operand);
+        }
+
+        if (consume("!")) {
+            final Expression operand = parseUnary();
+
+            return fold(properties -> {
+                final Object value = operand.evaluate(properties);
+                if (value == null) {
+                    return null;
+                }
+                return !checkBoolean("!", value);
+            }, operand);
+        }
+
+        return parsePrimary();
+    }
+
+    private Expression parsePrimary() {
+        skipWhitespace();
+
+        final char c = peek();
+
+        if (consume("(")) {
+            final Expression result = parseExpression();
+            skipWhitespace();
+            if (!consume(")")) {
+                throw error("Expected ')'");
+            }
+            return result;
+        } else if (c == '\'' || c == '"') {
+            return new Constant(parseString());
+        } else if (Character.isDigit(c) || c == '.' && Character.isDigit(peek(1))) {
+            return new Constant(parseNumber());
+        } else if (c == '`') {
+            return propertyReference(parsePropertyName());
+        } else if (isIdentifierStart(c)) {
+            return parseIdentifier();
+        }
+
+        throw error(c == 0 ? "Unexpected end of expression" : "Unexpected character '" + c + "'");
+    }
+
+    private Expression parseIdentifier() {
+        final int start = this.position;
+        final String name = parsePropertyName();
+
+        skipWhitespace();
+        if (!consume("(")) {
+            if ("true".equals(name)) {
+                return new Constant(Boolean.TRUE);
+            } else if ("false".equals(name)) {
+                return new Constant(Boolean.FALSE);
+            }
+            return propertyReference(name);
+        }
+
+        final List<Expression> arguments = parseArguments();
+
+        if (HAS_FUNCTION_NAME.equals(name)) {
+            checkArity(name, 1, arguments.size(), start);
+
+            final Expression argument = arguments.get(0);
+            return fold(properties -> argument.evaluate(properties) != null, argument);
+        }
+
+        final BuiltinFunction function = BuiltinFunction.forName(name);
+
+        if (function == null) {
+            this.position = start;
+            throw error("Unknown function '" + name + "'");
+        }
+
+        checkArity(name, function.getArity(), arguments.size(), start);
+
+        final Expression[] operands = arguments.toArray(new Expression[arguments.size()]);
+
+        return fold(properties -> {
+            final Object[] values = new Object[operands.length];
+
+            for (int i = 0; i < operands.length; i++) {
+                values[i] = operands[i].evaluate(properties);
+                if (values[i] == null) {
+                    return null;
+                }
+            }
+
+            return function.apply(values);
+        }, operands);
+    }
+
+    private List<Expression> parseArguments() {
+        final List<Expression> arguments = new ArrayList<>();
+
+        skipWhitespace();
+        if (consume(")")) {
+            return arguments;
+        }
+
+        while (true) {
+            arguments.add(parseExpression());
+
+            skipWhitespace();
+            if (consume(")")) {
+                return arguments;
+            } else if (!consume(",")) {
+                throw error("Expected ',' or ')'");
+            }
+        }
+    }
+
+    private void checkArity(final String name, final int expected, final int actual, final int start) {
+        if (expected != actual) {
+            this.position = start;
+            throw error("Function '" + name + "' expects " + expected + (expected == 1 ? " argument" : " arguments"));
+        }
+    }
+
+    private static Expression propertyReference(final String name) {
+        return properties -> {
+            final TypedValue<?> value = properties.get(name);
+            return value == null ? null : value.getValue();
+        };
+    }
+
+    private String parsePropertyName() {
+        skipWhitespace();
+
+        final int start = this.position;
+
+        if (consume("`")) {
+            final int end = this.source.indexOf('`', this.position);
+            if (end < 0) {
+                this.position = start;
+                throw error("Unterminated property name");
+            }
+
+            final String name = this.source.substring(this.position, end);
+            this.position = end + 1;
+            return name;
+        }
+
+        if (!isIdentifierStart(peek())) {
+            throw error("Expected property name");
+        }
+
+        while (isIdentifierPart(peek())) {
+            this.position++;
+        }
+
+        return this.source.substring(start, this.position);
+    }
+
+    private String parseString() {
+        final int start = this.position;
+        final char quote = this.source.charAt(this.position++);
+        final StringBuilder builder = new StringBuilder();
+
+        while (this.position < this.source.length()) {
+            final char c = this.source.charAt(this.position++);
+
+            if (c == quote) {
+                return builder.toString();
+            } else if (c != '\\' || this.position == this.source.length()) {
+                builder.append(c);
+                continue;
+            }
+
+            final char escaped = this.source.charAt(this.position++);
+
+            if (escaped == 'n') {
+                builder.append('\n');
+            } else if (escaped == 't') {
+                builder.append('\t');
+            } else {
+                builder.append(escaped);
+            }
+        }
+
+        this.position = start;
+        throw error("Unterminated string");
+    }
+
+    private Object parseNumber() {
+        final int start = this.position;
+        boolean decimal = false;
+
+        while (Character.isDigit(peek())) {
+            this.position++;
+        }
+
+        if (peek() == '.' && Character.isDigit(peek(1))) {
+            decimal = true;
+            this.position++;
+            while (Character.isDigit(peek())) {
+                this.position++;
+            }
+        }
+
+        if (peek() == 'e' || peek() == 'E') {
+            final int exponentStart = this.position;
+            this.position++;
+            if (peek() == '+' || peek() == '-') {
+                this.position++;
+            }
+            if (Character.isDigit(peek())) {
+                decimal = true;
+                while (Character.isDigit(peek())) {
+                    this.position++;
+                }
+            } else {
+                this.position = exponentStart;
+            }
+        }
+
+        final String literal = this.source.substring(start, this.position);
+
+        try {
+            return decimal ? (Object) Double.parseDouble(literal) : (Object) Long.parseLong(literal);
+        } catch (final NumberFormatException e) {
+            this.position = start;
+            throw error("Invalid number '" + literal + "'");
+        }
+    }
+
+    private Operator peekOperator() {
+        skipWhitespace();
+
+        Operator result = null;
+
+        for (final Operator operator : Operator.values()) {
+            if (this.source.startsWith(operator.getSymbol(), this.position)
+                    && (result == null || operator.getSymbol().length() > result.getSymbol().length())) {
+                result = operator;
+            }
+        }
+
+        return result;
+    }
+
+    private Expression fold(final Expression expression, final Expression... operands) {
+        for (final Expression operand : operands) {
+            if (!(operand instanceof Constant)) {
+                return expression;
+            }
+        }
+
+        try {
+            return new Constant(expression.evaluate(Collections.emptyMap()));
+        } catch (final RuntimeException e) {
+            throw error(e.getMessage());
+        }
+    }
+
+    private static boolean checkBoolean(final String operator, final Object value) {
+        if (!(value instanceof Boolean)) {
+            throw new IllegalArgumentException(
+                    "Operator " + operator + " requires a boolean operand, found " + Operator.typeName(value));
+        }
+        return (Boolean) value;
+    }
+
+    private static Object evaluateBoolean(final String operator, final Expression expression,
+            final Map<String, TypedValue<?>> properties) {
+        final Object value = expression.evaluate(properties);
+        return value == null ? null : checkBoolean(operator, value);
+    }
+
+    private static boolean isIdentifierStart(final char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+
+    private char peek() {
+        return peek(0);
+    }
+
+    private char peek(final int offset) {
+        final int index = this.position + offset;
+        return index < this.source.length() ? this.source.charAt(index) : 0;
+    }
+
+    private boolean consume(final String token) {
+        if (this.source.startsWith(token, this.position)) {
+            this.position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (Character.isWhitespace(peek())) {
+            this.position++;
+        }
+    }
+
+    private void expectEnd() {
+        skipWhitespace();
+        if (this.position < this.source.length()) {
+            throw error("Unexpected character '" + peek() + "'");
+        }
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(message + " at position " + this.position + " in: " + this.source);
+    }
+}
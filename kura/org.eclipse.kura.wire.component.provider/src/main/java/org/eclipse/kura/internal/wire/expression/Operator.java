@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import java.util.Arrays;
+
+/**
+ * The binary operators supported by the {@link ExpressionFilter}, the logical operators are evaluated by the parser
+ * to short circuit the evaluation.
+ * <br>
+ * Arithmetic on {@link Integer} and {@link Long} operands produces a {@link Long}, arithmetic involving a floating
+ * point operand produces a {@link Double}. The {@code +} operator concatenates the operands if one of them is a
+ * {@link String}.
+ */
+enum Operator {
+
+    MULTIPLY("*", 5) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            checkNumbers(left, right);
+            if (isIntegral(left) && isIntegral(right)) {
+                return ((Number) left).longValue() * ((Number) right).longValue();
+            }
+            return ((Number) left).doubleValue() * ((Number) right).doubleValue();
+        }
+    },
+    DIVIDE("/", 5) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            checkNumbers(left, right);
+            if (isIntegral(left) && isIntegral(right)) {
+                return ((Number) left).longValue() / ((Number) right).longValue();
+            }
+            return ((Number) left).doubleValue() / ((Number) right).doubleValue();
+        }
+    },
+    REMAINDER("%", 5) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            checkNumbers(left, right);
+            if (isIntegral(left) && isIntegral(right)) {
+                return ((Number) left).longValue() % ((Number) right).longValue();
+            }
+            return ((Number) left).doubleValue() % ((Number) right).doubleValue();
+        }
+    },
+    ADD("+", 4) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            if (left instanceof String || right instanceof String) {
+                return toString(left) + toString(right);
+            }
+            checkNumbers(left, right);
+            if (isIntegral(left) && isIntegral(right)) {
+                return ((Number) left).longValue() + ((Number) right).longValue();
+            }
+            return ((Number) left).doubleValue() + ((Number) right).doubleValue();
+        }
+    },
+    SUBTRACT("-", 4) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            checkNumbers(left, right);
+            if (isIntegral(left) && isIntegral(right)) {
+                return ((Number) left).longValue() - ((Number) right).longValue();
+            }
+            return ((Number) left).doubleValue() - ((Number) right).doubleValue();
+        }
+    },
+    LESS("<", 3) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return compare(left, right) < 0;
+        }
+    },
+    LESS_OR_EQUAL("<=", 3) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return compare(left, right) <= 0;
+        }
+    },
+    GREATER(">", 3) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return compare(left, right) > 0;
+        }
+    },
+    GREATER_OR_EQUAL(">=", 3) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return compare(left, right) >= 0;
+        }
+    },
+    EQUAL("==", 2) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return isEqual(left, right);
+        }
+    },
+    NOT_EQUAL("!=", 2) {
+
+        @Override
+        Object apply(final Object left, final Object right) {
+            return !isEqual(left, right);
+        }
+    };
+
+    private final String symbol;
+    private final int precedence;
+
+    private Operator(final String symbol, final int precedence) {
+        this.symbol = symbol;
+        this.precedence = precedence;
+    }
+
+    String getSymbol() {
+        return this.symbol;
+    }
+
+    /**
+     * @return the precedence of the operator, operators with a higher precedence bind more tightly
+     */
+    int getPrecedence() {
+        return this.precedence;
+    }
+
+    abstract Object apply(Object left, Object right);
+
+    static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    static String typeName(final Object value) {
+        return value instanceof byte[] ? "byte[]" : value.getClass().getSimpleName();
+    }
+
+    void checkNumbers(final Object left, final Object right) {
+        if (!(left instanceof Number) || !(right instanceof Number)) {
+            throw new IllegalArgumentException("Operator " + this.symbol + " cannot be applied to " + typeName(left)
+                    + " and " + typeName(right));
+        }
+    }
+
+    int compare(final Object left, final Object right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return Long.compare(((Number) left).longValue(), ((Number) right).longValue());
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        }
+        if (left instanceof String && right instanceof String) {
+            return ((String) left).compareTo((String) right);
+        }
+        throw new IllegalArgumentException(
+                "Operator " + this.symbol + " cannot be applied to " + typeName(left) + " and " + typeName(right));
+    }
+
+    static boolean isEqual(final Object left, final Object right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return ((Number) left).longValue() == ((Number) right).longValue();
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return ((Number) left).doubleValue() == ((Number) right).doubleValue();
+        }
+        if (left instanceof byte[] && right instanceof byte[]) {
+            return Arrays.equals((byte[]) left, (byte[]) right);
+        }
+        return left.equals(right);
+    }
+
+    static String toString(final Object value) {
+        return value instanceof byte[] ? Arrays.toString((byte[]) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.fifo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireRecord;
+
+/**
+ * Binary serialization of {@link WireEnvelope} instances, used by {@link SpillQueue}.
+ */
+final class EnvelopeCodec {
+
+    private static final byte VERSION = 1;
+
+    private EnvelopeCodec() {
+    }
+
+    static byte[] encode(final WireEnvelope envelope) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, envelope.getEmitterPid());
+
+            final List<WireRecord> records = envelope.getRecords();
+            out.writeInt(records.size());
+
+            for (final WireRecord record : records) {
+                final Map<String, TypedValue<?>> properties = record.getProperties();
+                out.writeInt(properties.size());
+
+                for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static WireEnvelope decode(final byte[] data) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            final byte version = in.readByte();
+
+            if (version != VERSION) {
+                throw new IOException("Unsupported envelope encoding version: " + version);
+            }
+
+            final String emitterPid = readString(in);
+            final int recordCount = in.readInt();
+            final List<WireRecord> records = new ArrayList<>(recordCount);
+
+            for (int i = 0; i < recordCount; i++) {
+                final int propertyCount = in.readInt();
+                final Map<String, TypedValue<?>> properties = new HashMap<>(propertyCount * 2);
+
+                for (int j = 0; j < propertyCount; j++) {
+                    final String key = readString(in);
+                    properties.put(key, readValue(in));
+                }
+
+                records.add(new WireRecord(properties));
+            }
+
+            return new WireEnvelope(emitterPid, records);
+        }
+    }
+
+    private static void writeValue(final DataOutputStream out, final TypedValue<?> value) throws IOException {
+        if (value == null || value.getValue() == null) {
+            out.writeByte(-1);
+            return;
+        }
+
+        final DataType type = value.getType();
+        out.writeByte(type.ordinal());
+
+        switch (type) {
+        case BOOLEAN:
+            out.writeBoolean((Boolean) value.getValue());
+            break;
+        case BYTE_ARRAY:
+            final byte[] array = (byte[]) value.getValue();
+            out.writeInt(array.length);
+            out.write(array);
+            break;
+        case DOUBLE:
+            out.writeDouble((Double) value.getValue());
+            break;
+        case FLOAT:
+            out.writeFloat((Float) value.getValue());
+            break;
+        case INTEGER:
+            out.writeInt((Integer) value.getValue());
+            break;
+        case LONG:
+            out.writeLong((Long) value.getValue());
+            break;
+        case STRING:
+            writeString(out, (String) value.getValue());
+            break;
+        default:
+            throw new IOException("Unsupported type: " + type);
+        }
+    }
+
+    private static TypedValue<?> readValue(final DataInputStream in) throws IOException {
+        final byte ordinal = in.readByte();
+
+        if (ordinal == -1) {
+            return null;
+        }
+
+        final DataType[] types = DataType.values();
+
+        if (ordinal < 0 || ordinal >= types.length) {
+            throw new IOException("Invalid type: " + ordinal);
+        }
+
+        switch (types[ordinal]) {
+        case BOOLEAN:
+            return TypedValues.newBooleanValue(in.readBoolean());
+        case BYTE_ARRAY:
+            final byte[] array = new byte[in.readInt()];
+            in.readFully(array);
+            return TypedValues.newByteArrayValue(array);
+        case DOUBLE:
+            return TypedValues.newDoubleValue(in.readDouble());
+        case FLOAT:
+            return TypedValues.newFloatValue(in.readFloat());
+        case INTEGER:
+            return TypedValues.newIntegerValue(in.readInt());
+        case LONG:
+            return TypedValues.newLongValue(in.readLong());
+        default:
+            return TypedValues.newStringValue(readString(in));
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
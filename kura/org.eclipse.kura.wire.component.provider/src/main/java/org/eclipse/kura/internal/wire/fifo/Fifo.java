@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,11 @@ package org.eclipse.kura.internal.wire.fifo;
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -40,6 +44,12 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
 
     private static final String DISCARD_ENVELOPES_PROP_NAME = "discard.envelopes";
     private static final String QUEUE_CAPACITY_PROP_NAME = "queue.capacity";
+    private static final String SPILL_ENABLED_PROP_NAME = "spill.enabled";
+    private static final String SPILL_DIRECTORY_PROP_NAME = "spill.directory";
+    private static final String SPILL_SEGMENT_SIZE_PROP_NAME = "spill.segment.size.kb";
+    private static final String SPILL_MAX_SIZE_PROP_NAME = "spill.max.size.mb";
+
+    private static final String SPILL_DIRECTORY_DEFAULT = "/opt/eclipse/kura/data/wire-fifo";
 
     private static final Logger logger = LogManager.getLogger(Fifo.class);
 
@@ -77,12 +87,21 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
     public void updated(final Map<String, Object> properties) {
         logger.info("Updating Fifo...");
 
-        String threadName = (String) properties.getOrDefault(ConfigurationService.KURA_SERVICE_PID, "Fifo")
-                + "-EmitterThread";
+        String pid = (String) properties.getOrDefault(ConfigurationService.KURA_SERVICE_PID, "Fifo");
+        String threadName = pid + "-EmitterThread";
         int queueCapacity = (Integer) properties.getOrDefault(QUEUE_CAPACITY_PROP_NAME, 50);
         boolean discardEnvelopes = (Boolean) properties.getOrDefault(DISCARD_ENVELOPES_PROP_NAME, false);
+        boolean spillEnabled = (Boolean) properties.getOrDefault(SPILL_ENABLED_PROP_NAME, false);
+
+        stopEmitterThread();
 
-        restartEmitterThread(threadName, queueCapacity, discardEnvelopes);
+        SpillQueue spillQueue = null;
+
+        if (spillEnabled) {
+            spillQueue = openSpillQueue(pid, properties);
+        }
+
+        restartEmitterThread(threadName, queueCapacity, discardEnvelopes, spillQueue);
 
         logger.info("Updating Fifo... Done");
     }
@@ -94,15 +113,31 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
         }
     }
 
-    private synchronized void restartEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes) {
+    private synchronized void restartEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes,
+            SpillQueue spillQueue) {
         stopEmitterThread();
 
-        logger.debug("Creating new emitter thread: {}, queue capacity: {}, discard envelopes: {}", threadName,
-                queueCapacity, discardEnvelopes);
-        this.emitterThread = new FifoEmitterThread(threadName, queueCapacity, discardEnvelopes);
+        logger.debug("Creating new emitter thread: {}, queue capacity: {}, discard envelopes: {}, spill enabled: {}",
+                threadName, queueCapacity, discardEnvelopes, spillQueue != null);
+        this.emitterThread = new FifoEmitterThread(threadName, queueCapacity, discardEnvelopes, spillQueue);
         this.emitterThread.start();
     }
 
+    private static SpillQueue openSpillQueue(final String pid, final Map<String, Object> properties) {
+        final String directory = (String) properties.getOrDefault(SPILL_DIRECTORY_PROP_NAME, SPILL_DIRECTORY_DEFAULT);
+        final int segmentSizeKb = (Integer) properties.getOrDefault(SPILL_SEGMENT_SIZE_PROP_NAME, 4096);
+        final int maxSizeMb = (Integer) properties.getOrDefault(SPILL_MAX_SIZE_PROP_NAME, 256);
+
+        final Path path = Paths.get(directory, pid.replaceAll("[^a-zA-Z0-9._-]", "_"));
+
+        try {
+            return new SpillQueue(path, Math.max(1, segmentSizeKb) * 1024, Math.max(1, maxSizeMb) * 1024L * 1024L);
+        } catch (final Exception e) {
+            logger.warn("Failed to open spill directory {}, envelopes will be buffered in memory only", path, e);
+            return null;
+        }
+    }
+
     @Override
     public void onWireReceive(WireEnvelope wireEnvelope) {
         requireNonNull(wireEnvelope, "Wire Envelope cannot be null");
@@ -133,6 +168,8 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
 
     private class FifoEmitterThread extends Thread {
 
+        private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
         private final Lock lock = new ReentrantLock();
 
         private final Condition producer = this.lock.newCondition();
@@ -142,13 +179,19 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
         private final ArrayList<WireEnvelope> queue;
         private final int queueCapacity;
 
+        private final SpillQueue spillQueue;
+
         private Consumer<WireEnvelope> submitter;
 
-        public FifoEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes) {
+        public FifoEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes,
+                SpillQueue spillQueue) {
             this.queue = new ArrayList<>();
             this.queueCapacity = queueCapacity;
+            this.spillQueue = spillQueue;
             setName(threadName);
-            if (discardEnvelopes) {
+            if (spillQueue != null) {
+                this.submitter = getSpillingSubmitter(discardEnvelopes);
+            } else if (discardEnvelopes) {
                 this.submitter = getEnvelopeDiscardingSubmitter();
             } else {
                 this.submitter = getEmitterBlockingSubmitter();
@@ -195,6 +238,43 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
             };
         }
 
+        private Consumer<WireEnvelope> getSpillingSubmitter(boolean discardEnvelopes) {
+            return (envelope) -> {
+                try {
+                    this.lock.lock();
+                    byte[] encoded = null;
+                    while (this.run) {
+                        if (this.spillQueue.isEmpty() && this.queue.size() < this.queueCapacity) {
+                            this.queue.add(envelope);
+                            this.producer.signal();
+                            logger.debug("envelope submitted");
+                            return;
+                        }
+                        if (encoded == null) {
+                            encoded = EnvelopeCodec.encode(envelope);
+                        }
+                        if (this.spillQueue.offer(encoded)) {
+                            this.producer.signal();
+                            logger.debug("envelope spilled to disk");
+                            return;
+                        }
+                        if (discardEnvelopes) {
+                            logger.debug("envelope discarded");
+                            return;
+                        }
+                        this.consumer.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Interrupted while adding new envelope to queue", e);
+                } catch (IOException e) {
+                    logger.warn("Failed to spill envelope to disk, envelope discarded", e);
+                } finally {
+                    this.lock.unlock();
+                }
+            };
+        }
+
         public void shutdown() {
             try {
                 this.lock.lock();
@@ -204,6 +284,54 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
             } finally {
                 this.lock.unlock();
             }
+
+            if (this.spillQueue == null) {
+                return;
+            }
+
+            try {
+                join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            try {
+                this.lock.lock();
+                persistQueue();
+                this.spillQueue.close();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void persistQueue() {
+            final List<byte[]> entries = new ArrayList<>(this.queue.size());
+
+            try {
+                for (final WireEnvelope envelope : this.queue) {
+                    entries.add(EnvelopeCodec.encode(envelope));
+                }
+                this.spillQueue.prepend(entries);
+                this.queue.clear();
+            } catch (IOException e) {
+                logger.warn("Failed to persist {} envelopes", this.queue.size(), e);
+            }
+        }
+
+        private WireEnvelope nextSpilledEnvelope() {
+            final byte[] data = this.spillQueue.peek();
+
+            try {
+                return EnvelopeCodec.decode(data);
+            } catch (IOException e) {
+                logger.warn("Failed to decode spilled envelope, envelope discarded", e);
+                this.spillQueue.remove();
+                return null;
+            }
+        }
+
+        private boolean isEmpty() {
+            return this.queue.isEmpty() && (this.spillQueue == null || this.spillQueue.isEmpty());
         }
 
         public void submit(WireEnvelope envelope) {
@@ -215,25 +343,50 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
             while (this.run) {
                 try {
                     WireEnvelope next = null;
+                    boolean spilled = false;
                     try {
                         this.lock.lock();
-                        while (this.run && this.queue.isEmpty()) {
+                        while (this.run && isEmpty()) {
                             this.producer.await();
                         }
                         if (!this.run) {
                             break;
                         }
-                        next = this.queue.remove(0);
-                        this.consumer.signal();
+                        if (!this.queue.isEmpty()) {
+                            next = this.queue.remove(0);
+                            this.consumer.signal();
+                        } else {
+                            next = nextSpilledEnvelope();
+                            spilled = true;
+                        }
                     } finally {
                         this.lock.unlock();
                     }
-                    Fifo.this.wireSupport.emit(next.getRecords());
+                    if (next == null) {
+                        continue;
+                    }
+                    try {
+                        Fifo.this.wireSupport.emit(next.getRecords());
+                    } finally {
+                        if (spilled) {
+                            removeSpilledEnvelope();
+                        }
+                    }
                 } catch (Exception e) {
                     logger.warn("Unexpected exception while dispatching envelope", e);
                 }
             }
             logger.debug("exiting");
         }
+
+        private void removeSpilledEnvelope() {
+            try {
+                this.lock.lock();
+                this.spillQueue.remove();
+                this.consumer.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
     }
 }
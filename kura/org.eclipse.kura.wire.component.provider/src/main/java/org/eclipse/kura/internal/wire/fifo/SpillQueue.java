@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.fifo;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A persistent FIFO queue of byte arrays, stored in a sequence of memory mapped segment files.
+ * <br>
+ * Each entry is stored as a 4 bytes length followed by the entry data. A positive length identifies a pending
+ * entry, a negative length identifies an entry that has already been consumed and a zero length marks the end of
+ * the data in a segment. Since the length is written after the entry data, an entry that has not been completely
+ * written is not visible. Segments are named after a sequence number and are deleted as soon as all of their entries
+ * have been consumed, the queue can be reopened after a restart and will resume from the first pending entry.
+ * <br>
+ * This class is not thread safe.
+ */
+final class SpillQueue {
+
+    private static final Logger logger = LogManager.getLogger(SpillQueue.class);
+
+    private static final Pattern SEGMENT_NAME_PATTERN = Pattern.compile("segment_(-?\\d+)\\.dat");
+    private static final int HEADER_SIZE = 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSize;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private long pendingBytes;
+    private int pendingEntries;
+    private boolean closed;
+
+    SpillQueue(final Path directory, final int segmentSize, final long maxSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+
+        Files.createDirectories(directory);
+
+        recover();
+    }
+
+    boolean isEmpty() {
+        return this.pendingEntries == 0;
+    }
+
+    int size() {
+        return this.pendingEntries;
+    }
+
+    /**
+     * Appends an entry to the tail of the queue.
+     *
+     * @param data
+     *            the entry data
+     * @return {@code true} if the entry has been added, {@code false} if the maximum size of the queue would be
+     *         exceeded
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    boolean offer(final byte[] data) throws IOException {
+        if (this.closed) {
+            return false;
+        }
+
+        final long entrySize = (long) HEADER_SIZE + data.length;
+
+        if (this.pendingBytes + entrySize > this.maxSize) {
+            return false;
+        }
+
+        Segment tail = this.segments.peekLast();
+
+        if (tail == null || !tail.canWrite(data.length)) {
+            final long sequence = tail != null ? tail.sequence + 1 : 0;
+            tail = Segment.create(segmentPath(sequence), sequence, Math.max(this.segmentSize, requiredSize(data)));
+            this.segments.addLast(tail);
+        }
+
+        tail.write(data);
+
+        this.pendingBytes += entrySize;
+        this.pendingEntries++;
+
+        return true;
+    }
+
+    /**
+     * Adds the provided entries to the head of the queue, preserving their order. The maximum size of the queue is
+     * not enforced by this method.
+     *
+     * @param entries
+     *            the entries to be added
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    void prepend(final List<byte[]> entries) throws IOException {
+        if (this.closed || entries.isEmpty()) {
+            return;
+        }
+
+        int size = HEADER_SIZE;
+
+        for (final byte[] entry : entries) {
+            size += HEADER_SIZE + entry.length;
+        }
+
+        final Segment head = this.segments.peekFirst();
+        final long sequence = head != null ? head.sequence - 1 : 0;
+        final Segment segment = Segment.create(segmentPath(sequence), sequence, size);
+
+        for (final byte[] entry : entries) {
+            segment.write(entry);
+            this.pendingBytes += HEADER_SIZE + entry.length;
+            this.pendingEntries++;
+        }
+
+        this.segments.addFirst(segment);
+    }
+
+    /**
+     * Returns the entry at the head of the queue without removing it.
+     *
+     * @return the entry data, or {@code null} if the queue is empty
+     */
+    byte[] peek() {
+        final Segment head = headWithPendingEntries();
+
+        return head != null ? head.read() : null;
+    }
+
+    /**
+     * Marks the entry at the head of the queue as consumed.
+     */
+    void remove() {
+        final Segment head = headWithPendingEntries();
+
+        if (head == null) {
+            return;
+        }
+
+        final int length = head.consume();
+
+        this.pendingBytes -= HEADER_SIZE + length;
+        this.pendingEntries--;
+
+        headWithPendingEntries();
+    }
+
+    void close() {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+
+        for (final Segment segment : this.segments) {
+            segment.close();
+        }
+
+        this.segments.clear();
+    }
+
+    private Segment headWithPendingEntries() {
+        while (!this.closed) {
+            final Segment head = this.segments.peekFirst();
+
+            if (head == null || head.hasPendingEntries() || head == this.segments.peekLast()) {
+                return head != null && head.hasPendingEntries() ? head : null;
+            }
+
+            this.segments.removeFirst();
+            head.delete();
+        }
+
+        return null;
+    }
+
+    private void recover() throws IOException {
+        final List<Segment> recovered = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+            for (final Path path : stream) {
+                final Matcher matcher = SEGMENT_NAME_PATTERN.matcher(path.getFileName().toString());
+
+                if (matcher.matches()) {
+                    recovered.add(Segment.open(path, Long.parseLong(matcher.group(1))));
+                }
+            }
+        }
+
+        recovered.sort((a, b) -> Long.compare(a.sequence, b.sequence));
+
+        for (final Segment segment : recovered) {
+            if (segment.hasPendingEntries()) {
+                this.segments.addLast(segment);
+                this.pendingBytes += segment.pendingBytes;
+                this.pendingEntries += segment.pendingEntries;
+            } else {
+                segment.delete();
+            }
+        }
+
+        if (this.pendingEntries > 0) {
+            logger.info("Recovered {} envelopes from {}", this.pendingEntries, this.directory);
+        }
+    }
+
+    private Path segmentPath(final long sequence) {
+        return this.directory.resolve("segment_" + sequence + ".dat");
+    }
+
+    private static int requiredSize(final byte[] data) {
+        return 2 * HEADER_SIZE + data.length;
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long sequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private int readPosition;
+        private int writePosition;
+        private long pendingBytes;
+        private int pendingEntries;
+
+        private Segment(final Path path, final long sequence, final FileChannel channel, final int size)
+                throws IOException {
+            this.path = path;
+            this.sequence = sequence;
+            this.channel = channel;
+            this.buffer = channel.map(MapMode.READ_WRITE, 0, size);
+        }
+
+        static Segment create(final Path path, final long sequence, final int size) throws IOException {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+
+            return new Segment(path, sequence, channel, size);
+        }
+
+        static Segment open(final Path path, final long sequence) throws IOException {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final Segment result = new Segment(path, sequence, channel, (int) channel.size());
+
+            result.scan();
+
+            return result;
+        }
+
+        private void scan() {
+            int position = 0;
+            boolean foundPending = false;
+
+            while (position + HEADER_SIZE <= this.buffer.capacity()) {
+                final int length = this.buffer.getInt(position);
+
+                if (length == 0 || position + HEADER_SIZE + Math.abs((long) length) > this.buffer.capacity()) {
+                    break;
+                }
+
+                if (length > 0) {
+                    if (!foundPending) {
+                        this.readPosition = position;
+                        foundPending = true;
+                    }
+                    this.pendingBytes += HEADER_SIZE + length;
+                    this.pendingEntries++;
+                }
+
+                position += HEADER_SIZE + Math.abs(length);
+            }
+
+            if (!foundPending) {
+                this.readPosition = position;
+            }
+
+            this.writePosition = position;
+        }
+
+        boolean canWrite(final int length) {
+            return (long) this.writePosition + 2 * HEADER_SIZE + length <= this.buffer.capacity();
+        }
+
+        void write(final byte[] data) {
+            this.buffer.position(this.writePosition + HEADER_SIZE);
+            this.buffer.put(data);
+            this.buffer.putInt(this.writePosition, data.length);
+
+            this.writePosition += HEADER_SIZE + data.length;
+            this.pendingBytes += HEADER_SIZE + data.length;
+            this.pendingEntries++;
+        }
+
+        boolean hasPendingEntries() {
+            return this.pendingEntries > 0;
+        }
+
+        byte[] read() {
+            final int length = this.buffer.getInt(this.readPosition);
+            final byte[] result = new byte[length];
+
+            this.buffer.position(this.readPosition + HEADER_SIZE);
+            this.buffer.get(result);
+
+            return result;
+        }
+
+        int consume() {
+            final int length = this.buffer.getInt(this.readPosition);
+
+            this.buffer.putInt(this.readPosition, -length);
+            this.readPosition += HEADER_SIZE + length;
+            this.pendingBytes -= HEADER_SIZE + length;
+            this.pendingEntries--;
+
+            return length;
+        }
+
+        void close() {
+            try {
+                this.buffer.force();
+                this.channel.close();
+            } catch (final IOException e) {
+                logger.warn("Failed to close segment {}", this.path, e);
+            }
+        }
+
+        void delete() {
+            try {
+                this.channel.close();
+                Files.deleteIfExists(this.path);
+            } catch (final IOException e) {
+                logger.warn("Failed to delete segment {}", this.path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.publisher;
+
+/**
+ * This enum specifies how the cloud publisher packs multiple wire records in a single message.
+ */
+public enum AggregationLayout {
+    /**
+     * Every record is published in a dedicated message.
+     */
+    NONE("none"),
+    /**
+     * The properties of all records are added as metrics of a single payload, the name of each metric is suffixed
+     * with the index of the record in the batch, for example {@code temperature[3]}.
+     */
+    METRICS("metrics"),
+    /**
+     * The payload body contains a JSON object with a shared timestamp column and a column for each property.
+     */
+    COLUMNAR_JSON("columnar_json");
+
+    private final String layout;
+
+    private AggregationLayout(String layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Allows to map a provided string with the corresponding {@link AggregationLayout}
+     *
+     * @param proposedLayout
+     *            the String that has to be mapped to the corresponding {@link AggregationLayout}
+     * @return {@link AggregationLayout} if the matching between passed string and enum values succeeds
+     * @throws IllegalArgumentException
+     *             if the argument cannot be matched to a corresponding {@link AggregationLayout} object.
+     */
+    public static AggregationLayout getLayout(String proposedLayout) {
+        for (AggregationLayout value : AggregationLayout.values()) {
+            if (value.layout.equalsIgnoreCase(proposedLayout)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported Layout!");
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,11 +41,13 @@ import org.eclipse.kura.position.PositionService;
 import org.eclipse.kura.type.ByteArrayValue;
 import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecord;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.WireSupport;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
@@ -54,7 +60,8 @@ import org.osgi.service.wireadmin.Wire;
  * <br/>
  *
  * For every {@link WireRecord} as found in {@link WireEnvelope} will be wrapped inside a Kura
- * Payload and will be sent to the Cloud Platform.
+ * Payload and will be sent to the Cloud Platform. If an {@link AggregationLayout} is configured, multiple
+ * {@link WireRecord}s are packed in a single payload instead.
  */
 public final class CloudPublisher implements WireReceiver, ConfigurableComponent {
 
@@ -69,6 +76,9 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
 
     private org.eclipse.kura.cloudconnection.publisher.CloudPublisher cloudConnectionPublisher;
 
+    private ScheduledExecutorService aggregationExecutor;
+    private volatile RecordAggregator recordAggregator;
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -122,6 +132,7 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
 
         // Update properties
         this.cloudPublisherOptions = new CloudPublisherOptions(properties);
+        updateRecordAggregator();
 
         logger.debug("Activating Cloud Publisher Wire Component... Done");
     }
@@ -136,6 +147,7 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
         logger.debug("Updating Cloud Publisher Wire Component...");
         // Update properties
         this.cloudPublisherOptions = new CloudPublisherOptions(properties);
+        updateRecordAggregator();
 
         logger.debug("Updating Cloud Publisher Wire Component... Done");
     }
@@ -149,6 +161,18 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
     protected void deactivate(final ComponentContext componentContext) {
         logger.debug("Deactivating Cloud Publisher Wire Component...");
 
+        synchronized (this) {
+            if (nonNull(this.recordAggregator)) {
+                this.recordAggregator.close();
+                this.recordAggregator = null;
+            }
+
+            if (nonNull(this.aggregationExecutor)) {
+                this.aggregationExecutor.shutdown();
+                this.aggregationExecutor = null;
+            }
+        }
+
         logger.debug("Deactivating Cloud Publisher Wire Component... Done");
     }
 
@@ -159,7 +183,13 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
 
         if (nonNull(this.cloudConnectionPublisher)) {
             final List<WireRecord> records = wireEnvelope.getRecords();
-            publish(records);
+            final RecordAggregator aggregator = this.recordAggregator;
+
+            if (nonNull(aggregator)) {
+                aggregator.add(records);
+            } else {
+                publish(records);
+            }
         }
     }
 
@@ -201,26 +231,33 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
             kuraPayload.setPosition(kuraPosition);
         }
 
-        final Map<String, TypedValue<?>> wireRecordProperties = wireRecord.getProperties();
+        if (wireRecord instanceof ColumnarWireRecord) {
+            final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+            final WireRecordSchema schema = columnarRecord.getSchema();
 
-        for (final Entry<String, TypedValue<?>> entry : wireRecordProperties.entrySet()) {
-            kuraPayload.addMetric(entry.getKey(), entry.getValue().getValue());
+            for (int i = 0; i < schema.size(); i++) {
+                if (columnarRecord.isPresent(i)) {
+                    kuraPayload.addMetric(schema.getName(i), columnarRecord.getObject(i));
+                }
+            }
+        } else {
+            for (final Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+                kuraPayload.addMetric(entry.getKey(), entry.getValue().getValue());
+            }
         }
 
         final Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
 
         if (bodyProperty.isPresent()) {
-            publishBody(kuraPayload, wireRecordProperties, bodyProperty.get());
+            publishBody(kuraPayload, getProperty(wireRecord, bodyProperty.get()), bodyProperty.get());
         }
 
         return kuraPayload;
     }
 
-    private void publishBody(final KuraPayload kuraPayload, final Map<String, TypedValue<?>> wireRecordProperties,
+    private void publishBody(final KuraPayload kuraPayload, final TypedValue<?> bodyPropertyValue,
             final String bodyProperty) {
         try {
-            final TypedValue<?> bodyPropertyValue = wireRecordProperties.get(bodyProperty);
-
             if (bodyPropertyValue == null) {
                 logger.warn("The \"{}\" property is missing, message body will not be set", bodyProperty);
             } else if (bodyPropertyValue instanceof StringValue) {
@@ -282,13 +319,120 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
         }
     }
 
-    private Map<String, Object> buildKuraMessageProperties(final WireRecord wireRecord) {
-        Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+    /**
+     * Publishes the provided {@link RecordBatch} in a single message. The message properties are the record properties
+     * that have the same value in all the records of the batch.
+     *
+     * @param batch
+     *            the batch to publish
+     */
+    private void publishBatch(final RecordBatch batch) {
+        final org.eclipse.kura.cloudconnection.publisher.CloudPublisher publisher = this.cloudConnectionPublisher;
+
+        if (isNull(publisher)) {
+            logger.warn("Cloud publisher not available, dropping {} aggregated records", batch.size());
+            return;
+        }
+
+        try {
+            final KuraPayload kuraPayload = batch.buildPayload(this.cloudPublisherOptions.getAggregationLayout());
+            kuraPayload.setTimestamp(new Date());
+
+            if (this.cloudPublisherOptions.getPositionType() != PositionType.NONE) {
+                kuraPayload.setPosition(getPosition());
+            }
 
+            final Map<String, Object> properties = buildBatchMessageProperties(batch.getRecords());
+            publisher.publish(new KuraMessage(kuraPayload, properties));
+        } catch (final Exception e) {
+            logger.error("Error in publishing aggregated wire records using cloud publisher..", e);
+        }
+    }
+
+    private synchronized void updateRecordAggregator() {
+        if (nonNull(this.recordAggregator)) {
+            this.recordAggregator.close();
+            this.recordAggregator = null;
+        }
+
+        final CloudPublisherOptions options = this.cloudPublisherOptions;
+
+        if (options.getAggregationLayout() == AggregationLayout.NONE) {
+            return;
+        }
+
+        if (options.getBodyProperty().isPresent()) {
+            logger.warn("The set.body.from.property option cannot be combined with aggregation.layout {},"
+                    + " the message body will not be set", options.getAggregationLayout());
+        }
+
+        if (isNull(this.aggregationExecutor)) {
+            this.aggregationExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "CloudPublisherAggregator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        this.recordAggregator = new RecordAggregator(options.getAggregationMaxRecords(),
+                options.getAggregationMaxPayloadSize(), options.getAggregationWindowMs(), this.aggregationExecutor,
+                groupKeyFunction(options.getAggregationGroupBy()), this::publishBatch);
+    }
+
+    private static Function<WireRecord, Object> groupKeyFunction(final List<String> groupBy) {
+        return wireRecord -> {
+            final List<Object> key = new ArrayList<>(groupBy.size());
+
+            for (final String name : groupBy) {
+                final TypedValue<?> value = getProperty(wireRecord, name);
+                key.add(value != null ? value.getValue() : null);
+            }
+
+            return key;
+        };
+    }
+
+    private Map<String, Object> buildBatchMessageProperties(final List<WireRecord> wireRecords) {
+        final Map<String, Object> properties = buildKuraMessageProperties(wireRecords.get(0));
+
+        for (int i = 1; i < wireRecords.size() && !properties.isEmpty(); i++) {
+            final Map<String, Object> recordProperties = buildKuraMessageProperties(wireRecords.get(i));
+
+            properties.entrySet().removeIf(e -> !Objects.deepEquals(e.getValue(), recordProperties.get(e.getKey())));
+        }
+
+        return properties;
+    }
+
+    private static TypedValue<?> getProperty(final WireRecord wireRecord, final String name) {
+        if (wireRecord instanceof ColumnarWireRecord) {
+            final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+            final int index = columnarRecord.getSchema().indexOf(name);
+
+            return index != -1 ? columnarRecord.getValue(index) : null;
+        }
+
+        return wireRecord.getProperties().get(name);
+    }
+
+    private Map<String, Object> buildKuraMessageProperties(final WireRecord wireRecord) {
         final Map<String, Object> properties = new HashMap<>();
-        List<String> l = new ArrayList<>(wireRecordProps.keySet());
-        for (String s : l) {
-            properties.put(s, wireRecordProps.get(s).getValue());
+
+        if (wireRecord instanceof ColumnarWireRecord) {
+            final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+            final WireRecordSchema schema = columnarRecord.getSchema();
+
+            for (int i = 0; i < schema.size(); i++) {
+                if (columnarRecord.isPresent(i)) {
+                    properties.put(schema.getName(i), columnarRecord.getObject(i));
+                }
+            }
+        } else {
+            Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+            List<String> l = new ArrayList<>(wireRecordProps.keySet());
+            for (String s : l) {
+                properties.put(s, wireRecordProps.get(s).getValue());
+            }
         }
 
         Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
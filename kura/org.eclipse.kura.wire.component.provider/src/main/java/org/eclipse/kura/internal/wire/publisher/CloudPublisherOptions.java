@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.kura.internal.wire.publisher;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,6 +35,16 @@ final class CloudPublisherOptions {
     private static final String CONF_POSITION = "publish.position";
     private static final String CONF_BODY_PROPERTY = "set.body.from.property";
     private static final String CONF_REMOVE_BODY_PROPERTY = "remove.body.from.metrics";
+    private static final String CONF_AGGREGATION_LAYOUT = "aggregation.layout";
+    private static final String CONF_AGGREGATION_MAX_RECORDS = "aggregation.max.records";
+    private static final String CONF_AGGREGATION_WINDOW = "aggregation.window.ms";
+    private static final String CONF_AGGREGATION_MAX_PAYLOAD_SIZE = "aggregation.max.payload.size.kb";
+    private static final String CONF_AGGREGATION_GROUP_BY = "aggregation.group.by";
+
+    private static final int AGGREGATION_MAX_RECORDS_DEFAULT = 100;
+    private static final long AGGREGATION_WINDOW_DEFAULT = 0;
+    private static final int AGGREGATION_MAX_PAYLOAD_SIZE_DEFAULT = 256;
+    private static final String AGGREGATION_GROUP_BY_DEFAULT = "assetName";
 
     private final Map<String, Object> properties;
 
@@ -87,4 +99,60 @@ final class CloudPublisherOptions {
     boolean getRemoveBodyPropertyFromMetrics() {
         return (boolean) this.properties.getOrDefault(CONF_REMOVE_BODY_PROPERTY, false);
     }
-}
\ No newline at end of file
+
+    AggregationLayout getAggregationLayout() {
+        final Object layout = this.properties.get(CONF_AGGREGATION_LAYOUT);
+
+        if (!(layout instanceof String)) {
+            return AggregationLayout.NONE;
+        }
+
+        AggregationLayout result = AggregationLayout.NONE;
+        try {
+            result = AggregationLayout.getLayout((String) layout);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Cannot parse the provided aggregation layout.", e);
+        }
+        return result;
+    }
+
+    int getAggregationMaxRecords() {
+        return Math.max(1, (int) this.properties.getOrDefault(CONF_AGGREGATION_MAX_RECORDS,
+                AGGREGATION_MAX_RECORDS_DEFAULT));
+    }
+
+    long getAggregationWindowMs() {
+        return Math.max(0, ((Number) this.properties.getOrDefault(CONF_AGGREGATION_WINDOW, AGGREGATION_WINDOW_DEFAULT))
+                .longValue());
+    }
+
+    long getAggregationMaxPayloadSize() {
+        return Math.max(1, (int) this.properties.getOrDefault(CONF_AGGREGATION_MAX_PAYLOAD_SIZE,
+                AGGREGATION_MAX_PAYLOAD_SIZE_DEFAULT)) * 1024L;
+    }
+
+    /**
+     * Returns the names of the record properties whose values identify the records that can be packed in the same
+     * aggregated message.
+     *
+     * @return the list of property names, possibly empty
+     */
+    List<String> getAggregationGroupBy() {
+        final Object groupBy = this.properties.getOrDefault(CONF_AGGREGATION_GROUP_BY, AGGREGATION_GROUP_BY_DEFAULT);
+        final List<String> result = new ArrayList<>();
+
+        if (!(groupBy instanceof String)) {
+            return result;
+        }
+
+        for (final String name : ((String) groupBy).split(",")) {
+            final String trimmed = name.trim();
+
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.publisher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.wire.WireRecord;
+
+/**
+ * Collects {@link WireRecord}s into {@link RecordBatch}es. Records are first assigned to a group by the provided key
+ * function, each group has its own pending batch, so that records belonging to different groups are never published
+ * in the same message. A batch is completed when it reaches the maximum number of records, when adding a record would
+ * exceed the maximum estimated payload size or, if a time window is configured, when the window started by the first
+ * record of the batch elapses. If no time window is configured the pending batches are completed at the end of each
+ * envelope, in the order in which their first record has been received.
+ * <br>
+ * Completed batches are passed to the provided consumer in order, while holding the lock of this instance.
+ */
+final class RecordAggregator {
+
+    private static final Logger logger = LogManager.getLogger(RecordAggregator.class);
+
+    private final int maxRecords;
+    private final long maxPayloadSize;
+    private final long windowMs;
+    private final ScheduledExecutorService executor;
+    private final Function<WireRecord, Object> groupKeyFunction;
+    private final Consumer<RecordBatch> batchConsumer;
+
+    private final Map<Object, PendingBatch> pendingBatches = new LinkedHashMap<>();
+
+    RecordAggregator(final int maxRecords, final long maxPayloadSize, final long windowMs,
+            final ScheduledExecutorService executor, final Function<WireRecord, Object> groupKeyFunction,
+            final Consumer<RecordBatch> batchConsumer) {
+        this.maxRecords = Math.max(1, maxRecords);
+        this.maxPayloadSize = Math.max(1, maxPayloadSize);
+        this.windowMs = windowMs;
+        this.executor = executor;
+        this.groupKeyFunction = groupKeyFunction;
+        this.batchConsumer = batchConsumer;
+    }
+
+    synchronized void add(final List<WireRecord> wireRecords) {
+        final long now = System.currentTimeMillis();
+
+        for (final WireRecord wireRecord : wireRecords) {
+            final long recordSize = RecordBatch.estimateSize(wireRecord);
+            PendingBatch pending = this.pendingBatches.computeIfAbsent(this.groupKeyFunction.apply(wireRecord),
+                    PendingBatch::new);
+
+            if (!pending.batch.isEmpty() && pending.batch.getEstimatedSize() + recordSize > this.maxPayloadSize) {
+                complete(pending);
+                pending = this.pendingBatches.computeIfAbsent(pending.key, PendingBatch::new);
+            }
+
+            if (pending.batch.isEmpty()) {
+                startWindow(pending);
+            }
+
+            pending.batch.add(wireRecord, now, recordSize);
+
+            if (pending.batch.size() >= this.maxRecords) {
+                complete(pending);
+            }
+        }
+
+        if (this.windowMs <= 0) {
+            completeAll();
+        }
+    }
+
+    synchronized void close() {
+        completeAll();
+    }
+
+    private void startWindow(final PendingBatch pending) {
+        if (this.windowMs <= 0) {
+            return;
+        }
+
+        pending.windowTask = this.executor.schedule(() -> onWindowElapsed(pending), this.windowMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void onWindowElapsed(final PendingBatch pending) {
+        if (this.pendingBatches.get(pending.key) == pending) {
+            complete(pending);
+        }
+    }
+
+    private void completeAll() {
+        for (final PendingBatch pending : new ArrayList<>(this.pendingBatches.values())) {
+            complete(pending);
+        }
+    }
+
+    private void complete(final PendingBatch pending) {
+        this.pendingBatches.remove(pending.key);
+
+        if (pending.windowTask != null) {
+            pending.windowTask.cancel(false);
+            pending.windowTask = null;
+        }
+
+        if (pending.batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.batchConsumer.accept(pending.batch);
+        } catch (final Exception e) {
+            logger.warn("Failed to publish aggregated records", e);
+        }
+    }
+
+    private static final class PendingBatch {
+
+        private final Object key;
+        private final RecordBatch batch = new RecordBatch();
+        private ScheduledFuture<?> windowTask;
+
+        PendingBatch(final Object key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.publisher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecord;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+/**
+ * A list of {@link WireRecord}s that will be published in a single message, together with their timestamps and an
+ * estimate of the size of the resulting payload. The timestamp of a record is the value of its {@code TIMESTAMP}
+ * property, if present, or the time of reception. The {@code TIMESTAMP} property is not repeated in the payload.
+ */
+final class RecordBatch {
+
+    static final String TIMESTAMP_PROPERTY = "TIMESTAMP";
+    static final String TIMESTAMP_COLUMN = "timestamp";
+    static final String METRICS_OBJECT = "metrics";
+
+    private static final int METRIC_OVERHEAD = 8;
+
+    private final List<WireRecord> records = new ArrayList<>();
+    private final List<Long> timestamps = new ArrayList<>();
+    private long estimatedSize;
+
+    void add(final WireRecord wireRecord, final long receiveTime, final long recordSize) {
+        this.records.add(wireRecord);
+        this.timestamps.add(getTimestamp(wireRecord, receiveTime));
+        this.estimatedSize += recordSize;
+    }
+
+    List<WireRecord> getRecords() {
+        return this.records;
+    }
+
+    int size() {
+        return this.records.size();
+    }
+
+    boolean isEmpty() {
+        return this.records.isEmpty();
+    }
+
+    long getEstimatedSize() {
+        return this.estimatedSize;
+    }
+
+    /**
+     * Builds the payload for this batch. The payload timestamp is set by the caller.
+     *
+     * @param layout
+     *            the payload layout, must not be {@link AggregationLayout#NONE}
+     * @return the payload
+     */
+    KuraPayload buildPayload(final AggregationLayout layout) {
+        final KuraPayload payload = new KuraPayload();
+
+        if (layout == AggregationLayout.COLUMNAR_JSON) {
+            payload.setBody(buildColumnarJson().toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            for (int i = 0; i < this.records.size(); i++) {
+                final String suffix = "[" + i + "]";
+
+                payload.addMetric(TIMESTAMP_COLUMN + suffix, this.timestamps.get(i));
+                forEachProperty(this.records.get(i), (name, value) -> {
+                    if (!TIMESTAMP_PROPERTY.equals(name)) {
+                        payload.addMetric(name + suffix, value);
+                    }
+                });
+            }
+        }
+
+        return payload;
+    }
+
+    private JsonObject buildColumnarJson() {
+        final int count = this.records.size();
+        final JsonArray timestampColumn = new JsonArray();
+        final Map<String, JsonValue[]> columns = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+
+            timestampColumn.add(this.timestamps.get(i));
+            forEachProperty(this.records.get(i), (name, value) -> {
+                if (!TIMESTAMP_PROPERTY.equals(name)) {
+                    columns.computeIfAbsent(name, k -> new JsonValue[count])[index] = toJson(value);
+                }
+            });
+        }
+
+        final JsonObject metrics = Json.object();
+
+        for (final Entry<String, JsonValue[]> column : columns.entrySet()) {
+            final JsonArray values = new JsonArray();
+
+            for (final JsonValue value : column.getValue()) {
+                values.add(value != null ? value : Json.NULL);
+            }
+
+            metrics.add(column.getKey(), values);
+        }
+
+        final JsonObject result = Json.object();
+        result.add(TIMESTAMP_COLUMN, timestampColumn);
+        result.add(METRICS_OBJECT, metrics);
+
+        return result;
+    }
+
+    private static JsonValue toJson(final Object value) {
+        if (value instanceof Boolean) {
+            return Json.value((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            return Json.value(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            return Json.value(((Number) value).doubleValue());
+        } else if (value instanceof byte[]) {
+            return Json.value(Base64.getEncoder().encodeToString((byte[]) value));
+        } else {
+            return Json.value(String.valueOf(value));
+        }
+    }
+
+    static long estimateSize(final WireRecord wireRecord) {
+        final long[] result = new long[] { METRIC_OVERHEAD };
+
+        forEachProperty(wireRecord, (name, value) -> result[0] += METRIC_OVERHEAD + name.length() + sizeOf(value));
+
+        return result[0];
+    }
+
+    private static long sizeOf(final Object value) {
+        if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else {
+            return 8;
+        }
+    }
+
+    private static long getTimestamp(final WireRecord wireRecord, final long defaultValue) {
+        final Object value;
+
+        if (wireRecord instanceof ColumnarWireRecord) {
+            final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+            final int index = columnarRecord.getSchema().indexOf(TIMESTAMP_PROPERTY);
+
+            value = index != -1 ? columnarRecord.getObject(index) : null;
+        } else {
+            final TypedValue<?> typedValue = wireRecord.getProperties().get(TIMESTAMP_PROPERTY);
+
+            value = typedValue != null ? typedValue.getValue() : null;
+        }
+
+        return value instanceof Long ? (Long) value : defaultValue;
+    }
+
+    static void forEachProperty(final WireRecord wireRecord, final BiConsumer<String, Object> consumer) {
+        if (wireRecord instanceof ColumnarWireRecord) {
+            final ColumnarWireRecord columnarRecord = (ColumnarWireRecord) wireRecord;
+            final WireRecordSchema schema = columnarRecord.getSchema();
+
+            for (int i = 0; i < schema.size(); i++) {
+                if (columnarRecord.isPresent(i)) {
+                    consumer.accept(schema.getName(i), columnarRecord.getObject(i));
+                }
+            }
+        } else {
+            for (final Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+                consumer.accept(entry.getKey(), entry.getValue().getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Dictionary;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.osgi.service.wireadmin.Wire;
+
+/**
+ * A {@link WireSupport} that delegates to the one provided by the Wire Helper Service and that, if parallel trigger
+ * mode is enabled, delivers emitted envelopes to the connected wires concurrently, using a bounded thread pool.
+ * This allows a poll cycle of multiple Wire Assets connected to the same Timer to last as long as the slowest one,
+ * instead of the sum of all of them.
+ * <br>
+ * Envelopes are always emitted through the delegate, so that emitter ports and metrics are handled as usual. The
+ * delegate is given wrappers of the connected wires, the wrappers hand the actual wire update over to the thread
+ * pool. A wire is not triggered again while the delivery of the previous envelope on the same wire is still in
+ * progress, the tick is skipped for that wire instead, in order to avoid piling up reads on a slow device.
+ */
+final class ParallelTriggerWireSupport implements WireSupport {
+
+    private static final Logger logger = LogManager.getLogger(ParallelTriggerWireSupport.class);
+
+    private final WireSupport wireSupport;
+    private final IntFunction<ExecutorService> executorFactory;
+    private final Set<Wire> inFlight = ConcurrentHashMap.newKeySet();
+
+    private volatile Optional<ExecutorService> executor = Optional.empty();
+
+    ParallelTriggerWireSupport(final WireSupport wireSupport, final String pid) {
+        this(wireSupport, parallelism -> Executors.newFixedThreadPool(parallelism, getThreadFactory(pid)));
+    }
+
+    ParallelTriggerWireSupport(final WireSupport wireSupport, final IntFunction<ExecutorService> executorFactory) {
+        this.wireSupport = requireNonNull(wireSupport);
+        this.executorFactory = requireNonNull(executorFactory);
+    }
+
+    synchronized void update(final TimerOptions options) {
+        shutdown();
+
+        if (options.isParallelTrigger()) {
+            this.executor = Optional.of(this.executorFactory.apply(options.getTriggerParallelism()));
+        }
+    }
+
+    synchronized void shutdown() {
+        if (this.executor.isPresent()) {
+            this.executor.get().shutdown();
+            this.executor = Optional.empty();
+        }
+    }
+
+    @Override
+    public void emit(final List<WireRecord> wireRecords) {
+        this.wireSupport.emit(wireRecords);
+    }
+
+    @Override
+    public Object polled(final Wire wire) {
+        return this.wireSupport.polled(wire);
+    }
+
+    @Override
+    public void consumersConnected(final Wire[] wires) {
+        if (wires == null) {
+            this.wireSupport.consumersConnected(null);
+            return;
+        }
+
+        final Wire[] triggeredWires = new Wire[wires.length];
+        for (int i = 0; i < wires.length; i++) {
+            triggeredWires[i] = new TriggeredWire(wires[i]);
+        }
+
+        this.wireSupport.consumersConnected(triggeredWires);
+    }
+
+    @Override
+    public void updated(final Wire wire, final Object value) {
+        this.wireSupport.updated(wire, value);
+    }
+
+    @Override
+    public void producersConnected(final Wire[] wires) {
+        this.wireSupport.producersConnected(wires);
+    }
+
+    private void trigger(final Wire wire, final Object value) {
+        final Optional<ExecutorService> currentExecutor = this.executor;
+
+        if (!currentExecutor.isPresent()) {
+            wire.update(value);
+            return;
+        }
+
+        if (!this.inFlight.add(wire)) {
+            logger.debug("Previous trigger still in progress, skipping wire {}", wire);
+            return;
+        }
+
+        try {
+            currentExecutor.get().execute(() -> deliver(wire, value));
+        } catch (final RejectedExecutionException e) {
+            logger.debug("Trigger executor shut down, skipping wire {}", wire);
+            this.inFlight.remove(wire);
+        }
+    }
+
+    private void deliver(final Wire wire, final Object value) {
+        try {
+            wire.update(value);
+        } catch (final Exception e) {
+            logger.warn("Failed to trigger wire {}", wire, e);
+        } finally {
+            this.inFlight.remove(wire);
+        }
+    }
+
+    private static ThreadFactory getThreadFactory(final String pid) {
+        final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        final AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            final Thread result = defaultFactory.newThread(runnable);
+            result.setName("WiresTimerTrigger_" + pid + "_" + counter.incrementAndGet());
+            return result;
+        };
+    }
+
+    /**
+     * Wraps a wire connected to the Timer, updates are delegated to {@link #trigger(Wire, Object)}.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class TriggeredWire implements Wire {
+
+        private final Wire wire;
+
+        TriggeredWire(final Wire wire) {
+            this.wire = requireNonNull(wire);
+        }
+
+        @Override
+        public boolean isValid() {
+            return this.wire.isValid();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return this.wire.isConnected();
+        }
+
+        @Override
+        public Class[] getFlavors() {
+            return this.wire.getFlavors();
+        }
+
+        @Override
+        public void update(final Object value) {
+            trigger(this.wire, value);
+        }
+
+        @Override
+        public Object poll() {
+            return this.wire.poll();
+        }
+
+        @Override
+        public Object getLastValue() {
+            return this.wire.getLastValue();
+        }
+
+        @Override
+        public Dictionary getProperties() {
+            return this.wire.getProperties();
+        }
+
+        @Override
+        public boolean hasScope(final String name) {
+            return this.wire.hasScope(name);
+        }
+
+        @Override
+        public String[] getScope() {
+            return this.wire.getScope();
+        }
+
+        @Override
+        public String toString() {
+            return this.wire.toString();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,14 +33,15 @@ import org.osgi.service.wireadmin.Wire;
 
 /**
  * The Class Timer represents a Wire Component which triggers a ticking event on
- * every interval as configured. It fires the event on every tick.
+ * every interval as configured. It fires the event on every tick. If the trigger mode is
+ * set to PARALLEL, the connected components are triggered concurrently.
  */
 public class Timer implements WireEmitter, ConfigurableComponent {
 
     private static final Logger logger = LogManager.getLogger(Timer.class);
 
     private WireHelperService wireHelperService;
-    private WireSupport wireSupport;
+    private ParallelTriggerWireSupport wireSupport;
     private Optional<TimerExecutor> timerExecutor = Optional.empty();
 
     public void bindWireHelperService(final WireHelperService wireHelperService) {
@@ -51,10 +52,12 @@ public class Timer implements WireEmitter, ConfigurableComponent {
     protected void activate(final ComponentContext ctx, final Map<String, Object> properties) {
         logger.debug("Activating Timer...");
 
-        this.wireSupport = this.wireHelperService.newWireSupport(this,
-                (ServiceReference<WireComponent>) ctx.getServiceReference());
+        final TimerOptions options = new TimerOptions(properties);
 
-        doUpdate(new TimerOptions(properties));
+        this.wireSupport = new ParallelTriggerWireSupport(this.wireHelperService.newWireSupport(this,
+                (ServiceReference<WireComponent>) ctx.getServiceReference()), options.getOwnPid());
+
+        doUpdate(options);
 
         logger.debug("Activating Timer... Done");
     }
@@ -71,6 +74,7 @@ public class Timer implements WireEmitter, ConfigurableComponent {
         logger.debug("Dectivating Timer...");
 
         shutdownExecutor();
+        this.wireSupport.shutdown();
 
         logger.debug("Dectivating Timer... Done");
     }
@@ -78,6 +82,7 @@ public class Timer implements WireEmitter, ConfigurableComponent {
     private void doUpdate(final TimerOptions options) {
 
         shutdownExecutor();
+        this.wireSupport.update(options);
 
         try {
             if ("SIMPLE".equalsIgnoreCase(options.getType())) {
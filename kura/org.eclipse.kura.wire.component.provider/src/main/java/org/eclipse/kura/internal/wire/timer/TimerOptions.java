@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,12 @@ final class TimerOptions {
 
     private static final String PROP_INTERVAL_TYPE = "type";
 
+    private static final String PROP_TRIGGER_MODE = "trigger.mode";
+    private static final String PROP_TRIGGER_MODE_PARALLEL_VALUE = "PARALLEL";
+
+    private static final String PROP_TRIGGER_PARALLELISM = "trigger.parallelism";
+    private static final int PROP_TRIGGER_PARALLELISM_DEFAULT_VALUE = 4;
+
     private final Map<String, Object> properties;
 
     /**
@@ -120,6 +126,30 @@ final class TimerOptions {
         return type;
     }
 
+    /**
+     * Returns whether the timer should trigger the connected components concurrently.
+     *
+     * @return {@code true} if trigger mode is PARALLEL
+     */
+    boolean isParallelTrigger() {
+        final Object triggerMode = this.properties.get(PROP_TRIGGER_MODE);
+        return triggerMode instanceof String && PROP_TRIGGER_MODE_PARALLEL_VALUE.equalsIgnoreCase((String) triggerMode);
+    }
+
+    /**
+     * Returns the maximum number of connected components that can be triggered concurrently.
+     *
+     * @return the trigger parallelism
+     */
+    int getTriggerParallelism() {
+        int parallelism = PROP_TRIGGER_PARALLELISM_DEFAULT_VALUE;
+        final Object triggerParallelism = this.properties.get(PROP_TRIGGER_PARALLELISM);
+        if (nonNull(triggerParallelism) && triggerParallelism instanceof Integer) {
+            parallelism = (Integer) triggerParallelism;
+        }
+        return Math.max(1, parallelism);
+    }
+
     String getOwnPid() {
         return (String) this.properties.get(ConfigurationService.KURA_SERVICE_PID);
     }
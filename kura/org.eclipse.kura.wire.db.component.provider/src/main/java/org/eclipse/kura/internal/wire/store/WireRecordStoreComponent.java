@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -272,7 +272,8 @@ public class WireRecordStoreComponent implements WireEmitter, WireReceiver, Conf
                 return this.store.get();
             }
 
-            this.store = Optional.of(this.provider.openWireRecordStore(this.options.getStoreName()));
+            this.store = Optional
+                    .of(this.provider.openWireRecordStore(this.options.getStoreName(), this.options.getPartitioning()));
 
             return getWireRecordStore();
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,21 +17,26 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.kura.util.configuration.Property;
+import org.eclipse.kura.wire.store.provider.WireRecordStorePartitioning;
 
 public final class WireRecordStoreComponentOptions {
 
     private static final Property<String> STORE_NAME_PROPERTY = new Property<>("store.name", "WR_data");
     private static final Property<Integer> MAXIMUM_STORE_SIZE_PROPERTY = new Property<>("maximum.store.size", 10000);
     private static final Property<Integer> CLEANUP_RECORDS_KEEP_PROPERTY = new Property<>("cleanup.records.keep", 5000);
+    private static final Property<String> PARTITIONING_PROPERTY = new Property<>("store.partitioning",
+            WireRecordStorePartitioning.NONE.name());
 
     private final String storeName;
     private final int maximumStoreSize;
     private final int cleanupRecordsKeep;
+    private final WireRecordStorePartitioning partitioning;
 
     public WireRecordStoreComponentOptions(final Map<String, Object> properties) {
         this.storeName = STORE_NAME_PROPERTY.get(properties);
         this.maximumStoreSize = MAXIMUM_STORE_SIZE_PROPERTY.get(properties);
         this.cleanupRecordsKeep = CLEANUP_RECORDS_KEEP_PROPERTY.get(properties);
+        this.partitioning = WireRecordStorePartitioning.valueOf(PARTITIONING_PROPERTY.get(properties));
     }
 
     public int getCleanupRecordsKeep() {
@@ -46,9 +51,13 @@ public final class WireRecordStoreComponentOptions {
         return storeName;
     }
 
+    public WireRecordStorePartitioning getPartitioning() {
+        return partitioning;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(cleanupRecordsKeep, maximumStoreSize, storeName);
+        return Objects.hash(cleanupRecordsKeep, maximumStoreSize, partitioning, storeName);
     }
 
     @Override
@@ -61,7 +70,7 @@ public final class WireRecordStoreComponentOptions {
         }
         WireRecordStoreComponentOptions other = (WireRecordStoreComponentOptions) obj;
         return cleanupRecordsKeep == other.cleanupRecordsKeep && maximumStoreSize == other.maximumStoreSize
-                && Objects.equals(storeName, other.storeName);
+                && partitioning == other.partitioning && Objects.equals(storeName, other.storeName);
     }
 
 }
\ No newline at end of file
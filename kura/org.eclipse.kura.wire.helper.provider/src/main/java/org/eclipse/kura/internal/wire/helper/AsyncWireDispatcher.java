@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.eclipse.kura.internal.wire.helper.WireDispatchOptions.OverflowPolicy;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.osgi.service.wireadmin.Wire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decouples the delivery of the envelopes received by a wire component from the thread of the emitting component.
+ * Received envelopes are stored in a bounded queue and delivered in order by a task submitted to a shared
+ * {@link Executor}; at most one task per dispatcher is active at any time. The task terminates as soon as the queue
+ * is empty, so that idle components do not hold any thread, and yields the thread after
+ * {@value #MAX_ENVELOPES_PER_RUN} envelopes, so that a busy component cannot starve the others.
+ */
+final class AsyncWireDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncWireDispatcher.class);
+
+    static final int MAX_ENVELOPES_PER_RUN = 100;
+
+    private final String kuraServicePid;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final BiConsumer<Wire, WireEnvelope> target;
+
+    private final BlockingDeque<Entry> queue;
+    private final Map<Wire, WireCounters> countersByWire = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    AsyncWireDispatcher(final String kuraServicePid, final WireDispatchOptions options, final Executor executor,
+            final BiConsumer<Wire, WireEnvelope> target) {
+        requireNonNull(executor, "Executor cannot be null");
+        requireNonNull(target, "Target cannot be null");
+
+        this.kuraServicePid = kuraServicePid;
+        this.overflowPolicy = options.getOverflowPolicy();
+        this.executor = executor;
+        this.target = target;
+        this.queue = new LinkedBlockingDeque<>(options.getQueueCapacity());
+    }
+
+    void dispatch(final Wire wire, final WireEnvelope envelope) {
+        if (this.closed.get()) {
+            logger.debug("Dispatcher of {} is closed, discarding envelope", this.kuraServicePid);
+            return;
+        }
+
+        final Entry entry = new Entry(wire, envelope);
+
+        if (!enqueue(entry)) {
+            return;
+        }
+
+        if (this.closed.get()) {
+            // closed while blocked waiting for room in the queue
+            this.queue.clear();
+            return;
+        }
+
+        if (this.running.compareAndSet(false, true)) {
+            submitDrain();
+        }
+    }
+
+    int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    int getQueueDepth(final Wire wire) {
+        final WireCounters counters = this.countersByWire.get(wire);
+
+        return counters != null ? counters.queueDepth.get() : 0;
+    }
+
+    long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    long getDroppedCount(final Wire wire) {
+        final WireCounters counters = this.countersByWire.get(wire);
+
+        return counters != null ? counters.droppedCount.get() : 0;
+    }
+
+    void resetDroppedCount() {
+        this.droppedCount.set(0);
+        this.countersByWire.values().forEach(c -> c.droppedCount.set(0));
+    }
+
+    void retainWires(final Collection<Wire> wires) {
+        this.countersByWire.keySet().retainAll(wires);
+    }
+
+    /**
+     * Discards the pending envelopes and stops accepting new ones. An envelope whose delivery is in progress is not
+     * interrupted.
+     */
+    void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        final int discarded = this.queue.size();
+        this.queue.clear();
+        this.countersByWire.clear();
+
+        if (discarded > 0) {
+            logger.info("Dispatcher of {} closed, {} pending envelopes discarded", this.kuraServicePid, discarded);
+        }
+    }
+
+    boolean isClosed() {
+        return this.closed.get();
+    }
+
+    private boolean enqueue(final Entry entry) {
+        incrementDepth(entry.wire);
+
+        if (this.queue.offer(entry)) {
+            return true;
+        }
+
+        if (this.overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                this.queue.put(entry);
+                return true;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                decrementDepth(entry.wire);
+                onDropped(entry.wire);
+                return false;
+            }
+        } else if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            while (!this.queue.offer(entry)) {
+                final Entry oldest = this.queue.pollFirst();
+
+                if (oldest != null) {
+                    decrementDepth(oldest.wire);
+                    onDropped(oldest.wire);
+                }
+            }
+            return true;
+        } else {
+            decrementDepth(entry.wire);
+            onDropped(entry.wire);
+            return false;
+        }
+    }
+
+    private void submitDrain() {
+        try {
+            this.executor.execute(this::drain);
+        } catch (final RejectedExecutionException e) {
+            logger.warn("Failed to dispatch envelopes to {}, the dispatcher has been shut down", this.kuraServicePid);
+            this.running.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            Entry entry;
+            int delivered = 0;
+
+            while (delivered < MAX_ENVELOPES_PER_RUN && !this.closed.get() && (entry = this.queue.poll()) != null) {
+                decrementDepth(entry.wire);
+                deliver(entry);
+                delivered++;
+            }
+
+            if (this.queue.isEmpty()) {
+                this.overflowing.set(false);
+            }
+        } finally {
+            this.running.set(false);
+
+            if (!this.closed.get() && !this.queue.isEmpty() && this.running.compareAndSet(false, true)) {
+                submitDrain();
+            }
+        }
+    }
+
+    private void deliver(final Entry entry) {
+        try {
+            this.target.accept(entry.wire, entry.envelope);
+        } catch (final Exception e) {
+            logger.warn("Failed to deliver envelope to {}", this.kuraServicePid, e);
+        }
+    }
+
+    private void onDropped(final Wire wire) {
+        final WireCounters counters = this.countersByWire.get(wire);
+
+        if (counters != null) {
+            counters.droppedCount.incrementAndGet();
+        }
+
+        final long dropped = this.droppedCount.incrementAndGet();
+
+        if (this.overflowing.compareAndSet(false, true)) {
+            logger.warn("Dispatch queue of {} is full, dropping envelopes, {} dropped so far", this.kuraServicePid,
+                    dropped);
+        } else {
+            logger.debug("Dispatch queue of {} is full, {} envelopes dropped so far", this.kuraServicePid, dropped);
+        }
+    }
+
+    private void incrementDepth(final Wire wire) {
+        this.countersByWire.computeIfAbsent(wire, w -> new WireCounters()).queueDepth.incrementAndGet();
+    }
+
+    private void decrementDepth(final Wire wire) {
+        final WireCounters counters = this.countersByWire.get(wire);
+
+        if (counters != null) {
+            counters.queueDepth.decrementAndGet();
+        }
+    }
+
+    private static final class WireCounters {
+
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicLong droppedCount = new AtomicLong();
+    }
+
+    private static final class Entry {
+
+        private final Wire wire;
+        private final WireEnvelope envelope;
+
+        Entry(final Wire wire, final WireEnvelope envelope) {
+            this.wire = wire;
+            this.envelope = envelope;
+        }
+    }
+}
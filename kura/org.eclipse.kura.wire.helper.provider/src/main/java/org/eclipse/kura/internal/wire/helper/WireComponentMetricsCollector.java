@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.kura.wire.graph.ProcessingTimeHistogram;
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
+import org.eclipse.kura.wire.graph.WireComponentMetrics.WireComponentMetricsBuilder;
+
+/**
+ * Collects the runtime metrics of a single wire component. Updates are lock free, so that they can be performed on
+ * the envelope delivery path.
+ */
+final class WireComponentMetricsCollector {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MICROS = { 10, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000,
+            25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 5_000_000, Long.MAX_VALUE };
+
+    private final LongAdder envelopesReceived = new LongAdder();
+    private final LongAdder recordsReceived = new LongAdder();
+    private final LongAdder envelopesEmitted = new LongAdder();
+    private final LongAdder recordsEmitted = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder processingTimeTotal = new LongAdder();
+    private final AtomicLong processingTimeMax = new AtomicLong();
+    private final AtomicLongArray processingTimeBuckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MICROS.length);
+
+    void onEnvelopeReceived(final int recordCount, final long processingTimeNanos, final boolean failed) {
+        this.envelopesReceived.increment();
+        this.recordsReceived.add(recordCount);
+
+        if (failed) {
+            this.errors.increment();
+        }
+
+        final long micros = TimeUnit.NANOSECONDS.toMicros(processingTimeNanos);
+
+        this.processingTimeTotal.add(micros);
+        this.processingTimeMax.accumulateAndGet(micros, Math::max);
+        this.processingTimeBuckets.incrementAndGet(bucketIndex(micros));
+    }
+
+    void onEnvelopeEmitted(final int recordCount) {
+        this.envelopesEmitted.increment();
+        this.recordsEmitted.add(recordCount);
+    }
+
+    void reset() {
+        this.envelopesReceived.reset();
+        this.recordsReceived.reset();
+        this.envelopesEmitted.reset();
+        this.recordsEmitted.reset();
+        this.errors.reset();
+        this.processingTimeTotal.reset();
+        this.processingTimeMax.set(0);
+
+        for (int i = 0; i < this.processingTimeBuckets.length(); i++) {
+            this.processingTimeBuckets.set(i, 0);
+        }
+    }
+
+    WireComponentMetricsBuilder toBuilder() {
+        final List<Long> upperBounds = new ArrayList<>(BUCKET_UPPER_BOUNDS_MICROS.length);
+        final List<Long> counts = new ArrayList<>(BUCKET_UPPER_BOUNDS_MICROS.length);
+
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+            upperBounds.add(BUCKET_UPPER_BOUNDS_MICROS[i]);
+            counts.add(this.processingTimeBuckets.get(i));
+        }
+
+        final ProcessingTimeHistogram processingTime = new ProcessingTimeHistogram(upperBounds, counts,
+                this.processingTimeTotal.sum(), this.processingTimeMax.get());
+
+        return WireComponentMetrics.builder().withEnvelopesReceived(this.envelopesReceived.sum())
+                .withRecordsReceived(this.recordsReceived.sum()).withEnvelopesEmitted(this.envelopesEmitted.sum())
+                .withRecordsEmitted(this.recordsEmitted.sum()).withErrors(this.errors.sum())
+                .withProcessingTime(processingTime);
+    }
+
+    private static int bucketIndex(final long micros) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+            if (micros <= BUCKET_UPPER_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_MICROS.length - 1;
+    }
+}
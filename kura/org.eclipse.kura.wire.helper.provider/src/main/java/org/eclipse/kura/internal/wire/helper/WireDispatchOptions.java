@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static org.eclipse.kura.wire.graph.Constants.WIRE_DISPATCH_MODE_PROP_NAME;
+import static org.eclipse.kura.wire.graph.Constants.WIRE_DISPATCH_OVERFLOW_POLICY_PROP_NAME;
+import static org.eclipse.kura.wire.graph.Constants.WIRE_DISPATCH_QUEUE_CAPACITY_PROP_NAME;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class WireDispatchOptions {
+
+    private static final Logger logger = LoggerFactory.getLogger(WireDispatchOptions.class);
+
+    static final WireDispatchOptions SYNC = new WireDispatchOptions(DispatchMode.SYNC, 1, OverflowPolicy.BLOCK);
+
+    private static final int QUEUE_CAPACITY_DEFAULT = 100;
+
+    enum DispatchMode {
+        SYNC,
+        ASYNC
+    }
+
+    enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    private final DispatchMode dispatchMode;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    WireDispatchOptions(final DispatchMode dispatchMode, final int queueCapacity,
+            final OverflowPolicy overflowPolicy) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero");
+        }
+
+        this.dispatchMode = dispatchMode;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    static WireDispatchOptions fromProperties(final Function<String, Object> properties) {
+        final DispatchMode dispatchMode = getEnum(properties.apply(WIRE_DISPATCH_MODE_PROP_NAME.value()),
+                DispatchMode.class, DispatchMode.SYNC);
+        final OverflowPolicy overflowPolicy = getEnum(
+                properties.apply(WIRE_DISPATCH_OVERFLOW_POLICY_PROP_NAME.value()), OverflowPolicy.class,
+                OverflowPolicy.BLOCK);
+
+        final Object queueCapacity = properties.apply(WIRE_DISPATCH_QUEUE_CAPACITY_PROP_NAME.value());
+
+        return new WireDispatchOptions(dispatchMode,
+                queueCapacity instanceof Integer && (Integer) queueCapacity > 0 ? (Integer) queueCapacity
+                        : QUEUE_CAPACITY_DEFAULT,
+                overflowPolicy);
+    }
+
+    DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
+
+    int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.dispatchMode, this.overflowPolicy, this.queueCapacity);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WireDispatchOptions)) {
+            return false;
+        }
+        final WireDispatchOptions other = (WireDispatchOptions) obj;
+        return this.dispatchMode == other.dispatchMode && this.overflowPolicy == other.overflowPolicy
+                && this.queueCapacity == other.queueCapacity;
+    }
+
+    private static <E extends Enum<E>> E getEnum(final Object value, final Class<E> type, final E defaultValue) {
+        if (!(value instanceof String)) {
+            return defaultValue;
+        }
+
+        try {
+            return Enum.valueOf(type, ((String) value).trim().toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            logger.warn("Unsupported value {} for {}, using {}", value, type.getSimpleName(), defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,23 +17,101 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.kura.configuration.ConfigurationService.KURA_SERVICE_PID;
 import static org.eclipse.kura.wire.graph.Constants.EMITTER_PORT_COUNT_PROP_NAME;
 import static org.eclipse.kura.wire.graph.Constants.RECEIVER_PORT_COUNT_PROP_NAME;
+import static org.osgi.framework.Constants.OBJECTCLASS;
 import static org.osgi.framework.Constants.SERVICE_PID;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import org.eclipse.kura.util.service.ServiceUtil;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEmitter;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
+import org.eclipse.kura.wire.graph.WireGraphMetricsService;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
 import org.osgi.framework.ServiceReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The Class WireHelperServiceImpl is the implementation of
- * {@link WireHelperService}
+ * {@link WireHelperService} and {@link WireGraphMetricsService}
  */
-public final class WireHelperServiceImpl implements WireHelperService {
+public final class WireHelperServiceImpl implements WireHelperService, WireGraphMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WireHelperServiceImpl.class);
+
+    private static final int DISPATCH_THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final long DISPATCH_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final Map<String, WireSupportImpl> wireSupports = new ConcurrentHashMap<>();
+
+    private final ServiceListener wireComponentListener = this::wireComponentChanged;
+
+    private BundleContext bundleContext;
+
+    private ExecutorService dispatchExecutor;
+
+    public void activate() {
+        activate(FrameworkUtil.getBundle(WireHelperServiceImpl.class).getBundleContext(), newDispatchExecutor());
+    }
+
+    void activate(final BundleContext context, final ExecutorService executor) {
+        this.bundleContext = context;
+        this.dispatchExecutor = executor;
+
+        try {
+            context.addServiceListener(this.wireComponentListener,
+                    "(" + OBJECTCLASS + "=" + WireComponent.class.getName() + ")");
+        } catch (final InvalidSyntaxException e) {
+            logger.warn("Failed to track Wire Component property changes", e);
+        }
+    }
+
+    public void deactivate() {
+        this.bundleContext.removeServiceListener(this.wireComponentListener);
+        this.wireSupports.values().forEach(WireSupportImpl::close);
+        this.wireSupports.clear();
+        this.dispatchExecutor.shutdownNow();
+    }
+
+    private void wireComponentChanged(final ServiceEvent event) {
+        final ServiceReference<?> ref = event.getServiceReference();
+        final Object kuraServicePid = ref.getProperty(KURA_SERVICE_PID);
+        final WireSupportImpl wireSupport = kuraServicePid instanceof String ? this.wireSupports.get(kuraServicePid)
+                : null;
+
+        if (wireSupport == null) {
+            return;
+        }
+
+        if (event.getType() == ServiceEvent.MODIFIED) {
+            wireSupport.updateDispatchOptions(WireDispatchOptions.fromProperties(ref::getProperty));
+        } else if (event.getType() == ServiceEvent.UNREGISTERING
+                && this.wireSupports.remove(kuraServicePid, wireSupport)) {
+            wireSupport.close();
+        }
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -156,6 +234,81 @@ public final class WireHelperServiceImpl implements WireHelperService {
         int emitterPortCount = getIntOrDefault(wireComponentRef.getProperty(EMITTER_PORT_COUNT_PROP_NAME.value()),
                 wireComponent instanceof WireEmitter ? 1 : 0);
 
-        return new WireSupportImpl(wireComponent, servicePid, kuraServicePid, receiverPortCount, emitterPortCount);
+        final WireDispatchOptions dispatchOptions = WireDispatchOptions.fromProperties(wireComponentRef::getProperty);
+
+        final WireSupportImpl result = new WireSupportImpl(wireComponent, servicePid, kuraServicePid,
+                receiverPortCount, emitterPortCount, dispatchOptions, this.dispatchExecutor);
+
+        if (kuraServicePid != null) {
+            final WireSupportImpl previous = this.wireSupports.put(kuraServicePid, result);
+
+            if (previous != null) {
+                previous.close();
+            }
+        }
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<WireComponentMetrics> getWireComponentMetrics() {
+        retainActiveWireSupports();
+
+        return this.wireSupports.values().stream().map(WireSupportImpl::getMetrics).collect(Collectors.toList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<WireComponentMetrics> getWireComponentMetrics(final String pid) {
+        requireNonNull(pid, "Wire Component PID cannot be null");
+        retainActiveWireSupports();
+
+        return Optional.ofNullable(this.wireSupports.get(pid)).map(WireSupportImpl::getMetrics);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetWireComponentMetrics() {
+        this.wireSupports.values().forEach(WireSupportImpl::resetMetrics);
+    }
+
+    private void retainActiveWireSupports() {
+        final BundleContext context = FrameworkUtil.getBundle(WireHelperServiceImpl.class).getBundleContext();
+        final ServiceReference<?>[] refs = ServiceUtil.getServiceReferences(context, WireComponent.class, null);
+        final Set<String> activePids = new HashSet<>();
+        for (final ServiceReference<?> ref : refs) {
+            activePids.add(String.valueOf(ref.getProperty(KURA_SERVICE_PID)));
+        }
+        this.wireSupports.entrySet().removeIf(e -> {
+            if (activePids.contains(e.getKey())) {
+                return false;
+            }
+            e.getValue().close();
+            return true;
+        });
+    }
+
+    /**
+     * Creates the executor shared by the asynchronous dispatchers. The number of threads is bounded; the work queue
+     * holds at most one drain task per dispatcher, since a dispatcher never submits a new task while its previous one
+     * is still pending, so its size is bounded by the number of Wire Components using asynchronous dispatch.
+     */
+    private static ExecutorService newDispatchExecutor() {
+        final ThreadPoolExecutor result = new ThreadPoolExecutor(DISPATCH_THREAD_COUNT, DISPATCH_THREAD_COUNT,
+                DISPATCH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), getThreadFactory());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static ThreadFactory getThreadFactory() {
+        final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return runnable -> {
+            final Thread result = defaultFactory.newThread(runnable);
+            result.setName("WiresDispatcher_" + threadCount.incrementAndGet());
+            return result;
+        };
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,22 +14,29 @@
 package org.eclipse.kura.internal.wire.helper;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.kura.wire.graph.Constants.EMITTER_KURA_SERVICE_PID_PROP_NAME;
 import static org.eclipse.kura.wire.graph.Constants.WIRE_EMITTER_PORT_PROP_NAME;
 import static org.eclipse.kura.wire.graph.Constants.WIRE_RECEIVER_PORT_PROP_NAME;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import org.eclipse.kura.internal.wire.helper.WireDispatchOptions.DispatchMode;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
+import org.eclipse.kura.wire.graph.WireDispatchMetrics;
 import org.eclipse.kura.wire.graph.EmitterPort;
 import org.eclipse.kura.wire.graph.MultiportWireSupport;
 import org.eclipse.kura.wire.graph.Port;
@@ -57,8 +64,27 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
 
     private final Map<Wire, ReceiverPortImpl> receiverPortByWire;
 
+    private final int inputPortCount;
+
+    private final Executor dispatchExecutor;
+
+    private WireDispatchOptions dispatchOptions;
+
+    private volatile Optional<AsyncWireDispatcher> dispatcher;
+
+    private boolean closed;
+
+    private final WireComponentMetricsCollector metrics = new WireComponentMetricsCollector();
+
     WireSupportImpl(final WireComponent wireComponent, final String servicePid, final String kuraServicePid,
             int inputPortCount, int outputPortCount) {
+        this(wireComponent, servicePid, kuraServicePid, inputPortCount, outputPortCount, WireDispatchOptions.SYNC,
+                null);
+    }
+
+    WireSupportImpl(final WireComponent wireComponent, final String servicePid, final String kuraServicePid,
+            int inputPortCount, int outputPortCount, final WireDispatchOptions dispatchOptions,
+            final Executor dispatchExecutor) {
         requireNonNull(wireComponent, "Wire component cannot be null");
         requireNonNull(servicePid, "service pid cannot be null");
         requireNonNull(kuraServicePid, "kura service pid cannot be null");
@@ -85,6 +111,49 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
         for (int i = 0; i < outputPortCount; i++) {
             emitterPorts.add(new EmitterPortImpl());
         }
+
+        this.inputPortCount = inputPortCount;
+        this.dispatchExecutor = dispatchExecutor;
+        this.dispatchOptions = dispatchOptions;
+        this.dispatcher = createDispatcher(dispatchOptions);
+    }
+
+    private Optional<AsyncWireDispatcher> createDispatcher(final WireDispatchOptions options) {
+        if (options.getDispatchMode() == DispatchMode.ASYNC && this.inputPortCount > 0) {
+            return Optional.of(new AsyncWireDispatcher(this.kuraServicePid, options, this.dispatchExecutor,
+                    this::deliver));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Applies new dispatch options, replacing the current dispatcher if they differ from the ones in use. Envelopes
+     * already queued by the previous dispatcher are still delivered, new envelopes go through the new dispatcher.
+     *
+     * @param options
+     *            the new dispatch options
+     */
+    synchronized void updateDispatchOptions(final WireDispatchOptions options) {
+        requireNonNull(options, "Dispatch options cannot be null");
+
+        if (this.closed || options.equals(this.dispatchOptions)) {
+            return;
+        }
+
+        logger.info("Dispatch options of {} changed, dispatch mode is now {}", this.kuraServicePid,
+                options.getDispatchMode());
+
+        this.dispatchOptions = options;
+        this.dispatcher = createDispatcher(options);
+    }
+
+    /**
+     * Releases the resources held by this instance, discarding the envelopes still waiting to be dispatched. Called
+     * when the associated Wire Component is no longer available.
+     */
+    synchronized void close() {
+        this.closed = true;
+        this.dispatcher.ifPresent(AsyncWireDispatcher::close);
     }
 
     private void clearReceiverPorts() {
@@ -150,6 +219,7 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
                 logger.warn("Failed to assign incomimg wire to port", e);
             }
         }
+        this.dispatcher.ifPresent(d -> d.retainWires(this.receiverPortByWire.keySet()));
     }
 
     /** {@inheritDoc} */
@@ -160,14 +230,83 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
             return;
         }
         final WireEnvelope envelope = (WireEnvelope) value;
-        if (wireComponent instanceof WireReceiver) {
-            ((WireReceiver) this.wireComponent).onWireReceive(envelope);
+        final Optional<AsyncWireDispatcher> currentDispatcher = this.dispatcher;
+        if (currentDispatcher.isPresent()) {
+            currentDispatcher.get().dispatch(wire, envelope);
         } else {
-            final ReceiverPortImpl receiverPort = this.receiverPortByWire.get(wire);
-            receiverPort.consumer.accept(envelope);
+            deliver(wire, envelope);
         }
     }
 
+    private void deliver(final Wire wire, final WireEnvelope envelope) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            if (wireComponent instanceof WireReceiver) {
+                ((WireReceiver) this.wireComponent).onWireReceive(envelope);
+            } else {
+                final ReceiverPortImpl receiverPort = this.receiverPortByWire.get(wire);
+                receiverPort.consumer.accept(envelope);
+            }
+            failed = false;
+        } finally {
+            this.metrics.onEnvelopeReceived(getRecordCount(envelope), System.nanoTime() - start, failed);
+        }
+    }
+
+    Optional<AsyncWireDispatcher> getDispatcher() {
+        return this.dispatcher;
+    }
+
+    String getKuraServicePid() {
+        return this.kuraServicePid;
+    }
+
+    WireComponentMetrics getMetrics() {
+        final Optional<AsyncWireDispatcher> currentDispatcher = this.dispatcher;
+        final List<WireDispatchMetrics> wireDispatchMetrics = currentDispatcher.map(this::getWireDispatchMetrics)
+                .orElse(Collections.emptyList());
+
+        return this.metrics.toBuilder().withPid(this.kuraServicePid)
+                .withEnvelopesDropped(currentDispatcher.map(AsyncWireDispatcher::getDroppedCount).orElse(0L))
+                .withQueueDepth(currentDispatcher.map(AsyncWireDispatcher::getQueueDepth).orElse(0))
+                .withWireDispatchMetrics(wireDispatchMetrics).build();
+    }
+
+    private List<WireDispatchMetrics> getWireDispatchMetrics(final AsyncWireDispatcher asyncDispatcher) {
+        final List<WireDispatchMetrics> result = new ArrayList<>();
+
+        for (int i = 0; i < this.receiverPorts.size(); i++) {
+            for (final Wire wire : this.receiverPorts.get(i).listConnectedWires()) {
+                final Object emitterPid = getWireProperty(wire, EMITTER_KURA_SERVICE_PID_PROP_NAME.value());
+                final Object emitterPort = getWireProperty(wire, WIRE_EMITTER_PORT_PROP_NAME.value());
+
+                result.add(new WireDispatchMetrics(emitterPid instanceof String ? (String) emitterPid : null,
+                        emitterPort instanceof Integer ? (Integer) emitterPort : 0, i,
+                        asyncDispatcher.getQueueDepth(wire), asyncDispatcher.getDroppedCount(wire)));
+            }
+        }
+
+        return result;
+    }
+
+    private static Object getWireProperty(final Wire wire, final String key) {
+        final Dictionary<?, ?> properties = wire.getProperties();
+
+        return properties != null ? properties.get(key) : null;
+    }
+
+    void resetMetrics() {
+        this.metrics.reset();
+        this.dispatcher.ifPresent(AsyncWireDispatcher::resetDroppedCount);
+    }
+
+    private static int getRecordCount(final WireEnvelope envelope) {
+        final List<WireRecord> records = envelope != null ? envelope.getRecords() : null;
+
+        return records != null ? records.size() : 0;
+    }
+
     @Override
     public List<EmitterPort> getEmitterPorts() {
         return Collections.unmodifiableList(this.emitterPorts);
@@ -192,6 +331,7 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
 
         @Override
         public void emit(WireEnvelope envelope) {
+            metrics.onEnvelopeEmitted(getRecordCount(envelope));
             for (final Wire wire : this.connectedWires) {
                 wire.update(envelope);
             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.kura.wire.script.tools;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -23,86 +26,306 @@ import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.type.TypedValues;
 import org.eclipse.kura.wire.WireRecord;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotException;
-import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Base class for the components that evaluate scripts.
+ *
+ * The script contexts are created on a polyglot engine shared by all the components and are kept in a pool, so that
+ * envelopes can be evaluated concurrently with {@link #withContext(Function)}, up to the configured pool size. The
+ * global variables defined by a script are retained across evaluations, but are not shared between the contexts of
+ * the pool. The {@link #addBinding(String, Object)}, {@link #evaluate(String)},
+ * {@link #getBindingAsWireRecordList(String)} and {@link #getResultAsBoolean()} methods operate on the first context
+ * of the pool and must not be used concurrently.
+ */
 public abstract class EngineProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(EngineProvider.class);
     public static final String LANGUAGE_ID = "js";
+    public static final int DEFAULT_CONTEXT_POOL_SIZE = 1;
 
-    private Optional<Context> engine = Optional.empty();
-    private Value bindings;
-    private Optional<Value> currentResult;
+    private volatile ContextPool contextPool;
 
     public void initEngine() {
-        closeEngine();
+        initEngine(DEFAULT_CONTEXT_POOL_SIZE);
+    }
+
+    public void initEngine(final int contextPoolSize) {
+        ContextPool newPool;
 
         try {
-            this.engine = Optional.of(Context.newBuilder(LANGUAGE_ID).option("engine.WarnInterpreterOnly", "false")
-                    .allowHostAccess(HostAccess.ALL).build());
-            createDefaultBindings();
+            newPool = new ContextPool(contextPoolSize);
         } catch (Exception e) {
             logger.error("Failed to initialize engine for language '" + LANGUAGE_ID + "'.", e);
-            this.engine = Optional.empty();
+            newPool = null;
+        }
+
+        // the new pool is created before closing the old one, so that the shared engine is retained
+        final ContextPool oldPool = this.contextPool;
+        this.contextPool = newPool;
+
+        if (oldPool != null) {
+            oldPool.close();
+        }
+    }
+
+    /**
+     * Changes the maximum number of contexts that can evaluate scripts concurrently, retaining the existing contexts
+     * up to the new size.
+     */
+    public void setContextPoolSize(final int contextPoolSize) {
+        final ContextPool currentPool = this.contextPool;
+
+        if (currentPool != null) {
+            currentPool.setMaxSize(contextPoolSize);
         }
     }
 
     public void closeEngine() {
-        if (this.engine.isPresent()) {
-            this.engine.get().close(true);
-            this.engine = Optional.empty();
+        final ContextPool currentPool = this.contextPool;
+
+        if (currentPool != null) {
+            this.contextPool = null;
+            currentPool.close();
         }
     }
 
     public boolean isEngineInit() {
-        return this.engine.isPresent();
+        return this.contextPool != null;
     }
 
     public void addBinding(String name, Object value) {
-        this.bindings.putMember(name, value);
+        this.contextPool.primary.addBinding(name, value);
     }
 
     public Optional<List<WireRecord>> getBindingAsWireRecordList(String name) {
-        Value searched = this.bindings.getMember(name);
+        return this.contextPool.primary.getBindingAsWireRecordList(name);
+    }
 
-        if (searched != null && searched.hasArrayElements()) {
-            return Optional.of(valueToWireRecordList(searched));
+    public void evaluate(String sourceCode) {
+        final ContextPool currentPool = this.contextPool;
+
+        if (currentPool != null) {
+            currentPool.primary.evaluate(sourceCode);
         } else {
-            logger.warn("Binding '{}' is either null or not an array.", name);
+            logger.warn("Engine is not loaded!");
+        }
+    }
+
+    public Optional<TypedValue<Boolean>> getResultAsBoolean() {
+        final ContextPool currentPool = this.contextPool;
+
+        if (currentPool == null) {
             return Optional.empty();
         }
+
+        return currentPool.primary.getResultAsBoolean();
     }
 
-    public void evaluate(String sourceCode) {
-        this.currentResult = Optional.empty();
+    /**
+     * Runs the given task with a context borrowed from the pool, waiting for a context to be available if the
+     * maximum number of contexts are in use.
+     *
+     * @return the result of the task, or an empty optional if the engine is not loaded
+     */
+    protected <T> Optional<T> withContext(final Function<ScriptContext, Optional<T>> task) {
+        final ContextPool currentPool = this.contextPool;
+
+        if (currentPool == null) {
+            logger.warn("Engine is not loaded!");
+            return Optional.empty();
+        }
+
+        final ScriptContext context;
+
+        try {
+            context = currentPool.borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            logger.warn("Failed to create script context.", e);
+            return Optional.empty();
+        }
+
+        if (context == null) {
+            return Optional.empty();
+        }
+
         try {
-            if (this.engine.isPresent()) {
-                Source source = Source.newBuilder(LANGUAGE_ID, sourceCode, null).build();
-                this.currentResult = Optional.of(this.engine.get().eval(source));
+            return task.apply(context);
+        } finally {
+            currentPool.giveBack(context);
+        }
+    }
+
+    /**
+     * A script context, with its own bindings and global variables. A context must not be used by more than one
+     * thread at a time.
+     */
+    public static final class ScriptContext {
+
+        private final Context context;
+        private final Value bindings;
+        private Optional<Value> currentResult = Optional.empty();
+
+        private ScriptContext(final Engine engine) {
+            this.context = Context.newBuilder(LANGUAGE_ID).engine(engine).allowHostAccess(HostAccess.ALL).build();
+
+            try {
+                this.bindings = this.context.getBindings(LANGUAGE_ID);
+                createDefaultBindings(this.bindings);
+            } catch (RuntimeException e) {
+                this.context.close(true);
+                throw e;
+            }
+        }
+
+        public void addBinding(String name, Object value) {
+            this.bindings.putMember(name, value);
+        }
+
+        public Optional<List<WireRecord>> getBindingAsWireRecordList(String name) {
+            Value searched = this.bindings.getMember(name);
+
+            if (searched != null && searched.hasArrayElements()) {
+                return Optional.of(valueToWireRecordList(searched));
             } else {
-                logger.warn("Engine is not loaded!");
+                logger.warn("Binding '{}' is either null or not an array.", name);
+                return Optional.empty();
             }
-        } catch (PolyglotException pe) {
-            logPolyglotException(pe);
-        } catch (Exception e) {
-            logger.warn("Failed to execute script.", e);
+        }
+
+        public void evaluate(String sourceCode) {
+            this.currentResult = Optional.empty();
+            try {
+                this.currentResult = Optional.of(this.context.eval(SharedEngine.getSource(LANGUAGE_ID, sourceCode)));
+            } catch (PolyglotException pe) {
+                logPolyglotException(pe);
+            } catch (Exception e) {
+                logger.warn("Failed to execute script.", e);
+            }
+        }
+
+        public Optional<TypedValue<Boolean>> getResultAsBoolean() {
+            if (this.currentResult.isPresent() && this.currentResult.get().isBoolean()) {
+                return Optional.of(TypedValues.newBooleanValue(this.currentResult.get().asBoolean()));
+            }
+            return Optional.empty();
+        }
+
+        private void close() {
+            this.context.close(true);
         }
     }
 
-    public Optional<TypedValue<Boolean>> getResultAsBoolean() {
-        if (currentResult.isPresent() && this.currentResult.get().isBoolean()) {
-            return Optional.of(TypedValues.newBooleanValue(this.currentResult.get().asBoolean()));
+    private static final class ContextPool {
+
+        private final ScriptContext primary;
+        private final Engine engine;
+        private final List<ScriptContext> contexts = new ArrayList<>();
+        private final Deque<ScriptContext> idle = new ArrayDeque<>();
+        private int maxSize;
+        private boolean closed;
+
+        ContextPool(final int maxSize) {
+            this.engine = SharedEngine.acquire();
+
+            try {
+                this.primary = new ScriptContext(this.engine);
+            } catch (RuntimeException e) {
+                SharedEngine.release();
+                throw e;
+            }
+
+            this.contexts.add(this.primary);
+            this.idle.push(this.primary);
+            this.maxSize = Math.max(1, maxSize);
+        }
+
+        synchronized ScriptContext borrow() throws InterruptedException {
+            while (!this.closed) {
+                // the most recently used context is returned first, the others are used only under concurrency
+                if (!this.idle.isEmpty()) {
+                    return this.idle.pop();
+                }
+
+                if (this.contexts.size() < this.maxSize) {
+                    final ScriptContext context = new ScriptContext(this.engine);
+                    this.contexts.add(context);
+                    return context;
+                }
+
+                wait();
+            }
+
+            return null;
+        }
+
+        synchronized void giveBack(final ScriptContext context) {
+            if (this.closed) {
+                return;
+            }
+
+            if (context != this.primary && this.contexts.size() > this.maxSize) {
+                this.contexts.remove(context);
+                context.close();
+            } else {
+                this.idle.push(context);
+            }
+
+            notifyAll();
+        }
+
+        synchronized void setMaxSize(final int maxSize) {
+            this.maxSize = Math.max(1, maxSize);
+
+            this.idle.removeIf(context -> {
+                if (context == this.primary || this.contexts.size() <= this.maxSize) {
+                    return false;
+                }
+
+                this.contexts.remove(context);
+                context.close();
+                return true;
+            });
+
+            notifyAll();
         }
-        return Optional.empty();
 
+        void close() {
+            final List<ScriptContext> toClose;
+
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+
+                this.closed = true;
+                toClose = new ArrayList<>(this.contexts);
+                this.contexts.clear();
+                this.idle.clear();
+                notifyAll();
+            }
+
+            for (final ScriptContext context : toClose) {
+                try {
+                    context.close();
+                } catch (Exception e) {
+                    logger.warn("Failed to close script context.", e);
+                }
+            }
+
+            SharedEngine.release();
+        }
     }
 
-    private List<WireRecord> valueToWireRecordList(Value value) {
+    private static List<WireRecord> valueToWireRecordList(Value value) {
         List<WireRecord> records = new LinkedList<>();
 
         for (int i = 0; i < value.getArraySize(); i++) {
@@ -112,36 +335,34 @@ public abstract class EngineProvider {
         return records;
     }
 
-    private void createDefaultBindings() {
-        this.bindings = this.engine.get().getBindings(LANGUAGE_ID);
-
-        this.bindings.removeMember("exit");
-        this.bindings.removeMember("quit");
+    private static void createDefaultBindings(final Value bindings) {
+        bindings.removeMember("exit");
+        bindings.removeMember("quit");
 
-        this.bindings.putMember("logger", logger);
-        this.bindings.putMember("newWireRecord", (Function<Map<String, TypedValue<?>>, WireRecord>) WireRecord::new);
+        bindings.putMember("logger", logger);
+        bindings.putMember("newWireRecord", (Function<Map<String, TypedValue<?>>, WireRecord>) WireRecord::new);
 
-        this.bindings.putMember("newBooleanValue", (Function<Boolean, TypedValue<?>>) TypedValues::newBooleanValue);
-        this.bindings.putMember("newByteArrayValue", (Function<byte[], TypedValue<?>>) TypedValues::newByteArrayValue);
-        this.bindings.putMember("newDoubleValue",
+        bindings.putMember("newBooleanValue", (Function<Boolean, TypedValue<?>>) TypedValues::newBooleanValue);
+        bindings.putMember("newByteArrayValue", (Function<byte[], TypedValue<?>>) TypedValues::newByteArrayValue);
+        bindings.putMember("newDoubleValue",
                 (Function<Number, TypedValue<?>>) num -> TypedValues.newDoubleValue(num.doubleValue()));
-        this.bindings.putMember("newFloatValue",
+        bindings.putMember("newFloatValue",
                 (Function<Number, TypedValue<?>>) num -> TypedValues.newFloatValue(num.floatValue()));
-        this.bindings.putMember("newIntegerValue",
+        bindings.putMember("newIntegerValue",
                 (Function<Number, TypedValue<?>>) num -> TypedValues.newIntegerValue(num.intValue()));
-        this.bindings.putMember("newLongValue",
+        bindings.putMember("newLongValue",
                 (Function<Number, TypedValue<?>>) num -> TypedValues.newLongValue(num.longValue()));
-        this.bindings.putMember("newStringValue",
+        bindings.putMember("newStringValue",
                 (Function<Object, TypedValue<?>>) obj -> TypedValues.newStringValue(obj.toString()));
 
-        this.bindings.putMember("newByteArray", (Function<Integer, byte[]>) size -> new byte[size]);
+        bindings.putMember("newByteArray", (Function<Integer, byte[]>) size -> new byte[size]);
 
         for (DataType type : DataType.values()) {
-            this.bindings.putMember(type.name(), type);
+            bindings.putMember(type.name(), type);
         }
     }
 
-    private void logPolyglotException(PolyglotException exception) {
+    private static void logPolyglotException(PolyglotException exception) {
         if (exception.getSourceLocation() != null) {
             logger.warn("Syntax error at {}:{} - {}:{}:\n{}", exception.getSourceLocation().getStartLine(),
                     exception.getSourceLocation().getStartColumn(), exception.getSourceLocation().getEndLine(),
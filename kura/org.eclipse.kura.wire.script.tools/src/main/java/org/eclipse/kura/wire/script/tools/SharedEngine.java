@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.script.tools;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the polyglot {@link Engine} shared by the contexts of all the script components and the cache of the parsed
+ * script sources.
+ *
+ * Contexts created on the same engine share the code parsed from cached sources, and the compiled code if a
+ * Graal JIT compiler is available, so the cost of parsing and warming up a script is paid once instead of once per
+ * component. The engine is reference counted and closed when the last context pool using it is closed.
+ */
+final class SharedEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedEngine.class);
+
+    private static final String INTERPRETED_IMPLEMENTATION_NAME = "Interpreted";
+    private static final int MAX_CACHED_SOURCES = 64;
+
+    private static Engine engine;
+    private static int references;
+
+    private static final Map<String, Source> sources = Collections
+            .synchronizedMap(new LinkedHashMap<String, Source>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Source> eldest) {
+                    return size() > MAX_CACHED_SOURCES;
+                }
+            });
+
+    private SharedEngine() {
+    }
+
+    static synchronized Engine acquire() {
+        if (engine == null) {
+            // the warning is printed on stderr, the same information is logged below
+            engine = Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build();
+
+            if (INTERPRETED_IMPLEMENTATION_NAME.equals(engine.getImplementationName())) {
+                logger.warn("No Graal JIT compiler available, scripts will be executed in interpreted mode only.");
+            } else {
+                logger.info("Script engine created, implementation: {}", engine.getImplementationName());
+            }
+        }
+
+        references++;
+        return engine;
+    }
+
+    static synchronized void release() {
+        if (references == 0) {
+            return;
+        }
+
+        references--;
+
+        if (references == 0) {
+            engine.close();
+            engine = null;
+            sources.clear();
+        }
+    }
+
+    /**
+     * Returns a cached {@link Source} for the given script, so that contexts evaluating the same script on the shared
+     * engine reuse the code parsed the first time.
+     */
+    static Source getSource(final String languageId, final String sourceCode) {
+        return sources.computeIfAbsent(sourceCode,
+                code -> Source.newBuilder(languageId, code, "script-" + Integer.toHexString(code.hashCode()))
+                        .cached(true).buildLiteral());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others 
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others 
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -43,7 +43,7 @@ public final class ConditionalComponent extends EngineProvider
 
     private static final Logger logger = LoggerFactory.getLogger(ConditionalComponent.class);
 
-    private Optional<String> booleanExpression = Optional.empty();
+    private volatile Optional<String> booleanExpression = Optional.empty();
 
     private WireHelperService wireHelperService;
 
@@ -85,7 +85,7 @@ public final class ConditionalComponent extends EngineProvider
 
         this.conditionalOptions = new ConditionalComponentOptions(properties);
 
-        initEngine();
+        initEngine(this.conditionalOptions.getContextPoolSize());
 
         this.booleanExpression = this.conditionalOptions.getBooleanExpression();
 
@@ -100,7 +100,7 @@ public final class ConditionalComponent extends EngineProvider
 
     /** {@inheritDoc} */
     @Override
-    public synchronized void onWireReceive(final WireEnvelope wireEnvelope) {
+    public void onWireReceive(final WireEnvelope wireEnvelope) {
         requireNonNull(wireEnvelope, "Wire Envelope cannot be null");
 
         evaluateScriptAndEmitOutput(wireEnvelope);
@@ -109,16 +109,18 @@ public final class ConditionalComponent extends EngineProvider
 
     private void evaluateScriptAndEmitOutput(WireEnvelope wireEnvelope) {
 
-        if (!this.booleanExpression.isPresent() || this.booleanExpression.get().isEmpty()) {
+        final Optional<String> expression = this.booleanExpression;
+
+        if (!expression.isPresent() || expression.get().isEmpty()) {
             logger.warn("No source specified! Ignoring received WireEnvelope.");
             return;
         }
 
-        addBinding("input", wireEnvelope);
-
-        evaluate(this.booleanExpression.get());
-
-        Optional<TypedValue<Boolean>> result = getResultAsBoolean();
+        Optional<TypedValue<Boolean>> result = withContext(context -> {
+            context.addBinding("input", wireEnvelope);
+            context.evaluate(expression.get());
+            return context.getResultAsBoolean();
+        });
 
         if (!result.isPresent()) {
             logger.error(
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,12 +19,18 @@ public class ConditionalComponentOptions {
 
     public static final String FILTER_LANGUAGE_ID = "js";
     public static final String CONDITION_PROPERTY_KEY = "condition";
+    public static final String CONTEXT_POOL_SIZE_PROPERTY_KEY = "condition.context.pool.size";
+    public static final int CONTEXT_POOL_SIZE_DEFAULT_VALUE = 4;
 
     private String booleanExpression;
+    private int contextPoolSize;
 
     ConditionalComponentOptions(final Map<String, Object> properties) {
         this.booleanExpression = (String) properties.get(CONDITION_PROPERTY_KEY);
         this.booleanExpression = this.booleanExpression == null ? "" : this.booleanExpression.trim();
+
+        this.contextPoolSize = (int) properties.getOrDefault(CONTEXT_POOL_SIZE_PROPERTY_KEY,
+                CONTEXT_POOL_SIZE_DEFAULT_VALUE);
     }
 
     Optional<String> getBooleanExpression() {
@@ -35,4 +41,8 @@ public class ConditionalComponentOptions {
         return Optional.of(this.booleanExpression);
     }
 
+    int getContextPoolSize() {
+        return this.contextPoolSize;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -36,7 +36,7 @@ public class FilterComponent extends EngineProvider implements WireEmitter, Wire
 
     private static final Logger logger = LoggerFactory.getLogger(FilterComponent.class);
 
-    private Optional<String> sourceScript = Optional.empty();
+    private volatile Optional<String> sourceScript = Optional.empty();
 
     private WireHelperService wireHelperService;
     private WireSupport wireSupport;
@@ -78,22 +78,28 @@ public class FilterComponent extends EngineProvider implements WireEmitter, Wire
         this.sourceScript = options.getScriptSource();
 
         if (options.isScriptContextDrop() || !isEngineInit()) {
-            initEngine();
+            initEngine(options.getScriptContextPoolSize());
+        } else {
+            setContextPoolSize(options.getScriptContextPoolSize());
         }
 
         logger.info("Updating Filter Component... Done");
     }
 
     @Override
-    public synchronized void onWireReceive(WireEnvelope wireEnvelope) {
-        if (!this.sourceScript.isPresent()) {
+    public void onWireReceive(WireEnvelope wireEnvelope) {
+        final Optional<String> script = this.sourceScript;
+
+        if (!script.isPresent()) {
             logger.warn("No source specified! Ignoring received WireEnvelope.");
             return;
         }
 
-        addBinding("input", wireEnvelope);
-        evaluate(this.sourceScript.get());
-        Optional<List<WireRecord>> recordsToEmit = getBindingAsWireRecordList("output");
+        Optional<List<WireRecord>> recordsToEmit = withContext(context -> {
+            context.addBinding("input", wireEnvelope);
+            context.evaluate(script.get());
+            return context.getBindingAsWireRecordList("output");
+        });
 
         if (recordsToEmit.isPresent()) {
             this.wireSupport.emit(recordsToEmit.get());
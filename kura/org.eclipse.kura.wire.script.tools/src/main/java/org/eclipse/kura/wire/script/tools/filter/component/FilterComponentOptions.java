@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,9 +20,12 @@ public class FilterComponentOptions {
     public static final String SCRIPT_KEY = "script";
     public static final String SCRIPT_CONTEXT_DROP_KEY = "script.context.drop";
     public static final boolean SCRIPT_CONTEXT_DROP_DEFAULT_VALUE = false;
+    public static final String SCRIPT_CONTEXT_POOL_SIZE_KEY = "script.context.pool.size";
+    public static final int SCRIPT_CONTEXT_POOL_SIZE_DEFAULT_VALUE = 1;
 
     private String scriptSource;
     private boolean scriptContextDrop;
+    private int scriptContextPoolSize;
 
     public FilterComponentOptions(final Map<String, Object> properties) {
         this.scriptSource = (String) properties.get(SCRIPT_KEY);
@@ -30,6 +33,9 @@ public class FilterComponentOptions {
 
         this.scriptContextDrop = (boolean) properties.getOrDefault(SCRIPT_CONTEXT_DROP_KEY,
                 SCRIPT_CONTEXT_DROP_DEFAULT_VALUE);
+
+        this.scriptContextPoolSize = (int) properties.getOrDefault(SCRIPT_CONTEXT_POOL_SIZE_KEY,
+                SCRIPT_CONTEXT_POOL_SIZE_DEFAULT_VALUE);
     }
 
     public Optional<String> getScriptSource() {
@@ -44,4 +50,8 @@ public class FilterComponentOptions {
         return this.scriptContextDrop;
     }
 
+    public int getScriptContextPoolSize() {
+        return this.scriptContextPoolSize;
+    }
+
 }
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+
+package org.eclipse.kura.ai.triton.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+
+import inference.GrpcService.ModelInferRequest;
+import inference.GrpcService.ModelInferRequest.InferInputTensor;
+import inference.GrpcService.ModelInferResponse;
+import inference.GrpcService.ModelInferResponse.InferOutputTensor;
+
+public class TritonServerInferenceBatcherTest {
+
+    private final List<ModelInferRequest> sentRequests = new ArrayList<>();
+    private final List<CompletableFuture<ModelInferResponse>> pendingResponses = new ArrayList<>();
+    private final List<CompletableFuture<ModelInferResponse>> results = new ArrayList<>();
+
+    private final TritonServerInferenceBatcher batcher = new TritonServerInferenceBatcher(request -> {
+        this.sentRequests.add(request);
+        CompletableFuture<ModelInferResponse> response = new CompletableFuture<>();
+        this.pendingResponses.add(response);
+        return response;
+    });
+
+    @Test
+    public void shouldSendFirstRequestImmediately() {
+        whenRequestIsSubmitted(request("model", 1, new byte[] { 1, 2 }), 8);
+
+        thenSentRequestsCountIs(1);
+        thenSentRequestHasRows(0, 1);
+    }
+
+    @Test
+    public void shouldMergeRequestsQueuedWhileARequestIsInFlight() throws Exception {
+        givenSubmittedRequest(request("model", 1, new byte[] { 1, 2 }), 8);
+        givenSubmittedRequest(request("model", 1, new byte[] { 3, 4 }), 8);
+        givenSubmittedRequest(request("model", 2, new byte[] { 5, 6, 7, 8 }), 8);
+
+        whenResponseIsReceived(0, response(1, new byte[] { 10 }));
+
+        thenSentRequestsCountIs(2);
+        thenSentRequestHasRows(1, 3);
+        thenSentRequestContentIs(1, new byte[] { 3, 4, 5, 6, 7, 8 });
+        thenResultIs(0, 1, new byte[] { 10 });
+    }
+
+    @Test
+    public void shouldSplitBatchedResponse() throws Exception {
+        givenSubmittedRequest(request("model", 1, new byte[] { 1, 2 }), 8);
+        givenSubmittedRequest(request("model", 1, new byte[] { 3, 4 }), 8);
+        givenSubmittedRequest(request("model", 2, new byte[] { 5, 6, 7, 8 }), 8);
+        givenResponseReceived(0, response(1, new byte[] { 10 }));
+
+        whenResponseIsReceived(1, response(3, new byte[] { 11, 12, 13, 14, 15, 16 }));
+
+        thenResultIs(1, 1, new byte[] { 11, 12 });
+        thenResultIs(2, 2, new byte[] { 13, 14, 15, 16 });
+    }
+
+    @Test
+    public void shouldLimitTheBatchSize() {
+        givenSubmittedRequest(request("model", 1, new byte[] { 1 }), 2);
+        givenSubmittedRequest(request("model", 1, new byte[] { 2 }), 2);
+        givenSubmittedRequest(request("model", 1, new byte[] { 3 }), 2);
+        givenSubmittedRequest(request("model", 1, new byte[] { 4 }), 2);
+
+        whenResponseIsReceived(0, response(1, new byte[] { 10 }));
+        whenResponseIsReceived(1, response(2, new byte[] { 11, 12 }));
+
+        thenSentRequestsCountIs(3);
+        thenSentRequestHasRows(1, 2);
+        thenSentRequestHasRows(2, 1);
+    }
+
+    @Test
+    public void shouldNotMergeRequestsForDifferentModels() {
+        givenSubmittedRequest(request("model", 1, new byte[] { 1 }), 8);
+
+        whenRequestIsSubmitted(request("otherModel", 1, new byte[] { 2 }), 8);
+
+        thenSentRequestsCountIs(2);
+    }
+
+    @Test
+    public void shouldFailAllRequestsIfTheResponseCannotBeSplit() {
+        givenSubmittedRequest(request("model", 1, new byte[] { 1 }), 8);
+        givenSubmittedRequest(request("model", 1, new byte[] { 2 }), 8);
+        givenSubmittedRequest(request("model", 1, new byte[] { 3 }), 8);
+        givenResponseReceived(0, response(1, new byte[] { 10 }));
+
+        whenResponseIsReceived(1, response(3, new byte[] { 11, 12, 13 }));
+
+        thenResultIsFailed(1);
+        thenResultIsFailed(2);
+    }
+
+    @Test
+    public void shouldNotBatchRequestsWithVariableSizeInputs() {
+        ModelInferRequest request = ModelInferRequest.newBuilder().setModelName("model")
+                .addInputs(InferInputTensor.newBuilder().setName("IN").setDatatype("BYTES").addShape(1))
+                .addRawInputContents(ByteString.copyFrom(new byte[] { 1, 0, 0, 0, 1 })).build();
+
+        assertFalse(TritonServerInferenceBatcher.isBatchable(request));
+        assertTrue(TritonServerInferenceBatcher.isBatchable(request("model", 1, new byte[] { 1 })));
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenSubmittedRequest(ModelInferRequest request, int maxBatchSize) {
+        whenRequestIsSubmitted(request, maxBatchSize);
+    }
+
+    private void givenResponseReceived(int index, ModelInferResponse response) {
+        whenResponseIsReceived(index, response);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenRequestIsSubmitted(ModelInferRequest request, int maxBatchSize) {
+        this.results.add(this.batcher.submit(request, maxBatchSize));
+    }
+
+    private void whenResponseIsReceived(int index, ModelInferResponse response) {
+        this.pendingResponses.get(index).complete(response);
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenSentRequestsCountIs(int expectedCount) {
+        assertEquals(expectedCount, this.sentRequests.size());
+    }
+
+    private void thenSentRequestHasRows(int index, long expectedRows) {
+        assertEquals(expectedRows, this.sentRequests.get(index).getInputs(0).getShape(0));
+    }
+
+    private void thenSentRequestContentIs(int index, byte[] expectedContent) {
+        assertArrayEquals(expectedContent, this.sentRequests.get(index).getRawInputContents(0).toByteArray());
+    }
+
+    private void thenResultIs(int index, long expectedRows, byte[] expectedContent)
+            throws InterruptedException, ExecutionException {
+        assertTrue(this.results.get(index).isDone());
+
+        ModelInferResponse response = this.results.get(index).get();
+        assertEquals(expectedRows, response.getOutputs(0).getShape(0));
+        assertArrayEquals(expectedContent, response.getRawOutputContents(0).toByteArray());
+    }
+
+    private void thenResultIsFailed(int index) {
+        assertTrue(this.results.get(index).isCompletedExceptionally());
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static ModelInferRequest request(String modelName, long rows, byte[] content) {
+        return ModelInferRequest.newBuilder().setModelName(modelName)
+                .addInputs(InferInputTensor.newBuilder().setName("IN").setDatatype("UINT8").addShape(rows)
+                        .addShape(content.length / rows))
+                .addRawInputContents(ByteString.copyFrom(content)).build();
+    }
+
+    private static ModelInferResponse response(long rows, byte[] content) {
+        return ModelInferResponse.newBuilder()
+                .addOutputs(InferOutputTensor.newBuilder().setName("OUT").setDatatype("UINT8").addShape(rows)
+                        .addShape(content.length / rows))
+                .addRawOutputContents(ByteString.copyFrom(content)).build();
+    }
+}
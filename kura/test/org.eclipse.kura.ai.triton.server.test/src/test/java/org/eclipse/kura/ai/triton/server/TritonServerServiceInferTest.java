@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,4 +28,34 @@ public class TritonServerServiceInferTest extends TritonServerServiceStepDefinit
         thenTensorsAreReturned();
     }
 
+    @Test
+    public void shouldInferDataAsynchronously() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+
+        whenInferDataAsynchronously(exampleModel(), exampleInputData());
+
+        thenTensorsAreReturned();
+        thenOutputTensorsAreBackedByRawData();
+    }
+
+    @Test
+    public void shouldSendInputDataAsRawContents() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+
+        whenInferData(exampleModel(), exampleInputData());
+
+        thenRawInputContentsAreSent(littleEndianBytes(3.45, 7.34, 88.887));
+    }
+
+    @Test
+    public void shouldSendRawInputTensors() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+
+        whenInferData(exampleModel(), exampleRawInputData());
+
+        thenTensorsAreReturned();
+        thenRawInputContentsAreSent(new byte[] { 0, 0, (byte) 0xc0, 0x3f, 0, 0, 0x10, (byte) 0xc0 },
+                new byte[] { 1, 0, (byte) 0xfe, (byte) 0xff }, new byte[] { 3, 0, 0, 0, 7, 8, 9 });
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -382,6 +382,26 @@ public class TritonServerServiceOptionsTest {
         thenDeviceListIsFilled(false);
     }
 
+    @Test
+    public void batchingPropertiesShouldWork() {
+        givenPropertyWith("server.address", "localhost");
+        givenPropertyWith("inference.batching.enabled", Boolean.TRUE);
+        givenPropertyWith("inference.batching.max.size", 16);
+        givenServiceOptionsBuiltWith(properties);
+
+        thenBatchingEnabledIsEqualTo(true);
+        thenBatchingMaxSizeIsEqualTo(16);
+    }
+
+    @Test
+    public void batchingPropertiesShouldHaveDefaults() {
+        givenPropertyWith("server.address", "localhost");
+        givenServiceOptionsBuiltWith(properties);
+
+        thenBatchingEnabledIsEqualTo(false);
+        thenBatchingMaxSizeIsEqualTo(8);
+    }
+
     /*
      * Given
      */
@@ -499,4 +519,12 @@ public class TritonServerServiceOptionsTest {
         assertEquals(expectedResult, this.options.getDevices());
     }
 
+    private void thenBatchingEnabledIsEqualTo(boolean expectedResult) {
+        assertEquals(expectedResult, this.options.isBatchingEnabled());
+    }
+
+    private void thenBatchingMaxSizeIsEqualTo(int expectedResult) {
+        assertEquals(expectedResult, this.options.getBatchingMaxSize());
+    }
+
 }
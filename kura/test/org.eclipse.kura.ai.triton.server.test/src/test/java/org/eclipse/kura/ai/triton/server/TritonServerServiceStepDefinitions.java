@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
 
 package org.eclipse.kura.ai.triton.server;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalAnswers.delegatesTo;
@@ -24,12 +26,14 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraException;
@@ -80,6 +84,7 @@ public abstract class TritonServerServiceStepDefinitions {
     protected boolean methodCalled;
     protected boolean exceptionCaught;
     protected Optional<ModelInfo> modelInfo;
+    protected ModelInferRequest inferRequest;
 
     private List<String> tritonModelRepoStub;
 
@@ -172,6 +177,17 @@ public abstract class TritonServerServiceStepDefinitions {
         }
     }
 
+    protected void whenInferDataAsynchronously(ModelInfo modelInfo, List<Tensor> inputData) {
+        try {
+            this.tensorList = this.tritonServerService.inferAsync(modelInfo, inputData).get();
+        } catch (ExecutionException e) {
+            this.exceptionCaught = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.exceptionCaught = true;
+        }
+    }
+
     protected void whenAskingIfEngineIsReady() {
         this.isEngineReady = this.tritonServerService.isEngineReady();
     }
@@ -236,6 +252,19 @@ public abstract class TritonServerServiceStepDefinitions {
         assertFalse(this.tensorList.isEmpty());
     }
 
+    protected void thenOutputTensorsAreBackedByRawData() {
+        this.tensorList.forEach(tensor -> assertTrue(tensor.getRawData().isPresent()));
+    }
+
+    protected void thenRawInputContentsAreSent(byte[]... expectedContents) {
+        assertEquals(expectedContents.length, this.inferRequest.getInputsCount());
+        assertEquals(expectedContents.length, this.inferRequest.getRawInputContentsCount());
+        for (int i = 0; i < expectedContents.length; i++) {
+            assertFalse(this.inferRequest.getInputs(i).hasContents());
+            assertArrayEquals(expectedContents[i], this.inferRequest.getRawInputContents(i).toByteArray());
+        }
+    }
+
     protected void thenAfterWaiting(long millisecondsToWait) throws InterruptedException {
         Thread.sleep(millisecondsToWait);
     }
@@ -338,6 +367,36 @@ public abstract class TritonServerServiceStepDefinitions {
         return tensors;
     }
 
+    protected List<Tensor> exampleRawInputData() {
+        List<Tensor> tensors = new ArrayList<>();
+
+        List<Long> shape = new ArrayList<>();
+        shape.add(2l);
+
+        ByteBuffer floats = ByteBuffer.allocateDirect(2 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        floats.putFloat(1.5f).putFloat(-2.25f).flip();
+        tensors.add(new Tensor(Float.class,
+                new TensorDescriptor("floats", "FP32", Optional.empty(), shape, new HashMap<>()), floats));
+
+        List<Integer> shorts = Arrays.asList(1, -2);
+        tensors.add(new Tensor(Integer.class,
+                new TensorDescriptor("shorts", "INT16", Optional.empty(), shape, new HashMap<>()), shorts));
+
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[] { 7, 8, 9 });
+        tensors.add(new Tensor(Byte.class,
+                new TensorDescriptor("bytes", "BYTES", Optional.empty(), shape, new HashMap<>()), bytes));
+
+        return tensors;
+    }
+
+    protected byte[] littleEndianBytes(double... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        return buffer.array();
+    }
+
     private TritonServerServiceAbs createTritonServerServiceImpl(Map<String, Object> properties,
             List<String> tritonModelRepoStub, boolean activate) throws IOException {
 
@@ -528,6 +587,7 @@ public abstract class TritonServerServiceStepDefinitions {
                             StreamObserver<ModelInferResponse> responseObserver) {
 
                         TritonServerServiceStepDefinitions.this.methodCalled = true;
+                        TritonServerServiceStepDefinitions.this.inferRequest = request;
 
                         List<InferOutputTensor> outputTensor = new ArrayList<>();
                         outputTensor.add(InferOutputTensor.newBuilder().setDatatype("FP64").setName("name1")
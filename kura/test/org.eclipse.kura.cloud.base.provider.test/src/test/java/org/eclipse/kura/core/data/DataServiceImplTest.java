@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -30,6 +32,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +44,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.kura.KuraConnectException;
+import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.data.DataTransportService;
@@ -187,6 +191,38 @@ public class DataServiceImplTest {
         thenExceptionMessageContains("size exceeds");
     }
 
+    @Test
+    public void shouldPublishStoredMessagesInBatches() throws KuraException {
+        givenDataService();
+        givenMessageStoreProvider();
+        givenDataTrasportServiceConnected();
+        givenConfigurationProperty("publish.batch.size", 10);
+        givenConfigurationProperty("enable.rate.limit", false);
+        givenNextMessages(10, storedMessage(1, "foo", 0), storedMessage(2, "bar", 1), storedMessage(3, "baz", 0));
+        givenTransportToken("bar", new DataTransportToken(12, "session"));
+        givenIsActive();
+
+        thenMessagesAreMarkedAsPublished(Arrays.asList(1, 3));
+        thenMessagesAreMarkedAsPublished(Collections.singletonMap(2, new DataTransportToken(12, "session")));
+        thenMessageIsNeverMarkedAsPublishedSingularly();
+    }
+
+    @Test
+    public void shouldStopBatchWhenInFlightWindowIsFull() throws KuraException {
+        givenDataService();
+        givenMessageStoreProvider();
+        givenDataTrasportServiceConnected();
+        givenConfigurationProperty("publish.batch.size", 10);
+        givenConfigurationProperty("enable.rate.limit", false);
+        givenConfigurationProperty("in-flight-messages.max-number", 1);
+        givenNextMessages(10, storedMessage(1, "foo", 1), storedMessage(2, "bar", 1));
+        givenTransportToken("foo", new DataTransportToken(12, "session"));
+        givenIsActive();
+
+        thenMessagesAreMarkedAsPublished(Collections.singletonMap(1, new DataTransportToken(12, "session")));
+        thenMessageIsNotPublished("bar");
+    }
+
     private void givenConfigurationProperty(final String key, final Object value) {
         this.properties.put(key, value);
     }
@@ -208,6 +244,20 @@ public class DataServiceImplTest {
         this.dataServiceImpl.setMessageStoreProvider(messageStoreProvider);
     }
 
+    private void givenNextMessages(final int batchSize, final StoredMessage... messages) throws KuraStoreException {
+        when(this.messageStore.getNextMessages(batchSize)).thenReturn(Arrays.asList(messages))
+                .thenReturn(Collections.emptyList());
+    }
+
+    private void givenTransportToken(final String topic, final DataTransportToken token) throws KuraException {
+        when(this.dataTransportServiceMock.publish(eq(topic), any(), anyInt(), anyBoolean())).thenReturn(token);
+    }
+
+    private StoredMessage storedMessage(final int id, final String topic, final int qos) {
+        return new StoredMessage.Builder(id).withTopic(topic).withPayload(new byte[1]).withQos(qos).withPriority(7)
+                .build();
+    }
+
     private void givenIsActive() {
         ComponentContext ctxMock = mock(ComponentContext.class);
         when(ctxMock.getBundleContext()).thenReturn(mock(BundleContext.class));
@@ -320,6 +370,24 @@ public class DataServiceImplTest {
         assertEquals(priority, message.getPriority());
     }
 
+    private void thenMessagesAreMarkedAsPublished(final List<Integer> msgIds) throws KuraStoreException {
+        verify(this.messageStore, timeout(5000)).markAsPublished(msgIds);
+    }
+
+    private void thenMessagesAreMarkedAsPublished(final Map<Integer, DataTransportToken> tokens)
+            throws KuraStoreException {
+        verify(this.messageStore, timeout(5000)).markAsPublished(tokens);
+    }
+
+    private void thenMessageIsNeverMarkedAsPublishedSingularly() throws KuraStoreException {
+        verify(this.messageStore, Mockito.never()).markAsPublished(anyInt());
+        verify(this.messageStore, Mockito.never()).markAsPublished(anyInt(), any());
+    }
+
+    private void thenMessageIsNotPublished(final String topic) throws KuraException {
+        verify(this.dataTransportServiceMock, Mockito.never()).publish(eq(topic), any(), anyInt(), anyBoolean());
+    }
+
     private void thenStoredMessageCountIs(final int expectedCount) {
         assertEquals(expectedCount, this.storedMessages.size());
     }
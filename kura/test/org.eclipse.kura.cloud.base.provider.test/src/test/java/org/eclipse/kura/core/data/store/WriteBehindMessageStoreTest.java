@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+
+package org.eclipse.kura.core.data.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.data.DataTransportToken;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.junit.Test;
+
+public class WriteBehindMessageStoreTest {
+
+    private final MessageStore backingStore = mock(MessageStore.class);
+    private final Map<String, Object> properties = new HashMap<>();
+    private final List<Integer> storedIds = new ArrayList<>();
+    private WriteBehindMessageStore store;
+    private Optional<StoredMessage> nextMessage = Optional.empty();
+    private int nextBackingId = 1;
+    private int backingStoreMessageCount = 0;
+
+    @Test
+    public void shouldWriteThroughHighPriorityMessages() throws KuraStoreException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(1, 0);
+
+        thenBackingStoreReceivedMessages(1);
+        thenStoredIdIs(0, 1);
+    }
+
+    @Test
+    public void shouldNotPersistVolatileMessagesPublishedBeforeFlush() throws KuraStoreException {
+        givenConfigurationProperty("flush.interval.ms", 1L);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsMarkedAsPublished(0);
+        whenStoreIsFlushed();
+
+        thenBackingStoreReceivedMessages(0);
+        thenMessageCountIs(0);
+    }
+
+    @Test
+    public void shouldUseNegativeIdsForMessagesInMemory() throws KuraStoreException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(1, 4);
+
+        thenBackingStoreReceivedMessages(0);
+        thenStoredIdIs(0, -1);
+        thenStoredIdIs(1, -2);
+        thenMessageCountIs(2);
+    }
+
+    @Test
+    public void shouldPersistWriteBehindMessagesAfterFlushInterval() throws KuraStoreException, InterruptedException {
+        givenConfigurationProperty("flush.interval.ms", 1L);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(1, 4);
+        whenMessageIsStored(0, 7);
+        Thread.sleep(10);
+        whenStoreIsFlushed();
+
+        thenBackingStoreReceivedMessages(1);
+    }
+
+    @Test
+    public void shouldPersistAllMessagesOnQueuePressure() throws KuraStoreException {
+        givenConfigurationProperty("queue.capacity", 2);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(0, 7);
+
+        thenBackingStoreReceivedMessages(2);
+    }
+
+    @Test
+    public void shouldPersistAllMessagesOnClose() throws KuraStoreException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(1, 4);
+        whenStoreIsClosed();
+
+        thenBackingStoreReceivedMessages(2);
+        verify(this.backingStore).close();
+    }
+
+    @Test
+    public void shouldTranslateIdsOfPersistedMessages() throws KuraStoreException {
+        givenConfigurationProperty("queue.capacity", 1);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(1, 4);
+        whenMessageIsStored(1, 4);
+        whenMessageIsMarkedAsPublished(0, new DataTransportToken(12, "foo"));
+        whenMessageIsMarkedAsConfirmed(0);
+
+        verify(this.backingStore).markAsPublished(1, new DataTransportToken(12, "foo"));
+        verify(this.backingStore).markAsConfirmed(1);
+    }
+
+    @Test
+    public void shouldReturnMessagesInPriorityOrder() throws KuraStoreException {
+        givenBackingStoreNextMessage(3, 5);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(1, 2);
+
+        thenNextMessageIdIs(this.storedIds.get(1));
+        thenNextMessagesAre(this.storedIds.get(1), 3, this.storedIds.get(0));
+    }
+
+    @Test
+    public void shouldKeepInFlightMessagesInMemory() throws KuraStoreException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(1, 4);
+        whenMessageIsMarkedAsPublished(0, new DataTransportToken(12, "foo"));
+
+        thenInFlightMessageCountIs(1);
+        thenBackingStoreReceivedMessages(0);
+
+        whenAllInFlightMessagesAreUnpublished();
+
+        thenInFlightMessageCountIs(0);
+        thenNextMessageIdIs(this.storedIds.get(0));
+    }
+
+    @Test
+    public void shouldPersistMessagesWithASingleBatch() throws KuraStoreException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(1, 4);
+        whenMessageIsMarkedAsPublished(1, new DataTransportToken(12, "foo"));
+        whenStoreIsClosed();
+
+        verify(this.backingStore).storeAll(any());
+        verify(this.backingStore).markAsPublished(Collections.singletonMap(2, new DataTransportToken(12, "foo")));
+    }
+
+    @Test
+    public void shouldKeepPublishedQoS0MessagesLikeTheBackingStore() throws KuraStoreException {
+        givenConfigurationProperty("queue.capacity", 1);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(0, 7);
+        whenMessageIsMarkedAsPublished(0);
+        whenMessageIsMarkedAsPublished(1);
+
+        verify(this.backingStore).markAsPublished(1);
+        thenMessageIsPublished(1);
+        thenMessageIsNotConfirmed(1);
+    }
+
+    @Test
+    public void shouldKeepQoS0MessagesPublishedInBatch() throws KuraStoreException {
+        givenConfigurationProperty("queue.capacity", 1);
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsStored(0, 7);
+        whenMessagesAreMarkedAsPublished(0, 1);
+
+        verify(this.backingStore).markAsPublished(Collections.singletonList(1));
+        thenMessageIsPublished(1);
+        thenMessageIsNotConfirmed(1);
+    }
+
+    @Test
+    public void shouldDeleteStalePublishedQoS0Messages() throws KuraStoreException, InterruptedException {
+        givenWriteBehindMessageStore();
+
+        whenMessageIsStored(0, 7);
+        whenMessageIsMarkedAsPublished(0);
+        Thread.sleep(10);
+        whenStaleMessagesAreDeleted(0);
+
+        verify(this.backingStore).deleteStaleMessages(0);
+        thenMessageIsNotFound(0);
+    }
+
+    private void givenConfigurationProperty(final String key, final Object value) {
+        this.properties.put(key, value);
+    }
+
+    private void givenBackingStoreNextMessage(final int id, final int priority) {
+        this.nextMessage = Optional.of(new StoredMessage.Builder(id).withTopic("foo").withPriority(priority)
+                .withCreatedOn(new Date(0)).build());
+    }
+
+    private void givenWriteBehindMessageStore() throws KuraStoreException {
+        when(this.backingStore.store(any(), any(), anyInt(), anyBoolean(), anyInt())).thenAnswer(i -> {
+            this.backingStoreMessageCount++;
+            return this.nextBackingId++;
+        });
+        when(this.backingStore.storeAll(any())).thenAnswer(i -> {
+            final List<StoredMessage> messages = i.getArgument(0);
+            final List<Integer> result = new ArrayList<>();
+
+            for (int j = 0; j < messages.size(); j++) {
+                this.backingStoreMessageCount++;
+                result.add(this.nextBackingId++);
+            }
+
+            return result;
+        });
+        when(this.backingStore.getNextMessage()).thenAnswer(i -> this.nextMessage);
+        when(this.backingStore.getNextMessages(anyInt())).thenAnswer(
+                i -> this.nextMessage.map(Collections::singletonList).orElseGet(Collections::emptyList));
+        when(this.backingStore.get(anyInt())).thenReturn(Optional.empty());
+        when(this.backingStore.getInFlightMessages()).thenReturn(new ArrayList<>());
+
+        this.store = new WriteBehindMessageStore(this.backingStore, new WriteBehindMessageStoreOptions(this.properties),
+                s -> {
+                });
+    }
+
+    private void whenMessageIsStored(final int qos, final int priority) throws KuraStoreException {
+        this.storedIds.add(this.store.store("foo", new byte[] { 1, 2, 3 }, qos, false, priority));
+    }
+
+    private void whenMessageIsMarkedAsPublished(final int index) throws KuraStoreException {
+        this.store.markAsPublished(this.storedIds.get(index));
+    }
+
+    private void whenMessagesAreMarkedAsPublished(final int... indexes) throws KuraStoreException {
+        final List<Integer> msgIds = new ArrayList<>();
+
+        for (final int index : indexes) {
+            msgIds.add(this.storedIds.get(index));
+        }
+
+        this.store.markAsPublished(msgIds);
+    }
+
+    private void whenMessageIsMarkedAsPublished(final int index, final DataTransportToken token)
+            throws KuraStoreException {
+        this.store.markAsPublished(this.storedIds.get(index), token);
+    }
+
+    private void whenMessageIsMarkedAsConfirmed(final int index) throws KuraStoreException {
+        this.store.markAsConfirmed(this.storedIds.get(index));
+    }
+
+    private void whenAllInFlightMessagesAreUnpublished() throws KuraStoreException {
+        this.store.unpublishAllInFlighMessages();
+    }
+
+    private void whenStoreIsFlushed() throws KuraStoreException {
+        this.store.flush();
+    }
+
+    private void whenStaleMessagesAreDeleted(final int purgeAgeSeconds) throws KuraStoreException {
+        this.store.deleteStaleMessages(purgeAgeSeconds);
+    }
+
+    private void whenStoreIsClosed() {
+        this.store.close();
+    }
+
+    private void thenBackingStoreReceivedMessages(final int count) {
+        assertEquals(count, this.backingStoreMessageCount);
+    }
+
+    private void thenStoredIdIs(final int index, final int expectedId) {
+        assertEquals(expectedId, (int) this.storedIds.get(index));
+    }
+
+    private void thenMessageCountIs(final int expectedCount) throws KuraStoreException {
+        assertEquals(expectedCount, this.store.getMessageCount());
+    }
+
+    private void thenMessageIsPublished(final int index) throws KuraStoreException {
+        final Optional<StoredMessage> message = this.store.get(this.storedIds.get(index));
+
+        assertTrue(message.isPresent());
+        assertTrue(message.get().getPublishedOn().isPresent());
+    }
+
+    private void thenMessageIsNotConfirmed(final int index) throws KuraStoreException {
+        assertFalse(this.store.get(this.storedIds.get(index)).flatMap(StoredMessage::getConfirmedOn).isPresent());
+    }
+
+    private void thenMessageIsNotFound(final int index) throws KuraStoreException {
+        assertFalse(this.store.get(this.storedIds.get(index)).isPresent());
+    }
+
+    private void thenInFlightMessageCountIs(final int expectedCount) throws KuraStoreException {
+        assertEquals(expectedCount, this.store.getInFlightMessages().size());
+    }
+
+    private void thenNextMessageIdIs(final int expectedId) throws KuraStoreException {
+        final Optional<StoredMessage> message = this.store.getNextMessage();
+
+        assertTrue(message.isPresent());
+        assertEquals(expectedId, message.get().getId());
+    }
+
+    private void thenNextMessagesAre(final int... expectedIds) throws KuraStoreException {
+        final List<StoredMessage> messages = this.store.getNextMessages(expectedIds.length);
+
+        assertEquals(expectedIds.length, messages.size());
+
+        for (int i = 0; i < expectedIds.length; i++) {
+            assertEquals(expectedIds[i], messages.get(i).getId());
+        }
+    }
+}
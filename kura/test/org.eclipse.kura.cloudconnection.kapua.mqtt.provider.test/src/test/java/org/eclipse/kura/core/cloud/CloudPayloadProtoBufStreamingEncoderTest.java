@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.cloud;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.eclipse.kura.core.util.GZipUtil;
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.message.KuraPosition;
+import org.junit.Test;
+
+public class CloudPayloadProtoBufStreamingEncoderTest {
+
+    @Test
+    public void testSameOutputAsProtoBufEncoder() throws IOException {
+        final KuraPayload payload = createPayload(10);
+
+        assertArrayEquals(new CloudPayloadProtoBufEncoderImpl(payload).getBytes(),
+                new CloudPayloadProtoBufStreamingEncoder(payload).getBytes());
+    }
+
+    @Test
+    public void testSameOutputWithoutOptionalFields() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("metric", "value");
+        payload.addMetric("null", null);
+
+        assertArrayEquals(new CloudPayloadProtoBufEncoderImpl(payload).getBytes(),
+                new CloudPayloadProtoBufStreamingEncoder(payload).getBytes());
+    }
+
+    @Test
+    public void testSameOutputForEmptyPayload() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+
+        assertArrayEquals(new CloudPayloadProtoBufEncoderImpl(payload).getBytes(),
+                new CloudPayloadProtoBufStreamingEncoder(payload).getBytes());
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        final KuraPayload payload = createPayload(200);
+        final byte[] expected = new CloudPayloadProtoBufEncoderImpl(payload).getBytes();
+
+        // repeat to exercise the per thread buffers
+        for (int i = 0; i < 3; i++) {
+            final byte[] compressed = new CloudPayloadProtoBufStreamingEncoder(payload, true).getBytes();
+
+            assertTrue(compressed.length < expected.length);
+            assertArrayEquals(expected, GZipUtil.decompress(compressed));
+        }
+    }
+
+    @Test
+    public void testGzipNotShorter() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("a", 1);
+
+        assertArrayEquals(new CloudPayloadProtoBufEncoderImpl(payload).getBytes(),
+                new CloudPayloadProtoBufStreamingEncoder(payload, true).getBytes());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testInvalidMetricType() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("invalid", new Object());
+
+        new CloudPayloadProtoBufStreamingEncoder(payload).getBytes();
+    }
+
+    private static KuraPayload createPayload(final int metricCount) {
+        final KuraPayload payload = new KuraPayload();
+        payload.setTimestamp(new Date(1503300000000L));
+
+        final KuraPosition position = new KuraPosition();
+        position.setLatitude(46.0);
+        position.setLongitude(14.0);
+        position.setAltitude(300.0);
+        position.setHeading(90.0);
+        position.setSatellites(-1);
+        position.setStatus(4);
+        position.setTimestamp(new Date(1503300000000L));
+        payload.setPosition(position);
+
+        for (int i = 0; i < metricCount; i++) {
+            payload.addMetric("string" + i, "value\u00e8" + i);
+            payload.addMetric("double" + i, i * 1.5);
+            payload.addMetric("float" + i, i * 0.5f);
+            payload.addMetric("int" + i, -i);
+            payload.addMetric("long" + i, i * 10000000000L);
+            payload.addMetric("boolean" + i, i % 2 == 0);
+            payload.addMetric("bytes" + i, new byte[] { 1, 2, (byte) i });
+        }
+
+        payload.setBody(new byte[] { 1, 2, 3, 4 });
+
+        return payload;
+    }
+}
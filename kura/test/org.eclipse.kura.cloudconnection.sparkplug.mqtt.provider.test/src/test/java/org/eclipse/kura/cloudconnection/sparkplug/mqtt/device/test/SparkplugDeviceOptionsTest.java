@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.cloudconnection.sparkplug.mqtt.device.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.kura.cloudconnection.sparkplug.mqtt.device.SparkplugDeviceOptions;
+import org.junit.Test;
+
+public class SparkplugDeviceOptionsTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private SparkplugDeviceOptions options;
+    private Exception occurredException;
+
+    /*
+     * Scenarios
+     */
+
+    @Test
+    public void shouldDisableAliasesAndReportByExceptionByDefault() {
+        givenProperty(SparkplugDeviceOptions.KEY_DEVICE_ID, "d1");
+
+        whenOptionsCreated();
+
+        thenMetricAliasesEnabled(false);
+        thenReportByExceptionEnabled(false);
+        thenDeadbandEquals("any", 0.0);
+    }
+
+    @Test
+    public void shouldReturnDeadbandOverrides() {
+        givenProperty(SparkplugDeviceOptions.KEY_DEVICE_ID, "d1");
+        givenProperty(SparkplugDeviceOptions.KEY_METRIC_ALIASES_ENABLED, true);
+        givenProperty(SparkplugDeviceOptions.KEY_REPORT_BY_EXCEPTION_ENABLED, true);
+        givenProperty(SparkplugDeviceOptions.KEY_DEFAULT_DEADBAND, 0.5);
+        givenProperty(SparkplugDeviceOptions.KEY_DEADBAND_OVERRIDES, "temperature=2; pressure = 0.1;");
+
+        whenOptionsCreated();
+
+        thenMetricAliasesEnabled(true);
+        thenReportByExceptionEnabled(true);
+        thenDeadbandEquals("temperature", 2.0);
+        thenDeadbandEquals("pressure", 0.1);
+        thenDeadbandEquals("humidity", 0.5);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidDeadbandOverride() {
+        givenProperty(SparkplugDeviceOptions.KEY_DEVICE_ID, "d1");
+        givenProperty(SparkplugDeviceOptions.KEY_DEADBAND_OVERRIDES, "temperature=abc");
+
+        whenOptionsCreated();
+
+        thenExceptionOccurred(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldThrowOnEmptyDeviceId() {
+        givenProperty(SparkplugDeviceOptions.KEY_DEVICE_ID, " ");
+
+        whenOptionsCreated();
+
+        thenExceptionOccurred(IllegalArgumentException.class);
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenProperty(String key, Object value) {
+        this.properties.put(key, value);
+    }
+
+    private void whenOptionsCreated() {
+        try {
+            this.options = new SparkplugDeviceOptions(this.properties);
+        } catch (Exception e) {
+            this.occurredException = e;
+        }
+    }
+
+    private void thenMetricAliasesEnabled(boolean expected) {
+        assertEquals(expected, this.options.isMetricAliasesEnabled());
+    }
+
+    private void thenReportByExceptionEnabled(boolean expected) {
+        assertEquals(expected, this.options.isReportByExceptionEnabled());
+    }
+
+    private void thenDeadbandEquals(String metricName, double expected) {
+        assertEquals(expected, this.options.getDeadband(metricName), 0.0);
+    }
+
+    private <E extends Exception> void thenExceptionOccurred(Class<E> expectedException) {
+        assertNotNull("No exception thrown", this.occurredException);
+        assertTrue(expectedException.isInstance(this.occurredException));
+        assertFalse(this.occurredException.getMessage().isEmpty());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -150,6 +151,33 @@ public class SparkplugBProtobufPayloadBuilderTest {
 
     }
 
+    public static class MetricAliasTest extends Steps {
+
+        @Test
+        public void shouldBuildBirthMetricWithNameAndAlias() {
+            givenMetricWithAlias("temperature", 5L, 12.5, 100L);
+
+            whenBuildPayload();
+
+            thenPayloadContainsMetric("temperature", 12.5, 100L, DataType.Double, Optional.empty());
+            thenMetricHasAlias(0, 5L);
+            thenMetricHasDataType(0, DataType.Double);
+        }
+
+        @Test
+        public void shouldBuildAliasOnlyMetric() {
+            givenAliasedMetric(5L, 12.5, 100L);
+
+            whenBuildPayload();
+
+            thenMetricHasAlias(0, 5L);
+            thenMetricHasNoName(0);
+            thenMetricHasNoDataType(0);
+            thenMetricDoubleValueEquals(0, 12.5);
+        }
+
+    }
+
     /*
      * Steps
      */
@@ -172,6 +200,14 @@ public class SparkplugBProtobufPayloadBuilderTest {
             }
         }
 
+        void givenMetricWithAlias(String name, long alias, Object value, long timestamp) {
+            this.builder = new SparkplugBProtobufPayloadBuilder().withMetric(name, alias, value, timestamp);
+        }
+
+        void givenAliasedMetric(long alias, Object value, long timestamp) {
+            this.builder = new SparkplugBProtobufPayloadBuilder().withAliasedMetric(alias, value, timestamp);
+        }
+
         void givenBdSeq(long bdSeq, long timestamp) {
             this.builder = new SparkplugBProtobufPayloadBuilder().withBdSeq(bdSeq, timestamp);
         }
@@ -282,6 +318,28 @@ public class SparkplugBProtobufPayloadBuilderTest {
             assertEquals(expectedException.getName(), this.occurredException.getClass().getName());
         }
 
+        void thenMetricHasAlias(int index, long expectedAlias) {
+            Metric metric = this.payload.getMetrics(index);
+            assertTrue(metric.hasAlias());
+            assertEquals(expectedAlias, metric.getAlias());
+        }
+
+        void thenMetricHasNoName(int index) {
+            assertFalse(this.payload.getMetrics(index).hasName());
+        }
+
+        void thenMetricHasDataType(int index, DataType expectedDataType) {
+            assertEquals(expectedDataType.getNumber(), this.payload.getMetrics(index).getDatatype());
+        }
+
+        void thenMetricHasNoDataType(int index) {
+            assertFalse(this.payload.getMetrics(index).hasDatatype());
+        }
+
+        void thenMetricDoubleValueEquals(int index, double expectedValue) {
+            assertEquals(expectedValue, this.payload.getMetrics(index).getDoubleValue(), 0.0);
+        }
+
         void thenSeqEquals(long expectedSeq) {
             assertEquals(expectedSeq, this.payload.getSeq());
         }
@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.core.deployment.DownloadStatus;
+import org.eclipse.kura.core.deployment.download.DeploymentPackageDownloadOptions;
+import org.eclipse.kura.core.deployment.download.DownloadFileUtilities;
+import org.eclipse.kura.core.deployment.download.DownloadOptions;
+import org.eclipse.kura.core.deployment.progress.ProgressEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpDownloadCountingOutputStreamTest {
+
+    private static final int RESOURCE_SIZE = 3 * 1024 * 1024;
+
+    private final byte[] resource = new byte[RESOURCE_SIZE];
+    private final List<ProgressEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    private TestHttpServer server;
+    private File downloadFile;
+    private MessageDigest digest;
+    private Exception downloadException;
+
+    @Before
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        new Random(1234).nextBytes(this.resource);
+        this.server = new TestHttpServer(this.resource);
+        this.downloadFile = File.createTempFile("download", ".dp");
+        this.digest = MessageDigest.getInstance("SHA-256");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.server.close();
+        this.downloadFile.delete();
+        DownloadFileUtilities.getDownloadProgressFile(this.downloadFile).delete();
+    }
+
+    @Test
+    public void shouldDownloadWithConcurrentRangeRequests() throws Exception {
+        whenDownloadIsPerformed(false, 3);
+
+        thenDownloadSucceeded();
+        thenTheFileContainsTheResource();
+        thenTheDigestMatchesTheResource();
+        thenRangeRequestsWere("bytes=0-0", "bytes=0-1048575", "bytes=1048576-2097151", "bytes=2097152-3145727");
+        thenProgressFileDoesNotExist();
+        thenLastEventStatusIs(DownloadStatus.COMPLETED);
+    }
+
+    @Test
+    public void shouldResumeInterruptedDownload() throws Exception {
+        givenServerFailingAfter(1024 * 1024);
+        givenDownloadPerformed(true, 1);
+        givenServerNotFailing();
+
+        whenDownloadIsPerformed(true, 1);
+
+        thenDownloadSucceeded();
+        thenTheFileContainsTheResource();
+        thenTheDigestMatchesTheResource();
+        thenLastRangeRequestStartsAfterZero();
+        thenProgressFileDoesNotExist();
+    }
+
+    @Test
+    public void shouldKeepProgressFileForInterruptedDownload() throws Exception {
+        givenServerFailingAfter(1024 * 1024);
+
+        whenDownloadIsPerformed(true, 2);
+
+        thenDownloadFailed();
+        thenProgressFileExists();
+    }
+
+    @Test
+    public void shouldRestartDownloadIfTheResourceChanged() throws Exception {
+        givenServerFailingAfter(1024 * 1024);
+        givenDownloadPerformed(true, 1);
+        givenServerNotFailing();
+        givenResourceChanged();
+
+        whenDownloadIsPerformed(true, 1);
+
+        thenDownloadSucceeded();
+        thenTheFileContainsTheResource();
+        thenTheDigestMatchesTheResource();
+        thenLastRangeRequestIs("bytes=0-3145727");
+    }
+
+    @Test
+    public void shouldFallBackToSequentialDownloadIfRangesAreNotSupported() throws Exception {
+        givenServerNotSupportingRanges();
+
+        whenDownloadIsPerformed(true, 3);
+
+        thenDownloadSucceeded();
+        thenTheFileContainsTheResource();
+        thenTheDigestMatchesTheResource();
+        thenProgressFileDoesNotExist();
+    }
+
+    @Test
+    public void shouldParseContentRange() {
+        assertArrayEquals(new long[] { 0, 0, 1234 },
+                HttpDownloadCountingOutputStream.parseContentRange("bytes 0-0/1234"));
+        assertArrayEquals(new long[] { 10, 20, -1 },
+                HttpDownloadCountingOutputStream.parseContentRange("bytes 10-20/*"));
+        assertNull(HttpDownloadCountingOutputStream.parseContentRange("bytes */1234"));
+        assertNull(HttpDownloadCountingOutputStream.parseContentRange(null));
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenServerFailingAfter(long bytes) {
+        this.server.budget.set(bytes);
+    }
+
+    private void givenServerNotFailing() {
+        this.server.budget.set(Long.MAX_VALUE);
+    }
+
+    private void givenServerNotSupportingRanges() {
+        this.server.rangesSupported = false;
+    }
+
+    private void givenResourceChanged() {
+        this.resource[RESOURCE_SIZE - 1]++;
+        this.server.etag = "\"v2\"";
+    }
+
+    private void givenDownloadPerformed(boolean resume, int segments) {
+        whenDownloadIsPerformed(resume, segments);
+        thenDownloadFailed();
+    }
+
+    /*
+     * When
+     */
+
+    private void whenDownloadIsPerformed(boolean resume, int segments) {
+        DeploymentPackageDownloadOptions requestOptions = new DeploymentPackageDownloadOptions(
+                this.server.getUrl(), "name", "1.0.0");
+        requestOptions.setJobId(1234L);
+        requestOptions.setResume(resume);
+        requestOptions.setDownloadSegments(segments);
+
+        DownloadOptions downloadOptions = new DownloadOptions();
+        downloadOptions.setFile(this.downloadFile);
+        downloadOptions.setDigest(this.digest);
+        downloadOptions.setRequestOptions(requestOptions);
+        downloadOptions.setCallback(this.events::add);
+        downloadOptions.setDownloadURL(this.server.getUrl());
+
+        HttpDownloadCountingOutputStream download = new HttpDownloadCountingOutputStream(downloadOptions);
+
+        this.downloadException = null;
+        try {
+            download.startWork();
+        } catch (KuraException e) {
+            this.downloadException = e;
+        }
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenDownloadSucceeded() {
+        assertNull(this.downloadException);
+    }
+
+    private void thenDownloadFailed() {
+        assertNotNull(this.downloadException);
+    }
+
+    private void thenTheFileContainsTheResource() throws IOException {
+        assertArrayEquals(this.resource, Files.readAllBytes(this.downloadFile.toPath()));
+    }
+
+    private void thenTheDigestMatchesTheResource() throws NoSuchAlgorithmException {
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(this.resource), this.digest.digest());
+    }
+
+    private void thenRangeRequestsWere(String... expectedRanges) {
+        List<String> ranges = new ArrayList<>(this.server.ranges);
+        Collections.sort(ranges);
+
+        List<String> expected = new ArrayList<>();
+        Collections.addAll(expected, expectedRanges);
+        Collections.sort(expected);
+
+        assertEquals(expected, ranges);
+    }
+
+    private void thenLastRangeRequestIs(String expectedRange) {
+        assertEquals(expectedRange, this.server.ranges.get(this.server.ranges.size() - 1));
+    }
+
+    private void thenLastRangeRequestStartsAfterZero() {
+        String range = this.server.ranges.get(this.server.ranges.size() - 1);
+        assertTrue(range, range.startsWith("bytes=") && !range.startsWith("bytes=0-"));
+    }
+
+    private void thenProgressFileExists() {
+        assertTrue(DownloadFileUtilities.getDownloadProgressFile(this.downloadFile).exists());
+    }
+
+    private void thenProgressFileDoesNotExist() {
+        assertFalse(DownloadFileUtilities.getDownloadProgressFile(this.downloadFile).exists());
+    }
+
+    private void thenLastEventStatusIs(DownloadStatus status) {
+        assertEquals(status.getStatusString(), this.events.get(this.events.size() - 1).getTransferStatus());
+    }
+
+    /*
+     * Utilities
+     */
+
+    /**
+     * Minimal HTTP server serving a single resource, supporting single range requests. It can simulate connections
+     * dropped after a given amount of content bytes has been sent.
+     */
+    private static final class TestHttpServer implements AutoCloseable {
+
+        private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+        private final byte[] resource;
+        private final ServerSocket serverSocket;
+        private final Thread acceptThread;
+
+        final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+        final AtomicLong budget = new AtomicLong(Long.MAX_VALUE);
+        volatile boolean rangesSupported = true;
+        volatile String etag = "\"v1\"";
+
+        TestHttpServer(byte[] resource) throws IOException {
+            this.resource = resource;
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.acceptThread = new Thread(this::accept);
+            this.acceptThread.start();
+        }
+
+        String getUrl() {
+            return "http://127.0.0.1:" + this.serverSocket.getLocalPort() + "/resource.dp";
+        }
+
+        private void accept() {
+            while (!this.serverSocket.isClosed()) {
+                try {
+                    Socket socket = this.serverSocket.accept();
+                    new Thread(() -> handle(socket)).start();
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (Socket s = socket) {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+
+                String range = null;
+                String ifRange = null;
+                String line = reader.readLine();
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    int separator = line.indexOf(':');
+                    String name = line.substring(0, separator).trim();
+                    String value = line.substring(separator + 1).trim();
+                    if ("Range".equalsIgnoreCase(name)) {
+                        range = value;
+                    } else if ("If-Range".equalsIgnoreCase(name)) {
+                        ifRange = value;
+                    }
+                }
+
+                long start = 0;
+                long end = this.resource.length - 1L;
+                boolean partial = false;
+
+                Matcher matcher = range != null ? RANGE_PATTERN.matcher(range) : null;
+
+                if (matcher != null && matcher.matches() && this.rangesSupported
+                        && (ifRange == null || ifRange.equals(this.etag))) {
+                    this.ranges.add(range);
+                    start = Long.parseLong(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, Long.parseLong(matcher.group(2)));
+                    }
+                    partial = true;
+                }
+
+                StringBuilder headers = new StringBuilder();
+                headers.append(partial ? "HTTP/1.1 206 Partial Content\r\n" : "HTTP/1.1 200 OK\r\n");
+                headers.append("Content-Length: ").append(end - start + 1).append("\r\n");
+                if (partial) {
+                    headers.append("Content-Range: bytes ").append(start).append('-').append(end).append('/')
+                            .append(this.resource.length).append("\r\n");
+                }
+                if (this.rangesSupported) {
+                    headers.append("ETag: ").append(this.etag).append("\r\n");
+                }
+                headers.append("Connection: close\r\n\r\n");
+
+                OutputStream out = s.getOutputStream();
+                out.write(headers.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+                long position = start;
+                while (position <= end) {
+                    int length = (int) Math.min(8192, end - position + 1);
+                    long allowed = this.budget.getAndAdd(-length);
+                    if (allowed < length) {
+                        if (allowed > 0) {
+                            out.write(this.resource, (int) position, (int) allowed);
+                        }
+                        // simulates a dropped connection
+                        out.flush();
+                        return;
+                    }
+                    out.write(this.resource, (int) position, length);
+                    position += length;
+                }
+                out.flush();
+            } catch (IOException e) {
+                // client gone
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.serverSocket.close();
+            try {
+                this.acceptThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.kura.channel.ChannelFlag;
 import org.eclipse.kura.channel.ChannelRecord;
 import org.eclipse.kura.driver.ChannelDescriptor;
 import org.eclipse.kura.driver.Driver.ConnectionException;
+import org.eclipse.kura.driver.PreparedRead;
 import org.eclipse.kura.driver.binary.Buffer;
 import org.eclipse.kura.driver.block.BlockFactory;
 import org.eclipse.kura.driver.block.ProhibitedBlock;
@@ -187,6 +188,31 @@ public class AbstractBlockDriverTest {
         }
     }
 
+    @Test
+    public void shouldRepeatAggregationOnPreparedReadIfRevisionChanges() throws ConnectionException, KuraException {
+        List<Pair<Integer, BlockTask>> tasks = testTasks(1, Mode.READ, 0, 3, 5, 7);
+        List<ChannelRecord> records = getRecords(tasks);
+        TestBlockFactory separateFactory = new TestBlockFactory(Mode.READ, -1, -1);
+        TestBlockFactory aggregatedFactory = new TestBlockFactory(Mode.READ, 0, 7);
+        TestDriver driver = new TestDriver().withTasks(tasks)
+                .withBlockFactoryProvider((domain, mode) -> separateFactory);
+        PreparedRead preparedRead = driver.prepareRead(records);
+        preparedRead.execute();
+        assertEquals(2, separateFactory.timesCalled);
+
+        driver.withMinimumGapSize(3).withBlockFactoryProvider((domain, mode) -> aggregatedFactory);
+        preparedRead.execute();
+        assertEquals(0, aggregatedFactory.timesCalled);
+
+        driver.withAggregationRevision(1);
+        preparedRead.execute();
+        preparedRead.execute();
+        assertEquals(1, aggregatedFactory.timesCalled);
+        for (ChannelRecord record : records) {
+            assertEquals(true, record.getValue().getValue());
+        }
+    }
+
     private List<Pair<Integer, BlockTask>> testTasks(int domain, Mode mode, int... ranges) {
         assertTrue(ranges.length % 2 == 0);
         List<Pair<Integer, BlockTask>> result = new ArrayList<>(ranges.length / 2);
@@ -220,8 +246,10 @@ public class AbstractBlockDriverTest {
 
                 @Override
                 public void processBuffer() throws IOException {
-                    assertEquals(TestBlockFactory.this.expectedStart, getStart());
-                    assertEquals(TestBlockFactory.this.expectedEnd, getEnd());
+                    if (TestBlockFactory.this.expectedEnd >= 0) {
+                        assertEquals(TestBlockFactory.this.expectedStart, getStart());
+                        assertEquals(TestBlockFactory.this.expectedEnd, getEnd());
+                    }
                 }
 
                 @Override
@@ -280,12 +308,18 @@ public class AbstractBlockDriverTest {
         private Consumer<List<BlockTask>> afterAggregation;
         private Consumer<BlockTaskAggregator> beforeAggregation;
         private int minimumGapSize;
+        private long aggregationRevision;
 
         public TestDriver withTasks(List<Pair<Integer, BlockTask>> tasks) {
             this.tasks = tasks;
             return this;
         }
 
+        public TestDriver withAggregationRevision(long aggregationRevision) {
+            this.aggregationRevision = aggregationRevision;
+            return this;
+        }
+
         public TestDriver withMinimumGapSize(int minimumGapSize) {
             this.minimumGapSize = minimumGapSize;
             return this;
@@ -312,6 +346,11 @@ public class AbstractBlockDriverTest {
             return this.minimumGapSize;
         }
 
+        @Override
+        protected long getAggregationRevision() {
+            return this.aggregationRevision;
+        }
+
         @Override
         protected void beforeAggregation(Integer domain, Mode mode, BlockTaskAggregator aggregator) {
             if (this.beforeAggregation != null) {
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.kura.driver.block.task.AdaptiveGapSizeEstimator;
+import org.junit.Test;
+
+public class AdaptiveGapSizeEstimatorTest {
+
+    private static final long LATENCY = 10_000_000;
+    private static final long BYTE_COST = 20_000;
+
+    @Test
+    public void shouldKeepInitialGapSizeUntilEnoughSamples() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(7, 10, 0.2, 0.95);
+        addSamples(estimator, 0, 9, 10, 20, 50, 100);
+        assertEquals(7, estimator.getMinimumGapSize());
+        assertEquals(0, estimator.getRevision());
+    }
+
+    @Test
+    public void shouldEstimateGapSizeFromLatencyAndByteCost() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(0, 10, 0.2, 0.95);
+        addSamples(estimator, 0, 10, 10, 20, 50, 100);
+        assertEquals(LATENCY / BYTE_COST, estimator.getMinimumGapSize());
+        assertEquals(1, estimator.getRevision());
+    }
+
+    @Test
+    public void shouldLimitGapSizeToMaximumRequestSize() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(0, 10, 0.2, 0.95);
+        estimator.setMaximumRequestSize(222);
+        addSamples(estimator, 222, 10, 10, 100, 300, 500);
+        assertEquals(222, estimator.getMinimumGapSize());
+    }
+
+    @Test
+    public void shouldNotEstimateFromSamplesOfSameSize() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(3, 10, 0.2, 0.95);
+        addSamples(estimator, 0, 20, 50);
+        assertEquals(3, estimator.getMinimumGapSize());
+    }
+
+    @Test
+    public void shouldApplyHysteresis() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(450, 10, 0.2, 0.95);
+        addSamples(estimator, 0, 10, 10, 20, 50, 100);
+        assertEquals(450, estimator.getMinimumGapSize());
+        assertEquals(0, estimator.getRevision());
+
+        estimator.reset(300);
+        addSamples(estimator, 0, 10, 10, 20, 50, 100);
+        assertEquals(500, estimator.getMinimumGapSize());
+        assertEquals(2, estimator.getRevision());
+    }
+
+    @Test
+    public void shouldDisableAggregationIfLatencyIsNegligible() {
+        AdaptiveGapSizeEstimator estimator = new AdaptiveGapSizeEstimator(10, 10, 0.2, 0.95);
+        for (int i = 0; i < 10; i++) {
+            int length = 10 + i * 10;
+            estimator.addSample(length, length * BYTE_COST);
+        }
+        assertEquals(0, estimator.getMinimumGapSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidDecay() {
+        new AdaptiveGapSizeEstimator(0, 10, 0.2, 0);
+    }
+
+    private static void addSamples(AdaptiveGapSizeEstimator estimator, int maximumRequestSize, int count,
+            int... lengths) {
+        for (int i = 0; i < count; i++) {
+            int length = lengths[i % lengths.length];
+            long requests = maximumRequestSize > 0 ? (length + maximumRequestSize - 1) / maximumRequestSize : 1;
+            estimator.addSample(length, requests * LATENCY + length * BYTE_COST);
+        }
+    }
+}
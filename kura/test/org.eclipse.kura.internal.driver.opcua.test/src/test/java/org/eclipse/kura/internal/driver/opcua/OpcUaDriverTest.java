@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.crypto.CryptoService;
 import org.eclipse.kura.driver.Driver.ConnectionException;
 import org.eclipse.kura.driver.PreparedRead;
+import org.eclipse.kura.internal.driver.opcua.request.Request;
 import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.milo.opcua.sdk.client.AddressSpace;
@@ -285,6 +286,58 @@ public class OpcUaDriverTest {
                 .thenReturn(futureValue);
     }
 
+    @Test
+    public void testReadSplitByServerOperationLimits() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("request.timeout", 1);
+        properties.put("max.request.items", 10);
+        OpcUaOptions options = new OpcUaOptions(properties, mock(CryptoService.class));
+
+        OpcUaClient clientMock = createClientMock();
+
+        ConnectionManager manager = new ConnectionManager(clientMock, options, new OperationLimits(2, 0, 0),
+                (a, b) -> {
+                }, new ListenerRegistrationRegistry(), new ListenerRegistrationRegistry());
+
+        ReadResponse response = mock(ReadResponse.class);
+        when(response.getResults()).thenReturn(new DataValue[] { new DataValue(new Variant("1"), StatusCode.GOOD),
+                new DataValue(new Variant("2"), StatusCode.GOOD) });
+
+        when(clientMock.read(Mockito.eq(0.0), Mockito.eq(TimestampsToReturn.Both), any()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        List<ChannelRecord> records = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ChannelRecord record = ChannelRecord.createReadRecord("ch" + i, DataType.INTEGER);
+            Map<String, Object> channelConfig = new HashMap<>();
+            channelConfig.put("node.namespace.index", "1");
+            channelConfig.put("node.id.type", "NUMERIC");
+            channelConfig.put("opcua.type", "DEFINED_BY_JAVA_TYPE");
+            channelConfig.put("node.id", Integer.toString(i));
+            record.setChannelConfig(channelConfig);
+            records.add(record);
+        }
+
+        manager.read(Request.extractReadRequests(records));
+
+        Mockito.verify(clientMock, Mockito.times(2)).read(Mockito.eq(0.0), Mockito.eq(TimestampsToReturn.Both),
+                any());
+        for (ChannelRecord record : records) {
+            assertEquals(ChannelFlag.SUCCESS, record.getChannelStatus().getChannelFlag());
+        }
+    }
+
+    @Test
+    public void testOperationLimits() {
+        OperationLimits limits = new OperationLimits(100, 0, 50);
+
+        assertEquals(100, limits.getReadItemCount(200));
+        assertEquals(10, limits.getReadItemCount(10));
+        assertEquals(200, limits.getWriteItemCount(200));
+        assertEquals(50, limits.getMonitoredItemCount(200));
+        assertEquals(200, OperationLimits.UNKNOWN.getReadItemCount(200));
+    }
+
     @Test
     public void testPrepareRead() throws NoSuchFieldException, ConnectionException, KuraException, InterruptedException,
             ExecutionException, TimeoutException {
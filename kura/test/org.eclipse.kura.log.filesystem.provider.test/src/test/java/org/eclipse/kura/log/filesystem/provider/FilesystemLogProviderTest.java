@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.log.filesystem.provider;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
@@ -19,18 +20,27 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.kura.KuraException;
 import org.eclipse.kura.log.LogEntry;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryPage;
+import org.eclipse.kura.log.filesystem.provider.history.LogHistoryQuery;
 import org.eclipse.kura.log.listener.LogListener;
 
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
 public class FilesystemLogProviderTest {
 
@@ -42,6 +52,8 @@ public class FilesystemLogProviderTest {
     private boolean exceptionOccured = false;
     private FilesystemLogProvider logProvider;
     private List<LogListener> listeners;
+    private LogHistoryPage historyPage;
+    private final List<List<LogEntry>> receivedBatches = Collections.synchronizedList(new ArrayList<>());
 
     /*
      * Scenarios
@@ -135,6 +147,66 @@ public class FilesystemLogProviderTest {
         thenListenersAreNotCalled();
     }
 
+    @Test
+    public void entriesShouldBeDeliveredInBatches() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFilesystemLogProvider();
+        givenBatchLogListener();
+
+        whenRegisteringLogListeners();
+        whenActivate();
+
+        thenEntriesAreReceived(this.nLogLines);
+        thenReceivedBatchCountIs(1);
+        thenEntryHasStacktrace(4, "exception on line05\nexception on line05\nexception on line05");
+    }
+
+    @Test
+    public void shouldDecodeMultiByteCharactersSplitAcrossWrites() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFilesystemLogProvider();
+        givenBatchLogListener();
+
+        whenRegisteringLogListeners();
+        whenActivate();
+        whenBytesAreAppendedToFile(12, 15);
+
+        thenEntriesAreReceived(this.nLogLines);
+        thenEntryHasMessage(10, "20210111 - \u00e8\u20ac\u2713\n");
+    }
+
+    @Test
+    public void shouldReadTruncatedFileFromTheBeginning() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFilesystemLogProvider();
+        givenBatchLogListener();
+
+        whenRegisteringLogListeners();
+        whenActivate();
+        whenFileIsTruncatedAndRewritten("20210111 - line11\n");
+
+        thenEntriesAreReceived(this.nLogLines);
+        thenEntryHasMessage(10, "20210111 - line11\n");
+    }
+
+    @Test
+    public void historyShouldContainReadEntries() throws KuraException {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenHistoryEnabled();
+        givenFilesystemLogProvider();
+        givenBatchLogListener();
+
+        whenRegisteringLogListeners();
+        whenActivate();
+        whenHistoryIsQueried(3);
+
+        thenHistoryMessagesAre("20210110 - line10\n", "20210109 - line09\n", "20210108 - line08\n");
+    }
+
     /*
      * Steps
      */
@@ -175,6 +247,12 @@ public class FilesystemLogProviderTest {
         this.properties.put(FilesystemLogProvider.LOG_FILEPATH_PROP_KEY, this.file.getAbsolutePath());
     }
 
+    private void givenHistoryEnabled() {
+        this.properties.put(FilesystemLogProvider.HISTORY_ENABLED_PROP_KEY, true);
+        this.properties.put(FilesystemLogProvider.HISTORY_DIRECTORY_PROP_KEY, this.file.getParent());
+        new File(this.file.getPath() + ".history").deleteOnExit();
+    }
+
     private void givenFilesystemLogProvider() {
         if (this.logProvider != null) {
             this.logProvider.deactivate();
@@ -185,11 +263,26 @@ public class FilesystemLogProviderTest {
     private void givenLogListeners(int nListeners) {
         this.listeners = new ArrayList<>(nListeners);
         for (int i = 0; i < nListeners; i++) {
-            LogListener listener = mock(LogListener.class);
+            LogListener listener = mock(LogListener.class, Mockito.CALLS_REAL_METHODS);
             this.listeners.add(listener);
         }
     }
 
+    private void givenBatchLogListener() {
+        this.listeners = Collections.singletonList(new LogListener() {
+
+            @Override
+            public void newLogEntry(LogEntry entry) {
+                newLogEntries(Collections.singletonList(entry));
+            }
+
+            @Override
+            public void newLogEntries(List<LogEntry> entries) {
+                FilesystemLogProviderTest.this.receivedBatches.add(entries);
+            }
+        });
+    }
+
     private void givenFileBecomesNotReadable() {
         this.file.setReadable(false);
         this.file.setWritable(false);
@@ -240,6 +333,44 @@ public class FilesystemLogProviderTest {
         }
     }
 
+    private void whenBytesAreAppendedToFile(int... splitPoints) {
+        waitUntilEntriesAreReceived(this.nLogLines);
+
+        final byte[] line = "20210111 - \u00e8\u20ac\u2713\n".getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+
+        try (OutputStream out = new FileOutputStream(this.file, true)) {
+            for (int splitPoint : splitPoints) {
+                out.write(line, start, splitPoint - start);
+                out.flush();
+                start = splitPoint;
+                Thread.sleep(300);
+            }
+            out.write(line, start, line.length - start);
+            this.nLogLines++;
+        } catch (IOException e) {
+            this.exceptionOccured = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void whenFileIsTruncatedAndRewritten(String content) {
+        waitUntilEntriesAreReceived(this.nLogLines);
+
+        try (FileWriter writer = new FileWriter(this.file)) {
+            writer.write(content);
+            this.nLogLines++;
+        } catch (IOException e) {
+            this.exceptionOccured = true;
+        }
+    }
+
+    private void whenHistoryIsQueried(int limit) throws KuraException {
+        waitUntilEntriesAreReceived(this.nLogLines);
+        this.historyPage = this.logProvider.queryHistory(new LogHistoryQuery().setLimit(limit));
+    }
+
     private void whenUnregisteringLogListeners() {
         for (LogListener listener : this.listeners) {
             verify(listener, timeout(LISTENER_CALL_TIMEOUT).times(this.nLogLines))
@@ -265,6 +396,31 @@ public class FilesystemLogProviderTest {
         }
     }
 
+    private void thenEntriesAreReceived(int count) {
+        waitUntilEntriesAreReceived(count);
+        assertEquals(count, getReceivedEntries().size());
+    }
+
+    private void thenReceivedBatchCountIs(int count) {
+        assertEquals(count, this.receivedBatches.size());
+    }
+
+    private void thenEntryHasMessage(int index, String message) {
+        assertEquals(message, getReceivedEntries().get(index).getProperties().get("MESSAGE"));
+    }
+
+    private void thenEntryHasStacktrace(int index, String stacktrace) {
+        assertEquals(stacktrace, getReceivedEntries().get(index).getProperties().get("STACKTRACE"));
+    }
+
+    private void thenHistoryMessagesAre(String... messages) {
+        final List<Object> actual = new ArrayList<>();
+        for (LogEntry entry : this.historyPage.getEntries()) {
+            actual.add(entry.getProperties().get("MESSAGE"));
+        }
+        assertEquals(Arrays.asList(messages), actual);
+    }
+
     private void thenNoExceptionsOccurred() {
         assertFalse(this.exceptionOccured);
     }
@@ -273,6 +429,27 @@ public class FilesystemLogProviderTest {
      * Utility methods
      */
 
+    private List<LogEntry> getReceivedEntries() {
+        final List<LogEntry> result = new ArrayList<>();
+        synchronized (this.receivedBatches) {
+            for (List<LogEntry> batch : this.receivedBatches) {
+                result.addAll(batch);
+            }
+        }
+        return result;
+    }
+
+    private void waitUntilEntriesAreReceived(int count) {
+        final long deadline = System.currentTimeMillis() + LISTENER_CALL_TIMEOUT;
+        try {
+            while (getReceivedEntries().size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void waitUntilListenersAreNotified(int times) {
         for (LogListener listener : this.listeners) {
             verify(listener, timeout(LISTENER_CALL_TIMEOUT).times(times)).newLogEntry(ArgumentMatchers.any(LogEntry.class));
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.log.filesystem.provider.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.log.LogEntry;
+import org.junit.After;
+import org.junit.Test;
+
+public class LogHistoryIndexTest {
+
+    private static final String SOURCE = "/var/log/kura.log";
+
+    private File file;
+    private LogHistoryIndex index;
+    private LogHistoryPage page;
+
+    /*
+     * Scenarios
+     */
+
+    @Test
+    public void shouldReturnEntriesFromTheMostRecent() throws IOException {
+        givenIndex(4096);
+        givenEntries(entry(1, "INFO", "o.e.k.A - first", ""), entry(2, "WARN", "o.e.k.B - second", ""),
+                entry(3, "ERROR", "o.e.k.A - third", "java.lang.Exception\n\tat foo"));
+
+        whenQuerying(new LogHistoryQuery());
+
+        thenMessagesAre("o.e.k.A - third", "o.e.k.B - second", "o.e.k.A - first");
+        thenNextCursorIs(-1);
+        thenEntryIs(0, 3, "ERROR", "java.lang.Exception\n\tat foo");
+    }
+
+    @Test
+    public void shouldFilterByLevel() throws IOException {
+        givenIndex(4096);
+        givenEntries(entry(1, "INFO", "o.e.k.A - first", ""), entry(2, "ERROR", "o.e.k.B - second", ""),
+                entry(3, "WARN", "o.e.k.A - third", ""), entry(4, "ERROR", "o.e.k.A - fourth", ""));
+
+        whenQuerying(new LogHistoryQuery().setLevels(new HashSet<>(Arrays.asList("ERROR", "FATAL"))));
+
+        thenMessagesAre("o.e.k.A - fourth", "o.e.k.B - second");
+    }
+
+    @Test
+    public void shouldFilterByLoggerPrefix() throws IOException {
+        givenIndex(4096);
+        givenEntries(entry(1, "INFO", "o.e.k.a.A - first", ""), entry(2, "INFO", "o.e.k.b.B - second", ""),
+                entry(3, "INFO", "o.e.k.a.C - third", ""), entry(4, "INFO", "message without logger", ""));
+
+        whenQuerying(new LogHistoryQuery().setLoggerPrefix("o.e.k.a."));
+
+        thenMessagesAre("o.e.k.a.C - third", "o.e.k.a.A - first");
+    }
+
+    @Test
+    public void shouldFilterByTimestamp() throws IOException {
+        givenIndex(4096);
+        givenEntries(entry(10, "INFO", "o.e.k.A - first", ""), entry(20, "INFO", "o.e.k.A - second", ""),
+                entry(30, "INFO", "o.e.k.A - third", ""), entry(40, "INFO", "o.e.k.A - fourth", ""));
+
+        whenQuerying(new LogHistoryQuery().setSince(20).setUntil(30));
+
+        thenMessagesAre("o.e.k.A - third", "o.e.k.A - second");
+    }
+
+    @Test
+    public void shouldPaginate() throws IOException {
+        givenIndex(4096);
+        givenEntries(entry(1, "INFO", "o.e.k.A - 1", ""), entry(2, "INFO", "o.e.k.A - 2", ""),
+                entry(3, "INFO", "o.e.k.A - 3", ""), entry(4, "INFO", "o.e.k.A - 4", ""),
+                entry(5, "INFO", "o.e.k.A - 5", ""));
+
+        whenQuerying(new LogHistoryQuery().setLimit(2));
+        thenMessagesAre("o.e.k.A - 5", "o.e.k.A - 4");
+
+        whenQuerying(new LogHistoryQuery().setLimit(2).setBefore(this.page.getNextCursor()));
+        thenMessagesAre("o.e.k.A - 3", "o.e.k.A - 2");
+
+        whenQuerying(new LogHistoryQuery().setLimit(2).setBefore(this.page.getNextCursor()));
+        thenMessagesAre("o.e.k.A - 1");
+        thenNextCursorIs(-1);
+    }
+
+    @Test
+    public void shouldDiscardOldestEntriesWhenFull() throws IOException {
+        givenIndex(4096);
+
+        for (int i = 0; i < 1000; i++) {
+            givenEntries(entry(i, "INFO", "o.e.k.A - message " + i, ""));
+        }
+
+        whenQuerying(new LogHistoryQuery().setLimit(1000));
+
+        thenHistoryIsBounded(4096);
+        thenMessagesAreConsecutiveUntil(999);
+    }
+
+    @Test
+    public void shouldTruncateLargeEntries() throws IOException {
+        givenIndex(4096);
+
+        StringBuilder stacktrace = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            stacktrace.append("\tat foo.Bar.method(Bar.java:").append(i).append(")\n");
+        }
+
+        givenEntries(entry(1, "ERROR", "o.e.k.A - failure", stacktrace.toString()),
+                entry(2, "INFO", "o.e.k.A - after", ""));
+
+        whenQuerying(new LogHistoryQuery());
+
+        thenMessagesAre("o.e.k.A - after", "o.e.k.A - failure");
+        thenStacktraceIsPrefixOf(1, stacktrace.toString());
+    }
+
+    @After
+    public void cleanUp() throws IOException {
+        if (this.index != null) {
+            this.index.close();
+        }
+        if (this.file != null) {
+            this.file.delete();
+        }
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenIndex(long capacity) throws IOException {
+        this.file = File.createTempFile("kura", ".history");
+        this.index = new LogHistoryIndex(this.file.toPath(), capacity, SOURCE);
+    }
+
+    private void givenEntries(LogEntry... entries) throws IOException {
+        this.index.append(Arrays.asList(entries));
+    }
+
+    private void whenQuerying(LogHistoryQuery query) throws IOException {
+        this.page = this.index.query(query);
+    }
+
+    private void thenMessagesAre(String... messages) {
+        List<String> actual = new ArrayList<>();
+        for (LogEntry entry : this.page.getEntries()) {
+            actual.add((String) entry.getProperties().get("MESSAGE"));
+        }
+        assertEquals(Arrays.asList(messages), actual);
+    }
+
+    private void thenNextCursorIs(long cursor) {
+        assertEquals(cursor, this.page.getNextCursor());
+    }
+
+    private void thenEntryIs(int position, long timestamp, String priority, String stacktrace) {
+        LogEntry entry = this.page.getEntries().get(position);
+        assertEquals(timestamp, entry.getTimestamp());
+        assertEquals(priority, entry.getProperties().get("PRIORITY"));
+        assertEquals(stacktrace, entry.getProperties().get("STACKTRACE"));
+        assertEquals("main", entry.getProperties().get("_PID"));
+        assertEquals(SOURCE, entry.getProperties().get("_TRANSPORT"));
+    }
+
+    private void thenHistoryIsBounded(long capacity) {
+        assertTrue(this.file.length() <= capacity);
+        assertTrue(this.index.size() > 0);
+        assertTrue(this.index.size() < 1000);
+        assertEquals(this.index.size(), this.page.getEntries().size());
+    }
+
+    private void thenMessagesAreConsecutiveUntil(int last) {
+        List<LogEntry> entries = this.page.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals("o.e.k.A - message " + (last - i), entries.get(i).getProperties().get("MESSAGE"));
+        }
+    }
+
+    private void thenStacktraceIsPrefixOf(int position, String stacktrace) {
+        String actual = (String) this.page.getEntries().get(position).getProperties().get("STACKTRACE");
+        assertTrue(actual.length() < stacktrace.length());
+        assertTrue(stacktrace.startsWith(actual));
+    }
+
+    /*
+     * Utility methods
+     */
+
+    private static LogEntry entry(long timestamp, String priority, String message, String stacktrace) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("_PID", "main");
+        properties.put("PRIORITY", priority);
+        properties.put("SYSLOG_IDENTIFIER", "Kura");
+        properties.put("MESSAGE", message);
+        properties.put("STACKTRACE", stacktrace);
+        properties.put("_TRANSPORT", SOURCE);
+        return new LogEntry(properties, timestamp);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -276,6 +278,120 @@ public class MessageStoreProviderTest {
         thenNextMessageDataTransportTokenIsNotSet();
     }
 
+    @Test
+    public void shouldGetNextMessagesInPublishingOrder() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 2, false, 2);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 0, true, 1);
+        givenStoredMessage("4", byteArray(4, 2, 3, 4), 0, false, 5);
+        givenStoredMessage("5", byteArray(5, 2, 3, 4), 1, true, 3);
+
+        whenMessageIsMarkedAsPublished(2);
+        whenNextMessagesAreRetrieved(3);
+
+        thenRetrievedMessageIdsAre(1, 4, 3);
+        thenRetrievedMessagePayloadIs(0, byteArray(2, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldGetNextMessagesWithFewerMessagesThanRequested() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 2, false, 2);
+
+        whenNextMessagesAreRetrieved(10);
+
+        thenRetrievedMessageIdsAre(1, 0);
+    }
+
+    @Test
+    public void shouldSupportBatchMarkAsPublishedWithQoSZero() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 0, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 0, false, 7);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 0, false, 7);
+
+        whenMessagesAreMarkedAsPublished(0, 2);
+
+        thenMessagePublishedOnIsInThePast(0);
+        thenMessagePublishedOnIsNotSet(1);
+        thenMessagePublishedOnIsInThePast(2);
+        thenDataTransportTokenIsNotSet(0);
+        thenDataTransportTokenIsNotSet(2);
+    }
+
+    @Test
+    public void shouldStoreAllMessages() throws KuraStoreException {
+        givenMessageStore();
+
+        whenMessagesAreStored(message("1", byteArray(1, 2, 3, 4), 0, true, 7),
+                message("2", new byte[1024], 1, false, 4), message("3", null, 2, false, 1));
+
+        thenNoExceptionIsThrown();
+        thenMessageCountIs(3);
+        thenMessageTopicIs(0, "1");
+        thenMessagePayloadIs(0, byteArray(1, 2, 3, 4));
+        thenMessageQoSIs(0, 0);
+        thenMessageRetainIs(0, true);
+        thenMessagePriorityIs(0, 7);
+        thenMessageCreatedOnIsInThePast(0);
+        thenMessageTopicIs(1, "2");
+        thenMessagePayloadIs(1, new byte[1024]);
+        thenMessageQoSIs(1, 1);
+        thenMessagePriorityIs(1, 4);
+        thenMessageTopicIs(2, "3");
+        thenMessageQoSIs(2, 2);
+        thenMessagePriorityIs(2, 1);
+        thenMessagePublishedOnIsNotSet(2);
+    }
+
+    @Test
+    public void shouldRejectStoreAllWithEmptyTopic() throws KuraStoreException {
+        givenMessageStore();
+
+        whenMessagesAreStored(message("1", byteArray(1, 2, 3, 4), 0, true, 7),
+                message("", byteArray(1, 2, 3, 4), 0, true, 7));
+
+        thenKuraStoreExceptionIsThrown();
+        thenMessageCountIs(0);
+    }
+
+    @Test
+    public void shouldSupportBatchMarkAsConfirmed() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 1, false, 7);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 1, false, 7);
+        givenMessageIsMarkedAsPublished(0, new DataTransportToken(1, "foo"));
+        givenMessageIsMarkedAsPublished(1, new DataTransportToken(2, "foo"));
+        givenMessageIsMarkedAsPublished(2, new DataTransportToken(3, "foo"));
+
+        whenMessagesAreMarkedAsConfirmed(0, 2);
+
+        thenMessageConfirmedOnIsInThePast(0);
+        thenMessageConfirmedOnIsNotSet(1);
+        thenMessageConfirmedOnIsInThePast(2);
+    }
+
+    @Test
+    public void shouldSupportBatchMarkAsPublishedWithDataTransportTokens() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 1, false, 7);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 2, false, 7);
+
+        whenMessagesAreMarkedAsPublished(indexMap(0, new DataTransportToken(1, "foo"), 1,
+                new DataTransportToken(2, "foo")));
+
+        thenMessagePublishedOnIsInThePast(0);
+        thenMessagePublishedOnIsInThePast(1);
+        thenMessagePublishedOnIsNotSet(2);
+        thenDataTransportTokenIs(0, new DataTransportToken(1, "foo"));
+        thenDataTransportTokenIs(1, new DataTransportToken(2, "foo"));
+        thenDataTransportTokenIsNotSet(2);
+    }
+
     @Test
     public void shouldRetireveUnpublishedMessageList() throws KuraStoreException {
         givenMessageStore();
@@ -499,6 +615,19 @@ public class MessageStoreProviderTest {
         messageIds.add(this.messageStore.store(topic, payload, qos, retain, priority));
     }
 
+    private void givenMessageIsMarkedAsPublished(final int messageIndex, final DataTransportToken token)
+            throws KuraStoreException {
+        this.messageStore.markAsPublished(this.messageIds.get(messageIndex), token);
+    }
+
+    private void whenMessagesAreStored(final StoredMessage... messages) {
+        try {
+            this.messageIds.addAll(this.messageStore.storeAll(Arrays.asList(messages)));
+        } catch (final Exception e) {
+            this.exception = Optional.of(e);
+        }
+    }
+
     private void whenMessageIsStored(final String topic, final byte[] payload, final int qos, final boolean retain,
             final int priority) {
         try {
@@ -517,6 +646,35 @@ public class MessageStoreProviderTest {
         this.messageStore.markAsPublished(this.messageIds.get(messageIndex), token);
     }
 
+    private void whenMessagesAreMarkedAsPublished(final int... messageIndexes) throws KuraStoreException {
+        final List<Integer> ids = new ArrayList<>();
+
+        for (final int index : messageIndexes) {
+            ids.add(this.messageIds.get(index));
+        }
+
+        this.messageStore.markAsPublished(ids);
+    }
+
+    private void whenMessagesAreMarkedAsPublished(final Map<Integer, DataTransportToken> tokens)
+            throws KuraStoreException {
+        this.messageStore.markAsPublished(tokens);
+    }
+
+    private void whenMessagesAreMarkedAsConfirmed(final int... messageIndexes) throws KuraStoreException {
+        final List<Integer> ids = new ArrayList<>();
+
+        for (final int index : messageIndexes) {
+            ids.add(this.messageIds.get(index));
+        }
+
+        this.messageStore.markAsConfirmed(ids);
+    }
+
+    private void whenNextMessagesAreRetrieved(final int count) throws KuraStoreException {
+        this.retrievedMessages = Optional.of(this.messageStore.getNextMessages(count));
+    }
+
     private void whenMessageIsMarkedAsConfirmed(final int messageIndex) throws KuraStoreException {
         this.messageStore.markAsConfirmed(this.messageIds.get(messageIndex));
     }
@@ -548,6 +706,24 @@ public class MessageStoreProviderTest {
         }
     }
 
+    private void thenRetrievedMessageIdsAre(final int... ids) {
+        final List<StoredMessage> messages = this.retrievedMessages
+                .orElseThrow(() -> new IllegalStateException("no messages have been retrieved"));
+
+        assertEquals(ids.length, messages.size());
+
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals((int) this.messageIds.get(ids[i]), messages.get(i).getId());
+        }
+    }
+
+    private void thenRetrievedMessagePayloadIs(final int index, final byte[] payload) {
+        final List<StoredMessage> messages = this.retrievedMessages
+                .orElseThrow(() -> new IllegalStateException("no messages have been retrieved"));
+
+        assertArrayEquals(payload, messages.get(index).getPayload());
+    }
+
     private void thenMessageTopicIs(final int messageIndex, final String topic) throws KuraStoreException {
         assertEquals(topic, getStoredMessage(0).getTopic());
     }
@@ -707,6 +883,22 @@ public class MessageStoreProviderTest {
                 .orElseThrow(() -> new IllegalStateException("no next message returned"));
     }
 
+    private Map<Integer, DataTransportToken> indexMap(final int firstIndex, final DataTransportToken firstToken,
+            final int secondIndex, final DataTransportToken secondToken) {
+        final Map<Integer, DataTransportToken> result = new HashMap<>();
+
+        result.put(this.messageIds.get(firstIndex), firstToken);
+        result.put(this.messageIds.get(secondIndex), secondToken);
+
+        return result;
+    }
+
+    private StoredMessage message(final String topic, final byte[] payload, final int qos, final boolean retain,
+            final int priority) {
+        return new StoredMessage.Builder(0).withTopic(topic).withPayload(payload).withQos(qos).withRetain(retain)
+                .withPriority(priority).build();
+    }
+
     private byte[] byteArray(final int... values) {
         final byte[] result = new byte[values.length];
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -53,13 +53,7 @@ public class ModbusProtocolDeviceTest {
     @Before
     public void connect() throws ModbusProtocolException {
         modbusDevice = new ModbusProtocolDevice();
-        Properties connectionConfig = new Properties();
-        connectionConfig.setProperty("connectionType", ModbusProtocolDevice.PROTOCOL_CONNECTION_TYPE_ETHER_TCP);
-        connectionConfig.setProperty("ipAddress", "127.0.0.1");
-        connectionConfig.setProperty("ethport", "32345");
-        connectionConfig.setProperty("respTimeout", "10000");
-        connectionConfig.setProperty("transmissionMode", ModbusTransmissionMode.RTU);
-        modbusDevice.configureConnection(connectionConfig);
+        modbusDevice.configureConnection(getConnectionConfig());
         modbusDevice.connect();
     }
 
@@ -129,4 +123,61 @@ public class ModbusProtocolDeviceTest {
         assertEquals(10, inputRegs[0]);
     }
 
+    @Test
+    public void testSequentialTransactionsOnSameConnection() throws ModbusProtocolException {
+        for (int i = 0; i < 10; i++) {
+            int[] holdingReg = modbusDevice.readHoldingRegisters(1, 0, 1);
+            assertEquals(2, holdingReg[0]);
+        }
+    }
+
+    @Test
+    public void testReadHoldingRegisterBlocksPipelined() throws ModbusProtocolException {
+        ModbusProtocolDevice pipelinedDevice = new ModbusProtocolDevice();
+        Properties connectionConfig = getConnectionConfig();
+        connectionConfig.setProperty("connectionPoolSize", "2");
+        connectionConfig.setProperty("maxTransactionsInFlight", "8");
+        pipelinedDevice.configureConnection(connectionConfig);
+        pipelinedDevice.connect();
+
+        try {
+            int[] addresses = new int[50];
+            int[] counts = new int[50];
+            for (int i = 0; i < addresses.length; i++) {
+                addresses[i] = i;
+                counts[i] = 1;
+            }
+
+            int[][] holdingRegs = pipelinedDevice.readHoldingRegisters(1, addresses, counts);
+            int[][] inputRegs = pipelinedDevice.readInputRegisters(1, addresses, counts);
+
+            assertEquals(50, holdingRegs.length);
+            assertEquals(50, inputRegs.length);
+            for (int i = 0; i < addresses.length; i++) {
+                assertEquals(2, holdingRegs[i][0]);
+                assertEquals(10, inputRegs[i][0]);
+            }
+        } finally {
+            pipelinedDevice.disconnect();
+        }
+    }
+
+    @Test(expected = ModbusProtocolException.class)
+    public void testInvalidPipeliningConfiguration() throws ModbusProtocolException {
+        ModbusProtocolDevice device = new ModbusProtocolDevice();
+        Properties connectionConfig = getConnectionConfig();
+        connectionConfig.setProperty("maxTransactionsInFlight", "0");
+        device.configureConnection(connectionConfig);
+    }
+
+    private static Properties getConnectionConfig() {
+        Properties connectionConfig = new Properties();
+        connectionConfig.setProperty("connectionType", ModbusProtocolDevice.PROTOCOL_CONNECTION_TYPE_ETHER_TCP);
+        connectionConfig.setProperty("ipAddress", "127.0.0.1");
+        connectionConfig.setProperty("ethport", "32345");
+        connectionConfig.setProperty("respTimeout", "10000");
+        connectionConfig.setProperty("transmissionMode", ModbusTransmissionMode.RTU);
+        return connectionConfig;
+    }
+
 }
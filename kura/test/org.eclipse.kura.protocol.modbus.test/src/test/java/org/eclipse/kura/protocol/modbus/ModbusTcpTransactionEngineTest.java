@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+
+package org.eclipse.kura.protocol.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.kura.core.testutil.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModbusTcpTransactionEngineTest {
+
+    private static final byte[] REQUEST = { 1, 3, 0, 0, 0, 1 };
+
+    private ServerSocket serverSocket;
+    private Socket acceptedSocket;
+    private ModbusTcpTransactionEngine engine;
+
+    @Before
+    public void startServer() throws IOException {
+        this.serverSocket = new ServerSocket(0);
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        if (this.engine != null) {
+            this.engine.close();
+        }
+        if (this.acceptedSocket != null) {
+            this.acceptedSocket.close();
+        }
+        this.serverSocket.close();
+    }
+
+    @Test
+    public void shouldReleaseTransactionIfTimeoutCannotBeScheduled() throws Exception {
+        givenConnectedEngine();
+        givenStoppedTimeoutExecutor();
+
+        for (int i = 0; i < 3; i++) {
+            thenTransactionFails(whenRequestIsSubmitted());
+        }
+
+        thenNoTransactionIsPending();
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenConnectedEngine() throws IOException {
+        this.engine = new ModbusTcpTransactionEngine("localhost", this.serverSocket.getLocalPort(), 1000, 1, 1);
+        this.engine.connect();
+        this.acceptedSocket = this.serverSocket.accept();
+    }
+
+    private void givenStoppedTimeoutExecutor() throws NoSuchFieldException {
+        ((ScheduledExecutorService) TestUtil.getFieldValue(this.engine, "timeoutExecutor")).shutdownNow();
+    }
+
+    private CompletableFuture<byte[]> whenRequestIsSubmitted() throws ModbusProtocolException {
+        return this.engine.submit(REQUEST);
+    }
+
+    private void thenTransactionFails(final CompletableFuture<byte[]> future) throws InterruptedException {
+        try {
+            future.get();
+            fail("transaction should have failed");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ModbusProtocolException);
+            assertEquals(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    ((ModbusProtocolException) e.getCause()).getCode());
+        }
+    }
+
+    private void thenNoTransactionIsPending() throws NoSuchFieldException {
+        final Object[] pool = (Object[]) TestUtil.getFieldValue(this.engine, "pool");
+
+        assertEquals(0, ((Map<?, ?>) TestUtil.getFieldValue(pool[0], "pending")).size());
+    }
+}
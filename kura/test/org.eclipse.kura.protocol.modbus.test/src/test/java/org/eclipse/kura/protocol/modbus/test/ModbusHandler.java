@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,12 @@
 
 package org.eclipse.kura.protocol.modbus.test;
 
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,11 +35,28 @@ public class ModbusHandler extends Thread {
     }
 
     public void run() {
-        try (OutputStream out = socket.getOutputStream(); InputStream in = socket.getInputStream()) {
-            byte[] input = new byte[256];
-            int length = in.read(input);
-            byte[] output = handleRequest(input);
-            out.write(output);
+        try (OutputStream out = socket.getOutputStream();
+                DataInputStream in = new DataInputStream(socket.getInputStream())) {
+            while (true) {
+                byte[] header = new byte[6];
+                try {
+                    in.readFully(header);
+                } catch (EOFException e) {
+                    break;
+                }
+                int length = (header[4] & 0xff) << 8 | header[5] & 0xff;
+                byte[] input = Arrays.copyOf(header, 6 + length);
+                in.readFully(input, 6, length);
+
+                byte[] output = handleRequest(input);
+                if (output.length >= 6) {
+                    // echo the transaction identifier and send only the frame
+                    output[0] = input[0];
+                    output[1] = input[1];
+                    out.write(output, 0, Math.min(output.length, 6 + ((output[4] & 0xff) << 8 | output[5] & 0xff)));
+                    out.flush();
+                }
+            }
         } catch (IOException e) {
             logger.error("ModbusHandler", e);
             throw new RuntimeException(e);
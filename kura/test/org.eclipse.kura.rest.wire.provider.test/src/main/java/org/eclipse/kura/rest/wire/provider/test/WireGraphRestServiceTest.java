@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -1037,6 +1037,38 @@ public class WireGraphRestServiceTest extends AbstractRequestHandlerTest {
                 "{\"components\":[{\"pid\":\"testAsset\",\"factoryPid\":\"org.eclipse.kura.wire.WireAsset\"}]}");
     }
 
+    @Test
+    public void getWireComponentMetrics() {
+        givenWireGraphWith(testEmitterReceiver("foo"), testEmitterReceiver("bar"), wire("foo", "bar"));
+
+        whenRequestIsPerformed(new MethodSpec("GET"), "/metrics");
+
+        thenRequestSucceeds();
+        thenResponseElementExists(self().field("components"));
+    }
+
+    @Test
+    public void getWireComponentMetricsByPid() {
+        givenWireGraphWith(testEmitterReceiver("foo"), testEmitterReceiver("bar"), wire("foo", "bar"));
+
+        whenRequestIsPerformed(new MethodSpec("POST"), "/metrics/byPid", "{\"pids\":[\"foo\",\"nonExisting\"]}");
+
+        thenRequestSucceeds();
+        thenResponseElementIs(Json.value("foo"), self().field("components").arrayItem(0).field("pid"));
+        thenResponseElementExists(self().field("components").arrayItem(0).field("envelopesReceived"));
+        thenResponseElementExists(self().field("components").arrayItem(0).field("processingTime").field("buckets"));
+        thenResponseElementDoesNotExists(self().field("components").arrayItem(1));
+    }
+
+    @Test
+    public void resetWireComponentMetrics() {
+        givenWireGraphWith(testEmitterReceiver("foo"));
+
+        whenRequestIsPerformed(new MethodSpec("POST"), "/metrics/reset");
+
+        thenRequestSucceeds();
+    }
+
     private final WireGraphService wireGraphService;
     private final ConfigurationService configurationService;
     private final Map<String, CompletableFuture<Void>> deleteTrackers = new HashMap<>();
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.graph.ReceiverPort;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.service.wireadmin.Wire;
+
+public class DeadlineBarrierAggregatorTest {
+
+    private static final long DEADLINE_MS = 100;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final List<TestReceiverPort> ports = new ArrayList<>();
+    private final BlockingQueue<List<WireEnvelope>> emitted = new LinkedBlockingQueue<>();
+    private DeadlineBarrierAggregator aggregator;
+    private long startTime;
+
+    @After
+    public void tearDown() {
+        if (this.aggregator != null) {
+            this.aggregator.close();
+        }
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldEmitAsSoonAsAllPortsReceive() throws InterruptedException {
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope second = envelope("second");
+
+        givenAggregator(2, 10000, true);
+
+        whenEnvelopeIsReceived(0, first);
+        whenEnvelopeIsReceived(1, second);
+
+        thenEmittedEnvelopesAre(first, second);
+        thenNothingElseIsEmitted();
+    }
+
+    @Test
+    public void shouldKeepLatestEnvelopeReceivedOnAPort() throws InterruptedException {
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope firstUpdated = envelope("first updated");
+        final WireEnvelope second = envelope("second");
+
+        givenAggregator(2, 10000, true);
+
+        whenEnvelopeIsReceived(0, first);
+        whenEnvelopeIsReceived(0, firstUpdated);
+        whenEnvelopeIsReceived(1, second);
+
+        thenEmittedEnvelopesAre(firstUpdated, second);
+        thenNothingElseIsEmitted();
+    }
+
+    @Test
+    public void shouldEmitPartialEnvelopesWhenDeadlineExpires() throws InterruptedException {
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope third = envelope("third");
+
+        givenAggregator(3, DEADLINE_MS, true);
+
+        whenEnvelopeIsReceived(0, first);
+        whenEnvelopeIsReceived(2, third);
+
+        thenEmittedEnvelopesAre(first, null, third);
+        thenDeadlineHasExpired();
+        thenNothingElseIsEmitted();
+    }
+
+    @Test
+    public void shouldDiscardPartialEnvelopesWhenDeadlineExpiresIfEmitOnDeadlineIsDisabled()
+            throws InterruptedException {
+        final WireEnvelope stale = envelope("stale");
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope second = envelope("second");
+
+        givenAggregator(2, DEADLINE_MS, false);
+        givenEnvelopeReceived(0, stale);
+        givenDeadlineExpired();
+
+        whenEnvelopeIsReceived(1, second);
+        whenEnvelopeIsReceived(0, first);
+
+        thenEmittedEnvelopesAre(first, second);
+    }
+
+    @Test
+    public void shouldStartNewCycleOnEnvelopeReceivedAfterDeadline() throws InterruptedException {
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope late = envelope("late");
+        final WireEnvelope next = envelope("next");
+
+        givenAggregator(2, DEADLINE_MS, true);
+        givenEnvelopeReceived(0, first);
+        givenEmittedEnvelopes(first, null);
+
+        whenEnvelopeIsReceived(1, late);
+
+        thenNothingIsEmittedImmediately();
+
+        whenEnvelopeIsReceived(0, next);
+
+        thenEmittedEnvelopesAre(next, late);
+        thenNothingElseIsEmitted();
+    }
+
+    @Test
+    public void shouldEmitLateEnvelopeAloneWhenItsOwnDeadlineExpires() throws InterruptedException {
+        final WireEnvelope first = envelope("first");
+        final WireEnvelope late = envelope("late");
+
+        givenAggregator(2, DEADLINE_MS, true);
+        givenEnvelopeReceived(0, first);
+        givenEmittedEnvelopes(first, null);
+
+        whenLateEnvelopeIsReceived(1, late);
+
+        thenEmittedEnvelopesAre(null, late);
+        thenDeadlineHasExpired();
+    }
+
+    @Test
+    public void shouldNotEmitAfterClose() throws InterruptedException {
+        givenAggregator(2, DEADLINE_MS, true);
+        givenEnvelopeReceived(0, envelope("first"));
+
+        whenAggregatorIsClosed();
+
+        thenNothingElseIsEmitted();
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenAggregator(final int portCount, final long deadlineMs, final boolean emitOnDeadline) {
+        for (int i = 0; i < portCount; i++) {
+            this.ports.add(new TestReceiverPort());
+        }
+
+        this.aggregator = new DeadlineBarrierAggregator(new ArrayList<>(this.ports), this.executor, deadlineMs,
+                emitOnDeadline);
+        this.aggregator.onWireReceive(this.emitted::add);
+    }
+
+    private void givenEnvelopeReceived(final int port, final WireEnvelope envelope) {
+        whenEnvelopeIsReceived(port, envelope);
+    }
+
+    private void givenDeadlineExpired() throws InterruptedException {
+        Thread.sleep(DEADLINE_MS * 3);
+    }
+
+    private void givenEmittedEnvelopes(final WireEnvelope... envelopes) throws InterruptedException {
+        thenEmittedEnvelopesAre(envelopes);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenEnvelopeIsReceived(final int port, final WireEnvelope envelope) {
+        if (this.startTime == 0) {
+            this.startTime = System.nanoTime();
+        }
+        this.ports.get(port).receive(envelope);
+    }
+
+    private void whenLateEnvelopeIsReceived(final int port, final WireEnvelope envelope) {
+        this.startTime = 0;
+        whenEnvelopeIsReceived(port, envelope);
+    }
+
+    private void whenAggregatorIsClosed() {
+        this.aggregator.close();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenEmittedEnvelopesAre(final WireEnvelope... expected) throws InterruptedException {
+        final List<WireEnvelope> actual = this.emitted.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull("nothing emitted", actual);
+        assertEquals(expected.length, actual.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] == null) {
+                assertNull(actual.get(i));
+            } else {
+                assertSame(expected[i], actual.get(i));
+            }
+        }
+    }
+
+    private void thenDeadlineHasExpired() {
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime);
+
+        assertTrue("emitted after " + elapsedMs + " ms", elapsedMs >= DEADLINE_MS);
+    }
+
+    private void thenNothingIsEmittedImmediately() {
+        assertNull(this.emitted.poll());
+    }
+
+    private void thenNothingElseIsEmitted() throws InterruptedException {
+        assertNull(this.emitted.poll(DEADLINE_MS * 3, TimeUnit.MILLISECONDS));
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static WireEnvelope envelope(final String emitterPid) {
+        return new WireEnvelope(emitterPid, Collections.emptyList());
+    }
+
+    private static final class TestReceiverPort implements ReceiverPort {
+
+        private Consumer<WireEnvelope> consumer = envelope -> {
+            // do nothing
+        };
+
+        @Override
+        public List<Wire> listConnectedWires() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void onWireReceive(final Consumer<WireEnvelope> consumer) {
+            this.consumer = consumer;
+        }
+
+        void receive(final WireEnvelope envelope) {
+            this.consumer.accept(envelope);
+        }
+    }
+}
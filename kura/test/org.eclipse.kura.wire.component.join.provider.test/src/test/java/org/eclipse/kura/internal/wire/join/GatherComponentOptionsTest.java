@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class GatherComponentOptionsTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    @Test
+    public void shouldUseDefaults() {
+        final GatherComponentOptions options = new GatherComponentOptions(this.properties);
+
+        assertEquals(1000, options.getDeadlineMs());
+        assertTrue(options.isEmitOnDeadline());
+    }
+
+    @Test
+    public void shouldParseDeadline() {
+        this.properties.put("deadline.ms", 250L);
+
+        assertEquals(250, new GatherComponentOptions(this.properties).getDeadlineMs());
+
+        this.properties.put("deadline.ms", 500);
+
+        assertEquals(500, new GatherComponentOptions(this.properties).getDeadlineMs());
+    }
+
+    @Test
+    public void shouldUseAtLeastOneMillisecondDeadline() {
+        this.properties.put("deadline.ms", 0L);
+
+        assertEquals(1, new GatherComponentOptions(this.properties).getDeadlineMs());
+    }
+
+    @Test
+    public void shouldParseEmitOnDeadline() {
+        this.properties.put("emit.on.deadline", false);
+
+        assertFalse(new GatherComponentOptions(this.properties).isEmitOnDeadline());
+    }
+}
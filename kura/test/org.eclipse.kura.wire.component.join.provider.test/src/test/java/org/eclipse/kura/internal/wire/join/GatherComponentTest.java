@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.graph.EmitterPort;
+import org.eclipse.kura.wire.graph.MultiportWireSupport;
+import org.eclipse.kura.wire.graph.ReceiverPort;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+
+public class GatherComponentTest {
+
+    private final GatherComponent gather = new GatherComponent();
+    private final TestWireSupport wireSupport = new TestWireSupport(2);
+    private final ComponentContext componentContext = mock(ComponentContext.class);
+    private final Map<String, Object> properties = new HashMap<>();
+
+    @After
+    public void tearDown() {
+        this.gather.deactivate(this.componentContext);
+    }
+
+    @Test
+    public void shouldMergeRecordsByPosition() throws InterruptedException {
+        givenActivatedGather();
+
+        whenRecordsAreReceived(0, record("a", 1), record("b", 2));
+        whenRecordsAreReceived(1, record("c", 3));
+
+        thenEmittedRecordCountIs(2);
+        thenEmittedPropertyIs(0, "a", 1);
+        thenEmittedPropertyIs(0, "c", 3);
+        thenEmittedPropertyIs(1, "b", 2);
+        thenEmittedPropertyIsMissing(1, "c");
+    }
+
+    @Test
+    public void shouldPreferPropertyReceivedOnGreatestPort() throws InterruptedException {
+        givenActivatedGather();
+
+        whenRecordsAreReceived(1, record("a", 2));
+        whenRecordsAreReceived(0, record("a", 1));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "a", 2);
+    }
+
+    @Test
+    public void shouldEmitPartialMergeWhenDeadlineExpires() throws InterruptedException {
+        givenDeadline(100);
+        givenActivatedGather();
+
+        whenRecordsAreReceived(0, record("a", 1));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "a", 1);
+    }
+
+    @Test
+    public void shouldNotEmitPartialMergeWhenDeadlineExpiresIfDisabled() throws InterruptedException {
+        givenDeadline(100);
+        givenEmitOnDeadline(false);
+        givenActivatedGather();
+
+        whenRecordsAreReceived(0, record("a", 1));
+
+        thenNothingIsEmitted();
+    }
+
+    @Test
+    public void shouldNotMergeLateArrivalWithExpiredCycle() throws InterruptedException {
+        givenDeadline(100);
+        givenActivatedGather();
+        givenRecordsReceived(0, record("a", 1));
+        givenEmittedRecordCount(1);
+
+        whenRecordsAreReceived(1, record("b", 2));
+        whenRecordsAreReceived(0, record("a", 3));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "a", 3);
+        thenEmittedPropertyIs(0, "b", 2);
+    }
+
+    @Test
+    public void shouldApplyUpdatedDeadline() throws InterruptedException {
+        givenDeadline(60000);
+        givenActivatedGather();
+
+        whenDeadlineIsUpdated(100);
+        whenRecordsAreReceived(0, record("a", 1));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "a", 1);
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenDeadline(final long deadlineMs) {
+        this.properties.put("deadline.ms", deadlineMs);
+    }
+
+    private void givenEmitOnDeadline(final boolean emitOnDeadline) {
+        this.properties.put("emit.on.deadline", emitOnDeadline);
+    }
+
+    private void givenActivatedGather() {
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(this.wireSupport);
+
+        this.gather.bindWireHelperService(wireHelperService);
+        this.gather.activate(this.componentContext, this.properties);
+    }
+
+    private void givenRecordsReceived(final int port, final WireRecord... records) {
+        whenRecordsAreReceived(port, records);
+    }
+
+    private void givenEmittedRecordCount(final int count) throws InterruptedException {
+        thenEmittedRecordCountIs(count);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenRecordsAreReceived(final int port, final WireRecord... records) {
+        this.wireSupport.receive(port, new WireEnvelope("emitter" + port, Arrays.asList(records)));
+    }
+
+    private void whenDeadlineIsUpdated(final long deadlineMs) {
+        final Map<String, Object> newProperties = new HashMap<>(this.properties);
+        newProperties.put("deadline.ms", deadlineMs);
+
+        this.gather.updated(newProperties);
+    }
+
+    /*
+     * Then
+     */
+
+    private List<WireRecord> emittedRecords;
+
+    private void thenEmittedRecordCountIs(final int count) throws InterruptedException {
+        this.emittedRecords = this.wireSupport.emitted.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull("nothing emitted", this.emittedRecords);
+        assertEquals(count, this.emittedRecords.size());
+    }
+
+    private void thenEmittedPropertyIs(final int index, final String name, final int value) {
+        assertEquals(TypedValues.newIntegerValue(value), this.emittedRecords.get(index).getProperties().get(name));
+    }
+
+    private void thenEmittedPropertyIsMissing(final int index, final String name) {
+        assertNull(this.emittedRecords.get(index).getProperties().get(name));
+    }
+
+    private void thenNothingIsEmitted() throws InterruptedException {
+        assertNull(this.wireSupport.emitted.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static WireRecord record(final String name, final int value) {
+        final Map<String, TypedValue<?>> recordProperties = new HashMap<>();
+        recordProperties.put(name, TypedValues.newIntegerValue(value));
+        return new WireRecord(recordProperties);
+    }
+
+    private static final class TestWireSupport implements MultiportWireSupport {
+
+        private final BlockingQueue<List<WireRecord>> emitted = new LinkedBlockingQueue<>();
+        private final List<TestReceiverPort> receiverPorts = new ArrayList<>();
+
+        TestWireSupport(final int receiverPortCount) {
+            for (int i = 0; i < receiverPortCount; i++) {
+                this.receiverPorts.add(new TestReceiverPort());
+            }
+        }
+
+        void receive(final int port, final WireEnvelope envelope) {
+            this.receiverPorts.get(port).consumer.accept(envelope);
+        }
+
+        @Override
+        public void emit(final List<WireRecord> wireRecords) {
+            this.emitted.add(wireRecords);
+        }
+
+        @Override
+        public List<EmitterPort> getEmitterPorts() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<ReceiverPort> getReceiverPorts() {
+            return new ArrayList<>(this.receiverPorts);
+        }
+
+        @Override
+        public WireEnvelope createWireEnvelope(final List<WireRecord> records) {
+            return new WireEnvelope("gather", records);
+        }
+
+        @Override
+        public Object polled(final Wire wire) {
+            return null;
+        }
+
+        @Override
+        public void consumersConnected(final Wire[] wires) {
+            // not needed
+        }
+
+        @Override
+        public void updated(final Wire wire, final Object value) {
+            // not needed
+        }
+
+        @Override
+        public void producersConnected(final Wire[] wires) {
+            // not needed
+        }
+    }
+
+    private static final class TestReceiverPort implements ReceiverPort {
+
+        private Consumer<WireEnvelope> consumer = envelope -> {
+            // do nothing
+        };
+
+        @Override
+        public List<Wire> listConnectedWires() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void onWireReceive(final Consumer<WireEnvelope> consumer) {
+            this.consumer = consumer;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+
+public class PaneWindowTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testTumblingWindow() {
+        final PaneWindow window = new PaneWindow(1);
+
+        for (int i = 1; i <= 4; i++) {
+            window.add("foo", TypedValues.newIntegerValue(i));
+        }
+        window.add("bar", TypedValues.newStringValue("a"));
+        window.add("bar", TypedValues.newStringValue("b"));
+
+        final Map<String, TypedValue<?>> result = slide(window);
+
+        assertEquals(1.0, (Double) result.get("foo_min").getValue(), DELTA);
+        assertEquals(4.0, (Double) result.get("foo_max").getValue(), DELTA);
+        assertEquals(2.5, (Double) result.get("foo_mean").getValue(), DELTA);
+        assertEquals(Math.sqrt(1.25), (Double) result.get("foo_stddev").getValue(), DELTA);
+        assertEquals(4L, result.get("foo_count").getValue());
+        assertEquals(4, result.get("foo_last").getValue());
+
+        assertEquals(2L, result.get("bar_count").getValue());
+        assertEquals("b", result.get("bar_last").getValue());
+        assertNull(result.get("bar_mean"));
+
+        // the next window starts empty
+        assertTrue(slide(window).isEmpty());
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final PaneWindow window = new PaneWindow(2);
+
+        window.add("foo", TypedValues.newDoubleValue(1));
+        window.add("foo", TypedValues.newDoubleValue(3));
+
+        Map<String, TypedValue<?>> result = slide(window);
+        assertEquals(2.0, (Double) result.get("foo_mean").getValue(), DELTA);
+        assertEquals(2L, result.get("foo_count").getValue());
+
+        window.add("foo", TypedValues.newDoubleValue(5));
+        window.add("foo", TypedValues.newDoubleValue(7));
+
+        // covers both panes
+        result = slide(window);
+        assertEquals(1.0, (Double) result.get("foo_min").getValue(), DELTA);
+        assertEquals(7.0, (Double) result.get("foo_max").getValue(), DELTA);
+        assertEquals(4.0, (Double) result.get("foo_mean").getValue(), DELTA);
+        assertEquals(Math.sqrt(5.0), (Double) result.get("foo_stddev").getValue(), DELTA);
+        assertEquals(4L, result.get("foo_count").getValue());
+        assertEquals(7.0, result.get("foo_last").getValue());
+
+        // the first pane expired
+        result = slide(window);
+        assertEquals(5.0, (Double) result.get("foo_min").getValue(), DELTA);
+        assertEquals(6.0, (Double) result.get("foo_mean").getValue(), DELTA);
+        assertEquals(2L, result.get("foo_count").getValue());
+
+        result = slide(window);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testEmptyWindow() {
+        final PaneWindow window = new PaneWindow(3);
+
+        assertFalse(window.slide((name, accumulator) -> {
+        }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPaneCount() {
+        new PaneWindow(0);
+    }
+
+    @Test
+    public void testOptions() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("window.type", "SLIDING");
+        properties.put("window.size.ms", 25000L);
+        properties.put("window.slide.ms", 10000L);
+        properties.put("aggregations", "min, stddev,unknown");
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(properties);
+
+        assertEquals(3, options.getPaneCount());
+        assertEquals(10000L, options.getWindowSlide());
+        assertEquals(EnumSet.of(Aggregation.MIN, Aggregation.STDDEV), options.getAggregations());
+
+        properties.put("window.type", "TUMBLING");
+
+        final WindowAggregatorOptions tumbling = new WindowAggregatorOptions(properties);
+
+        assertEquals(1, tumbling.getPaneCount());
+        assertEquals(25000L, tumbling.getWindowSlide());
+    }
+
+    private static Map<String, TypedValue<?>> slide(final PaneWindow window) {
+        final Map<String, TypedValue<?>> result = new HashMap<>();
+
+        window.slide((name, accumulator) -> WindowAggregator.fillProperties(name, accumulator,
+                EnumSet.allOf(Aggregation.class), result));
+
+        return result;
+    }
+}
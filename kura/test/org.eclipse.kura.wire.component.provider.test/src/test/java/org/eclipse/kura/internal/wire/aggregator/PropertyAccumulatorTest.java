@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+
+public class PropertyAccumulatorTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void shouldMergeLikeSequentialAdds() {
+        final PropertyAccumulator sequential = accumulatorOf(3, 1, 4, 1, 5, 9, 2, 6);
+        final PropertyAccumulator merged = accumulatorOf(3, 1, 4);
+
+        merged.merge(accumulatorOf(1, 5, 9, 2, 6));
+
+        assertSameStatistics(sequential, merged);
+        assertEquals(6.0, merged.getLast().getValue());
+    }
+
+    @Test
+    public void shouldMergeIntoEmptyAccumulator() {
+        final PropertyAccumulator merged = new PropertyAccumulator();
+
+        merged.merge(accumulatorOf(2, 4));
+
+        assertSameStatistics(accumulatorOf(2, 4), merged);
+    }
+
+    @Test
+    public void shouldIgnoreEmptyAccumulator() {
+        final PropertyAccumulator merged = accumulatorOf(2, 4);
+
+        merged.merge(new PropertyAccumulator());
+
+        assertSameStatistics(accumulatorOf(2, 4), merged);
+        assertEquals(4.0, merged.getLast().getValue());
+    }
+
+    @Test
+    public void shouldMergeNonNumericValues() {
+        final PropertyAccumulator merged = accumulatorOf(2, 4);
+        final PropertyAccumulator other = new PropertyAccumulator();
+
+        other.add(TypedValues.newStringValue("foo"));
+        merged.merge(other);
+
+        assertEquals(3, merged.getCount());
+        assertTrue(merged.isNumeric());
+        assertEquals(3.0, merged.getMean(), DELTA);
+        assertEquals("foo", merged.getLast().getValue());
+    }
+
+    @Test
+    public void shouldResetStatistics() {
+        final PropertyAccumulator accumulator = accumulatorOf(2, 4);
+
+        accumulator.reset();
+
+        assertEquals(0, accumulator.getCount());
+        assertFalse(accumulator.isNumeric());
+        assertEquals(0.0, accumulator.getStdDev(), DELTA);
+    }
+
+    private static PropertyAccumulator accumulatorOf(final double... values) {
+        final PropertyAccumulator result = new PropertyAccumulator();
+
+        for (final double value : values) {
+            result.add(TypedValues.newDoubleValue(value));
+        }
+
+        return result;
+    }
+
+    private static void assertSameStatistics(final PropertyAccumulator expected, final PropertyAccumulator actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMin(), actual.getMin(), DELTA);
+        assertEquals(expected.getMax(), actual.getMax(), DELTA);
+        assertEquals(expected.getMean(), actual.getMean(), DELTA);
+        assertEquals(expected.getStdDev(), actual.getStdDev(), DELTA);
+    }
+}
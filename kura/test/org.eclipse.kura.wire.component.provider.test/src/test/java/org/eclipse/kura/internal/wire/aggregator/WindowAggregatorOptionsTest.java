@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.kura.internal.wire.aggregator.WindowAggregatorOptions.WindowType;
+import org.junit.Test;
+
+public class WindowAggregatorOptionsTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    @Test
+    public void shouldUseTumblingWindowByDefault() {
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(WindowType.TUMBLING, options.getWindowType());
+        assertEquals(60000L, options.getWindowSize());
+        assertEquals(60000L, options.getWindowSlide());
+        assertEquals(1, options.getPaneCount());
+        assertEquals(EnumSet.of(Aggregation.MIN, Aggregation.MAX, Aggregation.MEAN, Aggregation.COUNT,
+                Aggregation.LAST), options.getAggregations());
+    }
+
+    @Test
+    public void shouldParseWindowTypeIgnoringCase() {
+        this.properties.put("window.type", " sliding ");
+
+        assertEquals(WindowType.SLIDING, new WindowAggregatorOptions(this.properties).getWindowType());
+    }
+
+    @Test
+    public void shouldFallBackToTumblingWindowIfTypeIsUnknown() {
+        this.properties.put("window.type", "HOPPING");
+        this.properties.put("window.slide.ms", 1000L);
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(WindowType.TUMBLING, options.getWindowType());
+        assertEquals(1, options.getPaneCount());
+    }
+
+    @Test
+    public void shouldRoundWindowSizeUpToAMultipleOfTheSlide() {
+        this.properties.put("window.type", "SLIDING");
+        this.properties.put("window.size.ms", 25000L);
+        this.properties.put("window.slide.ms", 10000L);
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(10000L, options.getWindowSlide());
+        assertEquals(3, options.getPaneCount());
+    }
+
+    @Test
+    public void shouldLimitSlideToWindowSize() {
+        this.properties.put("window.type", "SLIDING");
+        this.properties.put("window.size.ms", 5000L);
+        this.properties.put("window.slide.ms", 10000L);
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(5000L, options.getWindowSlide());
+        assertEquals(1, options.getPaneCount());
+    }
+
+    @Test
+    public void shouldLimitPaneCount() {
+        this.properties.put("window.type", "SLIDING");
+        this.properties.put("window.size.ms", 3600000L);
+        this.properties.put("window.slide.ms", 1L);
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(3600L, options.getWindowSlide());
+        assertEquals(WindowAggregatorOptions.MAX_PANE_COUNT, options.getPaneCount());
+    }
+
+    @Test
+    public void shouldUseAtLeastOneMillisecondSlide() {
+        this.properties.put("window.type", "SLIDING");
+        this.properties.put("window.size.ms", 10L);
+        this.properties.put("window.slide.ms", 0L);
+
+        final WindowAggregatorOptions options = new WindowAggregatorOptions(this.properties);
+
+        assertEquals(1L, options.getWindowSlide());
+        assertEquals(10, options.getPaneCount());
+    }
+
+    @Test
+    public void shouldUseLastIfNoAggregationIsValid() {
+        this.properties.put("aggregations", "median, ,");
+
+        assertEquals(EnumSet.of(Aggregation.LAST), new WindowAggregatorOptions(this.properties).getAggregations());
+    }
+}
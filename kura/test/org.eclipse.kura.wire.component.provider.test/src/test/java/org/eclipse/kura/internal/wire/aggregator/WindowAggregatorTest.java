@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.service.component.ComponentContext;
+
+public class WindowAggregatorTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private final WireSupport wireSupport = mock(WireSupport.class);
+    private final WindowAggregator windowAggregator = new WindowAggregator();
+
+    @After
+    public void cleanUp() {
+        this.windowAggregator.deactivate();
+    }
+
+    @Test
+    public void shouldEmitAggregatesOfTheFilteredProperties() {
+        givenProperty("aggregations", "MIN,MAX,MEAN,COUNT,LAST");
+        givenProperty("property.filter", "temp.*");
+        givenActivatedWindowAggregator();
+
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(10));
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(20));
+        whenRecordIsReceived("humidity", TypedValues.newIntegerValue(50));
+        whenWindowIsClosed();
+
+        final Map<String, TypedValue<?>> emitted = thenRecordIsEmitted();
+        assertEquals(10.0, (Double) emitted.get("temperature_min").getValue(), DELTA);
+        assertEquals(20.0, (Double) emitted.get("temperature_max").getValue(), DELTA);
+        assertEquals(15.0, (Double) emitted.get("temperature_mean").getValue(), DELTA);
+        assertEquals(2L, emitted.get("temperature_count").getValue());
+        assertEquals(20, emitted.get("temperature_last").getValue());
+        assertFalse(emitted.containsKey("humidity_count"));
+        assertTrue(emitted.containsKey(WindowAggregator.WINDOW_START_PROP_NAME));
+        assertTrue(emitted.containsKey(WindowAggregator.WINDOW_END_PROP_NAME));
+    }
+
+    @Test
+    public void shouldNotEmitEmptyWindows() {
+        givenActivatedWindowAggregator();
+
+        whenWindowIsClosed();
+
+        thenNoRecordIsEmitted();
+    }
+
+    @Test
+    public void shouldEmitEmptyWindowsIfEnabled() {
+        givenProperty("emit.empty.windows", true);
+        givenActivatedWindowAggregator();
+
+        whenWindowIsClosed();
+
+        final Map<String, TypedValue<?>> emitted = thenRecordIsEmitted();
+        assertEquals(2, emitted.size());
+    }
+
+    @Test
+    public void shouldStartANewTumblingWindow() {
+        givenActivatedWindowAggregator();
+
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(10));
+        whenWindowIsClosed();
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(30));
+        whenWindowIsClosed();
+
+        final Map<String, TypedValue<?>> emitted = thenRecordIsEmitted();
+        assertEquals(1L, emitted.get("temperature_count").getValue());
+        assertEquals(30.0, (Double) emitted.get("temperature_mean").getValue(), DELTA);
+    }
+
+    @Test
+    public void shouldCoverTheWholeSlidingWindow() {
+        givenProperty("window.type", "SLIDING");
+        givenProperty("window.size.ms", 600000L);
+        givenProperty("window.slide.ms", 300000L);
+        givenActivatedWindowAggregator();
+
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(10));
+        whenWindowIsClosed();
+        whenRecordIsReceived("temperature", TypedValues.newIntegerValue(30));
+        whenWindowIsClosed();
+
+        final Map<String, TypedValue<?>> emitted = thenRecordIsEmitted();
+        assertEquals(2L, emitted.get("temperature_count").getValue());
+        assertEquals(20.0, (Double) emitted.get("temperature_mean").getValue(), DELTA);
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenProperty(final String key, final Object value) {
+        this.properties.put(key, value);
+    }
+
+    private void givenActivatedWindowAggregator() {
+        // long windows, so that only the windows closed by the test are emitted
+        this.properties.putIfAbsent("window.size.ms", 600000L);
+
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(this.wireSupport);
+
+        this.windowAggregator.bindWireHelperService(wireHelperService);
+        this.windowAggregator.activate(this.properties, mock(ComponentContext.class));
+    }
+
+    private void whenRecordIsReceived(final String name, final TypedValue<?> value) {
+        final Map<String, TypedValue<?>> recordProperties = new HashMap<>();
+        recordProperties.put(name, value);
+
+        this.windowAggregator
+                .onWireReceive(new WireEnvelope("emitter", Arrays.asList(new WireRecord(recordProperties))));
+    }
+
+    private void whenWindowIsClosed() {
+        this.windowAggregator.closeWindow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, TypedValue<?>> thenRecordIsEmitted() {
+        final ArgumentCaptor<List<WireRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.wireSupport, atLeastOnce()).emit(captor.capture());
+
+        final List<WireRecord> emitted = captor.getValue();
+        assertEquals(1, emitted.size());
+
+        return emitted.get(0).getProperties();
+    }
+
+    private void thenNoRecordIsEmitted() {
+        verify(this.wireSupport, never()).emit(any());
+    }
+}
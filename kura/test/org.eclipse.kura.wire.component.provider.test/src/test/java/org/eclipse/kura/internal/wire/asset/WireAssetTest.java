@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kura.internal.wire.asset;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,9 +45,11 @@ import org.eclipse.kura.type.IntegerValue;
 import org.eclipse.kura.type.LongValue;
 import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecord;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.WireSupport;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -406,4 +409,154 @@ public class WireAssetTest {
         verify(mockDriver, times(5)).read(any());
     }
 
+    @Test
+    public void testColumnarRecords() throws ConnectionException {
+        final Map<String, Object> wireAssetProperties = new HashMap<>();
+
+        wireAssetProperties.put(AssetConstants.ASSET_DESC_PROP.value(), "description");
+        wireAssetProperties.put(AssetConstants.ASSET_DRIVER_PROP.value(), "driverPid");
+        wireAssetProperties.put(ConfigurationService.KURA_SERVICE_PID, "componentName");
+        wireAssetProperties.put(WireAssetOptions.EMIT_COLUMNAR_RECORDS_PROP_NAME, true);
+        wireAssetProperties.put(WireAssetOptions.EMIT_ERRORS_PROP_NAME, true);
+
+        Channel readChannel1 = new Channel("0", ChannelType.READ, DataType.INTEGER, Collections.emptyMap());
+        Channel readChannel2 = new Channel("1", ChannelType.READ, DataType.DOUBLE, Collections.emptyMap());
+
+        putChannel(readChannel1, wireAssetProperties);
+        putChannel(readChannel2, wireAssetProperties);
+
+        WireAsset wireAsset = new WireAsset();
+
+        WireSupport mockWireSupport = mock(WireSupport.class);
+        WireHelperService wireHelperService = mock(WireHelperService.class);
+
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(mockWireSupport);
+
+        wireAsset.bindWireHelperService(wireHelperService);
+
+        final ComponentContext mockComponentContext = mock(ComponentContext.class);
+        when(mockComponentContext.getBundleContext()).thenReturn(mock(BundleContext.class));
+
+        wireAsset.activate(mockComponentContext, wireAssetProperties);
+
+        Driver mockDriver = mock(Driver.class);
+
+        doAnswer(invocation -> {
+            List<ChannelRecord> records = (List<ChannelRecord>) invocation.getArguments()[0];
+
+            assertEquals(2, records.size());
+
+            for (final ChannelRecord record : records) {
+                if ("0".equals(record.getChannelName())) {
+                    record.setValue(new IntegerValue(12));
+                    record.setUnit("V");
+                    record.setTimestamp(84);
+                    record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+                } else {
+                    record.setTimestamp(22);
+                    record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, "failed", null));
+                }
+            }
+
+            return null;
+        }).when(mockDriver).read(any());
+
+        doAnswer(invocation -> {
+            List<WireRecord> wireRecords = (List<WireRecord>) invocation.getArguments()[0];
+
+            assertEquals(1, wireRecords.size());
+            assertTrue(wireRecords.get(0) instanceof ColumnarWireRecord);
+
+            final ColumnarWireRecord record = (ColumnarWireRecord) wireRecords.get(0);
+            final WireRecordSchema schema = record.getSchema();
+
+            assertEquals(12, record.getInteger(schema.indexOf("0")));
+            assertFalse(record.isPresent(schema.indexOf("1")));
+            assertEquals("failed", record.getString(schema.indexOf("1_error")));
+
+            Map<String, TypedValue<?>> properties = record.getProperties();
+
+            assertEquals(8, properties.size());
+            assertEquals(new StringValue("componentName"), properties.get("assetName"));
+            assertEquals(new IntegerValue(12), properties.get("0"));
+            assertEquals(new StringValue("V"), properties.get("0_unit"));
+            assertEquals(new LongValue(84), properties.get("0_timestamp"));
+            assertEquals(new StringValue(""), properties.get("0_error"));
+            assertEquals(new LongValue(22), properties.get("1_timestamp"));
+            assertEquals(new StringValue("failed"), properties.get("1_error"));
+
+            return null;
+        }).when(mockWireSupport).emit(any());
+
+        wireAsset.setDriver(mockDriver);
+        sync(wireAsset);
+
+        wireAsset.onWireReceive(new WireEnvelope("pid", Collections.emptyList()));
+        wireAsset.onWireReceive(new WireEnvelope("pid", Collections.emptyList()));
+
+        verify(mockWireSupport, times(2)).emit(any());
+    }
+
+    @Test
+    public void testColumnarRecordsTypeMismatchFallback() throws ConnectionException {
+        final Map<String, Object> wireAssetProperties = new HashMap<>();
+
+        wireAssetProperties.put(AssetConstants.ASSET_DESC_PROP.value(), "description");
+        wireAssetProperties.put(AssetConstants.ASSET_DRIVER_PROP.value(), "driverPid");
+        wireAssetProperties.put(ConfigurationService.KURA_SERVICE_PID, "componentName");
+        wireAssetProperties.put(WireAssetOptions.EMIT_COLUMNAR_RECORDS_PROP_NAME, true);
+        wireAssetProperties.put(WireAssetOptions.TIMESTAMP_MODE_PROP_NAME, TimestampMode.NO_TIMESTAMPS.name());
+
+        Channel readChannel1 = new Channel("0", ChannelType.READ, DataType.BOOLEAN, Collections.emptyMap());
+
+        putChannel(readChannel1, wireAssetProperties);
+
+        WireAsset wireAsset = new WireAsset();
+
+        WireSupport mockWireSupport = mock(WireSupport.class);
+        WireHelperService wireHelperService = mock(WireHelperService.class);
+
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(mockWireSupport);
+
+        wireAsset.bindWireHelperService(wireHelperService);
+
+        final ComponentContext mockComponentContext = mock(ComponentContext.class);
+        when(mockComponentContext.getBundleContext()).thenReturn(mock(BundleContext.class));
+
+        wireAsset.activate(mockComponentContext, wireAssetProperties);
+
+        Driver mockDriver = mock(Driver.class);
+
+        doAnswer(invocation -> {
+            List<ChannelRecord> records = (List<ChannelRecord>) invocation.getArguments()[0];
+
+            final ChannelRecord record = records.get(0);
+            record.setValue(new IntegerValue(1));
+            record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+
+            return null;
+        }).when(mockDriver).read(any());
+
+        doAnswer(invocation -> {
+            List<WireRecord> wireRecords = (List<WireRecord>) invocation.getArguments()[0];
+
+            assertEquals(1, wireRecords.size());
+            assertFalse(wireRecords.get(0) instanceof ColumnarWireRecord);
+
+            Map<String, TypedValue<?>> properties = wireRecords.get(0).getProperties();
+
+            assertEquals(2, properties.size());
+            assertEquals(new IntegerValue(1), properties.get("0"));
+
+            return null;
+        }).when(mockWireSupport).emit(any());
+
+        wireAsset.setDriver(mockDriver);
+        sync(wireAsset);
+
+        wireAsset.onWireReceive(new WireEnvelope("pid", Collections.emptyList()));
+
+        verify(mockWireSupport).emit(any());
+    }
+
 }
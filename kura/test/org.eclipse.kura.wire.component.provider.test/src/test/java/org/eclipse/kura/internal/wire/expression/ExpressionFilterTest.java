@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.service.component.ComponentContext;
+
+public class ExpressionFilterTest {
+
+    private final ExpressionFilter filter = new ExpressionFilter();
+    private final WireSupport wireSupport = mock(WireSupport.class);
+    private final Map<String, Object> configuration = new HashMap<>();
+    private List<WireRecord> emittedRecords;
+
+    @Test
+    public void shouldEmitComputedProperties() {
+        givenConfiguration("expressions", "fahrenheit = celsius * 1.8 + 32\nalarm = celsius > 30");
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(
+                record("celsius", TypedValues.newIntegerValue(35), "other", TypedValues.newLongValue(1)));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "fahrenheit", TypedValues.newDoubleValue(95.0));
+        thenEmittedPropertyIs(0, "alarm", TypedValues.newBooleanValue(true));
+        thenEmittedPropertyIsMissing(0, "celsius");
+        thenEmittedPropertyIsMissing(0, "other");
+    }
+
+    @Test
+    public void shouldRenamePropertiesRetainingTheirType() {
+        givenConfiguration("expressions", "# renaming\nvalue = `raw value`");
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(record("raw value", TypedValues.newFloatValue(1.5f)));
+
+        thenEmittedPropertyIs(0, "value", TypedValues.newFloatValue(1.5f));
+    }
+
+    @Test
+    public void shouldEmitReceivedProperties() {
+        givenConfiguration("expressions", "doubled = a * 2", "emit.received.properties", true);
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(record("a", TypedValues.newIntegerValue(2)));
+
+        thenEmittedPropertyIs(0, "a", TypedValues.newIntegerValue(2));
+        thenEmittedPropertyIs(0, "doubled", TypedValues.newLongValue(4));
+    }
+
+    @Test
+    public void shouldDropRecordsNotMatchingTheCondition() {
+        givenConfiguration("condition", "value >= 10");
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(record("value", TypedValues.newIntegerValue(5)),
+                record("value", TypedValues.newIntegerValue(15)), record("other", TypedValues.newIntegerValue(20)));
+
+        thenEmittedRecordCountIs(1);
+        thenEmittedPropertyIs(0, "value", TypedValues.newIntegerValue(15));
+    }
+
+    @Test
+    public void shouldSkipAssignmentsReferencingMissingProperties() {
+        givenConfiguration("expressions", "sum = a + b\ncopy = a");
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(record("a", TypedValues.newIntegerValue(1)));
+
+        thenEmittedPropertyIs(0, "copy", TypedValues.newIntegerValue(1));
+        thenEmittedPropertyIsMissing(0, "sum");
+    }
+
+    @Test
+    public void shouldNotEmitWithInvalidConfiguration() {
+        givenConfiguration("expressions", "a = (1 +");
+        givenActivatedFilter();
+
+        whenRecordsAreReceived(record("a", TypedValues.newIntegerValue(1)));
+
+        thenNothingIsEmitted();
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenConfiguration(final Object... keysAndValues) {
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            this.configuration.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+    }
+
+    private void givenActivatedFilter() {
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(this.wireSupport);
+
+        this.filter.bindWireHelperService(wireHelperService);
+        this.filter.activate(this.configuration, mock(ComponentContext.class));
+    }
+
+    /*
+     * When
+     */
+
+    @SuppressWarnings("unchecked")
+    private void whenRecordsAreReceived(final WireRecord... records) {
+        this.filter.onWireReceive(new WireEnvelope("emitter", Arrays.asList(records)));
+
+        final ArgumentCaptor<List<WireRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.wireSupport, atMost(1)).emit(captor.capture());
+        this.emittedRecords = captor.getAllValues().isEmpty() ? null : captor.getValue();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenEmittedRecordCountIs(final int expectedCount) {
+        assertEquals(expectedCount, this.emittedRecords.size());
+    }
+
+    private void thenEmittedPropertyIs(final int index, final String name, final TypedValue<?> expectedValue) {
+        assertEquals(expectedValue, this.emittedRecords.get(index).getProperties().get(name));
+    }
+
+    private void thenEmittedPropertyIsMissing(final int index, final String name) {
+        assertFalse(this.emittedRecords.get(index).getProperties().containsKey(name));
+    }
+
+    private void thenNothingIsEmitted() {
+        verify(this.wireSupport, never()).emit(any());
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static WireRecord record(final Object... keysAndValues) {
+        final Map<String, TypedValue<?>> properties = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.put((String) keysAndValues[i], (TypedValue<?>) keysAndValues[i + 1]);
+        }
+        return new WireRecord(properties);
+    }
+}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.wire.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.kura.internal.wire.expression.Expression.Constant;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+
+public class ExpressionParserTest {
+
+    private final Map<String, TypedValue<?>> properties = new HashMap<>();
+    private Expression expression;
+    private Object result;
+    private IllegalArgumentException error;
+
+    @Test
+    public void shouldRespectOperatorPrecedence() {
+        whenExpressionIsEvaluated("1 + 2 * 3 - 8 / 4 % 3");
+
+        thenResultIs(5L);
+    }
+
+    @Test
+    public void shouldUseIntegerArithmeticForIntegralOperands() {
+        givenProperty("a", TypedValues.newIntegerValue(7));
+
+        whenExpressionIsEvaluated("a / 2");
+
+        thenResultIs(3L);
+    }
+
+    @Test
+    public void shouldUseFloatingPointArithmeticForMixedOperands() {
+        givenProperty("temperature", TypedValues.newFloatValue(20.0f));
+
+        whenExpressionIsEvaluated("temperature * 1.8 + 32");
+
+        thenResultIs(68.0d);
+    }
+
+    @Test
+    public void shouldEvaluateComparisonsAndLogicalOperators() {
+        givenProperty("temperature", TypedValues.newDoubleValue(35.5));
+        givenProperty("humidity", TypedValues.newIntegerValue(40));
+
+        whenExpressionIsEvaluated("temperature > 30 && !(humidity >= 80) || false");
+
+        thenResultIs(true);
+    }
+
+    @Test
+    public void shouldCompareNumbersOfDifferentTypes() {
+        givenProperty("a", TypedValues.newIntegerValue(2));
+        givenProperty("b", TypedValues.newDoubleValue(2.0));
+
+        whenExpressionIsEvaluated("a == b");
+
+        thenResultIs(true);
+    }
+
+    @Test
+    public void shouldEvaluateConditionalOperator() {
+        givenProperty("level", TypedValues.newLongValue(3L));
+
+        whenExpressionIsEvaluated("level > 2 ? 'high' : 'low'");
+
+        thenResultIs("high");
+    }
+
+    @Test
+    public void shouldConcatenateStrings() {
+        givenProperty("name", TypedValues.newStringValue("pump"));
+
+        whenExpressionIsEvaluated("name + \"-\" + 1");
+
+        thenResultIs("pump-1");
+    }
+
+    @Test
+    public void shouldCallFunctions() {
+        givenProperty("x", TypedValues.newDoubleValue(-2.6));
+
+        whenExpressionIsEvaluated("max(round(abs(x)), 1) + pow(2, 3)");
+
+        thenResultIs(11.0d);
+    }
+
+    @Test
+    public void shouldConvertTypes() {
+        givenProperty("x", TypedValues.newStringValue("42"));
+
+        whenExpressionIsEvaluated("int(x)");
+
+        thenResultIs(42);
+    }
+
+    @Test
+    public void shouldReferencePropertiesWithSpecialCharacters() {
+        givenProperty("sensor-1 value", TypedValues.newIntegerValue(5));
+        givenProperty("sensor.2", TypedValues.newIntegerValue(6));
+
+        whenExpressionIsEvaluated("`sensor-1 value` + sensor.2");
+
+        thenResultIs(11L);
+    }
+
+    @Test
+    public void shouldReturnNullForMissingProperties() {
+        givenProperty("a", TypedValues.newIntegerValue(1));
+
+        whenExpressionIsEvaluated("a + b");
+
+        thenResultIsNull();
+    }
+
+    @Test
+    public void shouldCheckPropertyPresence() {
+        givenProperty("a", TypedValues.newIntegerValue(1));
+
+        whenExpressionIsEvaluated("has(a) && !has(b)");
+
+        thenResultIs(true);
+    }
+
+    @Test
+    public void shouldFoldConstantExpressions() {
+        whenExpressionIsParsed("(1 + 2) * sqrt(16)");
+
+        thenExpressionIsConstant();
+        thenResultIs(12.0d);
+    }
+
+    @Test
+    public void shouldParseAssignment() {
+        givenProperty("old", TypedValues.newBooleanValue(true));
+
+        final ExpressionParser.Assignment assignment = ExpressionParser.parseAssignment("`new name` = !old");
+
+        assertEquals("new name", assignment.getPropertyName());
+        assertEquals(false, assignment.getExpression().evaluate(this.properties));
+    }
+
+    @Test
+    public void shouldRejectUnknownFunction() {
+        whenExpressionIsParsed("foo(1)");
+
+        thenErrorContains("Unknown function 'foo'");
+    }
+
+    @Test
+    public void shouldRejectWrongArgumentCount() {
+        whenExpressionIsParsed("pow(1)");
+
+        thenErrorContains("expects 2 arguments");
+    }
+
+    @Test
+    public void shouldRejectTooManyArguments() {
+        whenExpressionIsParsed("sqrt(4, 9)");
+
+        thenErrorContains("expects 1 argument");
+    }
+
+    @Test
+    public void shouldReturnNullIfAFunctionArgumentIsMissing() {
+        givenProperty("a", TypedValues.newIntegerValue(1));
+
+        whenExpressionIsEvaluated("max(a, b)");
+
+        thenResultIsNull();
+    }
+
+    @Test
+    public void shouldRejectUnbalancedParentheses() {
+        whenExpressionIsParsed("(1 + 2");
+
+        thenErrorContains("Expected ')'");
+    }
+
+    @Test
+    public void shouldRejectTrailingCharacters() {
+        whenExpressionIsParsed("a = 1");
+
+        thenErrorContains("Unexpected character '='");
+    }
+
+    @Test
+    public void shouldRejectInvalidConstantExpressions() {
+        whenExpressionIsParsed("'a' * 2");
+
+        thenErrorContains("Operator * cannot be applied to String and Long");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnTypeMismatchAtRuntime() {
+        givenProperty("a", TypedValues.newStringValue("text"));
+
+        whenExpressionIsEvaluated("a && true");
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenProperty(final String name, final TypedValue<?> value) {
+        this.properties.put(name, value);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenExpressionIsParsed(final String source) {
+        try {
+            this.expression = ExpressionParser.parse(source);
+            this.result = this.expression.evaluate(this.properties);
+        } catch (final IllegalArgumentException e) {
+            this.error = e;
+        }
+    }
+
+    private void whenExpressionIsEvaluated(final String source) {
+        this.result = ExpressionParser.parse(source).evaluate(this.properties);
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenResultIs(final Object expected) {
+        assertEquals(expected, this.result);
+    }
+
+    private void thenResultIsNull() {
+        assertNull(this.result);
+    }
+
+    private void thenExpressionIsConstant() {
+        assertTrue(this.expression instanceof Constant);
+    }
+
+    private void thenErrorContains(final String message) {
+        if (this.error == null) {
+            fail("Expected an error containing: " + message);
+        }
+        assertTrue(this.error.getMessage(), this.error.getMessage().contains(message));
+    }
+}
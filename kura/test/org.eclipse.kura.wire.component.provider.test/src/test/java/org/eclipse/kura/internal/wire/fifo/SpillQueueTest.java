@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.fifo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpillQueueTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReturnEntriesInOrderAcrossSegments() throws IOException {
+        final SpillQueue queue = new SpillQueue(this.tmpFolder.getRoot().toPath(), 32, 1024);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(entry(i)));
+        }
+
+        assertEquals(10, queue.size());
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), drain(queue));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    public void shouldResumeAfterReopen() throws IOException {
+        final Path directory = this.tmpFolder.getRoot().toPath();
+
+        SpillQueue queue = new SpillQueue(directory, 32, 1024);
+
+        for (int i = 0; i < 5; i++) {
+            queue.offer(entry(i));
+        }
+
+        queue.remove();
+        queue.remove();
+        queue.close();
+
+        queue = new SpillQueue(directory, 32, 1024);
+
+        assertEquals(3, queue.size());
+
+        queue.offer(entry(5));
+
+        assertEquals(Arrays.asList("2", "3", "4", "5"), drain(queue));
+    }
+
+    @Test
+    public void shouldPrependEntries() throws IOException {
+        final Path directory = this.tmpFolder.getRoot().toPath();
+
+        SpillQueue queue = new SpillQueue(directory, 32, 1024);
+
+        queue.offer(entry(2));
+        queue.offer(entry(3));
+        queue.prepend(Arrays.asList(entry(0), entry(1)));
+        queue.close();
+
+        queue = new SpillQueue(directory, 32, 1024);
+
+        assertEquals(Arrays.asList("0", "1", "2", "3"), drain(queue));
+    }
+
+    @Test
+    public void shouldRejectEntriesExceedingMaxSize() throws IOException {
+        final SpillQueue queue = new SpillQueue(this.tmpFolder.getRoot().toPath(), 32, 10);
+
+        assertTrue(queue.offer(new byte[4]));
+        assertFalse(queue.offer(new byte[4]));
+
+        queue.remove();
+
+        assertTrue(queue.offer(new byte[4]));
+    }
+
+    @Test
+    public void shouldDeleteConsumedSegments() throws IOException {
+        final Path directory = this.tmpFolder.getRoot().toPath();
+        final SpillQueue queue = new SpillQueue(directory, 16, 1024);
+
+        for (int i = 0; i < 10; i++) {
+            queue.offer(entry(i));
+        }
+
+        drain(queue);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeEnvelopes() throws IOException {
+        final Map<String, TypedValue<?>> properties = new HashMap<>();
+        properties.put("boolean", TypedValues.newBooleanValue(true));
+        properties.put("byteArray", TypedValues.newByteArrayValue(new byte[] { 1, 2, 3 }));
+        properties.put("double", TypedValues.newDoubleValue(1.5));
+        properties.put("float", TypedValues.newFloatValue(2.5f));
+        properties.put("integer", TypedValues.newIntegerValue(3));
+        properties.put("long", TypedValues.newLongValue(4L));
+        properties.put("string", TypedValues.newStringValue("foo"));
+
+        final WireEnvelope envelope = new WireEnvelope("emitter",
+                Arrays.asList(new WireRecord(properties), new WireRecord(new HashMap<>())));
+
+        final WireEnvelope decoded = EnvelopeCodec.decode(EnvelopeCodec.encode(envelope));
+
+        assertEquals("emitter", decoded.getEmitterPid());
+        assertEquals(2, decoded.getRecords().size());
+        assertEquals(properties.keySet(), decoded.getRecords().get(0).getProperties().keySet());
+        assertArrayEquals(new byte[] { 1, 2, 3 },
+                (byte[]) decoded.getRecords().get(0).getProperties().get("byteArray").getValue());
+        assertEquals(properties.get("string"), decoded.getRecords().get(0).getProperties().get("string"));
+        assertEquals(properties.get("float"), decoded.getRecords().get(0).getProperties().get("float"));
+        assertTrue(decoded.getRecords().get(1).getProperties().isEmpty());
+    }
+
+    private static byte[] entry(final int i) {
+        return Integer.toString(i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> drain(final SpillQueue queue) {
+        final List<String> result = new ArrayList<>();
+
+        byte[] next;
+
+        while ((next = queue.peek()) != null) {
+            result.add(new String(next, StandardCharsets.UTF_8));
+            queue.remove();
+        }
+
+        return result;
+    }
+}
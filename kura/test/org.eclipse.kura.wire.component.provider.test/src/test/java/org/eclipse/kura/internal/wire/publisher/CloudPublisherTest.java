@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,12 @@ package org.eclipse.kura.internal.wire.publisher;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -126,6 +128,79 @@ public class CloudPublisherTest {
         thenCheckOneKuraMessagePropsReceived();
     }
 
+    @Test
+    public void testOnWireReceiveAggregatedMetrics()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenUpdatedProperties("aggregation.layout", "metrics");
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceive(3);
+        whenKuraMessageReceived();
+
+        thenPayloadHasNullBody();
+        thenTotalMetricReceived(9);
+        thenCheckAggregatedMetricsReceived(3);
+        thenCheckDefaultKuraMessageProps();
+    }
+
+    @Test
+    public void testOnWireReceiveAggregatedColumnarJson()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenUpdatedProperties("aggregation.layout", "columnar_json");
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceive(2);
+        whenKuraMessageReceived();
+
+        thenTotalMetricReceived(0);
+        thenCheckColumnarJsonBody();
+        thenCheckDefaultKuraMessageProps();
+    }
+
+    @Test
+    public void testOnWireReceiveAggregatedGroupsRecordsByAssetName()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenUpdatedProperties("aggregation.layout", "metrics");
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceiveWithAssetNames("asset1", "asset2", "asset1");
+
+        thenPublishedMessageCountIs(2);
+        thenPublishedMessageHas(0, "asset1", 2);
+        thenPublishedMessageHas(1, "asset2", 1);
+    }
+
+    @Test
+    public void testOnWireReceiveAggregatedUsesCommonMessageProperties()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenUpdatedProperties("aggregation.layout", "metrics");
+        givenUpdatedProperties("aggregation.group.by", "");
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceiveWithAssetNames("asset1", "asset2");
+        whenKuraMessageReceived();
+
+        thenPublishedMessageCountIs(1);
+        thenTotalKuraMessagePropsReceived(2);
+        thenCheckDefaultKuraMessageProps();
+    }
+
     @Test
     public void testOnWireReceiveWithBasicPosition()
             throws InvalidSyntaxException, NoSuchFieldException, KuraException {
@@ -210,10 +285,12 @@ public class CloudPublisherTest {
         this.fakeCloudPublisher = new FakeCloudPublisher() {
 
             private KuraMessage kmessage = new KuraMessage(null);
+            private final List<KuraMessage> kmessages = new ArrayList<>();
 
             @Override
             public String publish(KuraMessage message) throws KuraException {
                 kmessage = message;
+                kmessages.add(message);
                 return null;
             }
 
@@ -245,6 +322,11 @@ public class CloudPublisherTest {
             public KuraMessage getMessage() {
                 return kmessage;
             }
+
+            @Override
+            public List<KuraMessage> getMessages() {
+                return kmessages;
+            }
         };
     }
 
@@ -299,15 +381,32 @@ public class CloudPublisherTest {
      */
 
     private void whenOnWireReceive() {
+        whenOnWireReceive(1);
+    }
+
+    private void whenOnWireReceive(int numRecords) {
         List<WireRecord> wireRecords = new ArrayList<>();
 
-        WireRecord record = new WireRecord(this.recordProps);
-        wireRecords.add(record);
+        for (int i = 0; i < numRecords; i++) {
+            wireRecords.add(new WireRecord(this.recordProps));
+        }
 
         WireEnvelope wireEnvelope = new WireEnvelope("emitter", wireRecords);
         this.cp.onWireReceive(wireEnvelope);
     }
 
+    private void whenOnWireReceiveWithAssetNames(String... assetNames) {
+        List<WireRecord> wireRecords = new ArrayList<>();
+
+        for (String assetName : assetNames) {
+            Map<String, TypedValue<?>> props = new HashMap<>(this.recordProps);
+            props.put("assetName", new StringValue(assetName));
+            wireRecords.add(new WireRecord(props));
+        }
+
+        this.cp.onWireReceive(new WireEnvelope("emitter", wireRecords));
+    }
+
     private void whenSetPositionServiceMock() throws NoSuchFieldException {
         when(this.positionServiceMock.getNmeaPosition())
                 .thenReturn(new NmeaPosition(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
@@ -352,6 +451,37 @@ public class CloudPublisherTest {
         assertEquals("my test topic", this.payload.getMetric("topic"));
     }
 
+    private void thenCheckAggregatedMetricsReceived(int numRecords) {
+        for (int i = 0; i < numRecords; i++) {
+            assertEquals("val", this.payload.getMetric("key[" + i + "]"));
+            assertEquals("my test topic", this.payload.getMetric("topic[" + i + "]"));
+            assertNotNull(this.payload.getMetric("timestamp[" + i + "]"));
+        }
+    }
+
+    private void thenCheckColumnarJsonBody() {
+        assertNotNull(this.payload.getBody());
+        String body = new String(this.payload.getBody(), StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"key\":[\"val\",\"val\"]"));
+        assertTrue(body.contains("\"topic\":[\"my test topic\",\"my test topic\"]"));
+        assertTrue(body.contains("\"timestamp\":["));
+    }
+
+    private void thenPublishedMessageCountIs(int count) {
+        assertEquals(count, this.fakeCloudPublisher.getMessages().size());
+    }
+
+    private void thenPublishedMessageHas(int index, String assetName, int numRecords) {
+        KuraMessage message = this.fakeCloudPublisher.getMessages().get(index);
+
+        assertEquals(assetName, message.getProperties().get("assetName"));
+        assertEquals(numRecords * 4, message.getPayload().metrics().size());
+
+        for (int i = 0; i < numRecords; i++) {
+            assertEquals(assetName, message.getPayload().getMetric("assetName[" + i + "]"));
+        }
+    }
+
     private void thenCheckOneMetricReceived() {
         assertEquals("my test topic", this.payload.getMetric("topic"));
     }
@@ -399,6 +529,8 @@ public class CloudPublisherTest {
     public interface FakeCloudPublisher extends org.eclipse.kura.cloudconnection.publisher.CloudPublisher {
 
         public KuraMessage getMessage();
+
+        public List<KuraMessage> getMessages();
     }
 
     private String fillAppTopicPlaceholders(String appTopic, KuraMessage message) {
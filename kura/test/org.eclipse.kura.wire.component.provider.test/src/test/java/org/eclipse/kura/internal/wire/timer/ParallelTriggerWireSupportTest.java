@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.service.wireadmin.Wire;
+
+public class ParallelTriggerWireSupportTest {
+
+    private final EmitterWireSupport delegate = new EmitterWireSupport();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final ParallelTriggerWireSupport wireSupport = new ParallelTriggerWireSupport(this.delegate,
+            parallelism -> {
+                final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+                this.executors.add(executor);
+                return executor;
+            });
+
+    @After
+    public void tearDown() {
+        this.wireSupport.shutdown();
+        this.executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    public void shouldTriggerWiresConcurrentlyInParallelMode() throws InterruptedException {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final RecordingWire first = new RecordingWire(bothStarted);
+        final RecordingWire second = new RecordingWire(bothStarted);
+
+        givenTriggerMode("PARALLEL", 2);
+        givenConnectedWires(first, second);
+
+        whenEnvelopeIsEmitted();
+
+        thenDeliveryCountIs(first, 1);
+        thenDeliveryCountIs(second, 1);
+        thenDeliveredOnAnotherThread(first);
+        thenDeliveredOnAnotherThread(second);
+    }
+
+    @Test
+    public void shouldRecordEmitMetricsInParallelMode() throws InterruptedException {
+        final RecordingWire wire = new RecordingWire(null);
+
+        givenTriggerMode("PARALLEL", 2);
+        givenConnectedWires(wire);
+
+        whenEnvelopeIsEmitted();
+
+        thenDeliveryCountIs(wire, 1);
+        thenEmittedEnvelopesAre(1);
+        thenEmittedRecordsAre(1);
+    }
+
+    @Test
+    public void shouldDeliverOnCallerThreadInSequentialMode() throws InterruptedException {
+        final RecordingWire wire = new RecordingWire(null);
+
+        givenTriggerMode("SEQUENTIAL", 2);
+        givenConnectedWires(wire);
+
+        whenEnvelopeIsEmitted();
+
+        assertEquals(1, wire.deliveries.get());
+        assertEquals(Thread.currentThread(), wire.lastThread);
+        thenEmittedEnvelopesAre(1);
+    }
+
+    @Test
+    public void shouldSkipWireStillInFlight() throws InterruptedException {
+        final BlockingWire slow = new BlockingWire();
+        final RecordingWire fast = new RecordingWire(null);
+
+        givenTriggerMode("PARALLEL", 2);
+        givenConnectedWires(slow, fast);
+        givenEnvelopeEmitted();
+        givenDeliveryStarted(slow);
+        givenDeliveryCount(fast, 1);
+
+        whenEnvelopeIsEmitted();
+
+        thenDeliveryCountIs(fast, 2);
+        assertEquals(1, slow.deliveries.get());
+        thenEmittedEnvelopesAre(2);
+
+        slow.release();
+        whenDeliveryCompleted(slow);
+        whenEnvelopeIsEmitted();
+
+        thenDeliveryCountIs(slow, 2);
+    }
+
+    @Test
+    public void shouldNotLeaveWireInFlightIfTheExecutorRejectsTheTrigger() throws InterruptedException {
+        final RecordingWire wire = new RecordingWire(null);
+
+        givenTriggerMode("PARALLEL", 1);
+        givenConnectedWires(wire);
+        givenExecutorShutDownConcurrently();
+
+        whenEnvelopeIsEmitted();
+
+        assertEquals(0, wire.deliveries.get());
+
+        givenTriggerMode("PARALLEL", 1);
+        whenEnvelopeIsEmitted();
+
+        thenDeliveryCountIs(wire, 1);
+    }
+
+    @Test
+    public void shouldDeliverOnCallerThreadAfterShutdown() {
+        final RecordingWire wire = new RecordingWire(null);
+
+        givenTriggerMode("PARALLEL", 2);
+        givenConnectedWires(wire);
+        givenShutdown();
+
+        whenEnvelopeIsEmitted();
+
+        assertEquals(1, wire.deliveries.get());
+        assertEquals(Thread.currentThread(), wire.lastThread);
+    }
+
+    @Test
+    public void shouldForwardWireProperties() {
+        final RecordingWire wire = new RecordingWire(null);
+        wire.properties.put("emitter.port", 0);
+
+        givenConnectedWires(wire);
+
+        assertEquals(0, this.delegate.connectedWires.get(0).getProperties().get("emitter.port"));
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenTriggerMode(final String mode, final int parallelism) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("trigger.mode", mode);
+        properties.put("trigger.parallelism", parallelism);
+
+        this.wireSupport.update(new TimerOptions(properties));
+    }
+
+    private void givenConnectedWires(final Wire... wires) {
+        this.wireSupport.consumersConnected(wires);
+    }
+
+    private void givenEnvelopeEmitted() {
+        whenEnvelopeIsEmitted();
+    }
+
+    private void givenDeliveryStarted(final BlockingWire wire) throws InterruptedException {
+        assertTrue(wire.started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void givenDeliveryCount(final RecordingWire wire, final int count) throws InterruptedException {
+        thenDeliveryCountIs(wire, count);
+    }
+
+    private void givenExecutorShutDownConcurrently() {
+        this.executors.get(this.executors.size() - 1).shutdown();
+    }
+
+    private void givenShutdown() {
+        this.wireSupport.shutdown();
+    }
+
+    /*
+     * When
+     */
+
+    private void whenEnvelopeIsEmitted() {
+        this.wireSupport.emit(Collections.singletonList(new WireRecord(Collections.emptyMap())));
+    }
+
+    private void whenDeliveryCompleted(final BlockingWire wire) throws InterruptedException {
+        assertTrue(wire.completed.await(5, TimeUnit.SECONDS));
+        // the wire is removed from the in flight set right after the update returns
+        Thread.sleep(100);
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenDeliveryCountIs(final RecordingWire wire, final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (wire.deliveries.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(count, wire.deliveries.get());
+    }
+
+    private void thenDeliveredOnAnotherThread(final RecordingWire wire) {
+        assertNotEquals(Thread.currentThread(), wire.lastThread);
+    }
+
+    private void thenEmittedEnvelopesAre(final int count) {
+        assertEquals(count, this.delegate.emittedEnvelopes.get());
+    }
+
+    private void thenEmittedRecordsAre(final int count) {
+        assertEquals(count, this.delegate.emittedRecords.get());
+    }
+
+    /*
+     * Utilities
+     */
+
+    /**
+     * Behaves like the emitter side of the Wire Helper Service implementation: counts the emitted envelopes and
+     * updates the connected wires in sequence.
+     */
+    private static final class EmitterWireSupport implements WireSupport {
+
+        private final AtomicInteger emittedEnvelopes = new AtomicInteger();
+        private final AtomicInteger emittedRecords = new AtomicInteger();
+        private volatile List<Wire> connectedWires = Collections.emptyList();
+
+        @Override
+        public void emit(final List<WireRecord> wireRecords) {
+            this.emittedEnvelopes.incrementAndGet();
+            this.emittedRecords.addAndGet(wireRecords.size());
+
+            final WireEnvelope envelope = new WireEnvelope("timer", wireRecords);
+            for (final Wire wire : this.connectedWires) {
+                wire.update(envelope);
+            }
+        }
+
+        @Override
+        public Object polled(final Wire wire) {
+            return null;
+        }
+
+        @Override
+        public void consumersConnected(final Wire[] wires) {
+            final List<Wire> result = new ArrayList<>();
+            Collections.addAll(result, wires);
+            this.connectedWires = result;
+        }
+
+        @Override
+        public void updated(final Wire wire, final Object value) {
+            // not needed
+        }
+
+        @Override
+        public void producersConnected(final Wire[] wires) {
+            // not needed
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static class RecordingWire implements Wire {
+
+        final AtomicInteger deliveries = new AtomicInteger();
+        final Hashtable<String, Object> properties = new Hashtable<>();
+        final CountDownLatch barrier;
+        volatile Thread lastThread;
+
+        RecordingWire(final CountDownLatch barrier) {
+            this.barrier = barrier;
+        }
+
+        @Override
+        public void update(final Object value) {
+            this.lastThread = Thread.currentThread();
+
+            if (this.barrier != null) {
+                // only completes if all wires sharing the barrier are updated concurrently
+                this.barrier.countDown();
+                try {
+                    this.barrier.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            this.deliveries.incrementAndGet();
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public Class[] getFlavors() {
+            return new Class[] { WireEnvelope.class };
+        }
+
+        @Override
+        public Object poll() {
+            return null;
+        }
+
+        @Override
+        public Object getLastValue() {
+            return null;
+        }
+
+        @Override
+        public Dictionary getProperties() {
+            return this.properties;
+        }
+
+        @Override
+        public boolean hasScope(final String name) {
+            return true;
+        }
+
+        @Override
+        public String[] getScope() {
+            return null;
+        }
+    }
+
+    private static final class BlockingWire extends RecordingWire {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingWire() {
+            super(null);
+        }
+
+        @Override
+        public void update(final Object value) {
+            this.deliveries.incrementAndGet();
+            this.started.countDown();
+
+            try {
+                this.released.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.completed.countDown();
+        }
+
+        void release() {
+            this.released.countDown();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TimerOptionsTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    @Test
+    public void shouldUseSequentialTriggerByDefault() {
+        final TimerOptions options = new TimerOptions(this.properties);
+
+        assertFalse(options.isParallelTrigger());
+        assertEquals(4, options.getTriggerParallelism());
+    }
+
+    @Test
+    public void shouldParseParallelTriggerMode() {
+        this.properties.put("trigger.mode", "PARALLEL");
+
+        assertTrue(new TimerOptions(this.properties).isParallelTrigger());
+    }
+
+    @Test
+    public void shouldParseParallelTriggerModeIgnoringCase() {
+        this.properties.put("trigger.mode", "parallel");
+
+        assertTrue(new TimerOptions(this.properties).isParallelTrigger());
+    }
+
+    @Test
+    public void shouldParseSequentialTriggerMode() {
+        this.properties.put("trigger.mode", "SEQUENTIAL");
+
+        assertFalse(new TimerOptions(this.properties).isParallelTrigger());
+    }
+
+    @Test
+    public void shouldIgnoreNonStringTriggerMode() {
+        this.properties.put("trigger.mode", 1);
+
+        assertFalse(new TimerOptions(this.properties).isParallelTrigger());
+    }
+
+    @Test
+    public void shouldParseTriggerParallelism() {
+        this.properties.put("trigger.parallelism", 16);
+
+        assertEquals(16, new TimerOptions(this.properties).getTriggerParallelism());
+    }
+
+    @Test
+    public void shouldUseAtLeastOneThread() {
+        this.properties.put("trigger.parallelism", 0);
+
+        assertEquals(1, new TimerOptions(this.properties).getTriggerParallelism());
+
+        this.properties.put("trigger.parallelism", -3);
+
+        assertEquals(1, new TimerOptions(this.properties).getTriggerParallelism());
+    }
+
+    @Test
+    public void shouldIgnoreNonIntegerTriggerParallelism() {
+        this.properties.put("trigger.parallelism", "8");
+
+        assertEquals(4, new TimerOptions(this.properties).getTriggerParallelism());
+    }
+}
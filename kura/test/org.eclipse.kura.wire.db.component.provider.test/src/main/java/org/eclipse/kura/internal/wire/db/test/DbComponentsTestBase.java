@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -144,6 +148,54 @@ public class DbComponentsTestBase {
         this.testStoreEmitter.emit(collectArgsToMap(args, TypedValue.class::cast));
     }
 
+    protected void givenAnEnvelopeWithRecordsReceivedByStore(final WireRecord... records) {
+        this.testStoreEmitter.emit(Arrays.asList(records));
+    }
+
+    protected void givenStatementExecutedOnDatabase(final String sql) throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        final BaseDbService dbService = getDbService();
+        final Connection connection = dbService.getConnection();
+
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } finally {
+            dbService.close(connection);
+        }
+    }
+
+    /**
+     * Returns the type of the tables and views of the database, by name, as reported by the JDBC metadata.
+     */
+    protected Map<String, String> getTableTypes() throws KuraException, InvalidSyntaxException, InterruptedException,
+            ExecutionException, TimeoutException, SQLException {
+        final BaseDbService dbService = getDbService();
+        final Connection connection = dbService.getConnection();
+        final Map<String, String> result = new HashMap<>();
+
+        try (final ResultSet rsTables = connection.getMetaData().getTables(connection.getCatalog(), null, null,
+                null)) {
+            while (rsTables.next()) {
+                result.put(rsTables.getString("TABLE_NAME"), rsTables.getString("TABLE_TYPE"));
+            }
+        } finally {
+            dbService.close(connection);
+        }
+
+        return result;
+    }
+
+    private BaseDbService getDbService()
+            throws InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        return WireTestUtil
+                .trackService(BaseDbService.class, Optional.of("(kura.service.pid=" + this.dbServicePid + ")"))
+                .get(30, TimeUnit.SECONDS);
+    }
+
     protected void givenStoreWithConfig(final Object... args)
             throws InterruptedException, ExecutionException, TimeoutException, KuraException, InvalidSyntaxException {
         givenComponentWithConfig(this.testStorePid, collectArgsToMap(args, Function.identity()));
@@ -268,6 +320,10 @@ public class DbComponentsTestBase {
         assertEquals(recordCount, this.receivedEnvelopes.get(envelopeIndex).getRecords().size());
     }
 
+    protected WireRecord record(final Object... args) {
+        return new WireRecord(collectArgsToMap(args, TypedValue.class::cast));
+    }
+
     protected <T> Map<String, T> collectArgsToMap(final Object[] args, final Function<Object, T> valueMapper) {
         final Iterator<Object> iter = Arrays.asList(args).iterator();
         final Map<String, T> properties = new HashMap<>();
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.db.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.osgi.framework.InvalidSyntaxException;
+
+@RunWith(Parameterized.class)
+public class PartitionedStoreTest extends DbComponentsTestBase {
+
+    @Test
+    public void shouldQueryRecordsThroughView()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenStoreWithConfig("store.partitioning", partitioning);
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newIntegerValue(1));
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newIntegerValue(2), "bar", TypedValues.newStringValue("a"));
+        givenAnEnvelopeReceivedByStore("bar", TypedValues.newStringValue("b"));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(3);
+        thenFilterEmitsEnvelopeWithProperty(0, 0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithProperty(0, 1, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(0, 1, "bar", TypedValues.newStringValue("a"));
+        thenFilterEmitsEnvelopeWithProperty(0, 2, "bar", TypedValues.newStringValue("b"));
+    }
+
+    @Test
+    public void shouldSupportChangingColumnType()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenStoreWithConfig("store.partitioning", partitioning);
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newIntegerValue(1));
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newStringValue("a"));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(2);
+        thenFilterEmitsEnvelopeWithoutProperty(0, 0, "foo");
+        thenFilterEmitsEnvelopeWithProperty(0, 1, "foo", TypedValues.newStringValue("a"));
+    }
+
+    @Test
+    public void shouldCleanupCurrentPartition()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenStoreWithConfig("store.partitioning", partitioning, "maximum.store.size", 3, "cleanup.records.keep", 2);
+        givenAColumnWithData("foo", 1, 2, 3, 4);
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(2);
+        thenFilterEmitsEnvelopeWithProperty(0, 0, "foo", TypedValues.newIntegerValue(3));
+        thenFilterEmitsEnvelopeWithProperty(0, 1, "foo", TypedValues.newIntegerValue(4));
+    }
+
+    @Test
+    public void shouldDropWholePartitionsOnCleanup() throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        final String oldPartition = tableName + "_P20200101";
+
+        givenStoreWithConfig("store.partitioning", partitioning);
+        givenAColumnWithData("foo", 1, 2);
+        givenStatementExecutedOnDatabase(
+                "CREATE TABLE \"" + oldPartition + "\" AS SELECT * FROM \"" + tableName + "\";");
+        givenStoreWithConfig("store.partitioning", partitioning, "maximum.store.size", 5, "cleanup.records.keep", 4);
+        givenAColumnWithData("foo", 3);
+        givenPerformedQuery("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        givenAColumnWithData("foo", 4);
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEnvelopeRecordCountIs(0, 5);
+        thenEnvelopeRecordCountIs(1, 4);
+        thenFilterEmitsEnvelopeWithProperty(1, 0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithProperty(1, 1, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(1, 2, "foo", TypedValues.newIntegerValue(3));
+        thenFilterEmitsEnvelopeWithProperty(1, 3, "foo", TypedValues.newIntegerValue(4));
+        thenTableDoesNotExist(oldPartition);
+        thenTableIsView(tableName);
+    }
+
+    @Test
+    public void shouldAdoptExistingTableWhenPartitioningIsEnabled() throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        givenAColumnWithData("foo", 1, 2);
+        givenStoreWithConfig("store.partitioning", partitioning);
+        givenAColumnWithData("foo", 3);
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(3);
+        thenFilterEmitsEnvelopeWithProperty(0, 0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithProperty(0, 1, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(0, 2, "foo", TypedValues.newIntegerValue(3));
+        thenTableIsView(tableName);
+        thenPartitionTableExists();
+    }
+
+    private void thenTableIsView(final String name) throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        final String type = getTableTypes().get(name);
+
+        assertTrue("expected " + name + " to be a view, found " + type, type != null && type.contains("VIEW"));
+    }
+
+    private void thenTableDoesNotExist(final String name) throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        assertFalse(getTableTypes().containsKey(name));
+    }
+
+    private void thenPartitionTableExists() throws KuraException, InvalidSyntaxException, InterruptedException,
+            ExecutionException, TimeoutException, SQLException {
+        final Map<String, String> tableTypes = getTableTypes();
+
+        assertTrue(tableTypes.keySet().stream().anyMatch(name -> name.startsWith(tableName + "_P")
+                && !tableTypes.get(name).contains("VIEW")));
+    }
+
+    private final String partitioning;
+
+    public PartitionedStoreTest(WireComponentTestTarget wireComponentTestTarget, StoreTestTarget storeTestTarget,
+            final String partitioning)
+            throws InterruptedException, ExecutionException, TimeoutException, KuraException, InvalidSyntaxException {
+        super(wireComponentTestTarget, storeTestTarget);
+        this.partitioning = partitioning;
+    }
+
+    @Parameters(name = "{0} with {1} : {2} partitioning")
+    public static List<Object[]> parameters() {
+        final List<StoreTestTarget> storeTestTargets = Arrays.asList(StoreTestTarget.SQLITE, StoreTestTarget.H2);
+
+        final List<Object[]> result = new ArrayList<>();
+
+        for (final StoreTestTarget st : storeTestTargets) {
+            for (final String partitioning : Arrays.asList("HOURLY", "DAILY")) {
+                result.add(new Object[] { WireComponentTestTarget.WIRE_RECORD_QUERY_AND_WIRE_RECORD_STORE, st,
+                        partitioning });
+            }
+        }
+
+        return result;
+    }
+
+}
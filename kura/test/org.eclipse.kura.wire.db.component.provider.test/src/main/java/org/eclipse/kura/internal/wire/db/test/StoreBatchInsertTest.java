@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.db.test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.ColumnarWireRecord;
+import org.eclipse.kura.wire.ColumnarWireRecord.ColumnarWireRecordBuilder;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.osgi.framework.InvalidSyntaxException;
+
+@RunWith(Parameterized.class)
+public class StoreBatchInsertTest extends DbComponentsTestBase {
+
+    @Test
+    public void shouldStoreRecordsWithDifferentShapesInTheSameEnvelope()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                record("foo", TypedValues.newIntegerValue(1)), //
+                record("bar", TypedValues.newStringValue("a")), //
+                record("foo", TypedValues.newIntegerValue(2), "bar", TypedValues.newStringValue("b")), //
+                record("foo", TypedValues.newIntegerValue(3)));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(4);
+        thenFilterEmitsEnvelopeWithProperty(0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 0, "bar");
+        thenFilterEmitsEnvelopeWithProperty(1, "bar", TypedValues.newStringValue("a"));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 1, "foo");
+        thenFilterEmitsEnvelopeWithProperty(2, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(2, "bar", TypedValues.newStringValue("b"));
+        thenFilterEmitsEnvelopeWithProperty(3, "foo", TypedValues.newIntegerValue(3));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 3, "bar");
+    }
+
+    @Test
+    public void shouldInvalidateCachedShapeWhenColumnTypeChanges()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newIntegerValue(1));
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                record("foo", TypedValues.newStringValue("a")), //
+                record("foo", TypedValues.newIntegerValue(2)));
+        givenAnEnvelopeReceivedByStore("foo", TypedValues.newIntegerValue(3));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(4);
+        thenFilterEmitsEnvelopeWithoutProperty(0, 0, "foo");
+        thenFilterEmitsEnvelopeWithoutProperty(0, 1, "foo");
+        thenFilterEmitsEnvelopeWithProperty(2, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(3, "foo", TypedValues.newIntegerValue(3));
+    }
+
+    @Test
+    public void shouldRetryWholeBatchAfterReconcilingTheTable() throws KuraException,
+            InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException, SQLException {
+        givenAnEnvelopeReceivedByStore("baz", TypedValues.newIntegerValue(1));
+        givenStatementExecutedOnDatabase("ALTER TABLE \"" + tableName + "\" DROP COLUMN \"baz\";");
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                record("foo", TypedValues.newIntegerValue(2)), //
+                record("bar", TypedValues.newStringValue("a")), //
+                record("baz", TypedValues.newIntegerValue(3)));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(4);
+        thenFilterEmitsEnvelopeWithoutProperty(0, 0, "baz");
+        thenFilterEmitsEnvelopeWithProperty(1, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithProperty(2, "bar", TypedValues.newStringValue("a"));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 2, "foo");
+        thenFilterEmitsEnvelopeWithProperty(3, "baz", TypedValues.newIntegerValue(3));
+    }
+
+    @Test
+    public void shouldRollbackBatchOnFailure() throws KuraException, InvalidSyntaxException, InterruptedException,
+            ExecutionException, TimeoutException, SQLException {
+        givenAColumnWithData("foo", 1);
+        givenStatementExecutedOnDatabase(
+                "CREATE UNIQUE INDEX \"" + tableName + "_foo\" ON \"" + tableName + "\" (\"foo\");");
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                record("foo", TypedValues.newIntegerValue(2)), //
+                record("foo", TypedValues.newIntegerValue(3)), //
+                record("foo", TypedValues.newIntegerValue(1)), //
+                record("foo", TypedValues.newIntegerValue(4)));
+        givenAColumnWithData("foo", 5);
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(2);
+        thenFilterEmitsEnvelopeWithProperty(0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithProperty(1, "foo", TypedValues.newIntegerValue(5));
+    }
+
+    @Test
+    public void shouldNotStorePartOfAMixedShapeBatchOnFailure() throws KuraException, InvalidSyntaxException,
+            InterruptedException, ExecutionException, TimeoutException, SQLException {
+        givenAColumnWithData("foo", 1);
+        givenStatementExecutedOnDatabase(
+                "CREATE UNIQUE INDEX \"" + tableName + "_foo\" ON \"" + tableName + "\" (\"foo\");");
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                record("foo", TypedValues.newIntegerValue(2)), //
+                record("bar", TypedValues.newStringValue("a")), //
+                record("foo", TypedValues.newIntegerValue(1)));
+        givenAColumnWithData("foo", 5);
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(2);
+        thenFilterEmitsEnvelopeWithProperty(0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 0, "bar");
+        thenFilterEmitsEnvelopeWithProperty(1, "foo", TypedValues.newIntegerValue(5));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 1, "bar");
+    }
+
+    @Test
+    public void shouldStoreColumnarRecords()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        final ColumnarWireRecordBuilder builder = ColumnarWireRecord.builder(WireRecordSchema.builder() //
+                .withColumn("foo", DataType.INTEGER) //
+                .withColumn("bar", DataType.STRING) //
+                .withColumn("baz", DataType.DOUBLE) //
+                .withColumn("qux", DataType.BOOLEAN) //
+                .build());
+
+        givenAnEnvelopeWithRecordsReceivedByStore( //
+                builder.setInteger(0, 1).setString(1, "a").setDouble(2, 1.5).setBoolean(3, true).build(), //
+                builder.setInteger(0, 2).setDouble(2, 2.5).build(), //
+                record("foo", TypedValues.newIntegerValue(3)), //
+                builder.setInteger(0, 4).setString(1, "b").setDouble(2, 4.5).setBoolean(3, false).build());
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(4);
+        thenFilterEmitsEnvelopeWithProperty(0, "foo", TypedValues.newIntegerValue(1));
+        thenFilterEmitsEnvelopeWithProperty(0, "bar", TypedValues.newStringValue("a"));
+        thenFilterEmitsEnvelopeWithProperty(0, "baz", TypedValues.newDoubleValue(1.5));
+        thenFilterEmitsEnvelopeWithProperty(0, "qux", TypedValues.newBooleanValue(true));
+        thenFilterEmitsEnvelopeWithProperty(1, "foo", TypedValues.newIntegerValue(2));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 1, "bar");
+        thenFilterEmitsEnvelopeWithProperty(1, "baz", TypedValues.newDoubleValue(2.5));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 1, "qux");
+        thenFilterEmitsEnvelopeWithProperty(2, "foo", TypedValues.newIntegerValue(3));
+        thenFilterEmitsEnvelopeWithoutProperty(0, 2, "baz");
+        thenFilterEmitsEnvelopeWithProperty(3, "foo", TypedValues.newIntegerValue(4));
+        thenFilterEmitsEnvelopeWithProperty(3, "bar", TypedValues.newStringValue("b"));
+        thenFilterEmitsEnvelopeWithProperty(3, "baz", TypedValues.newDoubleValue(4.5));
+        thenFilterEmitsEnvelopeWithProperty(3, "qux", TypedValues.newBooleanValue(false));
+    }
+
+    public StoreBatchInsertTest(WireComponentTestTarget wireComponentTestTarget, StoreTestTarget storeTestTarget)
+            throws InterruptedException, ExecutionException, TimeoutException, KuraException, InvalidSyntaxException {
+        super(wireComponentTestTarget, storeTestTarget);
+    }
+
+    @Parameters(name = "{0} with {1}")
+    public static List<Object[]> parameters() {
+        final List<Object[]> result = new ArrayList<>();
+
+        for (final StoreTestTarget st : Arrays.asList(StoreTestTarget.SQLITE, StoreTestTarget.H2)) {
+            result.add(new Object[] { WireComponentTestTarget.WIRE_RECORD_QUERY_AND_WIRE_RECORD_STORE, st });
+        }
+
+        return result;
+    }
+
+}
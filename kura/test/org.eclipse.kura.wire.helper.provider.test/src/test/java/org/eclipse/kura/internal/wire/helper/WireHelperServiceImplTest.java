@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireReceiver;
+import org.eclipse.kura.wire.graph.Constants;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+
+public class WireHelperServiceImplTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final BundleContext bundleContext = mock(BundleContext.class);
+    private final Map<String, Object> properties = new HashMap<>();
+    private final WireHelperServiceImpl wireHelperService = new WireHelperServiceImpl();
+
+    private ServiceReference<WireComponent> wireComponentRef;
+    private ServiceListener serviceListener;
+    private WireSupportImpl wireSupport;
+    private WireSupportImpl previousWireSupport;
+
+    @After
+    public void cleanUp() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldCreateDispatcherFromServiceProperties() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenServiceProperty(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+
+        whenWireSupportIsCreated();
+
+        thenDispatchIsAsynchronous();
+    }
+
+    @Test
+    public void shouldSwitchToAsyncDispatchWhenServicePropertiesChange() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenWireSupport();
+
+        whenServicePropertyIsModified(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+
+        thenDispatchIsAsynchronous();
+    }
+
+    @Test
+    public void shouldSwitchBackToSyncDispatchWhenServicePropertiesChange() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenServiceProperty(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+        givenWireSupport();
+
+        whenServicePropertyIsModified(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "SYNC");
+
+        thenDispatchIsSynchronous();
+    }
+
+    @Test
+    public void shouldIgnoreChangesOfOtherWireComponents() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenWireSupport();
+
+        whenOtherComponentIsModified(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+
+        thenDispatchIsSynchronous();
+    }
+
+    @Test
+    public void shouldCloseWireSupportWhenComponentIsUnregistered() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenServiceProperty(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+        givenWireSupport();
+
+        whenServiceIsUnregistered();
+
+        thenDispatcherIsClosed();
+    }
+
+    @Test
+    public void shouldCloseReplacedWireSupport() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenServiceProperty(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+        givenWireSupport();
+        givenPreviousWireSupport();
+
+        whenWireSupportIsCreated();
+
+        thenPreviousDispatcherIsClosed();
+        thenDispatcherIsOpen();
+    }
+
+    @Test
+    public void shouldCloseWireSupportsOnDeactivation() throws InvalidSyntaxException {
+        givenActivatedWireHelperService();
+        givenServiceProperty(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "ASYNC");
+        givenWireSupport();
+
+        whenWireHelperServiceIsDeactivated();
+
+        thenDispatcherIsClosed();
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenActivatedWireHelperService() throws InvalidSyntaxException {
+        this.wireHelperService.activate(this.bundleContext, this.executor);
+
+        final ArgumentCaptor<ServiceListener> captor = ArgumentCaptor.forClass(ServiceListener.class);
+        verify(this.bundleContext).addServiceListener(captor.capture(), anyString());
+        this.serviceListener = captor.getValue();
+
+        this.wireComponentRef = serviceReference(this.properties, "test");
+    }
+
+    private void givenServiceProperty(final String key, final Object value) {
+        this.properties.put(key, value);
+    }
+
+    private void givenWireSupport() {
+        whenWireSupportIsCreated();
+    }
+
+    private void givenPreviousWireSupport() {
+        this.previousWireSupport = this.wireSupport;
+    }
+
+    private void whenWireSupportIsCreated() {
+        this.wireSupport = (WireSupportImpl) this.wireHelperService.newWireSupport(mock(WireReceiver.class),
+                this.wireComponentRef);
+    }
+
+    private void whenServicePropertyIsModified(final String key, final Object value) {
+        this.properties.put(key, value);
+        this.serviceListener.serviceChanged(new ServiceEvent(ServiceEvent.MODIFIED, this.wireComponentRef));
+    }
+
+    private void whenOtherComponentIsModified(final String key, final Object value) {
+        final Map<String, Object> otherProperties = new HashMap<>();
+        otherProperties.put(key, value);
+
+        this.serviceListener
+                .serviceChanged(new ServiceEvent(ServiceEvent.MODIFIED, serviceReference(otherProperties, "other")));
+    }
+
+    private void whenServiceIsUnregistered() {
+        this.serviceListener.serviceChanged(new ServiceEvent(ServiceEvent.UNREGISTERING, this.wireComponentRef));
+    }
+
+    private void whenWireHelperServiceIsDeactivated() {
+        this.wireHelperService.deactivate();
+    }
+
+    private void thenDispatcherIsClosed() {
+        assertTrue(this.wireSupport.getDispatcher().get().isClosed());
+    }
+
+    private void thenDispatcherIsOpen() {
+        assertFalse(this.wireSupport.getDispatcher().get().isClosed());
+    }
+
+    private void thenPreviousDispatcherIsClosed() {
+        assertTrue(this.previousWireSupport.getDispatcher().get().isClosed());
+    }
+
+    private void thenDispatchIsAsynchronous() {
+        assertTrue(this.wireSupport.getDispatcher().isPresent());
+    }
+
+    private void thenDispatchIsSynchronous() {
+        assertFalse(this.wireSupport.getDispatcher().isPresent());
+    }
+
+    /*
+     * Utilities
+     */
+
+    @SuppressWarnings("unchecked")
+    private static ServiceReference<WireComponent> serviceReference(final Map<String, Object> properties,
+            final String pid) {
+        properties.put(org.osgi.framework.Constants.SERVICE_PID, pid);
+        properties.put(ConfigurationService.KURA_SERVICE_PID, pid);
+
+        final ServiceReference<WireComponent> result = mock(ServiceReference.class);
+        when(result.getProperty(any())).thenAnswer(i -> properties.get(i.getArgument(0)));
+        return result;
+    }
+}
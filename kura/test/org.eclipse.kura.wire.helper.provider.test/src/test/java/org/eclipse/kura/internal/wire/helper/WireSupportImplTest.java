@@ -0,0 +1,642 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.kura.internal.wire.helper.WireDispatchOptions.DispatchMode;
+import org.eclipse.kura.internal.wire.helper.WireDispatchOptions.OverflowPolicy;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireReceiver;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.graph.Constants;
+import org.eclipse.kura.wire.graph.WireComponentMetrics;
+import org.eclipse.kura.wire.graph.WireDispatchMetrics;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.service.wireadmin.Wire;
+
+public class WireSupportImplTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> receivedEnvelopes = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> receiverThreads = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch receiverStarted = new CountDownLatch(1);
+    private final CountDownLatch receiverUnblocked = new CountDownLatch(1);
+    private final Map<String, Wire> wires = new HashMap<>();
+
+    private WireDispatchOptions dispatchOptions;
+    private WireSupportImpl wireSupport;
+    private WireComponentMetrics metrics;
+    private AsyncWireDispatcher previousDispatcher;
+    private volatile boolean receiverBlocked;
+    private volatile boolean receiverFailing;
+    private CompletableFuture<Void> emitterTask;
+
+    @After
+    public void cleanUp() {
+        this.receiverUnblocked.countDown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldDefaultToSynchronousDispatch() {
+        givenDispatchOptions(Collections.emptyMap());
+
+        thenDispatchModeIs(DispatchMode.SYNC);
+    }
+
+    @Test
+    public void shouldParseDispatchOptions() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(Constants.WIRE_DISPATCH_MODE_PROP_NAME.value(), "async");
+        properties.put(Constants.WIRE_DISPATCH_QUEUE_CAPACITY_PROP_NAME.value(), 10);
+        properties.put(Constants.WIRE_DISPATCH_OVERFLOW_POLICY_PROP_NAME.value(), "DROP_OLDEST");
+
+        givenDispatchOptions(properties);
+
+        thenDispatchModeIs(DispatchMode.ASYNC);
+        thenQueueCapacityIs(10);
+        thenOverflowPolicyIs(OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test
+    public void shouldDeliverOnCallerThreadInSyncMode() {
+        givenWireSupport(WireDispatchOptions.SYNC);
+
+        whenEnvelopeIsReceived("w1", "e1");
+
+        thenEnvelopesAreDelivered("e1");
+        thenDeliveryThreadIs(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldDeliverOnDispatcherThreadInAsyncMode() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+
+        whenEnvelopeIsReceived("w1", "e1");
+
+        thenEnvelopesAreEventuallyDelivered("e1");
+        thenDeliveryThreadIsNot(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldPreserveEnvelopeOrderInAsyncMode() throws InterruptedException {
+        givenWireSupport(asyncOptions(100, OverflowPolicy.BLOCK));
+
+        whenEnvelopeIsReceived("w1", "e1");
+        whenEnvelopeIsReceived("w2", "e2");
+        whenEnvelopeIsReceived("w1", "e3");
+        whenEnvelopeIsReceived("w2", "e4");
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e2", "e3", "e4");
+    }
+
+    @Test
+    public void shouldDropNewestEnvelopesWhenQueueIsFull() throws InterruptedException {
+        givenWireSupport(asyncOptions(2, OverflowPolicy.DROP_NEWEST));
+        givenBlockedReceiver("w1", "e1");
+
+        whenEnvelopeIsReceived("w1", "e2");
+        whenEnvelopeIsReceived("w1", "e3");
+        whenEnvelopeIsReceived("w1", "e4");
+        whenReceiverIsUnblocked();
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e2", "e3");
+        thenDroppedCountIs(1);
+    }
+
+    @Test
+    public void shouldDropOldestEnvelopesWhenQueueIsFull() throws InterruptedException {
+        givenWireSupport(asyncOptions(2, OverflowPolicy.DROP_OLDEST));
+        givenBlockedReceiver("w1", "e1");
+
+        whenEnvelopeIsReceived("w1", "e2");
+        whenEnvelopeIsReceived("w1", "e3");
+        whenEnvelopeIsReceived("w1", "e4");
+        whenReceiverIsUnblocked();
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e3", "e4");
+        thenDroppedCountIs(1);
+    }
+
+    @Test
+    public void shouldBlockEmitterWhenQueueIsFull() throws InterruptedException {
+        givenWireSupport(asyncOptions(1, OverflowPolicy.BLOCK));
+        givenBlockedReceiver("w1", "e1");
+        givenEnvelopeIsReceived("w1", "e2");
+
+        whenEnvelopeIsReceivedInBackground("w1", "e3");
+
+        thenEmitterIsBlocked();
+
+        whenReceiverIsUnblocked();
+
+        thenEmitterIsEventuallyUnblocked();
+        thenEnvelopesAreEventuallyDelivered("e1", "e2", "e3");
+        thenDroppedCountIs(0);
+    }
+
+    @Test
+    public void shouldTrackQueueDepthPerWire() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenBlockedReceiver("w1", "e1");
+
+        whenEnvelopeIsReceived("w1", "e2");
+        whenEnvelopeIsReceived("w2", "e3");
+        whenEnvelopeIsReceived("w2", "e4");
+
+        thenQueueDepthIs(3);
+        thenQueueDepthIs("w1", 1);
+        thenQueueDepthIs("w2", 2);
+
+        whenReceiverIsUnblocked();
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e2", "e3", "e4");
+        thenQueueDepthIs(0);
+        thenQueueDepthIs("w1", 0);
+        thenQueueDepthIs("w2", 0);
+    }
+
+    @Test
+    public void shouldKeepDispatchingAfterReceiverFailure() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenFailingReceiver();
+
+        whenEnvelopeIsReceived("w1", "e1");
+        whenEnvelopeIsReceived("w1", "e2");
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e2");
+    }
+
+    @Test
+    public void shouldSwitchToAsyncDispatchWhenOptionsAreUpdated() throws InterruptedException {
+        givenWireSupport(WireDispatchOptions.SYNC);
+
+        whenDispatchOptionsAreUpdated(asyncOptions(10, OverflowPolicy.BLOCK));
+        whenEnvelopeIsReceived("w1", "e1");
+
+        thenEnvelopesAreEventuallyDelivered("e1");
+        thenDeliveryThreadIsNot(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldDeliverQueuedEnvelopesAfterSwitchingToSyncDispatch() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenBlockedReceiver("w1", "e1");
+        givenEnvelopeIsReceived("w1", "e2");
+
+        whenDispatchOptionsAreUpdated(WireDispatchOptions.SYNC);
+        whenReceiverIsUnblocked();
+
+        thenEnvelopesAreEventuallyDelivered("e1", "e2");
+        thenNoDispatcherIsUsed();
+    }
+
+    @Test
+    public void shouldKeepDispatcherIfOptionsAreUnchanged() {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenCurrentDispatcher();
+
+        whenDispatchOptionsAreUpdated(asyncOptions(10, OverflowPolicy.BLOCK));
+
+        thenDispatcherIsUnchanged();
+    }
+
+    @Test
+    public void shouldDiscardPendingEnvelopesWhenClosed() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenBlockedReceiver("w1", "e1");
+        givenEnvelopeIsReceived("w1", "e2");
+        givenEnvelopeIsReceived("w2", "e3");
+
+        whenWireSupportIsClosed();
+        whenReceiverIsUnblocked();
+
+        thenEnvelopesAreEventuallyDelivered("e1");
+        thenQueueDepthIs(0);
+        thenDispatcherIsClosed();
+    }
+
+    @Test
+    public void shouldIgnoreEnvelopesReceivedAfterClose() throws InterruptedException {
+        givenWireSupport(asyncOptions(10, OverflowPolicy.BLOCK));
+        givenWireSupportIsClosed();
+
+        whenEnvelopeIsReceived("w1", "e1");
+
+        thenQueueDepthIs(0);
+        thenNoEnvelopesAreDelivered();
+    }
+
+    @Test
+    public void shouldCollectReceiveMetrics() {
+        givenWireSupport(WireDispatchOptions.SYNC);
+
+        whenEnvelopeIsReceived("w1", "e1", 3);
+        whenEnvelopeIsReceived("w2", "e2", 1);
+
+        thenMetricsAreCollected();
+        thenEnvelopesReceivedIs(2);
+        thenRecordsReceivedIs(4);
+        thenErrorsAre(0);
+        thenProcessingTimeSampleCountIs(2);
+        thenNoWireDispatchMetricsAreReported();
+    }
+
+    @Test
+    public void shouldCountReceiverErrors() {
+        givenWireSupport(WireDispatchOptions.SYNC);
+        givenFailingReceiver();
+
+        whenEnvelopeIsReceivedIgnoringErrors("w1", "e1");
+        whenEnvelopeIsReceivedIgnoringErrors("w1", "e2");
+
+        thenMetricsAreCollected();
+        thenEnvelopesReceivedIs(2);
+        thenErrorsAre(2);
+    }
+
+    @Test
+    public void shouldCollectEmitMetrics() {
+        givenEmitterWireSupport();
+
+        whenRecordsAreEmitted(5);
+        whenRecordsAreEmitted(1);
+
+        thenMetricsAreCollected();
+        thenEnvelopesEmittedIs(2);
+        thenRecordsEmittedIs(6);
+    }
+
+    @Test
+    public void shouldReportDroppedEnvelopesAndQueueDepth() throws InterruptedException {
+        givenWireSupport(asyncOptions(1, OverflowPolicy.DROP_NEWEST));
+        givenBlockedReceiver("w1", "e1");
+
+        whenEnvelopeIsReceived("w1", "e2");
+        whenEnvelopeIsReceived("w1", "e3");
+
+        thenMetricsAreCollected();
+        thenQueueDepthMetricIs(1);
+        thenEnvelopesDroppedIs(1);
+    }
+
+    @Test
+    public void shouldReportDispatchMetricsPerWire() throws InterruptedException {
+        givenWireSupport(asyncOptions(1, OverflowPolicy.DROP_NEWEST));
+        givenBlockedReceiver("w1", "e1");
+
+        whenEnvelopeIsReceived("w1", "e2");
+        whenEnvelopeIsReceived("w2", "e3");
+        whenEnvelopeIsReceived("w2", "e4");
+
+        thenMetricsAreCollected();
+        thenEnvelopesDroppedIs(2);
+        thenWireDispatchMetricsAre("w1", 1, 0);
+        thenWireDispatchMetricsAre("w2", 0, 2);
+    }
+
+    @Test
+    public void shouldResetPerWireDroppedCount() throws InterruptedException {
+        givenWireSupport(asyncOptions(1, OverflowPolicy.DROP_NEWEST));
+        givenBlockedReceiver("w1", "e1");
+        givenEnvelopeIsReceived("w1", "e2");
+        givenEnvelopeIsReceived("w2", "e3");
+
+        whenMetricsAreReset();
+
+        thenMetricsAreCollected();
+        thenEnvelopesDroppedIs(0);
+        thenWireDispatchMetricsAre("w1", 1, 0);
+        thenWireDispatchMetricsAre("w2", 0, 0);
+    }
+
+    @Test
+    public void shouldResetMetrics() {
+        givenWireSupport(WireDispatchOptions.SYNC);
+        givenEnvelopeIsReceived("w1", "e1");
+
+        whenMetricsAreReset();
+
+        thenMetricsAreCollected();
+        thenEnvelopesReceivedIs(0);
+        thenRecordsReceivedIs(0);
+        thenProcessingTimeSampleCountIs(0);
+    }
+
+    /*
+     * Steps
+     */
+
+    private void givenDispatchOptions(final Map<String, Object> properties) {
+        this.dispatchOptions = WireDispatchOptions.fromProperties(properties::get);
+    }
+
+    private void givenWireSupport(final WireDispatchOptions options) {
+        final WireReceiver receiver = mock(WireReceiver.class);
+
+        doAnswer(i -> {
+            final WireEnvelope envelope = i.getArgument(0);
+            this.receiverThreads.add(Thread.currentThread());
+
+            if (this.receiverBlocked) {
+                this.receiverStarted.countDown();
+                this.receiverUnblocked.await();
+            }
+
+            this.receivedEnvelopes.add(envelope.getEmitterPid());
+
+            if (this.receiverFailing) {
+                throw new IllegalStateException("failure");
+            }
+            return null;
+        }).when(receiver).onWireReceive(any());
+
+        this.wireSupport = new WireSupportImpl(receiver, "receiver", "receiver", 1, 0, options, this.executor);
+        this.wireSupport.producersConnected(new Wire[] { wire("w1"), wire("w2") });
+    }
+
+    private void givenEmitterWireSupport() {
+        final Wire wire = mock(Wire.class);
+        final Dictionary<String, Object> properties = new Hashtable<>();
+        properties.put(Constants.WIRE_EMITTER_PORT_PROP_NAME.value(), 0);
+        when(wire.getProperties()).thenReturn(properties);
+
+        this.wireSupport = new WireSupportImpl(mock(WireEmitter.class), "emitter", "emitter", 0, 1,
+                WireDispatchOptions.SYNC, this.executor);
+        this.wireSupport.consumersConnected(new Wire[] { wire });
+    }
+
+    private void givenBlockedReceiver(final String wireName, final String envelopeName) throws InterruptedException {
+        this.receiverBlocked = true;
+
+        whenEnvelopeIsReceived(wireName, envelopeName);
+
+        if (!this.receiverStarted.await(10, TimeUnit.SECONDS)) {
+            fail("Receiver not invoked");
+        }
+    }
+
+    private void givenCurrentDispatcher() {
+        this.previousDispatcher = this.wireSupport.getDispatcher().get();
+    }
+
+    private void givenWireSupportIsClosed() {
+        whenWireSupportIsClosed();
+    }
+
+    private void givenFailingReceiver() {
+        this.receiverFailing = true;
+    }
+
+    private void givenEnvelopeIsReceived(final String wireName, final String envelopeName) {
+        whenEnvelopeIsReceived(wireName, envelopeName);
+    }
+
+    private void whenEnvelopeIsReceived(final String wireName, final String envelopeName) {
+        whenEnvelopeIsReceived(wireName, envelopeName, 0);
+    }
+
+    private void whenEnvelopeIsReceived(final String wireName, final String envelopeName, final int recordCount) {
+        this.wireSupport.updated(wire(wireName), new WireEnvelope(envelopeName, records(recordCount)));
+    }
+
+    private void whenEnvelopeIsReceivedIgnoringErrors(final String wireName, final String envelopeName) {
+        try {
+            whenEnvelopeIsReceived(wireName, envelopeName);
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private void whenRecordsAreEmitted(final int recordCount) {
+        this.wireSupport.emit(records(recordCount));
+    }
+
+    private void whenDispatchOptionsAreUpdated(final WireDispatchOptions options) {
+        this.wireSupport.updateDispatchOptions(options);
+    }
+
+    private void whenWireSupportIsClosed() {
+        this.wireSupport.close();
+    }
+
+    private void whenMetricsAreReset() {
+        this.wireSupport.resetMetrics();
+    }
+
+    private void whenEnvelopeIsReceivedInBackground(final String wireName, final String envelopeName) {
+        this.emitterTask = CompletableFuture.runAsync(() -> whenEnvelopeIsReceived(wireName, envelopeName));
+    }
+
+    private void whenReceiverIsUnblocked() {
+        this.receiverUnblocked.countDown();
+    }
+
+    private void thenMetricsAreCollected() {
+        this.metrics = this.wireSupport.getMetrics();
+    }
+
+    private void thenEnvelopesReceivedIs(final long expected) {
+        assertEquals(expected, this.metrics.getEnvelopesReceived());
+    }
+
+    private void thenRecordsReceivedIs(final long expected) {
+        assertEquals(expected, this.metrics.getRecordsReceived());
+    }
+
+    private void thenEnvelopesEmittedIs(final long expected) {
+        assertEquals(expected, this.metrics.getEnvelopesEmitted());
+    }
+
+    private void thenRecordsEmittedIs(final long expected) {
+        assertEquals(expected, this.metrics.getRecordsEmitted());
+    }
+
+    private void thenErrorsAre(final long expected) {
+        assertEquals(expected, this.metrics.getErrors());
+    }
+
+    private void thenEnvelopesDroppedIs(final long expected) {
+        assertEquals(expected, this.metrics.getEnvelopesDropped());
+    }
+
+    private void thenQueueDepthMetricIs(final int expected) {
+        assertEquals(expected, this.metrics.getQueueDepth());
+    }
+
+    private void thenWireDispatchMetricsAre(final String wireName, final int queueDepth,
+            final long envelopesDropped) {
+        final WireDispatchMetrics wireMetrics = this.metrics.getWireDispatchMetrics().stream()
+                .filter(m -> wireName.equals(m.getEmitterPid())).findAny()
+                .orElseThrow(() -> new AssertionError("No metrics for wire " + wireName));
+
+        assertEquals(0, wireMetrics.getEmitterPort());
+        assertEquals(0, wireMetrics.getReceiverPort());
+        assertEquals(queueDepth, wireMetrics.getQueueDepth());
+        assertEquals(envelopesDropped, wireMetrics.getEnvelopesDropped());
+    }
+
+    private void thenNoWireDispatchMetricsAreReported() {
+        assertTrue(this.metrics.getWireDispatchMetrics().isEmpty());
+    }
+
+    private void thenProcessingTimeSampleCountIs(final long expected) {
+        assertEquals(expected, this.metrics.getProcessingTime().getCount());
+    }
+
+    private void thenDispatchModeIs(final DispatchMode expected) {
+        assertEquals(expected, this.dispatchOptions.getDispatchMode());
+    }
+
+    private void thenQueueCapacityIs(final int expected) {
+        assertEquals(expected, this.dispatchOptions.getQueueCapacity());
+    }
+
+    private void thenOverflowPolicyIs(final OverflowPolicy expected) {
+        assertEquals(expected, this.dispatchOptions.getOverflowPolicy());
+    }
+
+    private void thenEnvelopesAreDelivered(final String... expected) {
+        assertEquals(listOf(expected), this.receivedEnvelopes);
+    }
+
+    private void thenEnvelopesAreEventuallyDelivered(final String... expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (this.receivedEnvelopes.size() < expected.length && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        thenEnvelopesAreDelivered(expected);
+    }
+
+    private void thenDeliveryThreadIs(final Thread expected) {
+        assertTrue(this.receiverThreads.stream().allMatch(t -> t == expected));
+    }
+
+    private void thenDeliveryThreadIsNot(final Thread expected) {
+        assertFalse(this.receiverThreads.isEmpty());
+        this.receiverThreads.forEach(t -> assertNotEquals(expected, t));
+    }
+
+    private void thenDroppedCountIs(final long expected) {
+        assertEquals(expected, this.wireSupport.getDispatcher().get().getDroppedCount());
+    }
+
+    private void thenNoEnvelopesAreDelivered() throws InterruptedException {
+        Thread.sleep(100);
+        assertTrue(this.receivedEnvelopes.isEmpty());
+    }
+
+    private void thenDispatcherIsClosed() {
+        assertTrue(this.wireSupport.getDispatcher().get().isClosed());
+    }
+
+    private void thenNoDispatcherIsUsed() {
+        assertFalse(this.wireSupport.getDispatcher().isPresent());
+    }
+
+    private void thenDispatcherIsUnchanged() {
+        assertSame(this.previousDispatcher, this.wireSupport.getDispatcher().get());
+    }
+
+    private void thenQueueDepthIs(final int expected) {
+        assertEquals(expected, this.wireSupport.getDispatcher().get().getQueueDepth());
+    }
+
+    private void thenQueueDepthIs(final String wireName, final int expected) {
+        assertEquals(expected, this.wireSupport.getDispatcher().get().getQueueDepth(wire(wireName)));
+    }
+
+    private void thenEmitterIsBlocked() throws InterruptedException {
+        try {
+            this.emitterTask.get(500, TimeUnit.MILLISECONDS);
+            fail("Emitter should be blocked");
+        } catch (final TimeoutException e) {
+            // expected
+        } catch (final Exception e) {
+            fail("Unexpected exception");
+        }
+    }
+
+    private void thenEmitterIsEventuallyUnblocked() {
+        try {
+            this.emitterTask.get(10, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            fail("Emitter should be unblocked");
+        }
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static WireDispatchOptions asyncOptions(final int queueCapacity, final OverflowPolicy overflowPolicy) {
+        return new WireDispatchOptions(DispatchMode.ASYNC, queueCapacity, overflowPolicy);
+    }
+
+    private Wire wire(final String name) {
+        return this.wires.computeIfAbsent(name, n -> {
+            final Wire result = mock(Wire.class);
+            final Dictionary<String, Object> properties = new Hashtable<>();
+            properties.put(Constants.WIRE_RECEIVER_PORT_PROP_NAME.value(), 0);
+            properties.put(Constants.WIRE_EMITTER_PORT_PROP_NAME.value(), 0);
+            properties.put(Constants.EMITTER_KURA_SERVICE_PID_PROP_NAME.value(), n);
+
+            when(result.getProperties()).thenReturn(properties);
+            return result;
+        });
+    }
+
+    private static List<WireRecord> records(final int count) {
+        final List<WireRecord> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            result.add(new WireRecord(Collections.emptyMap()));
+        }
+
+        return result;
+    }
+
+    private static List<String> listOf(final String... values) {
+        final List<String> result = new ArrayList<>();
+        Collections.addAll(result, values);
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,9 +12,19 @@
  ******************************************************************************/
 package org.eclipse.kura.wire.script.tools;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.kura.type.TypedValue;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -24,6 +34,10 @@ public class EngineProviderTest {
 
     };
     private boolean isEngineInit = false;
+    private final CountDownLatch blockedEvaluation = new CountDownLatch(1);
+    private final CountDownLatch releaseEvaluation = new CountDownLatch(1);
+    private CompletableFuture<Optional<Boolean>> blockedEvaluationResult;
+    private Optional<TypedValue<Boolean>> evaluationResult = Optional.empty();
 
     /*
      * Scenarios
@@ -73,6 +87,29 @@ public class EngineProviderTest {
         thenResultIsEmpty();
     }
 
+    @Test
+    public void shouldRetainGlobalsAcrossEvaluations() {
+        givenEngineInit(2);
+        givenEvaluationWithContext("counter = typeof(counter) === 'undefined' ? 1 : counter + 1");
+        givenEvaluationWithContext("counter = typeof(counter) === 'undefined' ? 1 : counter + 1");
+
+        whenEvaluateWithContext("counter === 2");
+
+        thenEvaluationResultIs(true);
+    }
+
+    @Test
+    public void shouldEvaluateConcurrentlyUpToThePoolSize()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        givenEngineInit(2);
+        givenBlockedEvaluation();
+
+        whenEvaluateWithContext("1 + 1 === 2");
+
+        thenEvaluationResultIs(true);
+        thenBlockedEvaluationCompletes();
+    }
+
     /*
      * Steps
      */
@@ -85,6 +122,28 @@ public class EngineProviderTest {
         this.engine.initEngine();
     }
 
+    private void givenEngineInit(int contextPoolSize) {
+        this.engine.initEngine(contextPoolSize);
+    }
+
+    private void givenEvaluationWithContext(String sourceCode) {
+        whenEvaluateWithContext(sourceCode);
+    }
+
+    private void givenBlockedEvaluation() throws InterruptedException {
+        this.blockedEvaluationResult = CompletableFuture.supplyAsync(() -> this.engine.withContext(context -> {
+            this.blockedEvaluation.countDown();
+            try {
+                this.releaseEvaluation.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(true);
+        }));
+
+        assertTrue(this.blockedEvaluation.await(10, TimeUnit.SECONDS));
+    }
+
     private void givenCloseEngine() {
         this.engine.closeEngine();
     }
@@ -101,6 +160,13 @@ public class EngineProviderTest {
         this.engine.evaluate(sourceCode);
     }
 
+    private void whenEvaluateWithContext(String sourceCode) {
+        this.evaluationResult = this.engine.withContext(context -> {
+            context.evaluate(sourceCode);
+            return context.getResultAsBoolean();
+        });
+    }
+
     /*
      * Then
      */
@@ -113,6 +179,16 @@ public class EngineProviderTest {
         assertFalse(this.isEngineInit);
     }
 
+    private void thenEvaluationResultIs(boolean expectedResult) {
+        assertTrue(this.evaluationResult.isPresent());
+        assertEquals(expectedResult, this.evaluationResult.get().getValue());
+    }
+
+    private void thenBlockedEvaluationCompletes() throws InterruptedException, ExecutionException, TimeoutException {
+        this.releaseEvaluation.countDown();
+        assertEquals(Optional.of(true), this.blockedEvaluationResult.get(10, TimeUnit.SECONDS));
+    }
+
     private void thenResultIsEmpty() {
         assertFalse(this.engine.getResultAsBoolean().isPresent());
     }
@@ -126,4 +202,10 @@ public class EngineProviderTest {
         this.isEngineInit = false;
     }
 
+    @After
+    public void closeEngine() {
+        this.releaseEvaluation.countDown();
+        this.engine.closeEngine();
+    }
+
 }
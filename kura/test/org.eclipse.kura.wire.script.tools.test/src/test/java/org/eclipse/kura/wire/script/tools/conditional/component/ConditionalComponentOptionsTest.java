@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ public class ConditionalComponentOptionsTest {
     private Map<String, Object> properties = new HashMap<>();
     private ConditionalComponentOptions options;
     private Optional<String> returnedBooleanExpression = Optional.empty();
+    private int returnedContextPoolSize;
 
     /*
      * Scenarios
@@ -61,6 +62,25 @@ public class ConditionalComponentOptionsTest {
         thenReturnedScriptSourceIsEmpty();
     }
 
+    @Test
+    public void shouldReturnDefaultContextPoolSize() {
+        givenFilterComponentOptions();
+
+        whenGetContextPoolSize();
+
+        thenReturnedContextPoolSizeIs(ConditionalComponentOptions.CONTEXT_POOL_SIZE_DEFAULT_VALUE);
+    }
+
+    @Test
+    public void shouldReturnConfiguredContextPoolSize() {
+        givenContextPoolSizeProperty(1);
+        givenFilterComponentOptions();
+
+        whenGetContextPoolSize();
+
+        thenReturnedContextPoolSizeIs(1);
+    }
+
     /*
      * Steps
      */
@@ -73,6 +93,10 @@ public class ConditionalComponentOptionsTest {
         this.properties.put(ConditionalComponentOptions.CONDITION_PROPERTY_KEY, booleanExpression);
     }
 
+    private void givenContextPoolSizeProperty(int poolSize) {
+        this.properties.put(ConditionalComponentOptions.CONTEXT_POOL_SIZE_PROPERTY_KEY, poolSize);
+    }
+
     private void givenFilterComponentOptions() {
         this.options = new ConditionalComponentOptions(this.properties);
     }
@@ -85,6 +109,10 @@ public class ConditionalComponentOptionsTest {
         this.returnedBooleanExpression = this.options.getBooleanExpression();
     }
 
+    private void whenGetContextPoolSize() {
+        this.returnedContextPoolSize = this.options.getContextPoolSize();
+    }
+
     /*
      * Then
      */
@@ -97,6 +125,10 @@ public class ConditionalComponentOptionsTest {
         assertFalse(this.returnedBooleanExpression.isPresent());
     }
 
+    private void thenReturnedContextPoolSizeIs(int expectedResult) {
+        assertEquals(expectedResult, this.returnedContextPoolSize);
+    }
+
     /*
      * Utilities
      */
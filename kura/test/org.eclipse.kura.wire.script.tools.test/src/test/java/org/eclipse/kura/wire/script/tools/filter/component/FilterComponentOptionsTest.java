@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ public class FilterComponentOptionsTest {
     private FilterComponentOptions options;
     private Optional<String> returnedScriptSource = Optional.empty();
     private boolean returnedIsScriptContextDrop;
+    private int returnedScriptContextPoolSize;
 
     /*
      * Scenarios
@@ -62,6 +63,25 @@ public class FilterComponentOptionsTest {
         thenReturnedScriptContextDropIs(false);
     }
 
+    @Test
+    public void shouldReturnDefaultScriptContextPoolSize() {
+        givenFilterComponentOptions();
+
+        whenGetScriptContextPoolSize();
+
+        thenReturnedScriptContextPoolSizeIs(FilterComponentOptions.SCRIPT_CONTEXT_POOL_SIZE_DEFAULT_VALUE);
+    }
+
+    @Test
+    public void shouldReturnConfiguredScriptContextPoolSize() {
+        givenScriptContextPoolSizeProperty(4);
+        givenFilterComponentOptions();
+
+        whenGetScriptContextPoolSize();
+
+        thenReturnedScriptContextPoolSizeIs(4);
+    }
+
     @Test
     public void shouldReturnEmptyScript() {
         givenFilterComponentOptions();
@@ -117,6 +137,10 @@ public class FilterComponentOptionsTest {
         this.properties.put(FilterComponentOptions.SCRIPT_CONTEXT_DROP_KEY, contextDrop);
     }
 
+    private void givenScriptContextPoolSizeProperty(int poolSize) {
+        this.properties.put(FilterComponentOptions.SCRIPT_CONTEXT_POOL_SIZE_KEY, poolSize);
+    }
+
     private void givenFilterComponentOptions() {
         this.options = new FilterComponentOptions(this.properties);
     }
@@ -133,6 +157,10 @@ public class FilterComponentOptionsTest {
         this.returnedIsScriptContextDrop = this.options.isScriptContextDrop();
     }
 
+    private void whenGetScriptContextPoolSize() {
+        this.returnedScriptContextPoolSize = this.options.getScriptContextPoolSize();
+    }
+
     /*
      * Then
      */
@@ -149,6 +177,10 @@ public class FilterComponentOptionsTest {
         assertEquals(expectedResult, this.returnedIsScriptContextDrop);
     }
 
+    private void thenReturnedScriptContextPoolSizeIs(int expectedResult) {
+        assertEquals(expectedResult, this.returnedScriptContextPoolSize);
+    }
+
     /*
      * Utilities
      */
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.data.DataTransportToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rate at which messages can be marked as published and confirmed, one at a time and in batches. The
+ * benchmark cycles over a fixed set of stored messages; updating a message that has already been updated costs the
+ * same as updating a new one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AckBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "H2", "SQLITE" })
+    private StoreType storeType;
+
+    @Param({ "100000" })
+    private int storeSize;
+
+    private MessageStoreFixture fixture;
+    private List<Integer> msgIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException, KuraStoreException {
+        this.fixture = MessageStoreFixture.create(this.storeType);
+        this.msgIds = this.fixture.fill(this.storeSize, 1, 256);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        this.fixture.close();
+    }
+
+    @Benchmark
+    public void markAsPublished() throws KuraStoreException {
+        this.fixture.getMessageStore().markAsPublished(nextId());
+    }
+
+    @Benchmark
+    public void markAsPublishedWithToken() throws KuraStoreException {
+        final int msgId = nextId();
+
+        this.fixture.getMessageStore().markAsPublished(msgId, new DataTransportToken(msgId & 0xffff, "benchmark"));
+    }
+
+    @Benchmark
+    public void markAsConfirmed() throws KuraStoreException {
+        this.fixture.getMessageStore().markAsConfirmed(nextId());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void markAsPublishedBatch() throws KuraStoreException {
+        this.fixture.getMessageStore().markAsPublished(nextIds());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void markAsPublishedWithTokenBatch() throws KuraStoreException {
+        final Map<Integer, DataTransportToken> tokens = new HashMap<>();
+
+        for (final Integer msgId : nextIds()) {
+            tokens.put(msgId, new DataTransportToken(msgId & 0xffff, "benchmark"));
+        }
+
+        this.fixture.getMessageStore().markAsPublished(tokens);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void markAsConfirmedBatch() throws KuraStoreException {
+        this.fixture.getMessageStore().markAsConfirmed(nextIds());
+    }
+
+    private int nextId() {
+        final int result = this.msgIds.get(this.next);
+
+        this.next = (this.next + 1) % this.msgIds.size();
+
+        return result;
+    }
+
+    private List<Integer> nextIds() {
+        if (this.next + BATCH_SIZE > this.msgIds.size()) {
+            this.next = 0;
+        }
+
+        final List<Integer> result = this.msgIds.subList(this.next, this.next + BATCH_SIZE);
+
+        this.next += BATCH_SIZE;
+
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a housekeeping run that purges the given number of confirmed messages. Each measurement runs
+ * on a freshly populated store, whose setup time is not included in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class DeleteStaleMessagesBenchmark {
+
+    @Param({ "H2", "SQLITE" })
+    private StoreType storeType;
+
+    @Param({ "1000000" })
+    private int staleMessages;
+
+    @Param({ "10000" })
+    private int liveMessages;
+
+    private MessageStoreFixture fixture;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException, SQLException, KuraStoreException {
+        this.fixture = MessageStoreFixture.create(this.storeType);
+
+        final List<Integer> staleIds = this.fixture.fill(this.staleMessages, 1, 256);
+        this.fixture.confirm(staleIds);
+        this.fixture.fill(this.liveMessages, 1, 256);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, SQLException {
+        this.fixture.close();
+    }
+
+    @Benchmark
+    public void deleteStaleMessages() throws KuraStoreException {
+        this.fixture.getMessageStore().deleteStaleMessages(0);
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of retrieving the next messages to be published when the store contains a large backlog of
+ * unpublished messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GetNextMessageBenchmark {
+
+    @Param({ "H2", "SQLITE" })
+    private StoreType storeType;
+
+    @Param({ "10000", "100000", "1000000" })
+    private int backlogSize;
+
+    @Param({ "256" })
+    private int payloadSize;
+
+    private MessageStoreFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException, KuraStoreException {
+        this.fixture = MessageStoreFixture.create(this.storeType);
+        this.fixture.fill(this.backlogSize, 1, this.payloadSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        this.fixture.close();
+    }
+
+    @Benchmark
+    public Optional<StoredMessage> getNextMessage() throws KuraStoreException {
+        return this.fixture.getMessageStore().getNextMessage();
+    }
+
+    @Benchmark
+    public List<StoredMessage> getNextMessages() throws KuraStoreException {
+        return this.fixture.getMessageStore().getNextMessages(100);
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.data.DataTransportToken;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+
+/**
+ * A {@link MessageStore} opened on a temporary database file, together with the helpers used by the benchmarks to
+ * prepare the store content.
+ */
+public class MessageStoreFixture implements AutoCloseable {
+
+    private static final String TOPIC = "benchmark/topic";
+    private static final int FILL_BATCH_SIZE = 1000;
+
+    private final Path directory;
+    private final SingleConnectionProvider connectionProvider;
+    private final MessageStore messageStore;
+    private final Random random = new Random(0);
+
+    MessageStoreFixture(final Path directory, final SingleConnectionProvider connectionProvider,
+            final MessageStore messageStore) {
+        this.directory = directory;
+        this.connectionProvider = connectionProvider;
+        this.messageStore = messageStore;
+    }
+
+    public static MessageStoreFixture create(final StoreType storeType) throws IOException, SQLException,
+            KuraStoreException {
+        return storeType.open(Files.createTempDirectory("kura-message-store-benchmark"));
+    }
+
+    public MessageStore getMessageStore() {
+        return this.messageStore;
+    }
+
+    public byte[] payload(final int size) {
+        final byte[] result = new byte[size];
+        this.random.nextBytes(result);
+        return result;
+    }
+
+    public StoredMessage message(final int qos, final int priority, final byte[] payload) {
+        return new StoredMessage.Builder(0).withTopic(TOPIC).withQos(qos).withPriority(priority).withPayload(payload)
+                .build();
+    }
+
+    public int store(final int qos, final int priority, final byte[] payload) throws KuraStoreException {
+        return this.messageStore.store(TOPIC, payload, qos, false, priority);
+    }
+
+    /**
+     * Stores the given number of messages, with priorities between 0 and 9, using batches of
+     * {@value #FILL_BATCH_SIZE} messages.
+     *
+     * @return the identifiers of the stored messages
+     */
+    public List<Integer> fill(final int count, final int qos, final int payloadSize) throws KuraStoreException {
+        final List<Integer> result = new ArrayList<>(count);
+        final byte[] payload = payload(payloadSize);
+
+        while (result.size() < count) {
+            final int batchSize = Math.min(FILL_BATCH_SIZE, count - result.size());
+            final List<StoredMessage> batch = new ArrayList<>(batchSize);
+
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(message(qos, this.random.nextInt(10), payload));
+            }
+
+            result.addAll(this.messageStore.storeAll(batch));
+        }
+
+        return result;
+    }
+
+    /**
+     * Marks the given messages as published and confirmed, using batches of {@value #FILL_BATCH_SIZE} messages.
+     */
+    public void confirm(final List<Integer> msgIds) throws KuraStoreException {
+        for (int start = 0; start < msgIds.size(); start += FILL_BATCH_SIZE) {
+            final List<Integer> batch = msgIds.subList(start, Math.min(msgIds.size(), start + FILL_BATCH_SIZE));
+            final Map<Integer, DataTransportToken> tokens = new HashMap<>();
+
+            for (final Integer msgId : batch) {
+                tokens.put(msgId, new DataTransportToken(msgId & 0xffff, "benchmark"));
+            }
+
+            this.messageStore.markAsPublished(tokens);
+            this.messageStore.markAsConfirmed(batch);
+        }
+    }
+
+    @Override
+    public void close() throws IOException, SQLException {
+        this.messageStore.close();
+        this.connectionProvider.close();
+
+        try (final Stream<Path> files = Files.walk(this.directory)) {
+            final List<Path> toDelete = new ArrayList<>();
+            files.sorted(Comparator.reverseOrder()).forEach(toDelete::add);
+
+            for (final Path path : toDelete) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.jdbc.SQLFunction;
+
+/**
+ * A {@link ConnectionProvider} that serializes all tasks on a single JDBC connection, this avoids including
+ * connection pool overhead in the measurements.
+ */
+public class SingleConnectionProvider implements ConnectionProvider, AutoCloseable {
+
+    private final Connection connection;
+
+    public SingleConnectionProvider(final Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public synchronized <T> T withConnection(final SQLFunction<Connection, T> task) throws SQLException {
+        return task.call(this.connection);
+    }
+
+    @Override
+    public synchronized void close() throws SQLException {
+        this.connection.close();
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the message store insert throughput, by payload size, for single and batch inserts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StoreBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "H2", "SQLITE" })
+    private StoreType storeType;
+
+    @Param({ "16", "256", "4096", "65536" })
+    private int payloadSize;
+
+    private MessageStoreFixture fixture;
+    private byte[] payload;
+    private List<StoredMessage> batch;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException, SQLException, KuraStoreException {
+        this.fixture = MessageStoreFixture.create(this.storeType);
+        this.payload = this.fixture.payload(this.payloadSize);
+        this.batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.batch.add(this.fixture.message(1, 4, this.payload));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, SQLException {
+        this.fixture.close();
+    }
+
+    @Benchmark
+    public int store() throws KuraStoreException {
+        return this.fixture.store(1, 4, this.payload);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Integer> storeAll() throws KuraStoreException {
+        return this.fixture.getMessageStore().storeAll(this.batch);
+    }
+}
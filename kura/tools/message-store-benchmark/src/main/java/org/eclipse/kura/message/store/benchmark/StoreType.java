@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.message.store.benchmark;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.internal.db.h2db.provider.H2DbMessageStoreImpl;
+import org.eclipse.kura.internal.db.sqlite.provider.SqliteMessageStoreImpl;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConfig.JournalMode;
+
+/**
+ * The message store implementations under test. Both are backed by a database file, since this is the configuration
+ * used on devices where the message store performance matters.
+ */
+public enum StoreType {
+
+    H2 {
+
+        @Override
+        protected Connection openConnection(final Path directory) throws SQLException {
+            return DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("kuradb").toAbsolutePath(), "SA",
+                    "");
+        }
+
+        @Override
+        protected MessageStore openMessageStore(final SingleConnectionProvider connectionProvider,
+                final String tableName) throws KuraStoreException {
+            return new H2DbMessageStoreImpl(connectionProvider, tableName);
+        }
+    },
+    SQLITE {
+
+        @Override
+        protected Connection openConnection(final Path directory) throws SQLException {
+            final SQLiteConfig config = new SQLiteConfig();
+            config.setJournalMode(JournalMode.WAL);
+
+            return DriverManager.getConnection("jdbc:sqlite:" + directory.resolve("kuradb.sqlite").toAbsolutePath(),
+                    config.toProperties());
+        }
+
+        @Override
+        protected MessageStore openMessageStore(final SingleConnectionProvider connectionProvider,
+                final String tableName) throws KuraStoreException {
+            return new SqliteMessageStoreImpl(connectionProvider, tableName);
+        }
+    };
+
+    protected abstract Connection openConnection(final Path directory) throws SQLException;
+
+    protected abstract MessageStore openMessageStore(final SingleConnectionProvider connectionProvider,
+            final String tableName) throws KuraStoreException;
+
+    public MessageStoreFixture open(final Path directory) throws SQLException, KuraStoreException {
+        final SingleConnectionProvider connectionProvider = new SingleConnectionProvider(openConnection(directory));
+
+        try {
+            return new MessageStoreFixture(directory, connectionProvider,
+                    openMessageStore(connectionProvider, "messages"));
+        } catch (final KuraStoreException | RuntimeException e) {
+            connectionProvider.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.payload.encoder.benchmark;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.core.cloud.CloudPayloadGZipEncoder;
+import org.eclipse.kura.core.cloud.CloudPayloadProtoBufEncoderImpl;
+import org.eclipse.kura.core.cloud.CloudPayloadProtoBufStreamingEncoder;
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.message.KuraPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the KuraPayloadProto based encoder with the streaming encoder, by number of metrics, with and without gzip
+ * compression. Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EncoderBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    private int metricCount;
+
+    @Param({ "false", "true" })
+    private boolean gzip;
+
+    private KuraPayload payload;
+
+    @Setup
+    public void setup() {
+        this.payload = new KuraPayload();
+        this.payload.setTimestamp(new Date());
+
+        final KuraPosition position = new KuraPosition();
+        position.setLatitude(46.0);
+        position.setLongitude(14.0);
+        position.setAltitude(300.0);
+        this.payload.setPosition(position);
+
+        for (int i = 0; i < this.metricCount; i++) {
+            switch (i % 4) {
+            case 0:
+                this.payload.addMetric("double." + i, i * 1.5);
+                break;
+            case 1:
+                this.payload.addMetric("long." + i, System.currentTimeMillis() + i);
+                break;
+            case 2:
+                this.payload.addMetric("string." + i, "value-" + i);
+                break;
+            default:
+                this.payload.addMetric("boolean." + i, i % 3 == 0);
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] protoBufEncoder() throws IOException {
+        if (this.gzip) {
+            return new CloudPayloadGZipEncoder(new CloudPayloadProtoBufEncoderImpl(this.payload)).getBytes();
+        }
+        return new CloudPayloadProtoBufEncoderImpl(this.payload).getBytes();
+    }
+
+    @Benchmark
+    public byte[] streamingEncoder() throws IOException {
+        return new CloudPayloadProtoBufStreamingEncoder(this.payload, this.gzip).getBytes();
+    }
+}
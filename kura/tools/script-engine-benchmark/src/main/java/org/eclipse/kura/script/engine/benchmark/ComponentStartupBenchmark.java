@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.script.engine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to activate the given number of filter components and to evaluate the first envelope in
+ * each of them. The shared engine is created by the first component and closed when the last one is deactivated, so
+ * every invocation includes the creation of the engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ComponentStartupBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int componentCount;
+
+    private WireEnvelope envelope;
+
+    @Setup
+    public void setup() {
+        this.envelope = FilterComponentFixture.newEnvelope();
+    }
+
+    @Benchmark
+    public long startComponents() {
+        try (final FilterComponentFixture fixture = FilterComponentFixture.start(this.componentCount, 1)) {
+            return fixture.process(this.envelope);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.script.engine.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.script.tools.filter.component.FilterComponent;
+import org.eclipse.kura.wire.script.tools.filter.component.FilterComponentOptions;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+
+/**
+ * A set of {@link FilterComponent} instances activated outside of an OSGi framework, all running the same script on
+ * the engine shared by the script components. The records emitted by the components are counted instead of being
+ * delivered to a wire graph.
+ */
+public class FilterComponentFixture implements AutoCloseable {
+
+    static final String SCRIPT = "var records = input.getRecords()\n" //
+            + "var output = new Array()\n" //
+            + "for (let i = 0; i < records.length; i++) {\n" //
+            + "    var timer = records[i].getProperties().TIMER.getValue()\n" //
+            + "    if (Math.floor(timer / 1000) % 2 == 0) {\n" //
+            + "        var properties = new Object()\n" //
+            + "        properties['seconds'] = newLongValue(Math.floor(timer / 1000))\n" //
+            + "        output.push(newWireRecord(properties))\n" //
+            + "    }\n" //
+            + "}\n";
+
+    private static final ComponentContext COMPONENT_CONTEXT = (ComponentContext) Proxy.newProxyInstance(
+            FilterComponentFixture.class.getClassLoader(), new Class<?>[] { ComponentContext.class },
+            (proxy, method, args) -> null);
+
+    private final List<FilterComponent> components;
+    private final AtomicLong emittedRecords;
+
+    private FilterComponentFixture(final List<FilterComponent> components, final AtomicLong emittedRecords) {
+        this.components = components;
+        this.emittedRecords = emittedRecords;
+    }
+
+    /**
+     * Activates the given number of filter components, each one with a pool of at most {@code contextPoolSize}
+     * script contexts.
+     */
+    public static FilterComponentFixture start(final int componentCount, final int contextPoolSize) {
+        final AtomicLong emittedRecords = new AtomicLong();
+        final WireHelperService wireHelperService = new CountingWireHelperService(emittedRecords);
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(FilterComponentOptions.SCRIPT_KEY, SCRIPT);
+        properties.put(FilterComponentOptions.SCRIPT_CONTEXT_POOL_SIZE_KEY, contextPoolSize);
+
+        final List<FilterComponent> components = new ArrayList<>(componentCount);
+
+        for (int i = 0; i < componentCount; i++) {
+            final FilterComponent component = new FilterComponent();
+            component.bindWireHelperService(wireHelperService);
+            component.activate(COMPONENT_CONTEXT, properties);
+            components.add(component);
+        }
+
+        return new FilterComponentFixture(components, emittedRecords);
+    }
+
+    /**
+     * Returns an envelope with a single record that is emitted by the filter script.
+     */
+    public static WireEnvelope newEnvelope() {
+        final Map<String, TypedValue<?>> properties = new HashMap<>();
+        properties.put("TIMER", TypedValues.newLongValue(System.currentTimeMillis() / 2000 * 2000));
+        return new WireEnvelope("timer", Collections.singletonList(new WireRecord(properties)));
+    }
+
+    /**
+     * Delivers the envelope to all the components in sequence.
+     *
+     * @return the total number of records emitted so far
+     */
+    public long process(final WireEnvelope envelope) {
+        for (final FilterComponent component : this.components) {
+            component.onWireReceive(envelope);
+        }
+        return this.emittedRecords.get();
+    }
+
+    @Override
+    public void close() {
+        this.components.forEach(FilterComponent::deactivate);
+    }
+
+    private static final class CountingWireHelperService implements WireHelperService {
+
+        private final AtomicLong emittedRecords;
+
+        CountingWireHelperService(final AtomicLong emittedRecords) {
+            this.emittedRecords = emittedRecords;
+        }
+
+        @Override
+        public String getPid(final WireComponent wireComponent) {
+            return null;
+        }
+
+        @Override
+        public String getServicePid(final String wireComponentPid) {
+            return null;
+        }
+
+        @Override
+        public String getServicePid(final WireComponent wireComponent) {
+            return null;
+        }
+
+        @Override
+        public boolean isEmitter(final String wireComponentPid) {
+            return true;
+        }
+
+        @Override
+        public boolean isReceiver(final String wireComponentPid) {
+            return true;
+        }
+
+        @Override
+        public WireSupport newWireSupport(final WireComponent wireComponent,
+                final ServiceReference<WireComponent> wireComponentRef) {
+            return new CountingWireSupport(this.emittedRecords);
+        }
+    }
+
+    private static final class CountingWireSupport implements WireSupport {
+
+        private final AtomicLong emittedRecords;
+
+        CountingWireSupport(final AtomicLong emittedRecords) {
+            this.emittedRecords = emittedRecords;
+        }
+
+        @Override
+        public void emit(final List<WireRecord> wireRecords) {
+            this.emittedRecords.addAndGet(wireRecords.size());
+        }
+
+        @Override
+        public Object polled(final Wire wire) {
+            return null;
+        }
+
+        @Override
+        public void consumersConnected(final Wire[] wires) {
+            // no wires
+        }
+
+        @Override
+        public void updated(final Wire wire, final Object value) {
+            // no wires
+        }
+
+        @Override
+        public void producersConnected(final Wire[] wires) {
+            // no wires
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.script.engine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of evaluating a filter script on an envelope in a graph with the given number of filter
+ * components, all evaluating the script through {@code EngineProvider.withContext} on the shared engine. The
+ * concurrent variant delivers envelopes from multiple threads, and shows the effect of the context pool size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ScriptEvaluationBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int componentCount;
+
+    @Param({ "1", "4" })
+    private int contextPoolSize;
+
+    private FilterComponentFixture fixture;
+    private WireEnvelope envelope;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.fixture = FilterComponentFixture.start(this.componentCount, this.contextPoolSize);
+        this.envelope = FilterComponentFixture.newEnvelope();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.fixture.close();
+    }
+
+    @Benchmark
+    public long evaluate() {
+        return this.fixture.process(this.envelope);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long evaluateConcurrently() {
+        return this.fixture.process(this.envelope);
+    }
+}